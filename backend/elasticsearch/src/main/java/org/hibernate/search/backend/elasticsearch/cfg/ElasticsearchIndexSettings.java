@@ -47,6 +47,21 @@ private ElasticsearchIndexSettings() {
 
 	public static final String REFRESH_AFTER_WRITE = "refresh_after_write";
 
+	/**
+	 * The delay during which works on the same document are coalesced before being sent to Elasticsearch.
+	 * <p>
+	 * When a document is updated or deleted multiple times within that delay,
+	 * only the latest update or deletion is sent to Elasticsearch.
+	 * Submitted changes are delayed accordingly, and so is the completion of automatic indexing.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables coalescing.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCING_WINDOW}.
+	 */
+	public static final String INDEXING_COALESCING_WINDOW = "indexing.coalescing_window";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -59,6 +74,7 @@ private Defaults() {
 		public static final ElasticsearchIndexStatus LIFECYCLE_MINIMAL_REQUIRED_STATUS = ElasticsearchIndexStatus.GREEN;
 		public static final int LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final boolean REFRESH_AFTER_WRITE = false;
+		public static final int INDEXING_COALESCING_WINDOW = 0;
 	}
 
 }
@@ -167,10 +167,12 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
 			JsonObject body = parseBody( response );
+			HttpEntity entity = response.getEntity();
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
-					body );
+					body,
+					entity == null ? 0L : entity.getContentLength() );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse(
@@ -204,14 +206,14 @@ private void log(ElasticsearchRequest request, long start, ElasticsearchResponse
 		long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( executionTimeNs );
 		if ( requestLog.isTraceEnabled() ) {
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
-					request.getBodyParts().size(), executionTimeMs,
+					request.getBodyPartCount(), executionTimeMs,
 					response.getStatusCode(), response.getStatusMessage(),
 					jsonLogHelper.toString( request.getBodyParts() ),
 					jsonLogHelper.toString( response.getBody() ) );
 		}
 		else {
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
-					request.getBodyParts().size(), executionTimeMs,
+					request.getBodyPartCount(), executionTimeMs,
 					response.getStatusCode(), response.getStatusMessage() );
 		}
 	}
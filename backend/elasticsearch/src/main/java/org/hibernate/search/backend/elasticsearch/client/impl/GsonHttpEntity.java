@@ -13,7 +13,6 @@
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -24,10 +23,11 @@
 import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 
 /**
  * Optimised adapter to encode GSON objects into HttpEntity instances.
@@ -55,6 +55,9 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts that were serialized ahead of time (see {@link SerializedJsonObject})
+ * are not encoded again: their bytes are handed over to the output as-is.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -81,7 +84,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
 	private final Gson gson;
-	private final List<JsonObject> bodyParts;
+	private final ElasticsearchRequest request;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -121,11 +124,11 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, ElasticsearchRequest request) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
-		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		Contracts.assertNotNull( request, "request" );
 		this.gson = gson;
-		this.bodyParts = bodyParts;
+		this.request = request;
 		this.contentLength = -1;
 		attemptOnePassEncoding();
 	}
@@ -175,8 +178,15 @@ public void writeTo(OutputStream out) throws IOException {
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
+		for ( int i = 0; i < request.getBodyPartCount(); i++ ) {
+			SerializedJsonObject serializedBodyPart = request.getSerializedBodyPart( i );
+			if ( serializedBodyPart != null ) {
+				writer.flush();
+				serializedBodyPart.writeTo( countingStream );
+			}
+			else {
+				gson.toJson( request.getBodyPart( i ), writer );
+			}
 			writer.append( '\n' );
 		}
 		writer.flush();
@@ -218,7 +228,7 @@ private void attemptOnePassEncoding() throws IOException {
 		// Essentially attempt to use the writer without going NPE on the output sink
 		// as it's not set yet.
 		triggerFullWrite();
-		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
+		if ( nextBodyToEncodeIndex == request.getBodyPartCount() ) {
 			writer.flush();
 			// The buffer's current content size is the final content size,
 			// as we know the entire content has been encoded already,
@@ -236,9 +246,15 @@ private void attemptOnePassEncoding() throws IOException {
 	 * @throws IOException If writing fails.
 	 */
 	private void triggerFullWrite() throws IOException {
-		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+		while ( nextBodyToEncodeIndex < request.getBodyPartCount() ) {
+			int bodyPartIndex = nextBodyToEncodeIndex++;
+			SerializedJsonObject serializedBodyPart = request.getSerializedBodyPart( bodyPartIndex );
+			if ( serializedBodyPart != null ) {
+				writer.writeEncoded( serializedBodyPart.toByteBuffer() );
+			}
+			else {
+				gson.toJson( request.getBodyPart( bodyPartIndex ), writer );
+			}
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -114,6 +114,35 @@ else if ( len > charBuffer.remaining() ) {
 		}
 	}
 
+	/**
+	 * Write content that was already encoded with the charset of this writer.
+	 * <p>
+	 * The given buffer is not copied: it is queued as a page of its own,
+	 * and must not be altered until it has been written to the {@link #setOutput(ContentEncoder) output}.
+	 *
+	 * @param encoded The encoded content.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeEncoded(ByteBuffer encoded) throws IOException {
+		// Pending chars must be written first
+		flush();
+		if ( currentPage != null && currentPage.position() > 0 ) {
+			/*
+			 * Queue the filled part of the current page,
+			 * but keep using the remaining space for subsequent writes:
+			 * body parts written between two encoded buffers are generally very small.
+			 */
+			ByteBuffer filledPart = currentPage.duplicate();
+			filledPart.flip();
+			needWritingPages.add( filledPart );
+			currentPage = currentPage.hasRemaining() ? currentPage.slice() : null;
+		}
+		needWritingPages.add( encoded );
+		if ( output != null ) {
+			attemptFlushPendingBuffers( false );
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if ( charBuffer.position() == 0 ) {
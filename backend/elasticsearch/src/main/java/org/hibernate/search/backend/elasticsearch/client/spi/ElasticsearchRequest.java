@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -45,7 +46,10 @@ public static Builder head() {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
-	private final List<JsonObject> bodyParts;
+	/*
+	 * Each body part is either a JsonObject or a SerializedJsonObject.
+	 */
+	private final List<Object> bodyParts;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
@@ -66,8 +70,45 @@ public Map<String, String> getParameters() {
 		return parameters;
 	}
 
+	public int getBodyPartCount() {
+		return bodyParts.size();
+	}
+
+	/**
+	 * @param index The index of a body part.
+	 * @return The body part, if it was added in serialized form, {@code null} otherwise.
+	 */
+	public SerializedJsonObject getSerializedBodyPart(int index) {
+		Object bodyPart = bodyParts.get( index );
+		return bodyPart instanceof SerializedJsonObject ? (SerializedJsonObject) bodyPart : null;
+	}
+
+	/**
+	 * @param index The index of a body part.
+	 * @return The body part as a JSON object.
+	 * Body parts that were added in serialized form are parsed, which is costly.
+	 */
+	public JsonObject getBodyPart(int index) {
+		Object bodyPart = bodyParts.get( index );
+		if ( bodyPart instanceof SerializedJsonObject ) {
+			return ( (SerializedJsonObject) bodyPart ).toJsonObject();
+		}
+		else {
+			return (JsonObject) bodyPart;
+		}
+	}
+
+	/**
+	 * @return The body parts as JSON objects.
+	 * Body parts that were added in serialized form are parsed, which is costly:
+	 * this should only be used for logging or testing purposes.
+	 */
 	public List<JsonObject> getBodyParts() {
-		return bodyParts;
+		List<JsonObject> result = new ArrayList<>( bodyParts.size() );
+		for ( int i = 0; i < bodyParts.size(); i++ ) {
+			result.add( getBodyPart( i ) );
+		}
+		return result;
 	}
 
 	@Override
@@ -88,7 +129,7 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
 
 		private Builder(String method) {
 			super();
@@ -140,11 +181,33 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
+			addBodyPart( object );
+			return this;
+		}
+
+		public Builder body(SerializedJsonObject object) {
+			addBodyPart( object );
+			return this;
+		}
+
+		/**
+		 * Add the body parts of another request to this request, without converting them.
+		 *
+		 * @param request Another request.
+		 * @return This builder.
+		 */
+		public Builder bodyPartsOf(ElasticsearchRequest request) {
+			for ( Object bodyPart : request.bodyParts ) {
+				addBodyPart( bodyPart );
+			}
+			return this;
+		}
+
+		private void addBodyPart(Object bodyPart) {
 			if ( bodyParts == null ) {
 				bodyParts = new ArrayList<>();
 			}
-			bodyParts.add( object );
-			return this;
+			bodyParts.add( bodyPart );
 		}
 
 		public ElasticsearchRequest build() {
@@ -19,11 +19,18 @@ public final class ElasticsearchResponse {
 
 	private final JsonObject body;
 
+	private final long bodySize;
+
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
+		this( statusCode, statusMessage, body, -1L );
+	}
+
+	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body, long bodySize) {
 		super();
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
 		this.body = body;
+		this.bodySize = bodySize;
 	}
 
 	public int getStatusCode() {
@@ -38,4 +45,11 @@ public JsonObject getBody() {
 		return body;
 	}
 
+	/**
+	 * @return The size of the response body in bytes, as sent by Elasticsearch, or {@code -1} if unknown.
+	 */
+	public long getBodySize() {
+		return bodySize;
+	}
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A JSON object that was serialized ahead of time, in compact form, to UTF-8 bytes.
+ * <p>
+ * Useful for large objects that must be kept around until they are sent to Elasticsearch,
+ * such as documents to index:
+ * the serialized form is much more compact than a tree of {@link com.google.gson.JsonElement}s,
+ * and can be copied as-is to the HTTP request body.
+ */
+public final class SerializedJsonObject {
+
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	public static SerializedJsonObject of(Gson gson, JsonObject object) {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+		try ( Writer writer = new OutputStreamWriter( stream, StandardCharsets.UTF_8 ) ) {
+			gson.toJson( object, writer );
+		}
+		catch (IOException e) {
+			// Cannot happen: we're writing to memory
+			throw new UncheckedIOException( e );
+		}
+		return new SerializedJsonObject( stream.toByteArray() );
+	}
+
+	private final byte[] bytes;
+
+	private SerializedJsonObject(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return The length of the serialized form, in bytes.
+	 */
+	public int getLength() {
+		return bytes.length;
+	}
+
+	/**
+	 * @return A read-only buffer exposing the serialized form, encoded in UTF-8.
+	 */
+	public ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap( bytes ).asReadOnlyBuffer();
+	}
+
+	/**
+	 * @param out The stream to write the serialized form to, encoded in UTF-8.
+	 * @throws IOException If writing to the stream fails.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write( bytes );
+	}
+
+	/**
+	 * Parses the serialized form back to a tree.
+	 * <p>
+	 * This is costly and should only be used for logging or testing purposes.
+	 *
+	 * @return The JSON object.
+	 */
+	public JsonObject toJsonObject() {
+		try ( Reader reader = new InputStreamReader( new ByteArrayInputStream( bytes ), StandardCharsets.UTF_8 ) ) {
+			return new JsonParser().parse( reader ).getAsJsonObject();
+		}
+		catch (IOException e) {
+			// Cannot happen: we're reading from memory
+			throw new UncheckedIOException( e );
+		}
+	}
+
+}
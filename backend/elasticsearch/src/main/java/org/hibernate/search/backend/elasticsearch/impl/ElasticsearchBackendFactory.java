@@ -153,7 +153,8 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 					searchResultExtractorFactory,
 					userFacingGson,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					buildContext.getSearchQueryInstrumentation()
 			);
 		}
 		catch (RuntimeException e) {
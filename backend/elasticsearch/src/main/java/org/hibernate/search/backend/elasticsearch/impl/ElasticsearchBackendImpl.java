@@ -36,6 +36,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.common.spi.LogErrorHandler;
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
@@ -65,6 +67,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 
 	private final ElasticsearchSharedWorkOrchestrator queryOrchestrator;
 
+	private final SearchQueryInstrumentation queryInstrumentation;
+
 	private final Map<String, String> hibernateSearchIndexNamesByElasticsearchIndexNames = new ConcurrentHashMap<>();
 
 	private final EventContext eventContext;
@@ -78,7 +82,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			SearchQueryInstrumentation queryInstrumentation) {
 		this.clientProvider = clientProvider;
 		this.name = name;
 
@@ -91,6 +96,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.queryOrchestrator = orchestratorProvider.createParallelOrchestrator( "Elasticsearch query orchestrator for backend " + name );
+		this.queryInstrumentation = queryInstrumentation;
 
 		this.typeFactoryContextProvider = typeFactoryContextProvider;
 
@@ -107,7 +113,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 					}
 					return result;
 				},
-				multiTenancyStrategy, queryOrchestrator
+				multiTenancyStrategy, queryOrchestrator, queryInstrumentation
 		);
 	}
 
@@ -154,6 +160,11 @@ public Backend toAPI() {
 		return this;
 	}
 
+	@Override
+	public SearchQueryMetrics getSearchQueryMetrics() {
+		return queryInstrumentation.getMetrics();
+	}
+
 	@Override
 	public <T> T getClient(Class<T> clientClass) {
 		return clientProvider.get().unwrap( clientClass );
@@ -195,7 +206,8 @@ public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManage
 		return new ElasticsearchIndexManagerBuilder(
 				indexingContext, searchContext,
 				hibernateSearchIndexName, elasticsearchIndexName,
-				indexSchemaRootNodeBuilder, settingsBuilder
+				indexSchemaRootNodeBuilder, settingsBuilder,
+				buildContext.createIndexingInstrumentation( hibernateSearchIndexName )
 		);
 	}
 }
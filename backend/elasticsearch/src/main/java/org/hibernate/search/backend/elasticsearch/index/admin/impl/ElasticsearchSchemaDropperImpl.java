@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 /**
@@ -22,13 +24,17 @@ public ElasticsearchSchemaDropperImpl(ElasticsearchSchemaAccessor schemaAccessor
 	}
 
 	@Override
-	public void dropIfExisting(URLEncodedString indexName) {
+	public CompletableFuture<?> dropIfExisting(URLEncodedString indexName) {
 		// Not actually needed, but do it to avoid cluttering the ES log
-		if ( ! schemaAccessor.indexExists( indexName ) ) {
-			return;
-		}
-
-		schemaAccessor.dropIndexIfExisting( indexName );
+		return schemaAccessor.indexExists( indexName )
+				.thenCompose( exists -> {
+					if ( exists ) {
+						return schemaAccessor.dropIndexIfExisting( indexName );
+					}
+					else {
+						return CompletableFuture.completedFuture( null );
+					}
+				} );
 	}
 
 }
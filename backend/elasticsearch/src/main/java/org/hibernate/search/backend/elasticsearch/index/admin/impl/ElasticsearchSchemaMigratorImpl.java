@@ -7,11 +7,14 @@
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -34,40 +37,51 @@ public ElasticsearchSchemaMigratorImpl(ElasticsearchSchemaAccessor schemaAccesso
 	}
 
 	@Override
-	public void migrate(IndexMetadata indexMetadata) {
+	public CompletableFuture<?> migrate(IndexMetadata indexMetadata) {
 		URLEncodedString indexName = indexMetadata.getName();
 		IndexSettings settings = indexMetadata.getSettings();
 
-		try {
-			/*
-			 * We only update settings if it's really necessary, because closing the index,
-			 * even for just a moment, may hurt if other clients are using the index.
-			 */
-			if ( !settings.isEmpty() && !schemaValidator.isSettingsValid( indexMetadata ) ) {
-				schemaAccessor.closeIndex( indexName );
-				try {
-					schemaAccessor.updateSettings( indexName, settings );
-				}
-				catch (RuntimeException mainException) {
-					// Try not to leave the index closed if something failed
-					try {
-						schemaAccessor.openIndex( indexName );
-					}
-					catch (RuntimeException e) {
-						mainException.addSuppressed( e );
-					}
-					throw mainException;
-				}
-				// Re-open the index after the settings have been successfully updated
-				schemaAccessor.openIndex( indexName );
-			}
-
-			// Elasticsearch itself takes care of the actual merging
-			schemaAccessor.putMapping( indexName, indexMetadata.getMapping() );
+		/*
+		 * We only update settings if it's really necessary, because closing the index,
+		 * even for just a moment, may hurt if other clients are using the index.
+		 */
+		CompletableFuture<?> settingsMigrationFuture;
+		if ( settings.isEmpty() ) {
+			settingsMigrationFuture = CompletableFuture.completedFuture( null );
 		}
-		catch (SearchException e) {
-			throw log.schemaUpdateFailed( indexName, e.getMessage(), e );
+		else {
+			settingsMigrationFuture = schemaValidator.isSettingsValid( indexMetadata )
+					.thenCompose( settingsValid -> {
+						if ( settingsValid ) {
+							return CompletableFuture.completedFuture( null );
+						}
+						else {
+							return updateSettings( indexName, settings );
+						}
+					} );
 		}
+
+		return settingsMigrationFuture
+				// Elasticsearch itself takes care of the actual merging
+				.thenCompose( ignored -> schemaAccessor.putMapping( indexName, indexMetadata.getMapping() ) )
+				.exceptionally( Futures.handler( e -> {
+					if ( e instanceof SearchException ) {
+						throw log.schemaUpdateFailed( indexName, e.getMessage(), (SearchException) e );
+					}
+					throw Throwables.expectRuntimeException( e );
+				} ) );
+	}
+
+	private CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
+		return schemaAccessor.closeIndex( indexName )
+				.thenCompose( ignored -> Futures.whenCompleteExecute(
+						schemaAccessor.updateSettings( indexName, settings ),
+						/*
+						 * Re-open the index after the settings have been updated,
+						 * and also if something failed: try not to leave the index closed.
+						 */
+						() -> schemaAccessor.openIndex( indexName )
+				) );
 	}
 
 }
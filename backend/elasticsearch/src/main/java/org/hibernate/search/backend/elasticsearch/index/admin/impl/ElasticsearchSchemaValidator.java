@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 
 /**
@@ -23,16 +25,17 @@ public interface ElasticsearchSchemaValidator {
 	 *
 	 * @param expectedIndexMetadata The expected metadata, generated by Hibernate Search.
 	 * @param failureCollector A collector for validation failures occurring during validation.
+	 * @return A future.
 	 */
-	void validate(IndexMetadata expectedIndexMetadata, ContextualFailureCollector failureCollector);
+	CompletableFuture<?> validate(IndexMetadata expectedIndexMetadata, ContextualFailureCollector failureCollector);
 
 	/**
 	 * Retrieves and validate actual index settings, returning a boolean indicating
 	 * whether the actual settings are valid or not.
 	 *
 	 * @param expectedIndexMetadata The expected metadata, generated by Hibernate Search.
-	 * @return {@code true} if the actual settings are valid, {@code false} otherwise.
+	 * @return A future holding {@code true} if the actual settings are valid, {@code false} otherwise.
 	 */
-	boolean isSettingsValid(IndexMetadata expectedIndexMetadata);
+	CompletableFuture<Boolean> isSettingsValid(IndexMetadata expectedIndexMetadata);
 
 }
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 
 /**
  * @author Yoann Rodiere
@@ -27,12 +28,14 @@ public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<Ela
 	private final String elasticsearchIndexName;
 	private final ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
 	private final ElasticsearchIndexSettingsBuilder settingsBuilder;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String hibernateSearchIndexName, String elasticsearchIndexName,
 			ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
-			ElasticsearchIndexSettingsBuilder settingsBuilder) {
+			ElasticsearchIndexSettingsBuilder settingsBuilder,
+			IndexingInstrumentation indexingInstrumentation) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
@@ -40,6 +43,7 @@ public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendCo
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
 		this.settingsBuilder = settingsBuilder;
+		this.indexingInstrumentation = indexingInstrumentation;
 	}
 
 	@Override
@@ -62,7 +66,7 @@ public ElasticsearchIndexManagerImpl build() {
 		return new ElasticsearchIndexManagerImpl(
 				indexingBackendContext, searchBackendContext,
 				hibernateSearchIndexName, encodedElasticsearchIndexName,
-				model
+				model, indexingInstrumentation
 		);
 	}
 
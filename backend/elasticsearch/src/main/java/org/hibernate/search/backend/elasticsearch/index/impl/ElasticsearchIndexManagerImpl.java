@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexLifecycleStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
@@ -24,12 +25,14 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchScopeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -55,6 +58,12 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 					.withDefault( ElasticsearchIndexSettings.Defaults.REFRESH_AFTER_WRITE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> INDEXING_COALESCING_WINDOW =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_COALESCING_WINDOW )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_COALESCING_WINDOW )
+					.build();
+
 	private static final ConfigurationProperty<ElasticsearchIndexLifecycleStrategyName> LIFECYCLE_STRATEGY =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.LIFECYCLE_STRATEGY )
 					.as( ElasticsearchIndexLifecycleStrategyName.class, ElasticsearchIndexLifecycleStrategyName::of )
@@ -79,6 +88,7 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 	private final String hibernateSearchIndexName;
 	private final URLEncodedString elasticsearchIndexName;
 	private final ElasticsearchIndexModel model;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	private final ElasticsearchIndexAdministrationClient administrationClient;
 
@@ -90,19 +100,20 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 
 	ElasticsearchIndexManagerImpl(IndexingBackendContext indexingBackendContext, SearchBackendContext searchBackendContext,
 			String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
-			ElasticsearchIndexModel model) {
+			ElasticsearchIndexModel model, IndexingInstrumentation indexingInstrumentation) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.hibernateSearchIndexName = hibernateSearchIndexName;
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.model = model;
+		this.indexingInstrumentation = indexingInstrumentation;
 		this.administrationClient = indexingBackendContext.createAdministrationClient(
 				elasticsearchIndexName, model
 		);
 	}
 
 	@Override
-	public void start(IndexManagerStartContext context) {
+	public CompletableFuture<?> start(IndexManagerStartContext context) {
 		try {
 			/*
 			 * Create the lifecycle strategy late to allow the related settings to be changed
@@ -111,16 +122,31 @@ public void start(IndexManagerStartContext context) {
 			lifecycleStrategy = createLifecycleStrategy( context.getConfigurationPropertySource() );
 
 			/*
-			 * Create orchestrators late to allow the refresh_after_write setting to be changed
-			 * after the first phase of bootstrap (useful for compile-time boot).
+			 * Create orchestrators late to allow the refresh_after_write and indexing.coalescing_window
+			 * settings to be changed after the first phase of bootstrap (useful for compile-time boot).
 			 */
 			refreshAfterWrite = REFRESH_AFTER_WRITE.get( context.getConfigurationPropertySource() );
-			parallelOrchestrator = indexingBackendContext.createParallelOrchestrator( elasticsearchIndexName.original );
-			serialOrchestrator = indexingBackendContext.createSerialOrchestrator( elasticsearchIndexName.original, refreshAfterWrite );
+			int coalescingWindow = INDEXING_COALESCING_WINDOW.getAndTransform(
+					context.getConfigurationPropertySource(), ElasticsearchIndexManagerImpl::checkPositiveOrZero
+			);
+			parallelOrchestrator = indexingBackendContext.createParallelOrchestrator(
+					elasticsearchIndexName.original, indexingInstrumentation
+			);
+			serialOrchestrator = indexingBackendContext.createSerialOrchestrator(
+					elasticsearchIndexName.original, refreshAfterWrite, coalescingWindow, indexingInstrumentation
+			);
 
-			lifecycleStrategy.onStart( administrationClient, context );
-			serialOrchestrator.start();
-			parallelOrchestrator.start();
+			/*
+			 * Schema management is asynchronous, so that multiple indexes can be started concurrently.
+			 * Only start the orchestrators once the schema is ready,
+			 * so that no work can be executed against an index that does not exist yet.
+			 * If schema management fails, the engine will close this index manager, and thus the orchestrators.
+			 */
+			return lifecycleStrategy.onStart( administrationClient, context )
+					.thenRun( () -> {
+						serialOrchestrator.start();
+						parallelOrchestrator.start();
+					} );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
@@ -195,6 +221,11 @@ public String toString() {
 				.toString();
 	}
 
+	@Override
+	public IndexingMetrics getIndexingMetrics() {
+		return indexingInstrumentation.getMetrics();
+	}
+
 	@Override
 	public IndexManager toAPI() {
 		return this;
@@ -227,4 +258,11 @@ private ElasticsearchIndexLifecycleStrategy createLifecycleStrategy(Configuratio
 		);
 	}
 
+	private static <T extends Number> T checkPositiveOrZero(T value) {
+		if ( value.longValue() < 0L ) {
+			throw log.invalidNegativeValue( value.longValue() );
+		}
+		return value;
+	}
+
 }
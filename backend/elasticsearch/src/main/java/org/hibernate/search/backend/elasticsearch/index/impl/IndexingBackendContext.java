@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
@@ -58,15 +59,18 @@ ElasticsearchIndexAdministrationClient createAdministrationClient(URLEncodedStri
 		);
 	}
 
-	ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String indexName, boolean refreshAfterWrite) {
+	ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String indexName, boolean refreshAfterWrite,
+			long coalescingWindowMs, IndexingInstrumentation indexingInstrumentation) {
 		return orchestratorProvider.createSerialOrchestrator(
-				"Elasticsearch serial work orchestrator for index " + indexName, refreshAfterWrite
+				"Elasticsearch serial work orchestrator for index " + indexName, refreshAfterWrite,
+				coalescingWindowMs, indexingInstrumentation
 		);
 	}
 
-	ElasticsearchSharedWorkOrchestrator createParallelOrchestrator(String indexName) {
+	ElasticsearchSharedWorkOrchestrator createParallelOrchestrator(String indexName,
+			IndexingInstrumentation indexingInstrumentation) {
 		return orchestratorProvider.createParallelOrchestrator(
-				"Elasticsearch parallel work orchestrator for index " + indexName
+				"Elasticsearch parallel work orchestrator for index " + indexName, indexingInstrumentation
 		);
 	}
 
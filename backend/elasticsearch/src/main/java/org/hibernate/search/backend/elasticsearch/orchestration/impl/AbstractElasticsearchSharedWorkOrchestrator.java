@@ -8,13 +8,19 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchDocumentKey;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentElasticsearchWork;
+import org.hibernate.search.engine.backend.index.spi.IndexingBatchTracker;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -30,12 +36,20 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final String name;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	private boolean open = true; // Guarded by shutdownLock
 	private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
 
-	protected AbstractElasticsearchSharedWorkOrchestrator(String name) {
+	/**
+	 * @param name The name of this orchestrator when reporting errors
+	 * @param indexingInstrumentation The instrumentation to report submitted changesets to,
+	 * or {@code null} if changesets submitted to this orchestrator should not be instrumented.
+	 */
+	protected AbstractElasticsearchSharedWorkOrchestrator(String name,
+			IndexingInstrumentation indexingInstrumentation) {
 		this.name = name;
+		this.indexingInstrumentation = indexingInstrumentation;
 	}
 
 	protected final String getName() {
@@ -45,15 +59,17 @@ protected final String getName() {
 	@Override
 	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
 		CompletableFuture<Object> future = new CompletableFuture<>();
-		submit( new MultipleWorkChangeset( works, future ) );
-		return future;
+		IndexingBatchTracker tracker = startBatch( works.size() );
+		submit( new MultipleWorkChangeset( works, future, tracker ), tracker );
+		return endBatchOnCompletion( future, tracker );
 	}
 
 	@Override
 	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
 		CompletableFuture<T> future = new CompletableFuture<>();
-		submit( new SingleWorkChangeset<>( work, future ) );
-		return future;
+		IndexingBatchTracker tracker = startBatch( 1 );
+		submit( new SingleWorkChangeset<>( work, future, tracker ), tracker );
+		return endBatchOnCompletion( future, tracker );
 	}
 
 	@Override
@@ -75,6 +91,38 @@ public void close() {
 
 	protected abstract void doClose();
 
+	private IndexingBatchTracker startBatch(int workCount) {
+		return indexingInstrumentation == null ? null : indexingInstrumentation.startBatch( workCount );
+	}
+
+	private static <T> CompletableFuture<T> endBatchOnCompletion(CompletableFuture<T> future,
+			IndexingBatchTracker tracker) {
+		if ( tracker == null ) {
+			return future;
+		}
+		// Return the dependent future, so that callers only see completion once metrics are up to date
+		return future.whenComplete( Futures.handler( (ignored, throwable) -> {
+			if ( throwable == null ) {
+				tracker.complete();
+			}
+			else {
+				tracker.fail( throwable );
+			}
+		} ) );
+	}
+
+	private void submit(Changeset changeset, IndexingBatchTracker tracker) {
+		try {
+			submit( changeset );
+		}
+		catch (RuntimeException e) {
+			if ( tracker != null ) {
+				tracker.fail( e );
+			}
+			throw e;
+		}
+	}
+
 	void submit(Changeset changeset) {
 		if ( !shutdownLock.readLock().tryLock() ) {
 			// The orchestrator is shutting down: abort.
@@ -99,46 +147,135 @@ void submit(Changeset changeset) {
 	interface Changeset {
 		void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate);
 		CompletableFuture<?> getFuture();
+
+		/**
+		 * Drop the works of this changeset that are overridden by works of changesets
+		 * that will be submitted later to the same delegate,
+		 * and register the works of this changeset that can override works of earlier changesets.
+		 * <p>
+		 * Once coalesced, the future of this changeset will only complete
+		 * when the changesets overriding its works complete.
+		 *
+		 * @param laterChangesetFutures For each document affected by a later changeset,
+		 * the future of the latest changeset affecting that document.
+		 * Updated by this method.
+		 */
+		void coalesce(Map<ElasticsearchDocumentKey, CompletableFuture<?>> laterChangesetFutures);
 	}
 
 	static class MultipleWorkChangeset implements Changeset {
 		private final List<ElasticsearchWork<?>> works;
 		private final CompletableFuture<Object> future;
+		private final IndexingBatchTracker tracker;
 
-		MultipleWorkChangeset(List<ElasticsearchWork<?>> works, CompletableFuture<Object> future) {
+		private List<CompletableFuture<?>> overridingChangesetFutures;
+
+		MultipleWorkChangeset(List<ElasticsearchWork<?>> works, CompletableFuture<Object> future,
+				IndexingBatchTracker tracker) {
 			this.works = new ArrayList<>( works );
 			this.future = future;
+			this.tracker = tracker;
 		}
 
 		@Override
 		public void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate) {
-			delegate.submit( works ).whenComplete( Futures.copyHandler( future ) );
+			if ( tracker != null ) {
+				tracker.startApplying();
+			}
+			CompletableFuture<?> worksFuture = works.isEmpty()
+					? CompletableFuture.completedFuture( null ) : delegate.submit( works );
+			if ( overridingChangesetFutures != null ) {
+				overridingChangesetFutures.add( worksFuture );
+				worksFuture = CompletableFuture.allOf(
+						overridingChangesetFutures.toArray( new CompletableFuture<?>[0] )
+				);
+			}
+			worksFuture.whenComplete( Futures.copyHandler( future ) );
 		}
 
 		@Override
 		public CompletableFuture<?> getFuture() {
 			return future;
 		}
+
+		@Override
+		public void coalesce(Map<ElasticsearchDocumentKey, CompletableFuture<?>> laterChangesetFutures) {
+			List<ElasticsearchDocumentKey> remainingDocumentKeys = new ArrayList<>();
+			for ( Iterator<ElasticsearchWork<?>> iterator = works.iterator(); iterator.hasNext(); ) {
+				ElasticsearchWork<?> work = iterator.next();
+				if ( !( work instanceof SingleDocumentElasticsearchWork ) ) {
+					continue;
+				}
+				ElasticsearchDocumentKey documentKey = ( (SingleDocumentElasticsearchWork<?>) work ).getDocumentKey();
+				CompletableFuture<?> overridingChangesetFuture = laterChangesetFutures.get( documentKey );
+				if ( overridingChangesetFuture == null ) {
+					remainingDocumentKeys.add( documentKey );
+				}
+				else {
+					iterator.remove();
+					if ( overridingChangesetFutures == null ) {
+						overridingChangesetFutures = new ArrayList<>();
+					}
+					overridingChangesetFutures.add( overridingChangesetFuture );
+				}
+			}
+			// Register keys after the loop: works from the same changeset never override each other
+			for ( ElasticsearchDocumentKey documentKey : remainingDocumentKeys ) {
+				laterChangesetFutures.put( documentKey, future );
+			}
+		}
 	}
 
 	static class SingleWorkChangeset<T> implements Changeset {
 		private final ElasticsearchWork<T> work;
 		private final CompletableFuture<T> future;
+		private final IndexingBatchTracker tracker;
 
-		SingleWorkChangeset(ElasticsearchWork<T> work, CompletableFuture<T> future) {
+		private CompletableFuture<?> overridingChangesetFuture;
+
+		SingleWorkChangeset(ElasticsearchWork<T> work, CompletableFuture<T> future, IndexingBatchTracker tracker) {
 			this.work = work;
 			this.future = future;
+			this.tracker = tracker;
 		}
 
 		@Override
 		public void submitTo(ElasticsearchAccumulatingWorkOrchestrator delegate) {
-			delegate.submit( work ).whenComplete( Futures.copyHandler( future ) );
+			if ( tracker != null ) {
+				tracker.startApplying();
+			}
+			if ( overridingChangesetFuture == null ) {
+				delegate.submit( work ).whenComplete( Futures.copyHandler( future ) );
+			}
+			else {
+				// The work was overridden: it will never be executed and thus never produce a result
+				overridingChangesetFuture.whenComplete( (ignored, throwable) -> {
+					if ( throwable == null ) {
+						future.complete( null );
+					}
+					else {
+						future.completeExceptionally( throwable );
+					}
+				} );
+			}
 		}
 
 		@Override
 		public CompletableFuture<?> getFuture() {
 			return future;
 		}
+
+		@Override
+		public void coalesce(Map<ElasticsearchDocumentKey, CompletableFuture<?>> laterChangesetFutures) {
+			if ( !( work instanceof SingleDocumentElasticsearchWork ) ) {
+				return;
+			}
+			ElasticsearchDocumentKey documentKey = ( (SingleDocumentElasticsearchWork<?>) work ).getDocumentKey();
+			overridingChangesetFuture = laterChangesetFutures.get( documentKey );
+			if ( overridingChangesetFuture == null ) {
+				laterChangesetFutures.put( documentKey, future );
+			}
+		}
 	}
 
 }
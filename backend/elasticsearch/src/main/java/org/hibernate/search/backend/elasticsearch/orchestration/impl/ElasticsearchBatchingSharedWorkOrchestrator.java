@@ -8,15 +8,22 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchDocumentKey;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.Executors;
@@ -31,6 +38,10 @@
  * in a separate thread.
  * This allows to process more works when orchestrating, which allows to use bulk works
  * more extensively.
+ * <p>
+ * Optionally, processing can be delayed by a coalescing window,
+ * so that works on the same document submitted in quick succession are processed in the same batch:
+ * only the latest work on each document is then sent to Elasticsearch.
  *
  * @author Yoann Rodiere
  */
@@ -42,12 +53,13 @@ class ElasticsearchBatchingSharedWorkOrchestrator extends AbstractElasticsearchS
 	private final ElasticsearchAccumulatingWorkOrchestrator delegate;
 	private final ErrorHandler errorHandler;
 	private final int changesetsPerBatch;
+	private final long coalescingWindowMs;
 
 	private final BlockingQueue<Changeset> changesetQueue;
 	private final List<Changeset> changesetBuffer;
 	private final AtomicBoolean processingScheduled;
 
-	private ExecutorService executor;
+	private ScheduledExecutorService executor;
 
 	private final Phaser phaser = new Phaser() {
 		@Override
@@ -65,16 +77,26 @@ protected boolean onAdvance(int phase, int registeredParties) {
 	 * @param fair if {@code true} changesets are always submitted to the
 	 * delegate in FIFO order, if {@code false} changesets submitted
 	 * when the internal queue is full may be submitted out of order.
+	 * @param coalescingWindowMs The delay in milliseconds between the submission of a changeset
+	 * and the processing of the batch it belongs to, during which works on the same document
+	 * are coalesced, or {@code 0} to process changesets as soon as possible without coalescing.
+	 * Must be {@code 0} unless {@code fair} is {@code true} and the delegate executes changesets serially,
+	 * since coalescing assumes later changesets hold the latest version of each document.
 	 * @param delegate A delegate orchestrator. May not be thread-safe.
+	 * @param indexingInstrumentation The instrumentation to report changesets submitted directly
+	 * to this orchestrator to, or {@code null}.
+	 * Changesets submitted through children are reported to the instrumentation of the child.
 	 */
 	public ElasticsearchBatchingSharedWorkOrchestrator(
-			String name, int maxChangesetsPerBatch, boolean fair,
+			String name, int maxChangesetsPerBatch, boolean fair, long coalescingWindowMs,
 			ElasticsearchAccumulatingWorkOrchestrator delegate,
-			ErrorHandler errorHandler) {
-		super( name );
+			ErrorHandler errorHandler,
+			IndexingInstrumentation indexingInstrumentation) {
+		super( name, indexingInstrumentation );
 		this.delegate = delegate;
 		this.errorHandler = errorHandler;
 		this.changesetsPerBatch = maxChangesetsPerBatch;
+		this.coalescingWindowMs = coalescingWindowMs;
 		changesetQueue = new ArrayBlockingQueue<>( maxChangesetsPerBatch, fair );
 		changesetBuffer = new ArrayList<>( maxChangesetsPerBatch );
 		processingScheduled = new AtomicBoolean( false );
@@ -82,7 +104,7 @@ public ElasticsearchBatchingSharedWorkOrchestrator(
 
 	@Override
 	public void start() {
-		executor = Executors.newFixedThreadPool( 1, getName() );
+		executor = Executors.newScheduledThreadPool( getName() );
 	}
 
 	/**
@@ -96,9 +118,12 @@ public void start() {
 	 * and will prevent any more work to be submitted through the child.
 	 *
 	 * @param name The name of the child orchestrator when reporting errors
+	 * @param indexingInstrumentation The instrumentation to report changesets submitted through the child to,
+	 * or {@code null}.
 	 */
-	public ElasticsearchSharedWorkOrchestrator createChild(String name) {
-		return new ChildOrchestrator( name );
+	public ElasticsearchSharedWorkOrchestrator createChild(String name,
+			IndexingInstrumentation indexingInstrumentation) {
+		return new ChildOrchestrator( name, indexingInstrumentation );
 	}
 
 	@Override
@@ -125,7 +150,12 @@ private void ensureProcessingScheduled() {
 			try {
 				if ( processingScheduled.compareAndSet( false, true ) ) {
 					try {
-						executor.submit( this::processBatch );
+						if ( coalescingWindowMs > 0 ) {
+							executor.schedule( this::processBatch, coalescingWindowMs, TimeUnit.MILLISECONDS );
+						}
+						else {
+							executor.submit( this::processBatch );
+						}
 					}
 					catch (Throwable e) {
 						/*
@@ -208,6 +238,10 @@ private void processBatch() {
 
 					changesetQueue.drainTo( changesetBuffer, changesetsPerBatch );
 
+					if ( coalescingWindowMs > 0 ) {
+						coalesce( changesetBuffer );
+					}
+
 					for ( Changeset changeset : changesetBuffer ) {
 						try {
 							changeset.submitTo( delegate );
@@ -276,11 +310,20 @@ private void processBatch() {
 		}
 	}
 
+	private static void coalesce(List<Changeset> changesets) {
+		// Latest changesets override earlier ones: iterate in reverse order
+		Map<ElasticsearchDocumentKey, CompletableFuture<?>> laterChangesetFutures = new HashMap<>();
+		for ( ListIterator<Changeset> iterator = changesets.listIterator( changesets.size() );
+				iterator.hasPrevious(); ) {
+			iterator.previous().coalesce( laterChangesetFutures );
+		}
+	}
+
 	private class ChildOrchestrator extends AbstractElasticsearchSharedWorkOrchestrator
 			implements ElasticsearchSharedWorkOrchestrator {
 
-		protected ChildOrchestrator(String name) {
-			super( name );
+		protected ChildOrchestrator(String name, IndexingInstrumentation indexingInstrumentation) {
+			super( name, indexingInstrumentation );
 		}
 
 		@Override
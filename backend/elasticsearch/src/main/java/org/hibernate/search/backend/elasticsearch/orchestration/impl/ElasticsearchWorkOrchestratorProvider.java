@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -130,7 +131,9 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 				rootParallelOrchestratorName,
 				PARALLEL_MAX_CHANGESETS_PER_BATCH,
 				false, // Do not care about ordering when queuing changesets
-				createThreadUnsafeParallelOrchestrator( this::createIgnoreDirtyWorkExecutionContext, false ) );
+				0, // Coalescing requires ordering
+				createThreadUnsafeParallelOrchestrator( this::createIgnoreDirtyWorkExecutionContext, false ),
+				null );
 	}
 
 	@Override
@@ -161,9 +164,14 @@ public ElasticsearchBatchingSharedWorkOrchestrator getRootParallelOrchestrator()
 
 	/**
 	 * @param name The name of the orchestrator to create.
+	 * @param refreshAfterWrite Whether the index should be refreshed after each changeset.
+	 * @param coalescingWindowMs The delay in milliseconds during which works on the same document are coalesced,
+	 * or {@code 0} to disable coalescing.
+	 * @param indexingInstrumentation The instrumentation to report changesets to, or {@code null}.
 	 * @return A <a href="#serial-orchestrators">serial orchestrator</a>.
 	 */
-	public ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String name, boolean refreshAfterWrite) {
+	public ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String name, boolean refreshAfterWrite,
+			long coalescingWindowMs, IndexingInstrumentation indexingInstrumentation) {
 		/*
 		 * Since works are applied in order, refreshing the index after changesets
 		 * is actually an option, and if enabled we use refreshing execution contexts.
@@ -189,23 +197,36 @@ public ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String name,
 				name,
 				SERIAL_MAX_CHANGESETS_PER_BATCH,
 				true /* enqueue changesets in the exact order they were submitted */,
-				delegate
+				coalescingWindowMs,
+				delegate,
+				indexingInstrumentation
 				);
 	}
 
 	/**
 	 * @param name The name of the orchestrator to create.
-	 * @return A <a href="#parallel-orchestrators">parallel orchestrator</a>.
+	 * @return A <a href="#parallel-orchestrators">parallel orchestrator</a> whose changesets are not instrumented.
 	 */
 	public ElasticsearchSharedWorkOrchestrator createParallelOrchestrator(String name) {
-		return rootParallelOrchestrator.createChild( name );
+		return createParallelOrchestrator( name, null );
+	}
+
+	/**
+	 * @param name The name of the orchestrator to create.
+	 * @param indexingInstrumentation The instrumentation to report changesets to, or {@code null}.
+	 * @return A <a href="#parallel-orchestrators">parallel orchestrator</a>.
+	 */
+	public ElasticsearchSharedWorkOrchestrator createParallelOrchestrator(String name,
+			IndexingInstrumentation indexingInstrumentation) {
+		return rootParallelOrchestrator.createChild( name, indexingInstrumentation );
 	}
 
 	private ElasticsearchBatchingSharedWorkOrchestrator createBatchingSharedOrchestrator(
-			String name, int maxChangesetsPerBatch, boolean fair,
-			ElasticsearchAccumulatingWorkOrchestrator delegate) {
+			String name, int maxChangesetsPerBatch, boolean fair, long coalescingWindowMs,
+			ElasticsearchAccumulatingWorkOrchestrator delegate,
+			IndexingInstrumentation indexingInstrumentation) {
 		return new ElasticsearchBatchingSharedWorkOrchestrator( name, maxChangesetsPerBatch, fair,
-				delegate, errorHandler );
+				coalescingWindowMs, delegate, errorHandler, indexingInstrumentation );
 	}
 
 	private ElasticsearchAccumulatingWorkOrchestrator createThreadUnsafeSerialOrchestrator(
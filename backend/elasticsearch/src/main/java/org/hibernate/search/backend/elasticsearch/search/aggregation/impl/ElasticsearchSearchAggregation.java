@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.search.SearchAggregation;
+
+import com.google.gson.JsonObject;
+
+/**
+ * An aggregation translated to a native Elasticsearch aggregation.
+ *
+ * @param <A> The type of result for this aggregation.
+ */
+public interface ElasticsearchSearchAggregation<A> extends SearchAggregation<A> {
+
+	/**
+	 * @return The JSON of the aggregation, to be added to the "aggregations" property of the request.
+	 */
+	JsonObject toJsonAggregation();
+
+	/**
+	 * @param aggregationResult The JSON result of the aggregation, as returned in the "aggregations" property
+	 * of the response.
+	 * @param context The context to use when converting values.
+	 * @return The result of the aggregation.
+	 */
+	A extract(JsonObject aggregationResult, FromDocumentFieldValueConvertContext context);
+
+}
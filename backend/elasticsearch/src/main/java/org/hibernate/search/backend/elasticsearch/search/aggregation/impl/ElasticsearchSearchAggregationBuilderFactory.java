@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchScopedIndexFieldComponent;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchScopeModel;
+import org.hibernate.search.backend.elasticsearch.search.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ElasticsearchSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<ElasticsearchSearchAggregationCollector> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final AggregationBuilderFactoryRetrievalStrategy AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY =
+			new AggregationBuilderFactoryRetrievalStrategy();
+
+	private final ElasticsearchSearchContext searchContext;
+	private final ElasticsearchSearchScopeModel scopeModel;
+
+	public ElasticsearchSearchAggregationBuilderFactory(ElasticsearchSearchContext searchContext,
+			ElasticsearchSearchScopeModel scopeModel) {
+		this.searchContext = searchContext;
+		this.scopeModel = scopeModel;
+	}
+
+	@Override
+	public <A> void contribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<A> key,
+			SearchAggregation<A> aggregation) {
+		if ( !( aggregation instanceof ElasticsearchSearchAggregation ) ) {
+			throw log.cannotMixElasticsearchSearchAggregationWithOtherAggregations( aggregation );
+		}
+		collector.collectAggregation( key, (ElasticsearchSearchAggregation<A>) aggregation );
+	}
+
+	@Override
+	public <K> TermsAggregationBuilder<K> createTermsAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		ElasticsearchScopedIndexFieldComponent<ElasticsearchFieldAggregationBuilderFactory> fieldComponent =
+				getFieldComponent( absoluteFieldPath );
+		return fieldComponent.getComponent().createTermsAggregationBuilder(
+				searchContext, absoluteFieldPath, expectedType, fieldComponent.getConverterCompatibilityChecker()
+		);
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		ElasticsearchScopedIndexFieldComponent<ElasticsearchFieldAggregationBuilderFactory> fieldComponent =
+				getFieldComponent( absoluteFieldPath );
+		return fieldComponent.getComponent().createRangeAggregationBuilder(
+				searchContext, absoluteFieldPath, expectedType, fieldComponent.getConverterCompatibilityChecker()
+		);
+	}
+
+	private ElasticsearchScopedIndexFieldComponent<ElasticsearchFieldAggregationBuilderFactory> getFieldComponent(
+			String absoluteFieldPath) {
+		ElasticsearchScopedIndexFieldComponent<ElasticsearchFieldAggregationBuilderFactory> fieldComponent = scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY );
+		if ( fieldComponent.getComponent() == null ) {
+			throw log.unsupportedDSLAggregations( EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+		return fieldComponent;
+	}
+
+	private static class AggregationBuilderFactoryRetrievalStrategy
+			implements IndexSchemaFieldNodeComponentRetrievalStrategy<ElasticsearchFieldAggregationBuilderFactory> {
+
+		@Override
+		public ElasticsearchFieldAggregationBuilderFactory extractComponent(ElasticsearchIndexSchemaFieldNode<?> schemaNode) {
+			return schemaNode.getAggregationBuilderFactory();
+		}
+
+		@Override
+		public boolean hasCompatibleCodec(ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2) {
+			if ( component1 == null || component2 == null ) {
+				// Fields that do not support aggregations are only compatible with each other
+				return component1 == component2;
+			}
+			return component1.hasCompatibleCodec( component2 );
+		}
+
+		@Override
+		public boolean hasCompatibleConverter(ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2) {
+			if ( component1 == null || component2 == null ) {
+				return component1 == component2;
+			}
+			return component1.hasCompatibleConverter( component2 );
+		}
+
+		@Override
+		public SearchException createCompatibilityException(String absoluteFieldPath,
+				ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2,
+				EventContext context) {
+			return log.conflictingFieldTypesForAggregation( absoluteFieldPath, component1, component2, context );
+		}
+	}
+}
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Map;
+
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 import com.google.gson.JsonObject;
@@ -29,8 +33,9 @@
 	Elasticsearch6SearchResultExtractor(
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext) {
-		super( projectionHitMapper, rootProjection, searchProjectionExecutionContext );
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+		super( projectionHitMapper, rootProjection, searchProjectionExecutionContext, aggregations );
 	}
 
 	@Override
@@ -8,6 +8,8 @@
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -16,8 +18,11 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 import org.hibernate.search.util.common.impl.Futures;
 
 import com.google.gson.JsonObject;
@@ -40,13 +45,19 @@
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final SearchQueryInstrumentation queryInstrumentation;
+	private final Set<String> hibernateSearchIndexNames;
+
+	private long pendingBuildDurationNanos;
 
 	public ElasticsearchIndexSearchQuery(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
 			Set<String> routingKeys,
-			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			SearchQueryInstrumentation queryInstrumentation, Set<String> hibernateSearchIndexNames,
+			long buildDurationNanos) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.indexNames = indexNames;
@@ -54,6 +65,9 @@ public ElasticsearchIndexSearchQuery(ElasticsearchWorkBuilderFactory workFactory
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.queryInstrumentation = queryInstrumentation;
+		this.hibernateSearchIndexNames = hibernateSearchIndexNames;
+		this.pendingBuildDurationNanos = buildDurationNanos;
 	}
 
 	@Override
@@ -68,33 +82,102 @@ public String toString() {
 
 	@Override
 	public IndexSearchResult<T> fetch(Long limit, Long offset) {
+		SearchQueryExecutionTracker tracker = startExecution();
+		try {
+			ElasticsearchLoadableSearchResult<T> loadableResult =
+					Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createFetchWork( limit, offset, tracker ) ) );
+			long loadingStartNanos = System.nanoTime();
+			/*
+			 * WARNING: the following call must run in the user thread.
+			 * Use fetchAsync() to load hits through ObjectLoader.loadAsync() instead.
+			 */
+			IndexSearchResult<T> result = loadableResult.loadBlocking( sessionContext );
+			tracker.recordPhase( SearchQueryPhase.LOADING, System.nanoTime() - loadingStartNanos );
+			tracker.complete();
+			return result;
+		}
+		catch (RuntimeException e) {
+			tracker.fail( e );
+			throw e;
+		}
+	}
+
+	@Override
+	public CompletableFuture<IndexSearchResult<T>> fetchAsync(Long limit, Long offset, Executor loadingExecutor) {
+		/*
+		 * The HTTP request is completed by a thread of the REST client, which must never block:
+		 * loading, which may access a database, is handed off to the loading executor.
+		 */
+		SearchQueryExecutionTracker tracker = startExecution();
+		return Futures.create( () -> queryOrchestrator.submit( createFetchWork( limit, offset, tracker ) ) )
+				.thenComposeAsync( Futures.safeComposer( loadableResult -> {
+					long loadingStartNanos = System.nanoTime();
+					return loadableResult.loadAsync( sessionContext )
+							.whenComplete( (result, throwable) -> tracker.recordPhase(
+									SearchQueryPhase.LOADING, System.nanoTime() - loadingStartNanos
+							) );
+				} ), loadingExecutor )
+				.whenComplete( Futures.handler( (result, throwable) -> endExecution( tracker, throwable ) ) );
+	}
+
+	@Override
+	public long fetchTotalHitCount() {
+		SearchQueryExecutionTracker tracker = startExecution();
+		try {
+			long hitCount = queryOrchestrator.submit( createCountWork( tracker ) ).join();
+			tracker.complete();
+			return hitCount;
+		}
+		catch (RuntimeException e) {
+			tracker.fail( e );
+			throw e;
+		}
+	}
+
+	@Override
+	public CompletableFuture<Long> fetchTotalHitCountAsync() {
+		SearchQueryExecutionTracker tracker = startExecution();
+		return Futures.create( () -> queryOrchestrator.submit( createCountWork( tracker ) ) )
+				.whenComplete( Futures.handler( (result, throwable) -> endExecution( tracker, throwable ) ) );
+	}
+
+	private SearchQueryExecutionTracker startExecution() {
+		// Only report the time spent building the query once, even if the query is executed multiple times
+		long buildDurationNanos = pendingBuildDurationNanos;
+		pendingBuildDurationNanos = 0L;
+		return queryInstrumentation.startExecution( hibernateSearchIndexNames, this::getQueryString, buildDurationNanos );
+	}
+
+	private static void endExecution(SearchQueryExecutionTracker tracker, Throwable throwable) {
+		if ( throwable == null ) {
+			tracker.complete();
+		}
+		else {
+			tracker.fail( throwable );
+		}
+	}
+
+	private ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> createFetchWork(Long limit, Long offset,
+			SearchQueryExecutionTracker tracker) {
 		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search( payload, searchResultExtractor )
+		return workFactory.search( payload, searchResultExtractor )
 				.indexes( indexNames )
 				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys ).build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking( sessionContext );
+				.routingKeys( routingKeys )
+				.executionTracker( tracker )
+				.build();
 	}
 
-	@Override
-	public long fetchTotalHitCount() {
+	private ElasticsearchWork<Long> createCountWork(SearchQueryExecutionTracker tracker) {
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
 			filteredPayload.add( "query", querySubTree.get() );
 		}
 
-		ElasticsearchWork<Long> work = workFactory.count( indexNames ).query( filteredPayload ).routingKeys( routingKeys ).build();
-		return queryOrchestrator.submit( work ).join();
+		return workFactory.count( indexNames ).query( filteredPayload ).routingKeys( routingKeys )
+				.executionTracker( tracker )
+				.build();
 	}
 
 	private Long defaultedLimit(Long limit, Long offset) {
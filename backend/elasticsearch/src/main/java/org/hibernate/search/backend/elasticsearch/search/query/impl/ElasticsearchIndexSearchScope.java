@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchScopeModel;
@@ -23,6 +24,7 @@
 	private final ElasticsearchSearchSortBuilderFactoryImpl searchSortFactory;
 	private final ElasticsearchSearchQueryBuilderFactory searchQueryFactory;
 	private final ElasticsearchSearchProjectionBuilderFactory searchProjectionFactory;
+	private final ElasticsearchSearchAggregationBuilderFactory searchAggregationFactory;
 
 	public ElasticsearchIndexSearchScope(
 			MappingContextImplementor mappingContext,
@@ -36,6 +38,7 @@ public ElasticsearchIndexSearchScope(
 				searchBackendContext.getSearchProjectionBackendContext(),
 				model
 		);
+		this.searchAggregationFactory = new ElasticsearchSearchAggregationBuilderFactory( searchContext, model );
 		this.searchQueryFactory = new ElasticsearchSearchQueryBuilderFactory( searchBackendContext, model,
 				this.searchProjectionFactory );
 	}
@@ -68,4 +71,9 @@ public ElasticsearchSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 	public ElasticsearchSearchProjectionBuilderFactory getSearchProjectionFactory() {
 		return searchProjectionFactory;
 	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
 }
@@ -9,16 +9,25 @@
 import static org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection.transformUnsafe;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SimpleIndexSearchResult;
 
+import com.google.gson.JsonObject;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -37,19 +46,42 @@
 	private final long hitCount;
 	private List<Object> extractedData;
 
+	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
+	private final JsonObject aggregationResults;
+
 	ElasticsearchLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			JsonObject aggregationResults) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.aggregations = aggregations;
+		this.aggregationResults = aggregationResults;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public int getExtractedHitCount() {
+		return extractedData.size();
 	}
 
 	IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return toSearchResult( sessionContext, projectionHitMapper.loadBlocking() );
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	CompletableFuture<IndexSearchResult<T>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> toSearchResult( sessionContext, loadingResult ) );
+	}
+
+	private IndexSearchResult<T> toSearchResult(SessionContextImplementor sessionContext,
+			LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		for ( int i = 0; i < extractedData.size(); i++ ) {
 			T transformed = transformUnsafe( rootProjection, loadingResult, extractedData.get( i ), transformContext );
@@ -63,6 +95,24 @@ IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleIndexSearchResult<>( hitCount, loadedHits );
+		return new SimpleIndexSearchResult<>( hitCount, loadedHits, extractAggregations( sessionContext ) );
+	}
+
+	private Map<AggregationKey<?>, ?> extractAggregations(SessionContextImplementor sessionContext) {
+		if ( aggregations.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		FromDocumentFieldValueConvertContext convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
+		Map<AggregationKey<?>, Object> extractedAggregations = new LinkedHashMap<>( aggregations.size() );
+		for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			AggregationKey<?> key = entry.getKey();
+			JsonObject aggregationResult = aggregationResults.getAsJsonObject( key.getName() );
+			if ( aggregationResult == null ) {
+				aggregationResult = new JsonObject();
+			}
+			extractedAggregations.put( key, entry.getValue().extract( aggregationResult, convertContext ) );
+		}
+		return extractedAggregations;
 	}
 }
@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
@@ -19,9 +21,11 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -33,8 +37,10 @@
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SearchQueryInstrumentation queryInstrumentation;
 
-	private final Set<URLEncodedString> indexNames;
+	private final Set<String> hibernateSearchIndexNames;
+	private final Set<URLEncodedString> elasticsearchIndexNames;
 	private final SessionContextImplementor sessionContext;
 	private final Set<String> routingKeys;
 
@@ -42,12 +48,16 @@
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
 
+	private long buildStartNanos;
+
 	ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			MultiTenancyStrategy multiTenancyStrategy,
-			Set<URLEncodedString> indexNames,
+			SearchQueryInstrumentation queryInstrumentation,
+			Set<String> hibernateSearchIndexNames,
+			Set<URLEncodedString> elasticsearchIndexNames,
 			SessionContextImplementor sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
@@ -55,14 +65,17 @@
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.queryInstrumentation = queryInstrumentation;
 
-		this.indexNames = indexNames;
+		this.hibernateSearchIndexNames = hibernateSearchIndexNames;
+		this.elasticsearchIndexNames = elasticsearchIndexNames;
 		this.sessionContext = sessionContext;
 		this.routingKeys = new HashSet<>();
 
 		this.elementCollector = new ElasticsearchSearchQueryElementCollector( sessionContext );
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
+		this.buildStartNanos = System.nanoTime();
 	}
 
 	@Override
@@ -75,6 +88,11 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void setBuildStartNanos(long buildStartNanos) {
+		this.buildStartNanos = buildStartNanos;
+	}
+
 	private IndexSearchQuery<T> build() {
 		JsonObject payload = new JsonObject();
 
@@ -88,19 +106,30 @@ private IndexSearchQuery<T> build() {
 			payload.add( "sort", jsonSort );
 		}
 
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = elementCollector.toAggregations();
+		if ( !aggregations.isEmpty() ) {
+			JsonObject jsonAggregations = new JsonObject();
+			for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				jsonAggregations.add( entry.getKey().getName(), entry.getValue().toJsonAggregation() );
+			}
+			payload.add( "aggregations", jsonAggregations );
+		}
+
 		SearchProjectionExtractContext searchProjectionExecutionContext = elementCollector
 				.toSearchProjectionExecutionContext();
 
 		rootProjection.contributeRequest( payload, searchProjectionExecutionContext );
 
 		ElasticsearchSearchResultExtractor<T> searchResultExtractor =
-				searchResultExtractorFactory.createResultExtractor( projectionHitMapper, rootProjection, searchProjectionExecutionContext );
+				searchResultExtractorFactory.createResultExtractor( projectionHitMapper, rootProjection, searchProjectionExecutionContext,
+						aggregations );
 
 		return new ElasticsearchIndexSearchQuery<>(
 				workFactory, queryOrchestrator,
-				indexNames, sessionContext, routingKeys,
+				elasticsearchIndexNames, sessionContext, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				queryInstrumentation, hibernateSearchIndexNames, System.nanoTime() - buildStartNanos
 		);
 	}
 
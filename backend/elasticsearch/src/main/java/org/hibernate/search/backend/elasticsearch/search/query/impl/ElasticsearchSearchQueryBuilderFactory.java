@@ -86,6 +86,7 @@ private <T> ElasticsearchSearchQueryBuilder<T> createSearchQueryBuilder(
 			SessionContextImplementor sessionContext, ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		return searchBackendContext.createSearchQueryBuilder(
+				scopeModel.getHibernateSearchIndexNames(),
 				scopeModel.getElasticsearchIndexNames(),
 				sessionContext,
 				projectionHitMapper, rootProjection
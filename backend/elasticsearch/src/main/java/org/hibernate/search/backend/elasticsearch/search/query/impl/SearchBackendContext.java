@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import com.google.gson.Gson;
@@ -33,6 +34,7 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final SearchQueryInstrumentation queryInstrumentation;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -44,13 +46,15 @@ public SearchBackendContext(EventContext eventContext,
 			Gson userFacingGson,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator orchestrator) {
+			ElasticsearchWorkOrchestrator orchestrator,
+			SearchQueryInstrumentation queryInstrumentation) {
 		this.eventContext = eventContext;
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.userFacingGson = userFacingGson;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.queryInstrumentation = queryInstrumentation;
 
 		this.documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
@@ -83,14 +87,16 @@ ElasticsearchSearchContext createSearchContext(MappingContextImplementor mapping
 	}
 
 	<T> ElasticsearchSearchQueryBuilder<T> createSearchQueryBuilder(
-			Set<URLEncodedString> indexNames,
+			Set<String> hibernateSearchIndexNames,
+			Set<URLEncodedString> elasticsearchIndexNames,
 			SessionContextImplementor sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
-				workFactory, searchResultExtractorFactory, orchestrator, multiTenancyStrategy,
-				indexNames, sessionContext, projectionHitMapper, rootProjection
+				workFactory, searchResultExtractorFactory, orchestrator, multiTenancyStrategy, queryInstrumentation,
+				hibernateSearchIndexNames, elasticsearchIndexNames,
+				sessionContext, projectionHitMapper, rootProjection
 		);
 	}
 
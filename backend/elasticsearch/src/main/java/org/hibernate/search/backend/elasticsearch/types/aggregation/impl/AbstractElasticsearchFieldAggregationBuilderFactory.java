@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchConverterCompatibilityChecker;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * @param <F> The field type exposed to the mapper.
+ */
+abstract class AbstractElasticsearchFieldAggregationBuilderFactory<F>
+		implements ElasticsearchFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final boolean aggregable;
+
+	protected final ElasticsearchFieldCodec<F> codec;
+
+	protected AbstractElasticsearchFieldAggregationBuilderFactory(boolean aggregable, ElasticsearchFieldCodec<F> codec) {
+		this.aggregable = aggregable;
+		this.codec = codec;
+	}
+
+	@Override
+	public <K> TermsAggregationBuilder<K> createTermsAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, ElasticsearchConverterCompatibilityChecker converterChecker) {
+		throw log.termsAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, ElasticsearchConverterCompatibilityChecker converterChecker) {
+		throw log.rangeAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public boolean hasCompatibleCodec(ElasticsearchFieldAggregationBuilderFactory other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( other.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		AbstractElasticsearchFieldAggregationBuilderFactory<?> otherFactory =
+				(AbstractElasticsearchFieldAggregationBuilderFactory<?>) other;
+		return aggregable == otherFactory.aggregable && codec.isCompatibleWith( otherFactory.codec );
+	}
+
+	protected void checkAggregable(String absoluteFieldPath) {
+		if ( !aggregable ) {
+			throw log.nonAggregableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.util.common.data.Range;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Counts matching documents per range, using a native "range" aggregation.
+ * <p>
+ * Each range is given its index as a key, so that buckets can be matched to ranges
+ * regardless of how Elasticsearch formats bounds in the response.
+ *
+ * @param <K> The type of range bounds.
+ */
+class ElasticsearchRangeAggregation<K> implements ElasticsearchSearchAggregation<Map<Range<K>, Long>> {
+
+	private static final JsonAccessor<JsonArray> BUCKETS_ACCESSOR = JsonAccessor.root().property( "buckets" ).asArray();
+	private static final JsonAccessor<String> KEY_ACCESSOR = JsonAccessor.root().property( "key" ).asString();
+	private static final JsonAccessor<Long> DOC_COUNT_ACCESSOR = JsonAccessor.root().property( "doc_count" ).asLong();
+
+	private final String absoluteFieldPath;
+
+	private final List<Range<K>> ranges;
+	private final List<JsonElement> encodedLowerBounds;
+	private final List<JsonElement> encodedUpperBounds;
+
+	ElasticsearchRangeAggregation(String absoluteFieldPath,
+			List<Range<K>> ranges, List<JsonElement> encodedLowerBounds, List<JsonElement> encodedUpperBounds) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.ranges = new ArrayList<>( ranges );
+		this.encodedLowerBounds = new ArrayList<>( encodedLowerBounds );
+		this.encodedUpperBounds = new ArrayList<>( encodedUpperBounds );
+	}
+
+	@Override
+	public JsonObject toJsonAggregation() {
+		JsonArray rangesJson = new JsonArray();
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			JsonObject rangeJson = new JsonObject();
+			rangeJson.addProperty( "key", String.valueOf( i ) );
+			JsonElement lowerBound = encodedLowerBounds.get( i );
+			if ( lowerBound != null ) {
+				rangeJson.add( "from", lowerBound );
+			}
+			JsonElement upperBound = encodedUpperBounds.get( i );
+			if ( upperBound != null ) {
+				rangeJson.add( "to", upperBound );
+			}
+			rangesJson.add( rangeJson );
+		}
+
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.addProperty( "keyed", false );
+		innerObject.add( "ranges", rangesJson );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "range", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public Map<Range<K>, Long> extract(JsonObject aggregationResult, FromDocumentFieldValueConvertContext context) {
+		long[] counts = new long[ranges.size()];
+		JsonArray buckets = BUCKETS_ACCESSOR.get( aggregationResult ).orElseGet( JsonArray::new );
+		for ( JsonElement bucket : buckets ) {
+			JsonObject bucketObject = bucket.getAsJsonObject();
+			int rangeIndex = Integer.parseInt( KEY_ACCESSOR.get( bucketObject ).get() );
+			counts[rangeIndex] = DOC_COUNT_ACCESSOR.get( bucketObject ).orElse( 0L );
+		}
+
+		Map<Range<K>, Long> result = new LinkedHashMap<>( ranges.size() );
+		for ( int i = 0; i < counts.length; i++ ) {
+			result.put( ranges.get( i ), counts[i] );
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", ranges=" ).append( ranges )
+				.append( "]" );
+		return sb.toString();
+	}
+}
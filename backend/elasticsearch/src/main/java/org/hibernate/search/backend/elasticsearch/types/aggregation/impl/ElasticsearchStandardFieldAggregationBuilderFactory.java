@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchConverterCompatibilityChecker;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+
+/**
+ * Creates aggregation builders for numeric and temporal fields.
+ *
+ * @param <F> The field type exposed to the mapper.
+ */
+public class ElasticsearchStandardFieldAggregationBuilderFactory<F>
+		extends AbstractElasticsearchFieldAggregationBuilderFactory<F> {
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+
+	public ElasticsearchStandardFieldAggregationBuilderFactory(boolean aggregable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			ElasticsearchFieldCodec<F> codec) {
+		super( aggregable, codec );
+		this.converter = converter;
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, ElasticsearchConverterCompatibilityChecker converterChecker) {
+		checkAggregable( absoluteFieldPath );
+
+		return new ElasticsearchRangeAggregationBuilder<>(
+				searchContext, absoluteFieldPath, converter, converterChecker, codec
+		);
+	}
+
+	@Override
+	public boolean hasCompatibleConverter(ElasticsearchFieldAggregationBuilderFactory other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( other.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		ElasticsearchStandardFieldAggregationBuilderFactory<?> otherFactory =
+				(ElasticsearchStandardFieldAggregationBuilderFactory<?>) other;
+		return converter.isCompatibleWith( otherFactory.converter );
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Counts matching documents per term, using a native "terms" aggregation.
+ * <p>
+ * Buckets are ordered by descending document count, then by ascending term,
+ * consistently with the Lucene backend.
+ *
+ * @param <F> The field type exposed to the mapper.
+ * @param <K> The type of keys in the returned map.
+ */
+class ElasticsearchTermsAggregation<F, K> implements ElasticsearchSearchAggregation<Map<K, Long>> {
+
+	private static final JsonAccessor<JsonArray> BUCKETS_ACCESSOR = JsonAccessor.root().property( "buckets" ).asArray();
+	private static final JsonAccessor<JsonElement> KEY_ACCESSOR = JsonAccessor.root().property( "key" );
+	private static final JsonAccessor<Long> DOC_COUNT_ACCESSOR = JsonAccessor.root().property( "doc_count" ).asLong();
+
+	private static final JsonArray ORDER_JSON;
+	static {
+		ORDER_JSON = new JsonArray();
+		JsonObject countOrder = new JsonObject();
+		countOrder.addProperty( "_count", "desc" );
+		ORDER_JSON.add( countOrder );
+		JsonObject keyOrder = new JsonObject();
+		keyOrder.addProperty( "_key", "asc" );
+		ORDER_JSON.add( keyOrder );
+	}
+
+	private final String absoluteFieldPath;
+	private final FromDocumentFieldValueConverter<? super F, ? extends K> converter;
+	private final ElasticsearchFieldCodec<F> codec;
+	private final int minDocumentCount;
+	private final int maxTermCount;
+
+	ElasticsearchTermsAggregation(String absoluteFieldPath,
+			FromDocumentFieldValueConverter<? super F, ? extends K> converter,
+			ElasticsearchFieldCodec<F> codec,
+			int minDocumentCount, int maxTermCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.codec = codec;
+		this.minDocumentCount = minDocumentCount;
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public JsonObject toJsonAggregation() {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.add( "min_doc_count", new JsonPrimitive( minDocumentCount ) );
+		innerObject.add( "size", new JsonPrimitive( maxTermCount ) );
+		innerObject.add( "order", ORDER_JSON.deepCopy() );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "terms", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public Map<K, Long> extract(JsonObject aggregationResult, FromDocumentFieldValueConvertContext context) {
+		JsonArray buckets = BUCKETS_ACCESSOR.get( aggregationResult ).orElseGet( JsonArray::new );
+		Map<K, Long> result = new LinkedHashMap<>( buckets.size() );
+		for ( JsonElement bucket : buckets ) {
+			JsonObject bucketObject = bucket.getAsJsonObject();
+			F term = codec.decode( KEY_ACCESSOR.get( bucketObject ).orElse( null ) );
+			long count = DOC_COUNT_ACCESSOR.get( bucketObject ).orElse( 0L );
+			result.put( converter.convert( term, context ), count );
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", minDocumentCount=" ).append( minDocumentCount )
+				.append( ", maxTermCount=" ).append( maxTermCount )
+				.append( "]" );
+		return sb.toString();
+	}
+}
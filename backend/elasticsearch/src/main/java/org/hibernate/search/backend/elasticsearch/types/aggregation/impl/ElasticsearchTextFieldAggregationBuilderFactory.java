@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchConverterCompatibilityChecker;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Creates aggregation builders for string fields, relying on the doc values of sortable keyword fields.
+ */
+public class ElasticsearchTextFieldAggregationBuilderFactory
+		extends AbstractElasticsearchFieldAggregationBuilderFactory<String> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final FromDocumentFieldValueConverter<? super String, ?> converter;
+
+	public ElasticsearchTextFieldAggregationBuilderFactory(boolean aggregable,
+			FromDocumentFieldValueConverter<? super String, ?> converter,
+			ElasticsearchFieldCodec<String> codec) {
+		super( aggregable, codec );
+		this.converter = converter;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
+	public <K> TermsAggregationBuilder<K> createTermsAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, ElasticsearchConverterCompatibilityChecker converterChecker) {
+		checkAggregable( absoluteFieldPath );
+		converterChecker.failIfNotCompatible();
+
+		if ( !converter.isConvertedTypeAssignableTo( expectedType ) ) {
+			throw log.invalidAggregationInvalidType( absoluteFieldPath, expectedType,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+
+		return new ElasticsearchTermsAggregationBuilder<>(
+				absoluteFieldPath, (FromDocumentFieldValueConverter<? super String, ? extends K>) converter, codec
+		);
+	}
+
+	@Override
+	public boolean hasCompatibleConverter(ElasticsearchFieldAggregationBuilderFactory other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( other.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		ElasticsearchTextFieldAggregationBuilderFactory otherFactory = (ElasticsearchTextFieldAggregationBuilderFactory) other;
+		return converter.isCompatibleWith( otherFactory.converter );
+	}
+}
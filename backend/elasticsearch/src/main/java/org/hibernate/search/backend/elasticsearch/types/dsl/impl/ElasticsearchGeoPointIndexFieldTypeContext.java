@@ -38,6 +38,7 @@ protected ElasticsearchIndexFieldType<GeoPoint> toIndexFieldType(PropertyMapping
 				ElasticsearchGeoPointFieldPredicateBuilderFactory.INSTANCE,
 				new ElasticsearchGeoPointFieldSortBuilderFactory( resolvedSortable ),
 				new ElasticsearchGeoPointFieldProjectionBuilderFactory( resolvedProjectable, indexToProjectionConverter, createFromDocumentRawConverter(), codec ),
+				null,
 				mapping
 		);
 	}
@@ -74,7 +74,7 @@ public Elasticsearch7WorkBuilderFactory(GsonProvider gsonProvider) {
 
 	@Override
 	public IndexWorkBuilder index(URLEncodedString indexName, URLEncodedString id, String routingKey, JsonObject document) {
-		return new IndexWork.Builder( indexName, getTypeKeyword(), id, routingKey, document );
+		return new IndexWork.Builder( gsonProvider, indexName, getTypeKeyword(), id, routingKey, document );
 	}
 
 	@Override
@@ -9,6 +9,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
 
 import com.google.gson.JsonObject;
 
@@ -18,4 +19,6 @@ public interface CountWorkBuilder extends ElasticsearchWorkBuilder<Elasticsearch
 
 	CountWorkBuilder routingKeys(Set<String> routingKeys);
 
+	CountWorkBuilder executionTracker(SearchQueryExecutionTracker executionTracker);
+
 }
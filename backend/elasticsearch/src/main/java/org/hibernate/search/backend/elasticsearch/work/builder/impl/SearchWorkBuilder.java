@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
 
 /**
  * @author Yoann Rodiere
@@ -26,4 +27,6 @@
 
 	SearchWorkBuilder<T> routingKeys(Set<String> routingKeys);
 
+	SearchWorkBuilder<T> executionTracker(SearchQueryExecutionTracker executionTracker);
+
 }
@@ -7,7 +7,6 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -42,17 +41,11 @@ public JsonObject getBulkableActionMetadata() {
 	}
 
 	@Override
-	public JsonObject getBulkableActionBody() {
-		List<JsonObject> bodyParts = request.getBodyParts();
-		if ( !bodyParts.isEmpty() ) {
-			if ( bodyParts.size() > 1 ) {
-				throw new AssertionFailure( "Found a bulkable action with multiple body parts: " + bodyParts );
-			}
-			return bodyParts.get( 0 );
-		}
-		else {
-			return null;
+	public void addBulkableActionBody(ElasticsearchRequest.Builder bulkRequestBuilder) {
+		if ( request.getBodyPartCount() > 1 ) {
+			throw new AssertionFailure( "Found a bulkable action with multiple body parts: " + request.getBodyParts() );
 		}
+		bulkRequestBuilder.bodyPartsOf( request );
 	}
 
 	@Override
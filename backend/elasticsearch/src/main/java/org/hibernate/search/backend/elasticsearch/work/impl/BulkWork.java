@@ -131,10 +131,7 @@ protected ElasticsearchRequest buildRequest() {
 
 			for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
-				if ( actionBody != null ) {
-					builder.body( actionBody );
-				}
+				work.addBulkableActionBody( builder );
 			}
 
 			return builder.build();
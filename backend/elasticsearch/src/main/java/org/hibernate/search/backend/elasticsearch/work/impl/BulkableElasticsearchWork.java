@@ -8,6 +8,8 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+
 import com.google.gson.JsonObject;
 
 /**
@@ -17,7 +19,13 @@
 
 	JsonObject getBulkableActionMetadata();
 
-	JsonObject getBulkableActionBody();
+	/**
+	 * Add the body of this action, if any, to the given bulk request,
+	 * preserving its representation (the body may have been serialized ahead of time).
+	 *
+	 * @param bulkRequestBuilder The builder of the bulk request.
+	 */
+	void addBulkableActionBody(ElasticsearchRequest.Builder bulkRequestBuilder);
 
 	/**
 	 * @param context The execution context
@@ -10,6 +10,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -17,6 +18,8 @@
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CountWorkBuilder;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
 
 import com.google.gson.JsonObject;
 
@@ -24,14 +27,31 @@ public class CountWork extends AbstractSimpleElasticsearchWork<Long> {
 
 	private static final JsonAccessor<Long> COUNT_ACCESSOR = JsonAccessor.root().property( "count" ).asLong();
 
+	private final SearchQueryExecutionTracker executionTracker;
+
+	private long executionStartNanos;
+
 	protected CountWork(Builder builder) {
 		super( builder );
+		this.executionTracker = builder.executionTracker;
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		executionStartNanos = System.nanoTime();
+		return super.beforeExecute( executionContext, request );
 	}
 
 	@Override
 	protected Long generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		executionTracker.recordPhase( SearchQueryPhase.EXECUTION, System.nanoTime() - executionStartNanos );
+		executionTracker.recordResponseBytes( response.getBodySize() );
+
 		JsonObject body = response.getBody();
-		return COUNT_ACCESSOR.get( body ).get();
+		Long count = COUNT_ACCESSOR.get( body ).get();
+
+		executionTracker.recordHitCounts( count, 0 );
+		return count;
 	}
 
 	public static class Builder extends AbstractBuilder<Builder> implements CountWorkBuilder {
@@ -39,6 +59,7 @@ public static class Builder extends AbstractBuilder<Builder> implements CountWor
 		private final List<URLEncodedString> indexNames = new ArrayList<>();
 		private JsonObject query;
 		private Set<String> routingKeys;
+		private SearchQueryExecutionTracker executionTracker;
 
 		public Builder(Collection<URLEncodedString> indexNames) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -57,6 +78,12 @@ public Builder routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public Builder executionTracker(SearchQueryExecutionTracker executionTracker) {
+			this.executionTracker = executionTracker;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
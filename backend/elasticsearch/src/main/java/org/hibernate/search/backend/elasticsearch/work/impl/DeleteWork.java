@@ -16,13 +16,23 @@
 /**
  * @author Yoann Rodiere
  */
-public class DeleteWork extends AbstractSimpleBulkableElasticsearchWork<Void> {
+public class DeleteWork extends AbstractSimpleBulkableElasticsearchWork<Void>
+		implements SingleDocumentElasticsearchWork<Void> {
 
 	private static final ElasticsearchRequestSuccessAssessor SUCCESS_ASSESSOR =
 			DefaultElasticsearchRequestSuccessAssessor.builder().ignoreErrorStatuses( 404 ).build();
 
+	private final ElasticsearchDocumentKey documentKey;
+
 	public DeleteWork(Builder builder) {
 		super( builder );
+		this.documentKey = new ElasticsearchDocumentKey( builder.indexName.original, builder.id.original,
+				builder.routingKey );
+	}
+
+	@Override
+	public ElasticsearchDocumentKey getDocumentKey() {
+		return documentKey;
 	}
 
 	@Override
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Objects;
+
+/**
+ * Identifies a document in an Elasticsearch cluster: index name, document identifier and routing key.
+ */
+public final class ElasticsearchDocumentKey {
+
+	private final String indexName;
+	private final String id;
+	private final String routingKey;
+
+	public ElasticsearchDocumentKey(String indexName, String id, String routingKey) {
+		this.indexName = indexName;
+		this.id = id;
+		this.routingKey = routingKey;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "indexName=" ).append( indexName )
+				.append( ", id=" ).append( id )
+				.append( ", routingKey=" ).append( routingKey )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		ElasticsearchDocumentKey other = (ElasticsearchDocumentKey) obj;
+		return indexName.equals( other.indexName )
+				&& id.equals( other.id )
+				&& Objects.equals( routingKey, other.routingKey );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( indexName, id, routingKey );
+	}
+}
@@ -18,6 +18,8 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -31,10 +33,14 @@
 	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<T> resultExtractor;
+	private final SearchQueryExecutionTracker executionTracker;
+
+	private long executionStartNanos;
 
 	protected ElasticsearchSearchWork(Builder<T> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		this.executionTracker = builder.executionTracker;
 	}
 
 	@Override
@@ -44,13 +50,22 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 				request.getParameters(),
 				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
 				);
+		executionStartNanos = System.nanoTime();
 		return super.beforeExecute( executionContext, request );
 	}
 
 	@Override
 	protected ElasticsearchLoadableSearchResult<T> generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		long extractionStartNanos = System.nanoTime();
+		executionTracker.recordPhase( SearchQueryPhase.EXECUTION, extractionStartNanos - executionStartNanos );
+		executionTracker.recordResponseBytes( response.getBodySize() );
+
 		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		ElasticsearchLoadableSearchResult<T> result = resultExtractor.extract( body );
+
+		executionTracker.recordPhase( SearchQueryPhase.EXTRACTION, System.nanoTime() - extractionStartNanos );
+		executionTracker.recordHitCounts( result.getHitCount(), result.getExtractedHitCount() );
+		return result;
 	}
 
 	public static class Builder<T>
@@ -77,6 +92,7 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
+		private SearchQueryExecutionTracker executionTracker;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor, Boolean trackTotalHits) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -111,6 +127,12 @@ public SearchWorkBuilder<T> routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<T> executionTracker(SearchQueryExecutionTracker executionTracker) {
+			this.executionTracker = executionTracker;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -140,9 +162,19 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "track_total_hits", trackTotalHits );
 			}
 
+			if ( isAggregationOnly() ) {
+				// The shard request cache never caches hits, but it can cache the results of such queries,
+				// even if it is not enabled in the index settings.
+				builder.param( "request_cache", true );
+			}
+
 			return builder.build();
 		}
 
+		private boolean isAggregationOnly() {
+			return size != null && size == 0L && scrollSize == null && payload.has( "aggregations" );
+		}
+
 		@Override
 		public ElasticsearchSearchWork<T> build() {
 			return new ElasticsearchSearchWork<>( this );
@@ -8,6 +8,8 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
@@ -16,10 +18,20 @@
 /**
  * @author Yoann Rodiere
  */
-public class IndexWork extends AbstractSimpleBulkableElasticsearchWork<Void> {
+public class IndexWork extends AbstractSimpleBulkableElasticsearchWork<Void>
+		implements SingleDocumentElasticsearchWork<Void> {
+
+	private final ElasticsearchDocumentKey documentKey;
 
 	public IndexWork(Builder builder) {
 		super( builder );
+		this.documentKey = new ElasticsearchDocumentKey( builder.indexName.original, builder.id.original,
+				builder.routingKey );
+	}
+
+	@Override
+	public ElasticsearchDocumentKey getDocumentKey() {
+		return documentKey;
 	}
 
 	@Override
@@ -39,15 +51,21 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, JsonObj
 		private final URLEncodedString typeName;
 		private final URLEncodedString id;
 		private final String routingKey;
-		private final JsonObject document;
+		private final SerializedJsonObject document;
 
-		public Builder(URLEncodedString indexName, URLEncodedString typeName, URLEncodedString id, String routingKey, JsonObject document) {
+		public Builder(GsonProvider gsonProvider, URLEncodedString indexName, URLEncodedString typeName,
+				URLEncodedString id, String routingKey, JsonObject document) {
 			super( indexName, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.indexName = indexName;
 			this.typeName = typeName;
 			this.id = id;
 			this.routingKey = routingKey;
-			this.document = document;
+			/*
+			 * Serialize the document right away: the work may be kept in a queue for a while,
+			 * and the serialized form is much more compact than the JSON tree.
+			 * It will be copied as-is to the request body, be it a single-document request or a bulk.
+			 */
+			this.document = SerializedJsonObject.of( gsonProvider.getGson(), document );
 		}
 
 		@Override
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+/**
+ * A work affecting a single document,
+ * whose effect on the index entirely overrides the effect of any previous work on the same document.
+ * <p>
+ * Such works may be skipped when a work on the same document is known to be executed later.
+ */
+public interface SingleDocumentElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	/**
+	 * @return The key of the document affected by this work.
+	 */
+	ElasticsearchDocumentKey getDocumentKey();
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * Tests for GsonHttpEntity with body parts that were serialized ahead of time,
+ * mixed with body parts that are encoded on the fly.
+ */
+public class GsonHttpEntityTest {
+
+	private static final Gson gson = new Gson();
+
+	@Test
+	public void writeTo() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 10 );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, request ) ) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			entity.writeTo( stream );
+			assertThat( new String( stream.toByteArray(), StandardCharsets.UTF_8 ) )
+					.isEqualTo( expectedContent( request ) );
+		}
+	}
+
+	@Test
+	public void produceContent_smallContent() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 1 );
+		String expected = expectedContent( request );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, request ) ) {
+			// Small enough to be encoded in one pass: the length is known upfront
+			assertThat( entity.getContentLength() ).isEqualTo( expected.getBytes( StandardCharsets.UTF_8 ).length );
+			assertThat( produceContent( entity, Integer.MAX_VALUE ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void produceContent_flowControl() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 200 );
+		String expected = expectedContent( request );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, request ) ) {
+			assertThat( produceContent( entity, 7 ) ).isEqualTo( expected );
+			entity.close();
+			// The entity is repeatable
+			assertThat( produceContent( entity, 13 ) ).isEqualTo( expected );
+		}
+	}
+
+	private static ElasticsearchRequest bulkRequest(int documentCount) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+		for ( int i = 0; i < documentCount; i++ ) {
+			JsonObject metadata = new JsonObject();
+			metadata.addProperty( "_id", String.valueOf( i ) );
+			JsonObject index = new JsonObject();
+			index.add( "index", metadata );
+			builder.body( index );
+
+			JsonObject document = new JsonObject();
+			document.addProperty( "text", "Some text with non-ASCII characters: éà中𐤄 #" + i );
+			builder.body( SerializedJsonObject.of( gson, document ) );
+		}
+		return builder.build();
+	}
+
+	private static String expectedContent(ElasticsearchRequest request) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : request.getBodyParts() ) {
+			gson.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static String produceContent(GsonHttpEntity entity, int maxBytesPerWrite) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder( maxBytesPerWrite );
+		while ( !encoder.isCompleted() ) {
+			entity.produceContent( encoder, null );
+		}
+		return new String( encoder.stream.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final int maxBytesPerWrite;
+		private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		private boolean completed = false;
+
+		private HeapContentEncoder(int maxBytesPerWrite) {
+			this.maxBytesPerWrite = maxBytesPerWrite;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int toWrite = Math.min( src.remaining(), maxBytesPerWrite );
+			for ( int i = 0; i < toWrite; i++ ) {
+				stream.write( src.get() );
+			}
+			return toWrite;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).as( "Completed twice" ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchDocumentKey;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentElasticsearchWork;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchBatchingSharedWorkOrchestratorTest extends EasyMockSupport {
+
+	/*
+	 * Long enough for all changesets of a test to be submitted in the same batch.
+	 */
+	private static final long COALESCING_WINDOW_MS = 200L;
+
+	private final RecordingDelegate delegate = new RecordingDelegate();
+
+	private ElasticsearchBatchingSharedWorkOrchestrator orchestrator;
+
+	@Before
+	public void start() {
+		orchestrator = new ElasticsearchBatchingSharedWorkOrchestrator(
+				"test orchestrator", 10, true, COALESCING_WINDOW_MS,
+				delegate, createNiceMock( ErrorHandler.class ), null
+		);
+		orchestrator.start();
+	}
+
+	@After
+	public void close() {
+		if ( orchestrator != null ) {
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void coalescing() throws InterruptedException {
+		ElasticsearchWork<?> work1 = work( "1" );
+		ElasticsearchWork<?> work2 = work( "2" );
+		ElasticsearchWork<?> work3 = work( "1" );
+		ElasticsearchWork<?> work4 = work( "1" );
+		replayAll();
+
+		CompletableFuture<?> future1 = orchestrator.submit( Arrays.asList( work1, work2 ) );
+		CompletableFuture<?> future2 = orchestrator.submit( Collections.singletonList( work3 ) );
+		CompletableFuture<?> future3 = orchestrator.submit( Collections.singletonList( work4 ) );
+		orchestrator.awaitCompletion();
+		verifyAll();
+
+		// Only the latest work on document "1" was executed, and the empty changeset was not submitted
+		Assertions.assertThat( delegate.submittedChangesets ).containsExactly(
+				Collections.singletonList( work2 ),
+				Collections.singletonList( work4 )
+		);
+		assertThat( future1 ).isSuccessful();
+		assertThat( future2 ).isSuccessful();
+		assertThat( future3 ).isSuccessful();
+	}
+
+	@Test
+	public void coalescing_overridingChangesetFailure() throws InterruptedException {
+		ElasticsearchWork<?> work1 = work( "1" );
+		ElasticsearchWork<?> work2 = work( "1" );
+		replayAll();
+
+		RuntimeException simulatedFailure = new RuntimeException( "Simulated failure" );
+		delegate.failures.put( work2, simulatedFailure );
+
+		CompletableFuture<?> future1 = orchestrator.submit( work1 );
+		CompletableFuture<?> future2 = orchestrator.submit( work2 );
+		orchestrator.awaitCompletion();
+		verifyAll();
+
+		Assertions.assertThat( delegate.submittedChangesets ).containsExactly(
+				Collections.singletonList( work2 )
+		);
+		// The overridden work was never applied: its changeset must fail too
+		assertThat( future1 ).isFailed( simulatedFailure );
+		assertThat( future2 ).isFailed( simulatedFailure );
+	}
+
+	private ElasticsearchWork<?> work(String documentId) {
+		SingleDocumentElasticsearchWork<?> work = createMock( SingleDocumentElasticsearchWork.class );
+		expect( work.getDocumentKey() )
+				.andStubReturn( new ElasticsearchDocumentKey( "indexName", documentId, null ) );
+		return work;
+	}
+
+	/**
+	 * Records submitted works and executes them immediately.
+	 */
+	private static class RecordingDelegate implements ElasticsearchAccumulatingWorkOrchestrator {
+
+		private final List<List<ElasticsearchWork<?>>> submittedChangesets =
+				Collections.synchronizedList( new ArrayList<>() );
+		private final Map<ElasticsearchWork<?>, RuntimeException> failures =
+				Collections.synchronizedMap( new HashMap<>() );
+
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+			submittedChangesets.add( Collections.singletonList( work ) );
+			return execute( work );
+		}
+
+		@Override
+		public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+			submittedChangesets.add( new ArrayList<>( works ) );
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[works.size()];
+			for ( int i = 0; i < works.size(); i++ ) {
+				futures[i] = execute( works.get( i ) );
+			}
+			return CompletableFuture.allOf( futures );
+		}
+
+		@Override
+		public CompletableFuture<?> executeSubmitted() {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void reset() {
+			// Nothing to do
+		}
+
+		private <T> CompletableFuture<T> execute(ElasticsearchWork<T> work) {
+			CompletableFuture<T> future = new CompletableFuture<>();
+			RuntimeException failure = failures.get( work );
+			if ( failure == null ) {
+				future.complete( null );
+			}
+			else {
+				future.completeExceptionally( failure );
+			}
+			return future;
+		}
+	}
+}
@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.lucene;
 
+import org.hibernate.search.backend.lucene.search.query.LuceneQueryResultCacheMetrics;
 import org.hibernate.search.engine.backend.Backend;
 
 public interface LuceneBackend extends Backend {
 
-	// TODO add Lucene-specific backend APIs
+	/**
+	 * @return Metrics about the query result cache of this backend.
+	 * All values are zero if the cache is disabled.
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_ENTRIES
+	 */
+	LuceneQueryResultCacheMetrics getQueryResultCacheMetrics();
 
 }
@@ -67,6 +67,37 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The maximum number of query results to keep in the query result cache.
+	 * <p>
+	 * The query result cache stores the hits and aggregations collected for a query,
+	 * so that executing an identical query again (same predicate, sort, paging and aggregations)
+	 * only requires to extract data from the hits, without searching the index.
+	 * Cached results are only used as long as the targeted indexes did not change.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}.
+	 *
+	 * @see org.hibernate.search.backend.lucene.LuceneBackend#getQueryResultCacheMetrics()
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
+	/**
+	 * The time after which entries of the query result cache expire.
+	 * <p>
+	 * Entries are never used after the targeted indexes changed, so expiring them only helps reclaiming memory.
+	 * <p>
+	 * Expects a positive or zero Long value in milliseconds, such as {@code 60000},
+	 * or a String that can be parsed into such Long value.
+	 * {@code 0} means entries never expire.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_TTL}.
+	 */
+	public static final String QUERY_RESULT_CACHE_TTL = "query.result_cache.ttl";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -78,5 +109,9 @@ private Defaults() {
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
+
+		public static final long QUERY_RESULT_CACHE_TTL = 0L;
 	}
 }
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+/**
+ * Configuration properties for Lucene indexes.
+ * <p>
+ * Constants in this class are to be appended to a prefix to form a property key;
+ * see {@link org.hibernate.search.engine.cfg.IndexSettings} for details.
+ */
+public final class LuceneIndexSettings {
+
+	private LuceneIndexSettings() {
+	}
+
+	/**
+	 * The sort to apply to documents within each segment of the index, at indexing time.
+	 * <p>
+	 * When a query is sorted on a prefix of the index sort,
+	 * the collection of hits can stop early in each segment,
+	 * which greatly reduces the cost of such queries.
+	 * <p>
+	 * Expects a String containing a comma-separated list of absolute field paths,
+	 * each optionally followed by {@code :asc} or {@code :desc},
+	 * for example {@code "publicationDate:desc,title"}.
+	 * Each referenced field must be sortable and must not be a geo-point field.
+	 * Index sorting cannot be used on indexes containing nested object fields.
+	 * <p>
+	 * Defaults to no value, meaning documents are not sorted in the index.
+	 * <p>
+	 * Changing this setting on an existing index requires to drop and rebuild the index.
+	 */
+	public static final String INDEX_SORT = "index_sort";
+
+	/**
+	 * The amount of RAM the index writer may use for buffering added documents and deletions before flushing them.
+	 * <p>
+	 * Larger values generally lead to faster mass indexing, at the cost of a larger memory footprint.
+	 * <p>
+	 * Expects a positive Integer value in megabytes, such as {@code 64},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the Lucene default, see {@link org.apache.lucene.index.IndexWriterConfig#DEFAULT_RAM_BUFFER_SIZE_MB}.
+	 */
+	public static final String IO_WRITER_RAM_BUFFER_SIZE = "io.writer.ram_buffer_size";
+
+	/**
+	 * The number of buffered documents that triggers a flush of the index writer,
+	 * independently of the {@link #IO_WRITER_RAM_BUFFER_SIZE RAM buffer size}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the Lucene default, i.e. flushes are triggered by RAM usage only.
+	 */
+	public static final String IO_WRITER_MAX_BUFFERED_DOCS = "io.writer.max_buffered_docs";
+
+	/**
+	 * Whether segments should be written in the compound file format,
+	 * both when flushing and when merging.
+	 * <p>
+	 * Compound files require fewer file handles, but are slightly slower to write.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to the Lucene default, i.e. compound files are used for flushed segments and small merged segments.
+	 */
+	public static final String IO_WRITER_USE_COMPOUND_FILE = "io.writer.use_compound_file";
+
+	/**
+	 * The allowed number of segments per tier in the merge policy.
+	 * <p>
+	 * Smaller values mean more merging and fewer segments, i.e. faster searches but slower indexing.
+	 * <p>
+	 * Expects a positive Integer value of at least 2, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the Lucene default, see {@link org.apache.lucene.index.TieredMergePolicy#setSegmentsPerTier(double)}.
+	 */
+	public static final String IO_MERGE_SEGMENTS_PER_TIER = "io.merge.segments_per_tier";
+
+	/**
+	 * The maximum size of a segment produced by normal merging.
+	 * <p>
+	 * Expects a positive Integer value in megabytes, such as {@code 5120},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the Lucene default, see {@link org.apache.lucene.index.TieredMergePolicy#setMaxMergedSegmentMB(double)}.
+	 */
+	public static final String IO_MERGE_MAX_MERGED_SEGMENT_SIZE = "io.merge.max_merged_segment_size";
+
+	/**
+	 * The maximum number of threads used to run merges concurrently.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the Lucene default, which depends on the number of CPU cores and the type of storage,
+	 * see {@link org.apache.lucene.index.ConcurrentMergeScheduler#setMaxMergesAndThreads(int, int)}.
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_THREAD_COUNT = "io.merge.scheduler.max_thread_count";
+
+}
@@ -15,6 +15,10 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDoubleFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneIntegerFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneLongFieldCodec;
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
@@ -42,17 +46,62 @@ protected AbstractLuceneDocumentBuilder(LuceneIndexSchemaObjectNode schemaNode)
 
 	@Override
 	public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
-		LuceneIndexFieldReference<F> luceneFieldReference = (LuceneIndexFieldReference<F>) fieldReference;
-		if ( !luceneFieldReference.isEnabled() ) {
+		LuceneIndexSchemaFieldNode<F> fieldSchemaNode = getFieldSchemaNode( fieldReference );
+		if ( fieldSchemaNode == null ) {
 			return;
 		}
 
-		LuceneIndexSchemaFieldNode<F> fieldSchemaNode = luceneFieldReference.getSchemaNode();
-		checkTreeConsistency( fieldSchemaNode.getParent() );
-
 		fieldSchemaNode.getCodec().encode( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
 	}
 
+	@Override
+	public void addIntValue(IndexFieldReference<Integer> fieldReference, int value) {
+		LuceneIndexSchemaFieldNode<Integer> fieldSchemaNode = getFieldSchemaNode( fieldReference );
+		if ( fieldSchemaNode == null ) {
+			return;
+		}
+
+		LuceneFieldCodec<Integer> codec = fieldSchemaNode.getCodec();
+		if ( codec instanceof LuceneIntegerFieldCodec ) {
+			( (LuceneIntegerFieldCodec) codec ).encodeInt( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
+		}
+		else {
+			codec.encode( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
+		}
+	}
+
+	@Override
+	public void addLongValue(IndexFieldReference<Long> fieldReference, long value) {
+		LuceneIndexSchemaFieldNode<Long> fieldSchemaNode = getFieldSchemaNode( fieldReference );
+		if ( fieldSchemaNode == null ) {
+			return;
+		}
+
+		LuceneFieldCodec<Long> codec = fieldSchemaNode.getCodec();
+		if ( codec instanceof LuceneLongFieldCodec ) {
+			( (LuceneLongFieldCodec) codec ).encodeLong( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
+		}
+		else {
+			codec.encode( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
+		}
+	}
+
+	@Override
+	public void addDoubleValue(IndexFieldReference<Double> fieldReference, double value) {
+		LuceneIndexSchemaFieldNode<Double> fieldSchemaNode = getFieldSchemaNode( fieldReference );
+		if ( fieldSchemaNode == null ) {
+			return;
+		}
+
+		LuceneFieldCodec<Double> codec = fieldSchemaNode.getCodec();
+		if ( codec instanceof LuceneDoubleFieldCodec ) {
+			( (LuceneDoubleFieldCodec) codec ).encodeDouble( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
+		}
+		else {
+			codec.encode( this, fieldSchemaNode.getAbsoluteFieldPath(), value );
+		}
+	}
+
 	@Override
 	public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
 		LuceneIndexObjectFieldReference luceneFieldReference = (LuceneIndexObjectFieldReference) fieldReference;
@@ -98,23 +147,37 @@ private void addFlattenedObjectDocumentBuilder(
 		flattenedObjectDocumentBuilders.add( flattenedObjectDocumentBuilder );
 	}
 
+	/**
+	 * @return The schema node of the referenced field, or {@code null} if the field is disabled.
+	 */
+	private <F> LuceneIndexSchemaFieldNode<F> getFieldSchemaNode(IndexFieldReference<F> fieldReference) {
+		LuceneIndexFieldReference<F> luceneFieldReference = (LuceneIndexFieldReference<F>) fieldReference;
+		if ( !luceneFieldReference.isEnabled() ) {
+			return null;
+		}
+
+		LuceneIndexSchemaFieldNode<F> fieldSchemaNode = luceneFieldReference.getSchemaNode();
+		checkTreeConsistency( fieldSchemaNode.getParent() );
+		return fieldSchemaNode;
+	}
+
 	private void checkTreeConsistency(LuceneIndexSchemaObjectNode expectedParentNode) {
 		if ( !Objects.equals( expectedParentNode, schemaNode ) ) {
 			throw log.invalidFieldForDocumentElement( expectedParentNode.getAbsolutePath(), schemaNode.getAbsolutePath() );
 		}
 	}
 
-	void contribute(String rootIndexName, MultiTenancyStrategy multiTenancyStrategy, String tenantId, String rootId, Document currentDocument,
+	void contribute(LuceneSharedIndexFields sharedIndexFields, MultiTenancyStrategy multiTenancyStrategy, String tenantId, String rootId, Document currentDocument,
 			List<Document> nestedDocuments) {
 		if ( flattenedObjectDocumentBuilders != null ) {
 			for ( LuceneFlattenedObjectDocumentBuilder flattenedObjectDocumentBuilder : flattenedObjectDocumentBuilders ) {
-				flattenedObjectDocumentBuilder.contribute( rootIndexName, multiTenancyStrategy, tenantId, rootId, currentDocument, nestedDocuments );
+				flattenedObjectDocumentBuilder.contribute( sharedIndexFields, multiTenancyStrategy, tenantId, rootId, currentDocument, nestedDocuments );
 			}
 		}
 
 		if ( nestedObjectDocumentBuilders != null ) {
 			for ( LuceneNestedObjectDocumentBuilder nestedObjectDocumentBuilder : nestedObjectDocumentBuilders ) {
-				nestedObjectDocumentBuilder.contribute( rootIndexName, multiTenancyStrategy, tenantId, rootId, currentDocument, nestedDocuments );
+				nestedObjectDocumentBuilder.contribute( sharedIndexFields, multiTenancyStrategy, tenantId, rootId, currentDocument, nestedDocuments );
 			}
 		}
 	}
@@ -24,7 +24,8 @@
 class LuceneNestedObjectDocumentBuilder extends AbstractLuceneDocumentBuilder {
 
 	private final Document nestedDocument = new Document();
-	private final Set<String> fieldNames = new HashSet<>();
+	// Created lazily, since many documents don't have any field tracked through field names
+	private Set<String> fieldNames;
 
 	LuceneNestedObjectDocumentBuilder(LuceneIndexSchemaObjectNode schemaNode) {
 		super( schemaNode );
@@ -37,25 +38,30 @@ public void addField(IndexableField field) {
 
 	@Override
 	public void addFieldName(String absoluteFieldPath) {
+		if ( fieldNames == null ) {
+			fieldNames = new HashSet<>();
+		}
 		fieldNames.add( absoluteFieldPath );
 	}
 
 	@Override
-	void contribute(String rootIndexName, MultiTenancyStrategy multiTenancyStrategy, String tenantId, String rootId, Document currentDocument,
+	void contribute(LuceneSharedIndexFields sharedIndexFields, MultiTenancyStrategy multiTenancyStrategy, String tenantId, String rootId, Document currentDocument,
 			List<Document> nestedDocuments) {
-		nestedDocument.add( new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_CHILD_DOCUMENT, Store.YES ) );
-		nestedDocument.add( new StringField( LuceneFields.rootIndexFieldName(), rootIndexName, Store.YES ) );
+		nestedDocument.add( sharedIndexFields.getChildDocumentTypeField() );
+		nestedDocument.add( sharedIndexFields.getRootIndexNameField() );
 		nestedDocument.add( new StringField( LuceneFields.rootIdFieldName(), rootId, Store.YES ) );
-		nestedDocument.add( new StringField( LuceneFields.nestedDocumentPathFieldName(), schemaNode.getAbsolutePath(), Store.YES ) );
+		nestedDocument.add( sharedIndexFields.getNestedDocumentPathField( schemaNode.getAbsolutePath() ) );
 
-		for ( String fieldName : fieldNames ) {
-			nestedDocument.add( new StringField( LuceneFields.fieldNamesFieldName(), fieldName, Store.NO ) );
+		if ( fieldNames != null ) {
+			for ( String fieldName : fieldNames ) {
+				nestedDocument.add( sharedIndexFields.getFieldNameField( fieldName ) );
+			}
 		}
 
 		multiTenancyStrategy.contributeToIndexedDocument( nestedDocument, tenantId );
 
 		// all the ancestors of a subdocument must be added after it
-		super.contribute( rootIndexName, multiTenancyStrategy, tenantId, rootId, nestedDocument, nestedDocuments );
+		super.contribute( sharedIndexFields, multiTenancyStrategy, tenantId, rootId, nestedDocument, nestedDocuments );
 		nestedDocuments.add( nestedDocument );
 	}
 }
@@ -11,10 +11,12 @@
 import java.util.List;
 import java.util.Set;
 
+import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
@@ -25,7 +27,8 @@
 public class LuceneRootDocumentBuilder extends AbstractLuceneDocumentBuilder {
 
 	private final Document rootDocument = new Document();
-	private final Set<String> fieldNames = new HashSet<>();
+	// Created lazily, since many documents don't have any field tracked through field names
+	private Set<String> fieldNames;
 
 	public LuceneRootDocumentBuilder() {
 		super( LuceneIndexSchemaObjectNode.root() );
@@ -38,27 +41,40 @@ public void addField(IndexableField field) {
 
 	@Override
 	public void addFieldName(String absoluteFieldPath) {
+		if ( fieldNames == null ) {
+			fieldNames = new HashSet<>();
+		}
 		fieldNames.add( absoluteFieldPath );
 	}
 
-	public LuceneIndexEntry build(String indexName, MultiTenancyStrategy multiTenancyStrategy, String tenantId, String id) {
-		return new LuceneIndexEntry( indexName, id, assembleDocuments( indexName, multiTenancyStrategy, tenantId, id ) );
+	public LuceneIndexEntry build(LuceneSharedIndexFields sharedIndexFields, MultiTenancyStrategy multiTenancyStrategy,
+			String tenantId, String id) {
+		return new LuceneIndexEntry( sharedIndexFields.getIndexName(), id,
+				assembleDocuments( sharedIndexFields, multiTenancyStrategy, tenantId, id ) );
 	}
 
-	private List<Document> assembleDocuments(String indexName, MultiTenancyStrategy multiTenancyStrategy, String tenantId, String id) {
-		rootDocument.add( new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_MAIN_DOCUMENT, Store.YES ) );
-		rootDocument.add( new StringField( LuceneFields.indexFieldName(), indexName, Store.YES ) );
-		rootDocument.add( new StringField( LuceneFields.idFieldName(), id, Store.YES ) );
+	private List<Document> assembleDocuments(LuceneSharedIndexFields sharedIndexFields,
+			MultiTenancyStrategy multiTenancyStrategy, String tenantId, String id) {
+		rootDocument.add( sharedIndexFields.getMainDocumentTypeField() );
+
+		// The index name and id are not stored: document references are built from doc values
+		rootDocument.add( sharedIndexFields.getIndexNameField() );
+		rootDocument.add( sharedIndexFields.getIndexNameDocValuesField() );
+		rootDocument.add( new StringField( LuceneFields.idFieldName(), id, Store.NO ) );
+		rootDocument.add( new BinaryDocValuesField( LuceneFields.idFieldName(), new BytesRef( id ) ) );
+		multiTenancyStrategy.contributeIdToIndexedDocument( rootDocument, tenantId, id );
 
-		for ( String fieldName : fieldNames ) {
-			rootDocument.add( new StringField( LuceneFields.fieldNamesFieldName(), fieldName, Store.NO ) );
+		if ( fieldNames != null ) {
+			for ( String fieldName : fieldNames ) {
+				rootDocument.add( sharedIndexFields.getFieldNameField( fieldName ) );
+			}
 		}
 
 		multiTenancyStrategy.contributeToIndexedDocument( rootDocument, tenantId );
 
 		// all the ancestors of a subdocument must be added after it
-		List<Document> documents = new ArrayList<>();
-		contribute( indexName, multiTenancyStrategy, tenantId, id, rootDocument, documents );
+		List<Document> documents = new ArrayList<>( 1 );
+		contribute( sharedIndexFields, multiTenancyStrategy, tenantId, id, rootDocument, documents );
 		documents.add( rootDocument );
 
 		return documents;
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.document.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Metadata fields whose value only depends on the index, shared by all the documents of that index.
+ * <p>
+ * Documents are queued and indexed asynchronously, so fields holding document-specific values cannot be reused
+ * from one document to the next.
+ * Fields holding index-specific values, however, can be created once:
+ * Lucene never alters the fields it indexes, and these fields are never altered after their creation.
+ */
+public final class LuceneSharedIndexFields {
+
+	private static final IndexableField MAIN_DOCUMENT_TYPE_FIELD =
+			new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_MAIN_DOCUMENT, Store.NO );
+	private static final IndexableField CHILD_DOCUMENT_TYPE_FIELD =
+			new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_CHILD_DOCUMENT, Store.YES );
+
+	private final String indexName;
+
+	private final IndexableField indexNameField;
+	private final IndexableField indexNameDocValuesField;
+	private final IndexableField rootIndexNameField;
+
+	// The keys are field paths from the index schema, so these maps cannot grow indefinitely
+	private final Map<String, IndexableField> fieldNameFields = new ConcurrentHashMap<>();
+	private final Map<String, IndexableField> nestedDocumentPathFields = new ConcurrentHashMap<>();
+
+	public LuceneSharedIndexFields(String indexName) {
+		this.indexName = indexName;
+		// The index name is not stored: document references are built from doc values
+		this.indexNameField = new StringField( LuceneFields.indexFieldName(), indexName, Store.NO );
+		this.indexNameDocValuesField = new SortedDocValuesField( LuceneFields.indexFieldName(), new BytesRef( indexName ) );
+		this.rootIndexNameField = new StringField( LuceneFields.rootIndexFieldName(), indexName, Store.YES );
+	}
+
+	public String getIndexName() {
+		return indexName;
+	}
+
+	IndexableField getMainDocumentTypeField() {
+		return MAIN_DOCUMENT_TYPE_FIELD;
+	}
+
+	IndexableField getChildDocumentTypeField() {
+		return CHILD_DOCUMENT_TYPE_FIELD;
+	}
+
+	IndexableField getIndexNameField() {
+		return indexNameField;
+	}
+
+	IndexableField getIndexNameDocValuesField() {
+		return indexNameDocValuesField;
+	}
+
+	IndexableField getRootIndexNameField() {
+		return rootIndexNameField;
+	}
+
+	IndexableField getFieldNameField(String absoluteFieldPath) {
+		return fieldNameFields.computeIfAbsent(
+				absoluteFieldPath,
+				path -> new StringField( LuceneFields.fieldNamesFieldName(), path, Store.NO )
+		);
+	}
+
+	IndexableField getNestedDocumentPathField(String absolutePath) {
+		return nestedDocumentPathFields.computeIfAbsent(
+				absolutePath,
+				path -> new StringField( LuceneFields.nestedDocumentPathFieldName(), path, Store.YES )
+		);
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.analysis.impl.ScopedAnalyzer;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -66,6 +67,15 @@ public LuceneIndexSchemaObjectNode getObjectNode(String absolutePath) {
 		return objectNodes.get( absolutePath );
 	}
 
+	public boolean hasNestedObjectNodes() {
+		for ( LuceneIndexSchemaObjectNode objectNode : objectNodes.values() ) {
+			if ( ObjectFieldStorage.NESTED.equals( objectNode.getStorage() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public ScopedAnalyzer getScopedAnalyzer() {
 		return scopedAnalyzer;
 	}
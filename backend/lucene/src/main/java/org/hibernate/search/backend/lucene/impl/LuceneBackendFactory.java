@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.work.impl.LuceneStubWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -77,6 +78,18 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Long> QUERY_RESULT_CACHE_TTL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_TTL )
+					.asLong()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_TTL )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -97,7 +110,9 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				directoryProvider,
 				new LuceneStubWorkFactory( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				createQueryResultCache( propertySource ),
+				buildContext.getSearchQueryInstrumentation()
 		);
 	}
 
@@ -156,6 +171,16 @@ private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext
 		}
 	}
 
+	private LuceneQueryResultCache createQueryResultCache(ConfigurationPropertySource propertySource) {
+		int maxEntries = QUERY_RESULT_CACHE_MAX_ENTRIES.getAndTransform(
+				propertySource, LuceneBackendFactory::checkPositiveOrZero
+		);
+		long ttl = QUERY_RESULT_CACHE_TTL.getAndTransform(
+				propertySource, LuceneBackendFactory::checkPositiveOrZero
+		);
+		return new LuceneQueryResultCache( maxEntries, ttl );
+	}
+
 	private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventContext backendContext,
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource,
 			Version luceneVersion) {
@@ -200,6 +225,13 @@ private void initializeRootDirectory(Path rootDirectory, EventContext eventConte
 		}
 	}
 
+	private static <T extends Number> T checkPositiveOrZero(T value) {
+		if ( value.longValue() < 0L ) {
+			throw log.invalidNegativeValue( value.longValue() );
+		}
+		return value;
+	}
+
 	private static Version parseLuceneVersion(String versionString) {
 		try {
 			return Version.parseLeniently( versionString );
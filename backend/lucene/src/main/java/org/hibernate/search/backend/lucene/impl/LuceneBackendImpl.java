@@ -23,12 +23,16 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.query.LuceneQueryResultCacheMetrics;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
@@ -49,6 +53,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final LuceneQueryResultCache queryResultCache;
+	private final SearchQueryInstrumentation queryInstrumentation;
 
 	private final EventContext eventContext;
 	private final IndexingBackendContext indexingContext;
@@ -56,7 +62,9 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	LuceneBackendImpl(String name, DirectoryProvider directoryProvider, LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			LuceneQueryResultCache queryResultCache,
+			SearchQueryInstrumentation queryInstrumentation) {
 		this.name = name;
 		this.directoryProvider = directoryProvider;
 
@@ -64,6 +72,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 		this.queryOrchestrator = new LuceneStubQueryWorkOrchestrator();
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.queryResultCache = queryResultCache;
+		this.queryInstrumentation = queryInstrumentation;
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
@@ -71,7 +81,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 				workFactory, multiTenancyStrategy
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, analysisDefinitionRegistry
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, analysisDefinitionRegistry,
+				queryResultCache, queryInstrumentation
 		);
 	}
 
@@ -91,6 +102,16 @@ public <T> T unwrap(Class<T> clazz) {
 		);
 	}
 
+	@Override
+	public LuceneQueryResultCacheMetrics getQueryResultCacheMetrics() {
+		return queryResultCache;
+	}
+
+	@Override
+	public SearchQueryMetrics getSearchQueryMetrics() {
+		return queryInstrumentation.getMetrics();
+	}
+
 	@Override
 	public Backend toAPI() {
 		return this;
@@ -119,7 +140,8 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexingContext, searchContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, indexSchemaRootNodeBuilder,
+				propertySource, context.createIndexingInstrumentation( indexName )
 		);
 	}
 
@@ -10,6 +10,12 @@
 
 public interface LuceneIndexManager extends IndexManager {
 
-	// TODO add Lucene-specific index manager APIs
+	/**
+	 * @return Metrics about the flushes and merges performed when writing to this index.
+	 * Useful to tune the {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings index writer settings}.
+	 */
+	LuceneIndexWriterMetrics getIndexWriterMetrics();
+
+	// TODO add other Lucene-specific index manager APIs
 
 }
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index;
+
+/**
+ * Metrics about the flushes and merges performed by the index writer of a Lucene index.
+ * <p>
+ * Values are cumulative since the index manager was started, unless stated otherwise,
+ * and are read live: two calls to the same method may return different values.
+ */
+public interface LuceneIndexWriterMetrics {
+
+	/**
+	 * @return The number of segments flushed from the in-memory buffer to the directory.
+	 */
+	long getFlushCount();
+
+	/**
+	 * @return The number of bytes written to the directory when flushing segments.
+	 */
+	long getFlushedBytes();
+
+	/**
+	 * @return The number of completed merges.
+	 */
+	long getMergeCount();
+
+	/**
+	 * @return The number of bytes written to the directory when merging segments.
+	 */
+	long getMergedBytes();
+
+	/**
+	 * @return The cumulated time spent running completed merges, in milliseconds.
+	 */
+	long getMergeTimeMillis();
+
+	/**
+	 * @return The number of merges currently running.
+	 */
+	int getRunningMergeCount();
+
+	/**
+	 * @return {@code true} if merges are waiting to be run, {@code false} otherwise.
+	 */
+	boolean hasPendingMerges();
+
+	/**
+	 * @return The number of segments in the last commit of the index.
+	 */
+	int getSegmentCount();
+
+	/**
+	 * @return The amount of RAM, in bytes, currently used by the index writer to buffer documents and deletions.
+	 */
+	long getRamBytesUsed();
+
+}
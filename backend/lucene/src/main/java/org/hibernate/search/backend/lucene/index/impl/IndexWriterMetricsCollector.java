@@ -0,0 +1,251 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.index.LuceneIndexWriterMetrics;
+
+import org.apache.lucene.codecs.lucene70.Lucene70SegmentInfoFormat;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexDeletionPolicy;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+
+/**
+ * Collects metrics about the flushes and merges of an index writer.
+ * <p>
+ * Lucene does not notify anything when a segment is flushed,
+ * so flushed and merged segments are tracked through a {@link Directory} wrapper
+ * counting the files written in the {@link IOContext.Context#FLUSH flush}
+ * and {@link IOContext.Context#MERGE merge} contexts.
+ * Merges are also timed by a {@link ConcurrentMergeScheduler},
+ * and the segment count is updated by an {@link IndexDeletionPolicy} notified of each commit.
+ * The directory must be wrapped, and the merge scheduler and deletion policy set on the
+ * {@link org.apache.lucene.index.IndexWriterConfig}, before the writer is created;
+ * the writer must then be {@link #setIndexWriter(IndexWriter) set} on this collector.
+ */
+class IndexWriterMetricsCollector implements LuceneIndexWriterMetrics {
+
+	private final String indexName;
+
+	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder flushedBytes = new LongAdder();
+
+	private final LongAdder mergeCount = new LongAdder();
+	private final LongAdder mergedBytes = new LongAdder();
+	private final LongAdder mergeTimeNanos = new LongAdder();
+	private final AtomicInteger runningMergeCount = new AtomicInteger();
+
+	private volatile int segmentCount = 0;
+
+	private volatile IndexWriter indexWriter;
+
+	IndexWriterMetricsCollector(String indexName) {
+		this.indexName = indexName;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "indexName=" ).append( indexName )
+				.append( ", flushCount=" ).append( getFlushCount() )
+				.append( ", mergeCount=" ).append( getMergeCount() )
+				.append( ", runningMergeCount=" ).append( getRunningMergeCount() )
+				.append( ", segmentCount=" ).append( getSegmentCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getFlushCount() {
+		return flushCount.sum();
+	}
+
+	@Override
+	public long getFlushedBytes() {
+		return flushedBytes.sum();
+	}
+
+	@Override
+	public long getMergeCount() {
+		return mergeCount.sum();
+	}
+
+	@Override
+	public long getMergedBytes() {
+		return mergedBytes.sum();
+	}
+
+	@Override
+	public long getMergeTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis( mergeTimeNanos.sum() );
+	}
+
+	@Override
+	public int getRunningMergeCount() {
+		return runningMergeCount.get();
+	}
+
+	@Override
+	public boolean hasPendingMerges() {
+		IndexWriter writer = indexWriter;
+		return writer != null && writer.hasPendingMerges();
+	}
+
+	@Override
+	public int getSegmentCount() {
+		return segmentCount;
+	}
+
+	@Override
+	public long getRamBytesUsed() {
+		IndexWriter writer = indexWriter;
+		return writer == null ? 0L : writer.ramBytesUsed();
+	}
+
+	Directory wrapDirectory(Directory directory) {
+		return new MetricsDirectory( directory );
+	}
+
+	ConcurrentMergeScheduler createMergeScheduler() {
+		return new MetricsMergeScheduler();
+	}
+
+	IndexDeletionPolicy wrapDeletionPolicy(IndexDeletionPolicy deletionPolicy) {
+		return new MetricsDeletionPolicy( deletionPolicy );
+	}
+
+	void setIndexWriter(IndexWriter indexWriter) {
+		this.indexWriter = indexWriter;
+	}
+
+	private void onFileWritten(IOContext.Context context, String fileName, long length) {
+		// Each new segment is sealed by writing its segment info file
+		boolean segmentSealed = IndexFileNames.matchesExtension( fileName, Lucene70SegmentInfoFormat.SI_EXTENSION );
+		if ( context == IOContext.Context.FLUSH ) {
+			flushedBytes.add( length );
+			if ( segmentSealed ) {
+				flushCount.increment();
+			}
+		}
+		else {
+			mergedBytes.add( length );
+			if ( segmentSealed ) {
+				mergeCount.increment();
+			}
+		}
+	}
+
+	private class MetricsDirectory extends FilterDirectory {
+		private MetricsDirectory(Directory in) {
+			super( in );
+		}
+
+		@Override
+		public IndexOutput createOutput(String name, IOContext context) throws IOException {
+			IndexOutput output = super.createOutput( name, context );
+			if ( context.context == IOContext.Context.FLUSH || context.context == IOContext.Context.MERGE ) {
+				return new MetricsIndexOutput( output, context.context );
+			}
+			else {
+				return output;
+			}
+		}
+	}
+
+	private class MetricsIndexOutput extends IndexOutput {
+		private final IndexOutput delegate;
+		private final IOContext.Context context;
+
+		private MetricsIndexOutput(IndexOutput delegate, IOContext.Context context) {
+			super( delegate.toString(), delegate.getName() );
+			this.delegate = delegate;
+			this.context = context;
+		}
+
+		@Override
+		public void close() throws IOException {
+			long length = delegate.getFilePointer();
+			delegate.close();
+			onFileWritten( context, getName(), length );
+		}
+
+		@Override
+		public long getFilePointer() {
+			return delegate.getFilePointer();
+		}
+
+		@Override
+		public long getChecksum() throws IOException {
+			return delegate.getChecksum();
+		}
+
+		@Override
+		public void writeByte(byte b) throws IOException {
+			delegate.writeByte( b );
+		}
+
+		@Override
+		public void writeBytes(byte[] b, int offset, int length) throws IOException {
+			delegate.writeBytes( b, offset, length );
+		}
+	}
+
+	private class MetricsMergeScheduler extends ConcurrentMergeScheduler {
+		@Override
+		protected void doMerge(IndexWriter writer, MergePolicy.OneMerge merge) throws IOException {
+			runningMergeCount.incrementAndGet();
+			long start = System.nanoTime();
+			try {
+				super.doMerge( writer, merge );
+			}
+			finally {
+				mergeTimeNanos.add( System.nanoTime() - start );
+				runningMergeCount.decrementAndGet();
+			}
+		}
+	}
+
+	private class MetricsDeletionPolicy extends IndexDeletionPolicy {
+		private final IndexDeletionPolicy delegate;
+
+		private MetricsDeletionPolicy(IndexDeletionPolicy delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void onInit(List<? extends IndexCommit> commits) throws IOException {
+			delegate.onInit( commits );
+			onCommits( commits );
+		}
+
+		@Override
+		public void onCommit(List<? extends IndexCommit> commits) throws IOException {
+			delegate.onCommit( commits );
+			onCommits( commits );
+		}
+
+		private void onCommits(List<? extends IndexCommit> commits) {
+			// Commits are sorted from oldest to newest
+			if ( !commits.isEmpty() ) {
+				segmentCount = commits.get( commits.size() - 1 ).getSegmentCount();
+			}
+		}
+	}
+}
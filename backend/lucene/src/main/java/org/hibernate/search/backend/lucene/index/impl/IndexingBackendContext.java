@@ -12,12 +12,14 @@
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneSharedIndexFields;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
@@ -50,22 +52,26 @@ Directory createDirectory(String indexName) throws IOException {
 		return directoryProvider.createDirectory( indexName );
 	}
 
+	void checkIndexCompatibility(IndexReader indexReader, EventContext indexContext) throws IOException {
+		multiTenancyStrategy.checkIndexCompatibility( indexReader, indexContext );
+	}
+
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
 			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContextImplementor sessionContext) {
+			LuceneSharedIndexFields sharedIndexFields, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, sessionContext );
+				sharedIndexFields, sessionContext );
 	}
 
 	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
 			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContextImplementor sessionContext) {
+			LuceneSharedIndexFields sharedIndexFields, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, sessionContext );
+				sharedIndexFields, sessionContext );
 	}
 
 	public IndexWorkExecutor createWorkExecutor(LuceneIndexWorkOrchestrator orchestrator, String indexName) {
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneSharedIndexFields;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
@@ -26,16 +27,18 @@ class LuceneIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<Lucen
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final LuceneSharedIndexFields sharedIndexFields;
 	private final String indexName;
 	private final String tenantId;
 
 	LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContextImplementor sessionContext) {
+			LuceneSharedIndexFields sharedIndexFields, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
-		this.indexName = indexName;
+		this.sharedIndexFields = sharedIndexFields;
+		this.indexName = sharedIndexFields.getIndexName();
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
 
@@ -46,7 +49,7 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 
 		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
 		documentContributor.contribute( builder );
-		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
+		LuceneIndexEntry indexEntry = builder.build( sharedIndexFields, multiTenancyStrategy, tenantId, id );
 
 		List<LuceneIndexWork<?>> works = new ArrayList<>();
 		works.add( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
@@ -8,21 +8,36 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -32,20 +47,64 @@ public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRoot
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final Pattern INDEX_SORT_ORDER_SEPARATOR = Pattern.compile( "\\s*:\\s*" );
+
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEX_SORT )
+					.asString()
+					.multivalued( Pattern.compile( "\\s*,\\s*" ) )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_WRITER_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_WRITER_MAX_BUFFERED_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Boolean> IO_WRITER_USE_COMPOUND_FILE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_USE_COMPOUND_FILE )
+					.asBoolean()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_MERGE_SEGMENTS_PER_TIER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_MERGE_MAX_MERGED_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_MERGED_SEGMENT_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT )
+					.asInteger()
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
 	private final String indexName;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
+	private final ConfigurationPropertySource propertySource;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	public LuceneIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName,
-			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder) {
+			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
+			ConfigurationPropertySource propertySource,
+			IndexingInstrumentation indexingInstrumentation) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
+		this.propertySource = propertySource;
+		this.indexingInstrumentation = indexingInstrumentation;
 	}
 
 	@Override
@@ -64,9 +123,14 @@ public LuceneIndexManagerImpl build() {
 		IndexWriter indexWriter = null;
 		try {
 			model = schemaRootNodeBuilder.build( indexName );
-			indexWriter = createIndexWriter( model );
+			Sort indexSort = createIndexSort( model );
+			IndexWriterMetricsCollector metricsCollector = new IndexWriterMetricsCollector( indexName );
+			indexWriter = createIndexWriter( model, indexSort, metricsCollector );
+			metricsCollector.setIndexWriter( indexWriter );
+			checkIndexCompatibility( indexWriter );
 			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model, indexWriter,
+					metricsCollector, indexingInstrumentation
 			);
 		}
 		catch (RuntimeException e) {
@@ -77,10 +141,94 @@ public LuceneIndexManagerImpl build() {
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
+	private Sort createIndexSort(LuceneIndexModel model) {
+		return INDEX_SORT.getAndMap( propertySource, sortSpecifications -> toIndexSort( model, sortSpecifications ) )
+				.orElse( null );
+	}
+
+	private Sort toIndexSort(LuceneIndexModel model, List<String> sortSpecifications) {
+		if ( sortSpecifications.isEmpty() ) {
+			return null;
+		}
+
+		if ( model.hasNestedObjectNodes() ) {
+			// Lucene would reorder the documents of each block, breaking the link between nested and parent documents
+			throw log.indexSortNotSupportedWithNestedObjects( getEventContext() );
+		}
+
+		SortField[] sortFields = new SortField[sortSpecifications.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			String[] pathAndOrder = INDEX_SORT_ORDER_SEPARATOR.split( sortSpecifications.get( i ), 2 );
+			String absoluteFieldPath = pathAndOrder[0];
+			SortOrder order = pathAndOrder.length > 1 ? toSortOrder( absoluteFieldPath, pathAndOrder[1] ) : SortOrder.ASC;
+
+			LuceneIndexSchemaFieldNode<?> fieldNode = model.getFieldNode( absoluteFieldPath );
+			if ( fieldNode == null ) {
+				throw log.unknownFieldForIndexSort( absoluteFieldPath, getEventContext() );
+			}
+			sortFields[i] = fieldNode.getSortBuilderFactory().createIndexSortField( absoluteFieldPath, order );
+		}
+		return new Sort( sortFields );
+	}
+
+	private SortOrder toSortOrder(String absoluteFieldPath, String orderString) {
+		switch ( orderString.toLowerCase( Locale.ROOT ) ) {
+			case "asc":
+				return SortOrder.ASC;
+			case "desc":
+				return SortOrder.DESC;
+			default:
+				throw log.invalidIndexSortOrder( orderString, absoluteFieldPath, getEventContext() );
+		}
+	}
+
+	private IndexWriterConfig createIndexWriterConfig(LuceneIndexModel model, Sort indexSort,
+			IndexWriterMetricsCollector metricsCollector) {
 		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
+		if ( indexSort != null ) {
+			indexWriterConfig.setIndexSort( indexSort );
+		}
+
+		indexWriterConfig.setIndexDeletionPolicy(
+				metricsCollector.wrapDeletionPolicy( indexWriterConfig.getIndexDeletionPolicy() )
+		);
+
+		IO_WRITER_RAM_BUFFER_SIZE.getAndMap(
+				propertySource, ramBufferSize -> indexWriterConfig.setRAMBufferSizeMB( ramBufferSize )
+		);
+		IO_WRITER_MAX_BUFFERED_DOCS.getAndMap(
+				propertySource, indexWriterConfig::setMaxBufferedDocs
+		);
+
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		IO_MERGE_SEGMENTS_PER_TIER.getAndMap(
+				propertySource, segmentsPerTier -> mergePolicy.setSegmentsPerTier( segmentsPerTier )
+		);
+		IO_MERGE_MAX_MERGED_SEGMENT_SIZE.getAndMap(
+				propertySource, maxMergedSegmentSize -> mergePolicy.setMaxMergedSegmentMB( maxMergedSegmentSize )
+		);
+		IO_WRITER_USE_COMPOUND_FILE.getAndMap( propertySource, useCompoundFile -> {
+			mergePolicy.setNoCFSRatio( useCompoundFile ? 1.0 : 0.0 );
+			return indexWriterConfig.setUseCompoundFile( useCompoundFile );
+		} );
+		indexWriterConfig.setMergePolicy( mergePolicy );
+
+		ConcurrentMergeScheduler mergeScheduler = metricsCollector.createMergeScheduler();
+		IO_MERGE_SCHEDULER_MAX_THREAD_COUNT.getAndMap( propertySource, maxThreadCount -> {
+			// Same ratio between merge count and thread count as Lucene's defaults
+			mergeScheduler.setMaxMergesAndThreads( maxThreadCount + 5, maxThreadCount );
+			return mergeScheduler;
+		} );
+		indexWriterConfig.setMergeScheduler( mergeScheduler );
+
+		return indexWriterConfig;
+	}
+
+	private IndexWriter createIndexWriter(LuceneIndexModel model, Sort indexSort,
+			IndexWriterMetricsCollector metricsCollector) {
+		IndexWriterConfig indexWriterConfig = createIndexWriterConfig( model, indexSort, metricsCollector );
 		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
+			Directory directory = metricsCollector.wrapDirectory( indexingBackendContext.createDirectory( indexName ) );
 			try {
 				return new IndexWriter( directory, indexWriterConfig );
 			}
@@ -94,6 +242,15 @@ private IndexWriter createIndexWriter(LuceneIndexModel model) {
 		}
 	}
 
+	private void checkIndexCompatibility(IndexWriter indexWriter) {
+		try ( DirectoryReader indexReader = DirectoryReader.open( indexWriter ) ) {
+			indexingBackendContext.checkIndexCompatibility( indexReader, getEventContext() );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( getEventContext(), e );
+		}
+	}
+
 	private EventContext getEventContext() {
 		return indexingBackendContext.getEventContext().append(
 				EventContexts.fromIndexName( indexName )
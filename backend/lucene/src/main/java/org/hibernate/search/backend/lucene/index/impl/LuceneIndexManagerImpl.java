@@ -8,9 +8,13 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneIndexWriterMetrics;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchScopeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
@@ -18,6 +22,7 @@
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneSharedIndexFields;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -49,25 +54,32 @@
 	private final SearchBackendContext searchBackendContext;
 
 	private final String indexName;
+	private final LuceneSharedIndexFields sharedIndexFields;
 	private final LuceneIndexModel model;
 
 	private final LuceneIndexWorkOrchestrator serialOrchestrator;
 	private final LuceneIndexWorkOrchestrator parallelOrchestrator;
 	private final IndexWriter indexWriter;
+	private final LuceneIndexWriterMetrics indexWriterMetrics;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName, LuceneIndexModel model,
-			IndexWriter indexWriter) {
+			IndexWriter indexWriter, LuceneIndexWriterMetrics indexWriterMetrics,
+			IndexingInstrumentation indexingInstrumentation) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
+		this.sharedIndexFields = new LuceneSharedIndexFields( indexName );
 		this.model = model;
 
-		this.serialOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.parallelOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
+		this.serialOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter, indexingInstrumentation );
+		this.parallelOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter, indexingInstrumentation );
 		this.indexWriter = indexWriter;
+		this.indexWriterMetrics = indexWriterMetrics;
+		this.indexingInstrumentation = indexingInstrumentation;
 	}
 
 	LuceneIndexModel getModel() {
@@ -75,18 +87,19 @@ LuceneIndexModel getModel() {
 	}
 
 	@Override
-	public void start(IndexManagerStartContext context) {
+	public CompletableFuture<?> start(IndexManagerStartContext context) {
 		// TODO HSEARCH-3528 start thread(s) and allocate resources specific to this index manager here
+		return CompletableFuture.completedFuture( null );
 	}
 
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createWorkPlan( serialOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createWorkPlan( serialOrchestrator, sharedIndexFields, sessionContext );
 	}
 
 	@Override
 	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createDocumentWorkExecutor( parallelOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createDocumentWorkExecutor( parallelOrchestrator, sharedIndexFields, sessionContext );
 	}
 
 	@Override
@@ -158,6 +171,16 @@ public void closeIndexReader(IndexReader reader) {
 		}
 	}
 
+	@Override
+	public LuceneIndexWriterMetrics getIndexWriterMetrics() {
+		return indexWriterMetrics;
+	}
+
+	@Override
+	public IndexingMetrics getIndexingMetrics() {
+		return indexingInstrumentation.getMetrics();
+	}
+
 	@Override
 	public IndexManager toAPI() {
 		return this;
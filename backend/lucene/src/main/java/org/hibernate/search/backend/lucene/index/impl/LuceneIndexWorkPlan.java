@@ -15,6 +15,7 @@
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneSharedIndexFields;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
@@ -30,18 +31,26 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final LuceneSharedIndexFields sharedIndexFields;
 	private final String indexName;
 	private final String tenantId;
 
 	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
 
+	/*
+	 * Consecutive deletes are buffered here, so that they can be executed as a single work.
+	 * Created lazily, since many work plans don't include any delete.
+	 */
+	private List<DocumentReferenceProvider> pendingDeletes;
+
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContextImplementor sessionContext) {
+			LuceneSharedIndexFields sharedIndexFields, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
-		this.indexName = indexName;
+		this.sharedIndexFields = sharedIndexFields;
+		this.indexName = sharedIndexFields.getIndexName();
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
 
@@ -53,8 +62,9 @@ public void add(DocumentReferenceProvider referenceProvider,
 
 		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
 		documentContributor.contribute( builder );
-		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
+		LuceneIndexEntry indexEntry = builder.build( sharedIndexFields, multiTenancyStrategy, tenantId, id );
 
+		collectPendingDeletes();
 		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 		// FIXME remove this explicit commit
 		collect( factory.commit( indexName ) );
@@ -68,8 +78,9 @@ public void update(DocumentReferenceProvider referenceProvider,
 
 		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
 		documentContributor.contribute( builder );
-		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
+		LuceneIndexEntry indexEntry = builder.build( sharedIndexFields, multiTenancyStrategy, tenantId, id );
 
+		collectPendingDeletes();
 		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
 		// FIXME remove this explicit commit
 		collect( factory.commit( indexName ) );
@@ -77,12 +88,10 @@ public void update(DocumentReferenceProvider referenceProvider,
 
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
-		String id = referenceProvider.getIdentifier();
-		String routingKey = referenceProvider.getRoutingKey();
-
-		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		if ( pendingDeletes == null ) {
+			pendingDeletes = new ArrayList<>();
+		}
+		pendingDeletes.add( referenceProvider );
 	}
 
 	@Override
@@ -92,6 +101,7 @@ public void prepare() {
 
 	@Override
 	public CompletableFuture<?> execute() {
+		collectPendingDeletes();
 		try {
 			return orchestrator.submit( works );
 		}
@@ -100,6 +110,30 @@ public CompletableFuture<?> execute() {
 		}
 	}
 
+	private void collectPendingDeletes() {
+		if ( pendingDeletes == null || pendingDeletes.isEmpty() ) {
+			return;
+		}
+
+		if ( pendingDeletes.size() == 1 ) {
+			DocumentReferenceProvider referenceProvider = pendingDeletes.get( 0 );
+			collect( factory.delete( indexName, tenantId,
+					referenceProvider.getIdentifier(), referenceProvider.getRoutingKey() ) );
+		}
+		else {
+			// Deleting all the documents with a single query is much faster than deleting them one by one
+			List<String> ids = new ArrayList<>( pendingDeletes.size() );
+			for ( DocumentReferenceProvider referenceProvider : pendingDeletes ) {
+				ids.add( referenceProvider.getIdentifier() );
+			}
+			collect( factory.delete( indexName, tenantId, ids ) );
+		}
+		// FIXME remove this explicit commit
+		collect( factory.commit( indexName ) );
+
+		pendingDeletes.clear();
+	}
+
 	private void collect(LuceneIndexWork<?> work) {
 		works.add( work );
 	}
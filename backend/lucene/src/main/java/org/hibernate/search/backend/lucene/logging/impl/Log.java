@@ -10,16 +10,19 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Version;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchScopeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
@@ -392,9 +395,6 @@ SearchException conflictingFieldTypesForProjection(String absoluteFieldPath,
 	@Message(id = ID_OFFSET_2 + 62, value = "Cannot guess field type for input type: '%1$s'.")
 	SearchException cannotGuessFieldType(@FormatWith(ClassFormatter.class) Class<?> inputType, @Param EventContext context);
 
-	@Message(id = ID_OFFSET_2 + 64, value = "Unexpected index: documentId '%1$s' was not collected." )
-	SearchException documentIdNotCollected(Integer documentId);
-
 	@Message(id = ID_OFFSET_2 + 65,
 			value = "Projections are not enabled for field '%1$s'. Make sure the field is marked as projectable.")
 	SearchException nonProjectableField(String absoluteFieldPath, @Param EventContext context);
@@ -428,4 +428,74 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 			value = "Multiple calls to toReference() for the same field definition."
 					+ " You must call toReference() exactly once.")
 	SearchException cannotCreateReferenceMultipleTimes(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "Invalid index sort: unknown field '%1$s'.")
+	SearchException unknownFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Invalid index sort: invalid sort order '%1$s' for field '%2$s'. Valid orders are 'asc' and 'desc'.")
+	SearchException invalidIndexSortOrder(String order, String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Index sorting cannot be used on an index containing nested object fields.")
+	SearchException indexSortNotSupportedWithNestedObjects(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "An IOException occurred while reading the document reference of a search hit.")
+	SearchException ioExceptionOnDocumentReferenceExtraction(@Cause IOException e);
+
+	@Message(id = ID_OFFSET_2 + 77,
+			value = "Unable to find the document reference of a search hit: field '%1$s' has no doc values."
+					+ " The index was probably created with an older version of Hibernate Search and must be rebuilt.")
+	SearchException missingDocumentReferenceDocValues(String fieldName);
+
+	@Message(id = ID_OFFSET_2 + 78,
+			value = "An IOException occurred while computing the distance to field '%1$s' for a search hit.")
+	SearchException ioExceptionOnDistanceExtraction(String absoluteFieldPath, @Cause IOException e);
+
+	@Message(id = ID_OFFSET_2 + 79,
+			value = "Terms aggregations are not supported by this field's type.")
+	SearchException termsAggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 80,
+			value = "Range aggregations are not supported by this field's type.")
+	SearchException rangeAggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 81,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException nonAggregableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 82, value = "Invalid type '%2$s' for aggregation on field '%1$s'.")
+	SearchException invalidAggregationInvalidType(String absoluteFieldPath,
+			@FormatWith(ClassFormatter.class) Class<?> type,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 83,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			LuceneFieldAggregationBuilderFactory component1, LuceneFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 84,
+			value = "A Lucene query cannot include search aggregations built using a non-Lucene search scope."
+			+ " Given aggregation was: '%1$s'")
+	SearchException cannotMixLuceneSearchAggregationWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_2 + 85, value = "This field does not support aggregations.")
+	SearchException unsupportedDSLAggregations(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 86, value = "Invalid value: %1$d. The value must be positive or zero.")
+	SearchException invalidNegativeValue(long value);
+
+	@Message(id = ID_OFFSET_2 + 87,
+			value = "Unable to delete entries %2$s with tenant identifier '%1$s'.")
+	SearchException unableToDeleteEntriesFromIndex(String tenantId, Collection<String> ids,
+			@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 88,
+			value = "Reindexing required: %1$d documents in this index were indexed without the tenant identifier + identifier field,"
+					+ " and thus cannot be updated or deleted with multi-tenancy enabled."
+					+ " Drop the index and reindex all entities.")
+	SearchException indexRequiresReindexingForMultiTenancy(int count, @Param EventContext context);
 }
@@ -6,21 +6,26 @@
  */
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteAllEntriesWork;
-import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteEntryWork;
-import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedUpdateEntryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteEntriesWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedDeleteEntryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedUpdateEntryWork;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategy implements MultiTenancyStrategy {
@@ -34,7 +39,13 @@ public boolean isMultiTenancySupported() {
 
 	@Override
 	public void contributeToIndexedDocument(Document document, String tenantId) {
-		document.add( new StringField( LuceneFields.tenantIdFieldName(), tenantId, Store.YES ) );
+		document.add( new StringField( LuceneFields.tenantIdFieldName(), tenantId, Store.NO ) );
+	}
+
+	@Override
+	public void contributeIdToIndexedDocument(Document rootDocument, String tenantId, String id) {
+		// Allows to identify the document with a single term, and thus to update it with IndexWriter.updateDocuments
+		rootDocument.add( new StringField( LuceneFields.tenantIdAndIdFieldName(), LuceneFields.tenantIdAndId( tenantId, id ), Store.NO ) );
 	}
 
 	@Override
@@ -43,13 +54,21 @@ public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 	}
 
 	@Override
-	public LuceneQueryBasedUpdateEntryWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
-		return new LuceneQueryBasedUpdateEntryWork( indexName, tenantId, id, indexEntry );
+	public LuceneTermBasedUpdateEntryWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+		return new LuceneTermBasedUpdateEntryWork( indexName, tenantId, id,
+				LuceneQueries.discriminatorMultiTenancyIdTerm( tenantId, id ), indexEntry );
+	}
+
+	@Override
+	public LuceneTermBasedDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
+		return new LuceneTermBasedDeleteEntryWork( indexName, tenantId, id,
+				LuceneQueries.discriminatorMultiTenancyIdTerm( tenantId, id ) );
 	}
 
 	@Override
-	public LuceneQueryBasedDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
-		return new LuceneQueryBasedDeleteEntryWork( indexName, tenantId, id );
+	public LuceneQueryBasedDeleteEntriesWork createDeleteEntriesLuceneWork(String indexName, String tenantId, Collection<String> ids) {
+		return new LuceneQueryBasedDeleteEntriesWork( indexName, tenantId, ids,
+				LuceneQueries.discriminatorMultiTenancyDeleteDocumentsQuery( tenantId, ids ) );
 	}
 
 	@Override
@@ -63,4 +82,21 @@ public void checkTenantId(String tenantId, EventContext backendContext) {
 			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
 		}
 	}
+
+	@Override
+	public void checkIndexCompatibility(IndexReader indexReader, EventContext indexContext) throws IOException {
+		/*
+		 * Updates and deletes rely on the tenant ID + ID term:
+		 * they would not apply to documents indexed before this term was introduced.
+		 * Statistics include deleted documents, so only run the query when they differ.
+		 */
+		if ( indexReader.getDocCount( LuceneFields.idFieldName() )
+				== indexReader.getDocCount( LuceneFields.tenantIdAndIdFieldName() ) ) {
+			return;
+		}
+		int missingCount = new IndexSearcher( indexReader ).count( LuceneQueries.discriminatorMultiTenancyMissingIdTermQuery() );
+		if ( missingCount > 0 ) {
+			throw log.indexRequiresReindexingForMultiTenancy( missingCount, indexContext );
+		}
+	}
 }
@@ -6,13 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
+import java.io.IOException;
+import java.util.Collection;
+
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.work.impl.AbstractLuceneDeleteAllEntriesWork;
 import org.hibernate.search.backend.lucene.work.impl.AbstractLuceneDeleteEntryWork;
 import org.hibernate.search.backend.lucene.work.impl.AbstractLuceneUpdateEntryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteEntriesWork;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
@@ -35,6 +40,16 @@ public interface MultiTenancyStrategy {
 	 */
 	void contributeToIndexedDocument(Document document, String tenantId);
 
+	/**
+	 * Contributes additional information to the root indexed document,
+	 * so that it can be identified by a single term.
+	 *
+	 * @param rootDocument The root indexed document.
+	 * @param tenantId The tenant id.
+	 * @param id The document id.
+	 */
+	void contributeIdToIndexedDocument(Document rootDocument, String tenantId, String id);
+
 	/**
 	 * Decorate the query with the tenant constraint.
 	 *
@@ -52,6 +67,15 @@ public interface MultiTenancyStrategy {
 	 */
 	void checkTenantId(String tenantId, EventContext backendContext);
 
+	/**
+	 * Check that the documents already present in the index are consistent with the strategy.
+	 *
+	 * @param indexReader A reader on the index.
+	 * @param indexContext The index.
+	 * @throws IOException If the index cannot be read.
+	 */
+	void checkIndexCompatibility(IndexReader indexReader, EventContext indexContext) throws IOException;
+
 	/**
 	 * Creates the according update {@link LuceneIndexWork}.
 	 *
@@ -73,6 +97,16 @@ public interface MultiTenancyStrategy {
 	 */
 	AbstractLuceneDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id);
 
+	/**
+	 * Creates the according delete {@link LuceneIndexWork}, for deleting multiple documents at once.
+	 *
+	 * @param indexName The index name.
+	 * @param tenantId The tenant id.
+	 * @param ids The document ids.
+	 * @return The delete {@link LuceneIndexWork}.
+	 */
+	LuceneQueryBasedDeleteEntriesWork createDeleteEntriesLuceneWork(String indexName, String tenantId, Collection<String> ids);
+
 	/**
 	 * Creates the according delete {@link LuceneIndexWork}, for deleting all documents.
 	 *
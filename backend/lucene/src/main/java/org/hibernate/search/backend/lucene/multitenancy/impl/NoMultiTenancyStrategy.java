@@ -7,12 +7,16 @@
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.work.impl.LuceneDeleteAllEntriesWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteEntriesWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedDeleteEntryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedUpdateEntryWork;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -32,6 +36,11 @@ public void contributeToIndexedDocument(Document document, String tenantId) {
 		// No need to add anything to documents, the ID field (already added elsewhere) is enough
 	}
 
+	@Override
+	public void contributeIdToIndexedDocument(Document rootDocument, String tenantId, String id) {
+		// No need to add anything to documents, the ID field (already added elsewhere) is enough
+	}
+
 	@Override
 	public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 		return originalLuceneQuery;
@@ -39,12 +48,17 @@ public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 
 	@Override
 	public LuceneTermBasedUpdateEntryWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
-		return new LuceneTermBasedUpdateEntryWork( indexName, tenantId, id, indexEntry );
+		return new LuceneTermBasedUpdateEntryWork( indexName, tenantId, id, LuceneQueries.idTerm( id ), indexEntry );
 	}
 
 	@Override
 	public LuceneTermBasedDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
-		return new LuceneTermBasedDeleteEntryWork( indexName, tenantId, id );
+		return new LuceneTermBasedDeleteEntryWork( indexName, tenantId, id, LuceneQueries.idTerm( id ) );
+	}
+
+	@Override
+	public LuceneQueryBasedDeleteEntriesWork createDeleteEntriesLuceneWork(String indexName, String tenantId, Collection<String> ids) {
+		return new LuceneQueryBasedDeleteEntriesWork( indexName, tenantId, ids, LuceneQueries.deleteDocumentsQuery( ids ) );
 	}
 
 	@Override
@@ -58,4 +72,9 @@ public void checkTenantId(String tenantId, EventContext backendContext) {
 			throw log.tenantIdProvidedButMultiTenancyDisabled( tenantId, backendContext );
 		}
 	}
+
+	@Override
+	public void checkIndexCompatibility(IndexReader indexReader, EventContext indexContext) {
+		// Documents are identified by the ID field, which has always been there
+	}
 }
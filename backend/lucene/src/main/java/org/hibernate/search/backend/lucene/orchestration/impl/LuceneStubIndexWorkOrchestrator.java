@@ -11,6 +11,8 @@
 
 import org.apache.lucene.index.IndexWriter;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.spi.IndexingBatchTracker;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.util.common.impl.Futures;
 
 
@@ -21,12 +23,14 @@
 public class LuceneStubIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
 
 	private final LuceneStubIndexWorkExecutionContext context;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	// Protected by synchronization on updates
 	private CompletableFuture<?> latestFuture = CompletableFuture.completedFuture( null );
 
-	public LuceneStubIndexWorkOrchestrator(IndexWriter indexWriter) {
+	public LuceneStubIndexWorkOrchestrator(IndexWriter indexWriter, IndexingInstrumentation indexingInstrumentation) {
 		this.context = new LuceneStubIndexWorkExecutionContext( indexWriter );
+		this.indexingInstrumentation = indexingInstrumentation;
 	}
 
 	@Override
@@ -36,9 +40,14 @@ public void close() {
 
 	@Override
 	public synchronized <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		IndexingBatchTracker tracker = indexingInstrumentation.startBatch( 1 );
 		CompletableFuture<T> future = latestFuture.thenCompose( Futures.safeComposer(
-				ignored -> work.execute( context )
-		) );
+				ignored -> {
+					tracker.startApplying();
+					return work.execute( context );
+				}
+		) )
+				.whenComplete( Futures.handler( (result, throwable) -> endBatch( tracker, throwable ) ) );
 		// Ignore errors from this work in future works and during close(): error handling is the client's responsibility.
 		latestFuture = future.exceptionally( ignore -> null );
 		return future;
@@ -46,14 +55,25 @@ public synchronized <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
 
 	@Override
 	public synchronized CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
-		CompletableFuture<?> future = latestFuture;
+		IndexingBatchTracker tracker = indexingInstrumentation.startBatch( works.size() );
+		CompletableFuture<?> future = latestFuture.thenRun( tracker::startApplying );
 		for ( LuceneIndexWork<?> work : works ) {
 			future = future.thenCompose( Futures.safeComposer(
 					ignored -> work.execute( context )
 			) );
 		}
+		future = future.whenComplete( Futures.handler( (result, throwable) -> endBatch( tracker, throwable ) ) );
 		// Ignore errors from this work in future works and during close(): error handling is the client's responsibility.
 		latestFuture = future.exceptionally( ignore -> null );
 		return future;
 	}
+
+	private static void endBatch(IndexingBatchTracker tracker, Throwable throwable) {
+		if ( throwable == null ) {
+			tracker.complete();
+		}
+		else {
+			tracker.fail( throwable );
+		}
+	}
 }
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * A collector computing an aggregation in the same pass as the collection of hits.
+ * <p>
+ * {@link #finish()} is called once all documents have been collected, while the index reader is still open.
+ * {@link #extract(FromDocumentFieldValueConvertContext)} is called later, potentially after the reader was closed,
+ * and must not access the index.
+ *
+ * @param <A> The type of result for the aggregation.
+ */
+public abstract class LuceneAggregationCollector<A> extends SimpleCollector {
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	public void finish() throws IOException {
+		// Nothing to do by default
+	}
+
+	public abstract A extract(FromDocumentFieldValueConvertContext context);
+
+}
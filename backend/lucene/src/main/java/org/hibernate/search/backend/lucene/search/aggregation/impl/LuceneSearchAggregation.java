@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+/**
+ * @param <A> The type of result for this aggregation.
+ */
+public interface LuceneSearchAggregation<A> extends SearchAggregation<A> {
+
+	/**
+	 * @return A new collector, to be used for a single execution of a query.
+	 * Aggregation objects may be reused across queries and threads: all per-execution state lives in the collector.
+	 */
+	LuceneAggregationCollector<A> createCollector();
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
+import org.hibernate.search.backend.lucene.search.impl.LuceneScopedIndexFieldComponent;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchScopeModel;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class LuceneSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<LuceneSearchAggregationCollector> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final AggregationBuilderFactoryRetrievalStrategy AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY =
+			new AggregationBuilderFactoryRetrievalStrategy();
+
+	private final LuceneSearchContext searchContext;
+	private final LuceneSearchScopeModel scopeModel;
+
+	public LuceneSearchAggregationBuilderFactory(LuceneSearchContext searchContext,
+			LuceneSearchScopeModel scopeModel) {
+		this.searchContext = searchContext;
+		this.scopeModel = scopeModel;
+	}
+
+	@Override
+	public <A> void contribute(LuceneSearchAggregationCollector collector, AggregationKey<A> key,
+			SearchAggregation<A> aggregation) {
+		if ( !( aggregation instanceof LuceneSearchAggregation ) ) {
+			throw log.cannotMixLuceneSearchAggregationWithOtherAggregations( aggregation );
+		}
+		collector.collectAggregation( key, (LuceneSearchAggregation<A>) aggregation );
+	}
+
+	@Override
+	public <K> TermsAggregationBuilder<K> createTermsAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		LuceneScopedIndexFieldComponent<LuceneFieldAggregationBuilderFactory> fieldComponent = scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY );
+		return fieldComponent.getComponent().createTermsAggregationBuilder(
+				searchContext, absoluteFieldPath, expectedType, fieldComponent.getConverterCompatibilityChecker()
+		);
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		LuceneScopedIndexFieldComponent<LuceneFieldAggregationBuilderFactory> fieldComponent = scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY );
+		return fieldComponent.getComponent().createRangeAggregationBuilder(
+				searchContext, absoluteFieldPath, expectedType, fieldComponent.getConverterCompatibilityChecker()
+		);
+	}
+
+	private static class AggregationBuilderFactoryRetrievalStrategy
+			implements IndexSchemaFieldNodeComponentRetrievalStrategy<LuceneFieldAggregationBuilderFactory> {
+
+		@Override
+		public LuceneFieldAggregationBuilderFactory extractComponent(LuceneIndexSchemaFieldNode<?> schemaNode) {
+			return schemaNode.getAggregationBuilderFactory();
+		}
+
+		@Override
+		public boolean hasCompatibleCodec(LuceneFieldAggregationBuilderFactory component1,
+				LuceneFieldAggregationBuilderFactory component2) {
+			return component1.hasCompatibleCodec( component2 );
+		}
+
+		@Override
+		public boolean hasCompatibleConverter(LuceneFieldAggregationBuilderFactory component1,
+				LuceneFieldAggregationBuilderFactory component2) {
+			return component1.hasCompatibleConverter( component2 );
+		}
+
+		@Override
+		public SearchException createCompatibilityException(String absoluteFieldPath,
+				LuceneFieldAggregationBuilderFactory component1, LuceneFieldAggregationBuilderFactory component2,
+				EventContext context) {
+			return log.conflictingFieldTypesForAggregation( absoluteFieldPath, component1, component2, context );
+		}
+	}
+}
@@ -6,12 +6,27 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
 
+/**
+ * Extracts document references from the doc values of the index name and id fields,
+ * so that references can be built without loading stored fields.
+ */
 public final class DocumentReferenceExtractorHelper {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private DocumentReferenceExtractorHelper() {
 	}
 
@@ -20,14 +35,36 @@ public static void contributeCollectors(LuceneCollectorsBuilder luceneCollectorB
 	}
 
 	public static void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		builder.add( LuceneFields.indexFieldName() );
-		builder.add( LuceneFields.idFieldName() );
+		// Nothing to do: the document reference is read from doc values
 	}
 
 	public static DocumentReference extractDocumentReference(LuceneResult documentResult) {
-		return new LuceneDocumentReference(
-				documentResult.getStringValue( LuceneFields.indexFieldName() ),
-				documentResult.getStringValue( LuceneFields.idFieldName() )
-		);
+		LeafReader leafReader = documentResult.getLeafReaderContext().reader();
+		int leafDocId = documentResult.getLeafDocId();
+		try {
+			return new LuceneDocumentReference(
+					extractIndexName( leafReader, leafDocId ),
+					extractId( leafReader, leafDocId )
+			);
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnDocumentReferenceExtraction( e );
+		}
+	}
+
+	private static String extractIndexName(LeafReader leafReader, int leafDocId) throws IOException {
+		SortedDocValues indexNames = leafReader.getSortedDocValues( LuceneFields.indexFieldName() );
+		if ( indexNames == null || !indexNames.advanceExact( leafDocId ) ) {
+			throw log.missingDocumentReferenceDocValues( LuceneFields.indexFieldName() );
+		}
+		return indexNames.binaryValue().utf8ToString();
+	}
+
+	private static String extractId(LeafReader leafReader, int leafDocId) throws IOException {
+		BinaryDocValues ids = leafReader.getBinaryDocValues( LuceneFields.idFieldName() );
+		if ( ids == null || !ids.advanceExact( leafDocId ) ) {
+			throw log.missingDocumentReferenceDocValues( LuceneFields.idFieldName() );
+		}
+		return ids.binaryValue().utf8ToString();
 	}
 }
@@ -7,10 +7,12 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-import org.hibernate.search.engine.spatial.GeoPoint;
 
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Sort;
@@ -26,6 +28,8 @@ public class LuceneCollectorsBuilder {
 
 	private final int maxDocs;
 
+	private final IndexReader indexReader;
+
 	private final TotalHitCountCollector totalHitCountCollector;
 
 	private boolean requireTopDocs;
@@ -33,9 +37,10 @@ public class LuceneCollectorsBuilder {
 
 	private final List<Collector> luceneCollectors = new ArrayList<>();
 
-	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+	public LuceneCollectorsBuilder(Sort sort, int maxDocs, IndexReader indexReader) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
+		this.indexReader = indexReader;
 
 		this.totalHitCountCollector = new TotalHitCountCollector();
 		this.luceneCollectors.add( this.totalHitCountCollector );
@@ -50,10 +55,16 @@ public void requireTopDocsCollector() {
 		this.requireTopDocs = true;
 	}
 
-	public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
-		DistanceCollector distanceCollector = new DistanceCollector( absoluteFieldPath, center, maxDocs );
-		luceneCollectors.add( distanceCollector );
-		return distanceCollector;
+	public boolean isTopDocsRequired() {
+		return requireTopDocs;
+	}
+
+	public boolean isScoreRequired() {
+		return requireScore;
+	}
+
+	public void addCollector(Collector collector) {
+		this.luceneCollectors.add( collector );
 	}
 
 	public LuceneCollectors build() {
@@ -91,10 +102,14 @@ public LuceneCollectors build() {
 				topDocsCollector = TopFieldCollector.create(
 						sort,
 						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
+						/*
+						 * When the sort is a prefix of the index sort, the first maxDocs matching documents
+						 * of each segment are the only competitive ones:
+						 * allow the collector to stop collecting the segment after that.
+						 * The total hit count is not affected,
+						 * since it is always computed by a separate TotalHitCountCollector.
+						 */
+						isPrefixOfIndexSort( sort ) ? maxDocs : Integer.MAX_VALUE
 				);
 			}
 			luceneCollectors.add( topDocsCollector );
@@ -113,4 +128,24 @@ public LuceneCollectors build() {
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring
 		);
 	}
+
+	private boolean isPrefixOfIndexSort(Sort sort) {
+		List<LeafReaderContext> leaves = indexReader.leaves();
+		if ( leaves.isEmpty() ) {
+			return false;
+		}
+		List<SortField> sortFields = Arrays.asList( sort.getSort() );
+		for ( LeafReaderContext leaf : leaves ) {
+			Sort indexSort = leaf.reader().getMetaData().getSort();
+			if ( indexSort == null ) {
+				return false;
+			}
+			SortField[] indexSortFields = indexSort.getSort();
+			if ( sortFields.size() > indexSortFields.length
+					|| !sortFields.equals( Arrays.asList( indexSortFields ).subList( 0, sortFields.size() ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
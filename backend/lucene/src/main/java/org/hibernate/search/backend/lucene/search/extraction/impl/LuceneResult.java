@@ -7,17 +7,21 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReaderContext;
 
 public class LuceneResult {
 
 	private final Document document;
 
+	private final LeafReaderContext leafReaderContext;
+
 	private final int docId;
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	public LuceneResult(Document document, LeafReaderContext leafReaderContext, int docId, float score) {
 		this.document = document;
+		this.leafReaderContext = leafReaderContext;
 		this.docId = docId;
 		this.score = score;
 	}
@@ -26,6 +30,10 @@ public String getStringValue(String fieldName) {
 		return document.get( fieldName );
 	}
 
+	/**
+	 * @return The stored fields of the document,
+	 * or an empty document if no projection required stored fields.
+	 */
 	public Document getDocument() {
 		return document;
 	}
@@ -34,6 +42,14 @@ public int getDocId() {
 		return docId;
 	}
 
+	public LeafReaderContext getLeafReaderContext() {
+		return leafReaderContext;
+	}
+
+	public int getLeafDocId() {
+		return docId - leafReaderContext.docBase;
+	}
+
 	public float getScore() {
 		return score;
 	}
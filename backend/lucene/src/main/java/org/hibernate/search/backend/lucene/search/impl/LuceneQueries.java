@@ -6,11 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.search.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 public class LuceneQueries {
@@ -34,8 +41,36 @@ public static Query nestedDocumentPathQuery(String absoluteFieldPath) {
 		return new TermQuery( new Term( LuceneFields.nestedDocumentPathFieldName(), absoluteFieldPath ) );
 	}
 
-	public static Query discriminatorMultiTenancyDeleteDocumentQuery(String tenantId, String id) {
-		return wrapWithDiscriminatorTenantIdQuery( new TermQuery( new Term( LuceneFields.idFieldName(), id ) ), tenantId );
+	public static Term idTerm(String id) {
+		return new Term( LuceneFields.idFieldName(), id );
+	}
+
+	public static Query deleteDocumentsQuery(Collection<String> ids) {
+		List<BytesRef> terms = new ArrayList<>( ids.size() );
+		for ( String id : ids ) {
+			terms.add( new BytesRef( id ) );
+		}
+		return new TermInSetQuery( LuceneFields.idFieldName(), terms );
+	}
+
+	public static Term discriminatorMultiTenancyIdTerm(String tenantId, String id) {
+		return new Term( LuceneFields.tenantIdAndIdFieldName(), LuceneFields.tenantIdAndId( tenantId, id ) );
+	}
+
+	public static Query discriminatorMultiTenancyDeleteDocumentsQuery(String tenantId, Collection<String> ids) {
+		// The terms include the tenant ID, so there is no need for an additional tenant ID filter
+		List<BytesRef> terms = new ArrayList<>( ids.size() );
+		for ( String id : ids ) {
+			terms.add( new BytesRef( LuceneFields.tenantIdAndId( tenantId, id ) ) );
+		}
+		return new TermInSetQuery( LuceneFields.tenantIdAndIdFieldName(), terms );
+	}
+
+	public static Query discriminatorMultiTenancyMissingIdTermQuery() {
+		return new BooleanQuery.Builder()
+				.add( MAIN_DOCUMENT_QUERY, Occur.FILTER )
+				.add( TermRangeQuery.newStringRange( LuceneFields.tenantIdAndIdFieldName(), null, null, true, true ), Occur.MUST_NOT )
+				.build();
 	}
 
 	public static Query discriminatorMultiTenancyDeleteAllDocumentsQuery(String tenantId) {
@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
-import org.hibernate.search.backend.lucene.search.extraction.impl.DistanceCollector;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
@@ -14,17 +17,23 @@
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.spatial.DistanceUnit;
 import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.geo.GeoEncodingUtils;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.util.SloppyMath;
 
 class LuceneDistanceToFieldProjection implements LuceneSearchProjection<Double, Double> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final String absoluteFieldPath;
 
 	private final GeoPoint center;
 
 	private final DistanceUnit unit;
 
-	private DistanceCollector distanceCollector;
-
 	LuceneDistanceToFieldProjection(String absoluteFieldPath, GeoPoint center, DistanceUnit unit) {
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.center = center;
@@ -33,18 +42,35 @@ class LuceneDistanceToFieldProjection implements LuceneSearchProjection<Double,
 
 	@Override
 	public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
-		this.distanceCollector = luceneCollectorBuilder.addDistanceCollector( absoluteFieldPath, center );
+		luceneCollectorBuilder.requireTopDocsCollector();
 	}
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		builder.add( absoluteFieldPath );
+		// Nothing to do: the distance is computed from doc values
 	}
 
 	@Override
 	public Double extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return unit.fromMeters( distanceCollector.getDistance( documentResult.getDocId() ) );
+		// Only the returned hits are visited, so doc values are read on demand for each hit
+		try {
+			SortedNumericDocValues geoPointValues = DocValues.getSortedNumeric(
+					documentResult.getLeafReaderContext().reader(), absoluteFieldPath
+			);
+			if ( !geoPointValues.advanceExact( documentResult.getLeafDocId() ) ) {
+				return null;
+			}
+			long encodedValue = geoPointValues.nextValue();
+			double latitude = GeoEncodingUtils.decodeLatitude( (int) ( encodedValue >> 32 ) );
+			double longitude = GeoEncodingUtils.decodeLongitude( (int) encodedValue );
+			return unit.fromMeters(
+					SloppyMath.haversinMeters( center.getLatitude(), center.getLongitude(), latitude, longitude )
+			);
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnDistanceExtraction( absoluteFieldPath, e );
+		}
 	}
 
 	@Override
@@ -6,13 +6,19 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import org.hibernate.search.backend.lucene.search.extraction.impl.DocumentReferenceExtractorHelper;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexableField;
 
 class LuceneDocumentProjection implements LuceneSearchProjection<Document, Document> {
 
@@ -38,7 +44,19 @@ public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
 	@Override
 	public Document extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return documentResult.getDocument();
+		/*
+		 * The index name and id are not stored, but are expected in the document.
+		 * Add them to a copy: the document of the hit is shared with other projections,
+		 * and the same projection may be extracted multiple times from the same hit, e.g. in a composite projection.
+		 */
+		DocumentReference documentReference = DocumentReferenceExtractorHelper.extractDocumentReference( documentResult );
+		Document document = new Document();
+		for ( IndexableField field : documentResult.getDocument() ) {
+			document.add( field );
+		}
+		document.add( new StringField( LuceneFields.indexFieldName(), documentReference.getIndexName(), Store.YES ) );
+		document.add( new StringField( LuceneFields.idFieldName(), documentReference.getId(), Store.YES ) );
+		return document;
 	}
 
 	@Override
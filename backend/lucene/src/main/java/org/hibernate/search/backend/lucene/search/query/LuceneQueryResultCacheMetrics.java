@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query;
+
+/**
+ * Metrics about the query result cache of a Lucene backend.
+ * <p>
+ * Values are cumulative since the backend was started, unless stated otherwise,
+ * and are read live: two calls to the same method may return different values.
+ */
+public interface LuceneQueryResultCacheMetrics {
+
+	/**
+	 * @return The number of query executions that used a cached result.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of query executions that could not use a cached result and had to search the index.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of entries removed from the cache because it was full or because they expired.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 */
+	int getEntryCount();
+
+}
@@ -6,16 +6,26 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
+import org.hibernate.search.util.common.impl.Futures;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -33,14 +43,22 @@
 	private final SessionContextImplementor sessionContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> luceneAggregations;
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
+	private final LuceneQueryResultCache queryResultCache;
+	private final SearchQueryInstrumentation queryInstrumentation;
+
+	private long pendingBuildDurationNanos;
 
 	public LuceneIndexSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
 			SessionContextImplementor sessionContext,
 			Query luceneQuery, Sort luceneSort,
-			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor) {
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> luceneAggregations,
+			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor,
+			LuceneQueryResultCache queryResultCache,
+			SearchQueryInstrumentation queryInstrumentation, long buildDurationNanos) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
@@ -48,8 +66,12 @@ public LuceneIndexSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 		this.sessionContext = sessionContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.luceneAggregations = luceneAggregations;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
+		this.queryResultCache = queryResultCache;
+		this.queryInstrumentation = queryInstrumentation;
+		this.pendingBuildDurationNanos = buildDurationNanos;
 	}
 
 	@Override
@@ -64,39 +86,107 @@ public String toString() {
 
 	@Override
 	public IndexSearchResult<T> fetch(Long limit, Long offset) {
-		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
+		SearchQueryExecutionTracker tracker = startExecution();
+		try {
+			LuceneLoadableSearchResult<T> loadableResult =
+					queryOrchestrator.submit( createFetchWork( limit, offset, tracker ) ).join();
+			long loadingStartNanos = System.nanoTime();
+			/*
+			 * WARNING: the following call must run in the user thread.
+			 * Use fetchAsync() to load hits through ObjectLoader.loadAsync() instead.
+			 */
+			IndexSearchResult<T> result = loadableResult.loadBlocking( sessionContext );
+			tracker.recordPhase( SearchQueryPhase.LOADING, System.nanoTime() - loadingStartNanos );
+			tracker.complete();
+			return result;
+		}
+		catch (RuntimeException e) {
+			tracker.fail( e );
+			throw e;
+		}
+	}
+
+	@Override
+	public CompletableFuture<IndexSearchResult<T>> fetchAsync(Long limit, Long offset, Executor loadingExecutor) {
+		SearchQueryExecutionTracker tracker = startExecution();
+		return Futures.create( () -> queryOrchestrator.submit( createFetchWork( limit, offset, tracker ) ) )
+				.thenComposeAsync( Futures.safeComposer( loadableResult -> {
+					long loadingStartNanos = System.nanoTime();
+					return loadableResult.loadAsync( sessionContext )
+							.whenComplete( (result, throwable) -> tracker.recordPhase(
+									SearchQueryPhase.LOADING, System.nanoTime() - loadingStartNanos
+							) );
+				} ), loadingExecutor )
+				.whenComplete( Futures.handler( (result, throwable) -> endExecution( tracker, throwable ) ) );
+	}
+
+	@Override
+	public long fetchTotalHitCount() {
+		SearchQueryExecutionTracker tracker = startExecution();
+		try {
+			long hitCount = queryOrchestrator.submit( createCountWork( tracker ) ).join().getHitCount();
+			tracker.complete();
+			return hitCount;
+		}
+		catch (RuntimeException e) {
+			tracker.fail( e );
+			throw e;
+		}
+	}
+
+	@Override
+	public CompletableFuture<Long> fetchTotalHitCountAsync() {
+		SearchQueryExecutionTracker tracker = startExecution();
+		return Futures.create( () -> queryOrchestrator.submit( createCountWork( tracker ) ) )
+				.thenApply( LuceneLoadableSearchResult::getHitCount )
+				.whenComplete( Futures.handler( (result, throwable) -> endExecution( tracker, throwable ) ) );
+	}
+
+	private SearchQueryExecutionTracker startExecution() {
+		// Only report the time spent building the query once, even if the query is executed multiple times
+		long buildDurationNanos = pendingBuildDurationNanos;
+		pendingBuildDurationNanos = 0L;
+		return queryInstrumentation.startExecution( indexNames, this::getQueryString, buildDurationNanos );
+	}
+
+	private static void endExecution(SearchQueryExecutionTracker tracker, Throwable throwable) {
+		if ( throwable == null ) {
+			tracker.complete();
+		}
+		else {
+			tracker.fail( throwable );
+		}
+	}
+
+	private LuceneQueryWork<LuceneLoadableSearchResult<T>> createFetchWork(Long limit, Long offset,
+			SearchQueryExecutionTracker tracker) {
+		return workFactory.search(
 				new LuceneSearcher<>(
 						indexNames,
 						readerProviders,
 						luceneQuery, luceneSort,
 						offset, limit,
-						luceneCollectorProvider, searchResultExtractor
+						luceneAggregations,
+						luceneCollectorProvider, searchResultExtractor,
+						queryResultCache, tracker
 				)
 		);
-		return queryOrchestrator.submit( work ).join()
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking( sessionContext );
 	}
 
-	@Override
-	public long fetchTotalHitCount() {
-		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
+	private LuceneQueryWork<LuceneLoadableSearchResult<T>> createCountWork(SearchQueryExecutionTracker tracker) {
+		return workFactory.search(
 				new LuceneSearcher<>(
 						indexNames,
 						readerProviders,
 						luceneQuery, luceneSort,
 						0L, 0L,
+						// do not compute any aggregation
+						Collections.emptyMap(),
 						// do not add any TopDocs collector
 						( luceneCollectorBuilder -> { } ),
-						searchResultExtractor
+						searchResultExtractor,
+						queryResultCache, tracker
 				)
 		);
-		return queryOrchestrator.submit( work ).join().getHitCount();
 	}
 }
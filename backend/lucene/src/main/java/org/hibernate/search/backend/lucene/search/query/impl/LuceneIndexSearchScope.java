@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchScopeModel;
@@ -26,6 +27,7 @@
 	private final LuceneSearchSortBuilderFactoryImpl searchSortFactory;
 	private final LuceneSearchQueryBuilderFactory searchQueryFactory;
 	private final LuceneSearchProjectionBuilderFactory searchProjectionFactory;
+	private final LuceneSearchAggregationBuilderFactory searchAggregationFactory;
 
 	public LuceneIndexSearchScope(SearchBackendContext searchBackendContext,
 			MappingContextImplementor mappingContext,
@@ -35,6 +37,7 @@ public LuceneIndexSearchScope(SearchBackendContext searchBackendContext,
 		this.searchPredicateFactory = new LuceneSearchPredicateBuilderFactoryImpl( searchContext, model );
 		this.searchSortFactory = new LuceneSearchSortBuilderFactoryImpl( searchContext, model );
 		this.searchProjectionFactory = new LuceneSearchProjectionBuilderFactory( model );
+		this.searchAggregationFactory = new LuceneSearchAggregationBuilderFactory( searchContext, model );
 		this.searchQueryFactory = new LuceneSearchQueryBuilderFactory( searchBackendContext, model, this.searchProjectionFactory );
 	}
 
@@ -66,4 +69,9 @@ public LuceneSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 	public LuceneSearchProjectionBuilderFactory getSearchProjectionFactory() {
 		return searchProjectionFactory;
 	}
+
+	@Override
+	public LuceneSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
 }
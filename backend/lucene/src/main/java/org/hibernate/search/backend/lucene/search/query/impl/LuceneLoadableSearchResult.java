@@ -9,11 +9,18 @@
 import static org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection.transformUnsafe;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
@@ -36,24 +43,39 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors;
 
 	LuceneLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData,
+			Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.aggregationCollectors = aggregationCollectors;
 	}
 
 	long getHitCount() {
 		return hitCount;
 	}
 
+	int getExtractedHitCount() {
+		return extractedData.size();
+	}
+
 	IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return toSearchResult( sessionContext, projectionHitMapper.loadBlocking() );
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	CompletableFuture<IndexSearchResult<T>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> toSearchResult( sessionContext, loadingResult ) );
+	}
+
+	private IndexSearchResult<T> toSearchResult(SessionContextImplementor sessionContext,
+			LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		for ( int i = 0; i < extractedData.size(); i++ ) {
 			T transformed = transformUnsafe( rootProjection, loadingResult, extractedData.get( i ), transformContext );
@@ -67,6 +89,12 @@ IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleIndexSearchResult<>( hitCount, loadedHits );
+		FromDocumentFieldValueConvertContext convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
+		Map<AggregationKey<?>, Object> aggregationResults = new LinkedHashMap<>( aggregationCollectors.size() );
+		for ( Map.Entry<AggregationKey<?>, LuceneAggregationCollector<?>> entry : aggregationCollectors.entrySet() ) {
+			aggregationResults.put( entry.getKey(), entry.getValue().extract( convertContext ) );
+		}
+
+		return new SimpleIndexSearchResult<>( hitCount, loadedHits, aggregationResults );
 	}
 }
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.search.query.LuceneQueryResultCacheMetrics;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * A cache of the data collected when executing queries: total hit count, top docs and aggregations.
+ * <p>
+ * Hits are cached before extraction, because extracted hits reference objects to be loaded
+ * in the session that executed the query.
+ * Extraction is thus performed on every execution, from the cached top docs.
+ * <p>
+ * Doc IDs in cached top docs are only valid for the exact same index readers:
+ * cache keys include the version of each index reader,
+ * so that any change to an index makes previous entries unreachable.
+ */
+public final class LuceneQueryResultCache implements LuceneQueryResultCacheMetrics {
+
+	private final int maxEntries;
+	private final long ttlNanos;
+
+	private final Map<Key, CachedResult> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public LuceneQueryResultCache(int maxEntries, long ttlMillis) {
+		this.maxEntries = maxEntries;
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos( ttlMillis );
+		this.entries = new LinkedHashMap<Key, CachedResult>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+				if ( size() > LuceneQueryResultCache.this.maxEntries ) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "maxEntries=" ).append( maxEntries )
+				.append( ", hitCount=" ).append( getHitCount() )
+				.append( ", missCount=" ).append( getMissCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	boolean isEnabled() {
+		return maxEntries > 0;
+	}
+
+	CachedResult get(Key key) {
+		CachedResult result;
+		synchronized ( this ) {
+			result = entries.get( key );
+			if ( result != null && isExpired( result ) ) {
+				entries.remove( key );
+				evictionCount.increment();
+				result = null;
+			}
+		}
+		if ( result == null ) {
+			missCount.increment();
+		}
+		else {
+			hitCount.increment();
+		}
+		return result;
+	}
+
+	synchronized void put(Key key, CachedResult result) {
+		entries.put( key, result );
+	}
+
+	private boolean isExpired(CachedResult result) {
+		return ttlNanos > 0L && System.nanoTime() - result.createdAtNanos > ttlNanos;
+	}
+
+	/**
+	 * A cache key: two executions with equal keys are guaranteed to collect the same data.
+	 */
+	static final class Key {
+		private final List<Object> components;
+		private final int hashCode;
+
+		/**
+		 * @param components Everything that may affect the collected data,
+		 * which must all implement {@link Object#equals(Object)} and {@link Object#hashCode()} appropriately.
+		 */
+		Key(Object ... components) {
+			this.components = Arrays.asList( components );
+			this.hashCode = this.components.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != Key.class ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode && components.equals( other.components );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * The data collected by a query execution.
+	 * <p>
+	 * Instances are shared between threads once cached, and must not be altered.
+	 */
+	static final class CachedResult {
+		private final long totalHits;
+		private final TopDocs topDocs;
+		private final Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors;
+		private final long createdAtNanos;
+
+		CachedResult(long totalHits, TopDocs topDocs,
+				Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors) {
+			this.totalHits = totalHits;
+			this.topDocs = topDocs;
+			this.aggregationCollectors = aggregationCollectors;
+			this.createdAtNanos = System.nanoTime();
+		}
+
+		long getTotalHits() {
+			return totalHits;
+		}
+
+		TopDocs getTopDocs() {
+			return topDocs;
+		}
+
+		Map<AggregationKey<?>, LuceneAggregationCollector<?>> getAggregationCollectors() {
+			return aggregationCollectors;
+		}
+	}
+}
@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 
 class LuceneSearchQueryBuilder<T> implements SearchQueryBuilder<T, LuceneSearchQueryElementCollector> {
 
@@ -36,6 +37,10 @@
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final LuceneSearchQueryElementCollector elementCollector;
+	private final LuceneQueryResultCache queryResultCache;
+	private final SearchQueryInstrumentation queryInstrumentation;
+
+	private long buildStartNanos;
 
 	LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -45,7 +50,9 @@
 			SessionContextImplementor sessionContext,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
-			LuceneSearchProjection<?, T> rootProjection) {
+			LuceneSearchProjection<?, T> rootProjection,
+			LuceneQueryResultCache queryResultCache,
+			SearchQueryInstrumentation queryInstrumentation) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -57,6 +64,9 @@
 		this.storedFieldVisitor = storedFieldVisitor;
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
+		this.queryResultCache = queryResultCache;
+		this.queryInstrumentation = queryInstrumentation;
+		this.buildStartNanos = System.nanoTime();
 	}
 
 	@Override
@@ -70,6 +80,11 @@ public void addRoutingKey(String routingKey) {
 		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
 	}
 
+	@Override
+	public void setBuildStartNanos(long buildStartNanos) {
+		this.buildStartNanos = buildStartNanos;
+	}
+
 	private IndexSearchQuery<T> build() {
 		LuceneSearchResultExtractor<T> searchResultExtractor = new LuceneSearchResultExtractorImpl<>(
 				storedFieldVisitor, rootProjection, projectionHitMapper
@@ -85,7 +100,10 @@ private IndexSearchQuery<T> build() {
 				sessionContext,
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), sessionContext.getTenantIdentifier() ),
 				elementCollector.toLuceneSort(),
-				rootProjection, searchResultExtractor
+				elementCollector.toLuceneAggregations(),
+				rootProjection, searchResultExtractor,
+				queryResultCache,
+				queryInstrumentation, System.nanoTime() - buildStartNanos
 		);
 	}
 
@@ -7,15 +7,19 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 public interface LuceneSearchResultExtractor<T> {
 
 	LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+			Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException;
 
 }
@@ -10,15 +10,20 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 class LuceneSearchResultExtractorImpl<T> implements LuceneSearchResultExtractor<T> {
@@ -27,6 +32,10 @@
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 
+	/**
+	 * @param storedFieldVisitor The visitor used to load stored fields,
+	 * or {@code null} if no stored field needs to be loaded.
+	 */
 	LuceneSearchResultExtractorImpl(
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
 			LuceneSearchProjection<?, T> rootProjection,
@@ -38,12 +47,13 @@
 
 	@Override
 	public LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+			Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		List<Object> extractedData = extractHits( indexSearcher, topDocs, projectionExecutionContext );
 
 		return new LuceneLoadableSearchResult<>(
 				projectionHitMapper, rootProjection,
-				totalHits, extractedData
+				totalHits, extractedData, aggregationCollectors
 		);
 	}
 
@@ -54,11 +64,20 @@ private List<Object> extractHits(IndexSearcher indexSearcher, TopDocs topDocs,
 		}
 
 		List<Object> extractedData = new ArrayList<>( topDocs.scoreDocs.length );
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
 
 		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			Document document = storedFieldVisitor.getDocumentAndReset();
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+			Document document;
+			if ( storedFieldVisitor != null ) {
+				indexSearcher.doc( hit.doc, storedFieldVisitor );
+				document = storedFieldVisitor.getDocumentAndReset();
+			}
+			else {
+				// No projection needs stored fields: avoid loading them altogether
+				document = new Document();
+			}
+			LeafReaderContext leafReaderContext = leaves.get( ReaderUtil.subIndex( hit.doc, leaves ) );
+			LuceneResult luceneResult = new LuceneResult( document, leafReaderContext, hit.doc, hit.score );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExecutionContext ) );
 		}
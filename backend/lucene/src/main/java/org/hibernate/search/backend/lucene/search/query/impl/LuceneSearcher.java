@@ -7,18 +7,27 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.ManagedMultiReader;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
@@ -35,8 +44,12 @@
 	private final long offset;
 	private final Long limit;
 
+	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> luceneAggregations;
+
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
+	private final LuceneQueryResultCache resultCache;
+	private final SearchQueryExecutionTracker executionTracker;
 
 	public LuceneSearcher(Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
@@ -44,35 +57,59 @@ public LuceneSearcher(Set<String> indexNames,
 			Sort luceneSort,
 			Long offset,
 			Long limit,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> luceneAggregations,
 			LuceneCollectorProvider luceneCollectorProvider,
-			LuceneSearchResultExtractor<T> searchResultExtractor) {
+			LuceneSearchResultExtractor<T> searchResultExtractor,
+			LuceneQueryResultCache resultCache,
+			SearchQueryExecutionTracker executionTracker) {
 		this.indexNames = indexNames;
 		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.offset = offset == null ? 0L : offset;
 		this.limit = limit;
+		this.luceneAggregations = luceneAggregations;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
+		this.resultCache = resultCache;
+		this.executionTracker = executionTracker;
 	}
 
 	public LuceneLoadableSearchResult<T> execute() throws IOException {
 		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
 
-		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
+		long executionStartNanos = System.nanoTime();
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder(
+				luceneSort, getMaxDocs(), indexSearcher.getIndexReader()
+		);
 		luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
-		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
-		luceneCollectors.collect( indexSearcher, luceneQuery, offset, limit );
+		LuceneQueryResultCache.Key cacheKey = createCacheKey( luceneCollectorsBuilder );
+		LuceneQueryResultCache.CachedResult collectedResult = cacheKey == null ? null : resultCache.get( cacheKey );
+		if ( collectedResult == null ) {
+			collectedResult = collect( luceneCollectorsBuilder );
+			if ( cacheKey != null ) {
+				resultCache.put( cacheKey, collectedResult );
+			}
+		}
+
+		long extractionStartNanos = System.nanoTime();
+		executionTracker.recordPhase( SearchQueryPhase.EXECUTION, extractionStartNanos - executionStartNanos );
 
 		SearchProjectionExtractContext projectionExecutionContext =
 				new SearchProjectionExtractContext( indexSearcher, luceneQuery );
 
-		return searchResultExtractor.extract(
-				indexSearcher, luceneCollectors.getTotalHits(),
-				luceneCollectors.getTopDocs(),
+		LuceneLoadableSearchResult<T> result = searchResultExtractor.extract(
+				indexSearcher, collectedResult.getTotalHits(),
+				collectedResult.getTopDocs(),
+				collectedResult.getAggregationCollectors(),
 				projectionExecutionContext
 		);
+
+		executionTracker.recordPhase( SearchQueryPhase.EXTRACTION, System.nanoTime() - extractionStartNanos );
+		executionTracker.recordHitCounts( result.getHitCount(), result.getExtractedHitCount() );
+
+		return result;
 	}
 
 	public Query getLuceneQuery() {
@@ -88,6 +125,46 @@ public void close() {
 		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
 	}
 
+	private LuceneQueryResultCache.CachedResult collect(LuceneCollectorsBuilder luceneCollectorsBuilder)
+			throws IOException {
+		// Aggregations are computed in the same pass as the collection of hits
+		Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors = new LinkedHashMap<>();
+		for ( Map.Entry<AggregationKey<?>, LuceneSearchAggregation<?>> entry : luceneAggregations.entrySet() ) {
+			LuceneAggregationCollector<?> aggregationCollector = entry.getValue().createCollector();
+			luceneCollectorsBuilder.addCollector( aggregationCollector );
+			aggregationCollectors.put( entry.getKey(), aggregationCollector );
+		}
+		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+
+		luceneCollectors.collect( indexSearcher, luceneQuery, offset, limit );
+
+		for ( LuceneAggregationCollector<?> aggregationCollector : aggregationCollectors.values() ) {
+			aggregationCollector.finish();
+		}
+
+		return new LuceneQueryResultCache.CachedResult(
+				luceneCollectors.getTotalHits(), luceneCollectors.getTopDocs(), aggregationCollectors
+		);
+	}
+
+	private LuceneQueryResultCache.Key createCacheKey(LuceneCollectorsBuilder luceneCollectorsBuilder) {
+		if ( !resultCache.isEnabled() ) {
+			return null;
+		}
+		IndexReader indexReader = indexSearcher.getIndexReader();
+		Object readerVersion = indexReader instanceof ManagedMultiReader
+				? ( (ManagedMultiReader) indexReader ).getVersion() : null;
+		if ( readerVersion == null ) {
+			// We cannot tell whether the index changed: do not cache
+			return null;
+		}
+		return new LuceneQueryResultCache.Key(
+				readerVersion, luceneQuery, luceneSort, offset, limit,
+				luceneCollectorsBuilder.isTopDocsRequired(), luceneCollectorsBuilder.isScoreRequired(),
+				luceneAggregations
+		);
+	}
+
 	private int getMaxDocs() {
 		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
 		// as it is done in Search 5.
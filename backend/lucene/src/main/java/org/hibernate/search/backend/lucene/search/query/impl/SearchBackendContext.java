@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class SearchBackendContext {
@@ -25,16 +26,22 @@ public class SearchBackendContext {
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
+	private final LuceneQueryResultCache queryResultCache;
+	private final SearchQueryInstrumentation queryInstrumentation;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator, LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry) {
+			LuceneQueryWorkOrchestrator orchestrator, LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
+			LuceneQueryResultCache queryResultCache,
+			SearchQueryInstrumentation queryInstrumentation) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.queryResultCache = queryResultCache;
+		this.queryInstrumentation = queryInstrumentation;
 	}
 
 	@Override
@@ -68,7 +75,9 @@ <T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
 				sessionContext,
 				storedFieldFilterBuilder.build(),
 				projectionHitMapper,
-				rootProjection
+				rootProjection,
+				queryResultCache,
+				queryInstrumentation
 		);
 	}
 }
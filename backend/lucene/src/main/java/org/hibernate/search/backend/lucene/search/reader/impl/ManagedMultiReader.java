@@ -8,10 +8,13 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
@@ -66,6 +69,28 @@ protected synchronized void doClose() {
 		}
 	}
 
+	/**
+	 * @return An object identifying the exact content of this reader:
+	 * two readers with equal versions contain the same documents with the same doc IDs.
+	 * {@code null} if the content cannot be identified.
+	 */
+	public Object getVersion() {
+		List<? extends IndexReader> subReaders = getSequentialSubReaders();
+		// The order of sub-readers matters, since it affects doc IDs
+		List<Object> version = new ArrayList<>( subReaders.size() );
+		for ( int i = 0; i < subReaders.size(); i++ ) {
+			IndexReader subReader = subReaders.get( i );
+			if ( !( subReader instanceof DirectoryReader ) ) {
+				return null;
+			}
+			// The version of near-real-time readers changes whenever the index writer changes the index
+			version.add( new AbstractMap.SimpleImmutableEntry<>(
+					readerProviders[i], ( (DirectoryReader) subReader ).getVersion()
+			) );
+		}
+		return version;
+	}
+
 	// Exposed only for testing
 	public List<? extends IndexReader> getSubReaders() {
 		return getSequentialSubReaders();
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * @param <F> The field type exposed to the mapper.
+ * @param <C> The codec type.
+ * @see LuceneStandardFieldCodec
+ */
+abstract class AbstractLuceneStandardFieldAggregationBuilderFactory<F, C extends LuceneStandardFieldCodec<F, ?>>
+		implements LuceneFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final boolean aggregable;
+
+	protected final C codec;
+
+	protected AbstractLuceneStandardFieldAggregationBuilderFactory(boolean aggregable, C codec) {
+		this.aggregable = aggregable;
+		this.codec = codec;
+	}
+
+	@Override
+	public <K> TermsAggregationBuilder<K> createTermsAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, LuceneConverterCompatibilityChecker converterChecker) {
+		throw log.termsAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, LuceneConverterCompatibilityChecker converterChecker) {
+		throw log.rangeAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public boolean hasCompatibleCodec(LuceneFieldAggregationBuilderFactory other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( other.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		AbstractLuceneStandardFieldAggregationBuilderFactory<?, ?> otherFactory =
+				(AbstractLuceneStandardFieldAggregationBuilderFactory<?, ?>) other;
+		return aggregable == otherFactory.aggregable && codec.isCompatibleWith( otherFactory.codec );
+	}
+
+	protected void checkAggregable(String absoluteFieldPath) {
+		if ( !aggregable ) {
+			throw log.nonAggregableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
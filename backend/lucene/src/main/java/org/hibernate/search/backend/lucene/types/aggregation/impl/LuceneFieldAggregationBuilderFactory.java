@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * A field-scoped factory for search aggregation builders.
+ * <p>
+ * Implementations are created and stored for each field at bootstrap,
+ * allowing fine-grained control over the type of aggregation created for each field.
+ * <p>
+ * Having a per-field factory allows us to throw detailed exceptions
+ * when users try to create an aggregation that just cannot work on a particular field
+ * (either because it has the wrong type, or it's not configured in a way that allows it).
+ */
+public interface LuceneFieldAggregationBuilderFactory {
+
+	<K> TermsAggregationBuilder<K> createTermsAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, LuceneConverterCompatibilityChecker converterChecker);
+
+	<K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, LuceneConverterCompatibilityChecker converterChecker);
+
+	/**
+	 * Determine whether another aggregation builder factory is DSL-compatible with this one,
+	 * i.e. whether it creates builders that behave the same way.
+	 *
+	 * @param other Another {@link LuceneFieldAggregationBuilderFactory}, never {@code null}.
+	 * @return {@code true} if the given factory is DSL-compatible.
+	 * {@code false} otherwise, or when in doubt.
+	 */
+	boolean hasCompatibleCodec(LuceneFieldAggregationBuilderFactory other);
+
+	boolean hasCompatibleConverter(LuceneFieldAggregationBuilderFactory other);
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+
+/**
+ * Creates aggregation builders for numeric and temporal fields, relying on the numeric doc values of sortable fields.
+ *
+ * @param <F> The field type exposed to the mapper.
+ * @param <E> The encoded type.
+ */
+public class LuceneNumericFieldAggregationBuilderFactory<F, E extends Number>
+		extends AbstractLuceneStandardFieldAggregationBuilderFactory<F, AbstractLuceneNumericFieldCodec<F, E>> {
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+
+	public LuceneNumericFieldAggregationBuilderFactory(boolean aggregable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			AbstractLuceneNumericFieldCodec<F, E> codec) {
+		super( aggregable, codec );
+		this.converter = converter;
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, Class<K> expectedType, LuceneConverterCompatibilityChecker converterChecker) {
+		checkAggregable( absoluteFieldPath );
+
+		return new LuceneNumericRangeAggregationBuilder<>(
+				searchContext, absoluteFieldPath, converter, converterChecker, codec
+		);
+	}
+
+	@Override
+	public boolean hasCompatibleConverter(LuceneFieldAggregationBuilderFactory other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( other.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		LuceneNumericFieldAggregationBuilderFactory<?, ?> otherFactory =
+				(LuceneNumericFieldAggregationBuilderFactory<?, ?>) other;
+		return converter.isCompatibleWith( otherFactory.converter );
+	}
+}
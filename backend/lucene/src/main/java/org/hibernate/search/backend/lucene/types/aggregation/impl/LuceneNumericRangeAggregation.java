@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.util.common.data.Range;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+
+/**
+ * Counts matching documents per range, using the numeric doc values of the field.
+ * <p>
+ * Range bounds are converted once, when the aggregation is built,
+ * to inclusive bounds expressed as {@link LuceneNumericDomain#toSortableLong(Object) sortable longs},
+ * so that collecting a document only involves comparisons of primitive longs.
+ *
+ * @param <E> The encoded type.
+ * @param <K> The type of range bounds.
+ */
+class LuceneNumericRangeAggregation<E extends Number, K> implements LuceneSearchAggregation<Map<Range<K>, Long>> {
+
+	private final String absoluteFieldPath;
+	private final LuceneNumericDomain<E> domain;
+
+	private final List<Range<K>> ranges;
+	private final long[] inclusiveLowerBounds;
+	private final long[] inclusiveUpperBounds;
+
+	LuceneNumericRangeAggregation(String absoluteFieldPath, LuceneNumericDomain<E> domain,
+			List<Range<K>> ranges, List<E> encodedLowerBounds, List<E> encodedUpperBounds) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.domain = domain;
+		this.ranges = new ArrayList<>( ranges );
+		this.inclusiveLowerBounds = new long[ranges.size()];
+		this.inclusiveUpperBounds = new long[ranges.size()];
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			E lowerBound = encodedLowerBounds.get( i );
+			inclusiveLowerBounds[i] = lowerBound == null ? Long.MIN_VALUE : domain.toSortableLong( lowerBound );
+			E upperBound = encodedUpperBounds.get( i );
+			if ( upperBound == null ) {
+				inclusiveUpperBounds[i] = Long.MAX_VALUE;
+			}
+			else {
+				long exclusiveUpperBound = domain.toSortableLong( upperBound );
+				if ( exclusiveUpperBound == Long.MIN_VALUE ) {
+					// Nothing is below the lowest possible value: make sure the range never matches
+					inclusiveLowerBounds[i] = Long.MAX_VALUE;
+					inclusiveUpperBounds[i] = Long.MIN_VALUE;
+				}
+				else {
+					inclusiveUpperBounds[i] = exclusiveUpperBound - 1;
+				}
+			}
+		}
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<Range<K>, Long>> createCollector() {
+		return new RangeCollector();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		// Used as part of query result cache keys
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneNumericRangeAggregation<?, ?> other = (LuceneNumericRangeAggregation<?, ?>) obj;
+		return absoluteFieldPath.equals( other.absoluteFieldPath )
+				&& domain.equals( other.domain )
+				&& ranges.equals( other.ranges )
+				&& Arrays.equals( inclusiveLowerBounds, other.inclusiveLowerBounds )
+				&& Arrays.equals( inclusiveUpperBounds, other.inclusiveUpperBounds );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( absoluteFieldPath, ranges );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", ranges=" ).append( ranges )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	private class RangeCollector extends LuceneAggregationCollector<Map<Range<K>, Long>> {
+
+		private final long[] counts = new long[ranges.size()];
+
+		private NumericDocValues leafDocValues;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			leafDocValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( leafDocValues.advanceExact( doc ) ) {
+				long value = domain.docValueToSortableLong( leafDocValues.longValue() );
+				for ( int i = 0; i < counts.length; i++ ) {
+					if ( inclusiveLowerBounds[i] <= value && value <= inclusiveUpperBounds[i] ) {
+						++counts[i];
+					}
+				}
+			}
+		}
+
+		@Override
+		public Map<Range<K>, Long> extract(FromDocumentFieldValueConvertContext context) {
+			Map<Range<K>, Long> result = new LinkedHashMap<>( ranges.size() );
+			for ( int i = 0; i < counts.length; i++ ) {
+				result.put( ranges.get( i ), counts[i] );
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * @param <F> The field type exposed to the mapper.
+ * @param <E> The encoded type.
+ * @param <K> The type of range bounds.
+ */
+class LuceneNumericRangeAggregationBuilder<F, E extends Number, K> implements RangeAggregationBuilder<K> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearchContext searchContext;
+	private final String absoluteFieldPath;
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final LuceneConverterCompatibilityChecker converterChecker;
+	private final AbstractLuceneNumericFieldCodec<F, E> codec;
+
+	private final List<Range<K>> ranges = new ArrayList<>();
+	private final List<E> encodedLowerBounds = new ArrayList<>();
+	private final List<E> encodedUpperBounds = new ArrayList<>();
+
+	LuceneNumericRangeAggregationBuilder(LuceneSearchContext searchContext, String absoluteFieldPath,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			LuceneConverterCompatibilityChecker converterChecker,
+			AbstractLuceneNumericFieldCodec<F, E> codec) {
+		this.searchContext = searchContext;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.converterChecker = converterChecker;
+		this.codec = codec;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Range is immutable, so a Range<? extends K> can safely be used as a Range<K>
+	public void range(Range<? extends K> range) {
+		converterChecker.failIfNotCompatible();
+		ranges.add( (Range<K>) range );
+		encodedLowerBounds.add( encode( range.getLowerBound() ) );
+		encodedUpperBounds.add( encode( range.getUpperBound() ) );
+	}
+
+	@Override
+	public SearchAggregation<Map<Range<K>, Long>> build() {
+		return new LuceneNumericRangeAggregation<>(
+				absoluteFieldPath, codec.getDomain(),
+				ranges, encodedLowerBounds, encodedUpperBounds
+		);
+	}
+
+	private E encode(Object bound) {
+		if ( bound == null ) {
+			return null;
+		}
+		try {
+			F converted = converter.convertUnknown( bound, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.encode( converted );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+}
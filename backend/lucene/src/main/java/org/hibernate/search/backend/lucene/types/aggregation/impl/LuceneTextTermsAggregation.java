@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+
+/**
+ * Counts matching documents per term, using the sorted doc values of the field.
+ * <p>
+ * Counting is done per segment on term ordinals, which are only resolved to actual terms
+ * once the segment has been fully collected.
+ *
+ * @param <K> The type of keys in the returned map.
+ */
+class LuceneTextTermsAggregation<K> implements LuceneSearchAggregation<Map<K, Long>> {
+
+	private static final Comparator<Map.Entry<String, Long>> BUCKET_ORDER =
+			Map.Entry.<String, Long>comparingByValue().reversed()
+					.thenComparing( Map.Entry.comparingByKey() );
+
+	private final String absoluteFieldPath;
+	private final FromDocumentFieldValueConverter<? super String, ? extends K> converter;
+	private final int minDocumentCount;
+	private final int maxTermCount;
+
+	LuceneTextTermsAggregation(String absoluteFieldPath,
+			FromDocumentFieldValueConverter<? super String, ? extends K> converter,
+			int minDocumentCount, int maxTermCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.minDocumentCount = minDocumentCount;
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<K, Long>> createCollector() {
+		return new TermsCollector();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		// Used as part of query result cache keys
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneTextTermsAggregation<?> other = (LuceneTextTermsAggregation<?>) obj;
+		return absoluteFieldPath.equals( other.absoluteFieldPath )
+				&& converter == other.converter
+				&& minDocumentCount == other.minDocumentCount
+				&& maxTermCount == other.maxTermCount;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( absoluteFieldPath, minDocumentCount, maxTermCount );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", minDocumentCount=" ).append( minDocumentCount )
+				.append( ", maxTermCount=" ).append( maxTermCount )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	private class TermsCollector extends LuceneAggregationCollector<Map<K, Long>> {
+
+		private final Map<String, Long> counts = new HashMap<>();
+
+		private SortedDocValues leafDocValues;
+		private long[] leafCountsByOrdinal;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			flushLeaf();
+			leafDocValues = DocValues.getSorted( context.reader(), absoluteFieldPath );
+			leafCountsByOrdinal = new long[leafDocValues.getValueCount()];
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( leafDocValues.advanceExact( doc ) ) {
+				++leafCountsByOrdinal[leafDocValues.ordValue()];
+			}
+		}
+
+		@Override
+		public void finish() throws IOException {
+			flushLeaf();
+		}
+
+		@Override
+		public Map<K, Long> extract(FromDocumentFieldValueConvertContext context) {
+			List<Map.Entry<String, Long>> buckets = new ArrayList<>( counts.size() );
+			for ( Map.Entry<String, Long> entry : counts.entrySet() ) {
+				if ( entry.getValue() >= minDocumentCount ) {
+					buckets.add( entry );
+				}
+			}
+			buckets.sort( BUCKET_ORDER );
+
+			int resultSize = Math.min( buckets.size(), maxTermCount );
+			Map<K, Long> result = new LinkedHashMap<>( resultSize );
+			for ( Map.Entry<String, Long> bucket : buckets.subList( 0, resultSize ) ) {
+				result.put( converter.convert( bucket.getKey(), context ), bucket.getValue() );
+			}
+			return result;
+		}
+
+		private void flushLeaf() throws IOException {
+			if ( leafDocValues == null ) {
+				return;
+			}
+			for ( int ordinal = 0; ordinal < leafCountsByOrdinal.length; ordinal++ ) {
+				long count = leafCountsByOrdinal[ordinal];
+				if ( count > 0 ) {
+					String term = leafDocValues.lookupOrd( ordinal ).utf8ToString();
+					counts.merge( term, count, Long::sum );
+				}
+			}
+			leafDocValues = null;
+			leafCountsByOrdinal = null;
+		}
+	}
+}
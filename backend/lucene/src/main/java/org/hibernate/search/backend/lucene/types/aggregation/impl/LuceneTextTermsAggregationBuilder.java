@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.types.converter.FromDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * @param <K> The type of keys in the returned map.
+ */
+class LuceneTextTermsAggregationBuilder<K> implements TermsAggregationBuilder<K> {
+
+	private final String absoluteFieldPath;
+	private final FromDocumentFieldValueConverter<? super String, ? extends K> converter;
+
+	private int minDocumentCount = 1;
+	private int maxTermCount = 100;
+
+	LuceneTextTermsAggregationBuilder(String absoluteFieldPath,
+			FromDocumentFieldValueConverter<? super String, ? extends K> converter) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+	}
+
+	@Override
+	public void minDocumentCount(int minDocumentCount) {
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public SearchAggregation<Map<K, Long>> build() {
+		return new LuceneTextTermsAggregation<>( absoluteFieldPath, converter, minDocumentCount, maxTermCount );
+	}
+}
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.Query;
@@ -32,22 +33,12 @@ public final void encode(LuceneDocumentBuilder documentBuilder, String absoluteF
 		}
 
 		E encodedValue = encode( value );
-
-		if ( projectable ) {
-			doEncodeForProjection( documentBuilder, absoluteFieldPath, value, encodedValue );
-		}
-
 		LuceneNumericDomain<E> domain = getDomain();
 
-		if ( sortable ) {
-			documentBuilder.addField( domain.createDocValuesField( absoluteFieldPath, encodedValue ) );
-		}
-		else {
-			// For createExistsQuery()
-			documentBuilder.addFieldName( absoluteFieldPath );
-		}
-
-		documentBuilder.addField( domain.createIndexField( absoluteFieldPath, encodedValue ) );
+		addFields( documentBuilder, absoluteFieldPath,
+				projectable ? createStoredField( absoluteFieldPath, value, encodedValue ) : null,
+				sortable ? domain.createDocValuesField( absoluteFieldPath, encodedValue ) : null,
+				domain.createIndexField( absoluteFieldPath, encodedValue ) );
 	}
 
 	@Override
@@ -76,7 +67,44 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
-	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
-			F value, E encodedValue);
+	final boolean isProjectable() {
+		return projectable;
+	}
+
+	final boolean isSortable() {
+		return sortable;
+	}
+
+	/**
+	 * Add the fields representing a non-null value to a document.
+	 * <p>
+	 * Used by {@link #encode(LuceneDocumentBuilder, String, Object)},
+	 * but also by codecs encoding primitive values without boxing them,
+	 * so that both produce the same fields.
+	 *
+	 * @param documentBuilder The document builder.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param storedField The stored field, or {@code null} if this codec is not {@link #isProjectable() projectable}.
+	 * @param docValuesField The doc values field, or {@code null} if this codec is not {@link #isSortable() sortable}.
+	 * @param indexField The index field.
+	 */
+	final void addFields(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
+			IndexableField storedField, IndexableField docValuesField, IndexableField indexField) {
+		if ( storedField != null ) {
+			documentBuilder.addField( storedField );
+		}
+
+		if ( docValuesField != null ) {
+			documentBuilder.addField( docValuesField );
+		}
+		else {
+			// For createExistsQuery()
+			documentBuilder.addFieldName( absoluteFieldPath );
+		}
+
+		documentBuilder.addField( indexField );
+	}
+
+	abstract IndexableField createStoredField(String absoluteFieldPath, F value, E encodedValue);
 
 }
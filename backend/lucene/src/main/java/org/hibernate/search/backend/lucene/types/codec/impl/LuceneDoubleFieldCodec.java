@@ -9,6 +9,8 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 
@@ -19,9 +21,20 @@ public LuceneDoubleFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Double value,
-			Double encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, encodedValue ) );
+	IndexableField createStoredField(String absoluteFieldPath, Double value, Double encodedValue) {
+		return new StoredField( absoluteFieldPath, encodedValue );
+	}
+
+	/**
+	 * Encode a primitive value, without boxing it.
+	 * <p>
+	 * Produces the same fields as {@link #encode(LuceneDocumentBuilder, String, Object)}.
+	 */
+	public void encodeDouble(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, double value) {
+		addFields( documentBuilder, absoluteFieldPath,
+				isProjectable() ? new StoredField( absoluteFieldPath, value ) : null,
+				isSortable() ? new DoubleDocValuesField( absoluteFieldPath, value ) : null,
+				new DoublePoint( absoluteFieldPath, value ) );
 	}
 
 	@Override
@@ -6,8 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
-import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
-
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
@@ -19,9 +17,8 @@ public LuceneFloatFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Float value,
-			Float encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, encodedValue ) );
+	IndexableField createStoredField(String absoluteFieldPath, Float value, Float encodedValue) {
+		return new StoredField( absoluteFieldPath, encodedValue );
 	}
 
 	@Override
@@ -9,8 +9,6 @@
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 
-import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
-
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
@@ -24,9 +22,8 @@ public LuceneInstantFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Instant value,
-			Long encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
+	IndexableField createStoredField(String absoluteFieldPath, Instant value, Long encodedValue) {
+		return new StoredField( absoluteFieldPath, FORMATTER.format( value ) );
 	}
 
 	@Override
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -18,9 +20,20 @@ public LuceneIntegerFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Integer value,
-			Integer encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, encodedValue ) );
+	IndexableField createStoredField(String absoluteFieldPath, Integer value, Integer encodedValue) {
+		return new StoredField( absoluteFieldPath, encodedValue );
+	}
+
+	/**
+	 * Encode a primitive value, without boxing it.
+	 * <p>
+	 * Produces the same fields as {@link #encode(LuceneDocumentBuilder, String, Object)}.
+	 */
+	public void encodeInt(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, int value) {
+		addFields( documentBuilder, absoluteFieldPath,
+				isProjectable() ? new StoredField( absoluteFieldPath, value ) : null,
+				isSortable() ? new NumericDocValuesField( absoluteFieldPath, value ) : null,
+				new IntPoint( absoluteFieldPath, value ) );
 	}
 
 	@Override
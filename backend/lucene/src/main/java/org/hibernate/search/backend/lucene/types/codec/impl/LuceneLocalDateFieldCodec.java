@@ -17,7 +17,6 @@
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
-import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
 public final class LuceneLocalDateFieldCodec extends AbstractLuceneNumericFieldCodec<LocalDate, Long> {
 
@@ -33,9 +32,8 @@ public LuceneLocalDateFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalDate value,
-			Long encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
+	IndexableField createStoredField(String absoluteFieldPath, LocalDate value, Long encodedValue) {
+		return new StoredField( absoluteFieldPath, FORMATTER.format( value ) );
 	}
 
 	@Override
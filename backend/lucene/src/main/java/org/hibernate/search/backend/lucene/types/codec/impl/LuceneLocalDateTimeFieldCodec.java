@@ -13,8 +13,6 @@
 import java.time.format.ResolverStyle;
 import java.util.Locale;
 
-import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
-
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
@@ -33,9 +31,8 @@ public LuceneLocalDateTimeFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalDateTime value,
-			Long encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
+	IndexableField createStoredField(String absoluteFieldPath, LocalDateTime value, Long encodedValue) {
+		return new StoredField( absoluteFieldPath, FORMATTER.format( value ) );
 	}
 
 	@Override
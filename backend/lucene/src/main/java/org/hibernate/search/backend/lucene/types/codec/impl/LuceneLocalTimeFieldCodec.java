@@ -17,8 +17,6 @@
 import java.time.format.ResolverStyle;
 import java.util.Locale;
 
-import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
-
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
@@ -42,9 +40,8 @@ public LuceneLocalTimeFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalTime value,
-			Long encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
+	IndexableField createStoredField(String absoluteFieldPath, LocalTime value, Long encodedValue) {
+		return new StoredField( absoluteFieldPath, FORMATTER.format( value ) );
 	}
 
 	@Override
@@ -9,6 +9,8 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 
@@ -19,9 +21,20 @@ public LuceneLongFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Long value,
-			Long encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, encodedValue ) );
+	IndexableField createStoredField(String absoluteFieldPath, Long value, Long encodedValue) {
+		return new StoredField( absoluteFieldPath, encodedValue );
+	}
+
+	/**
+	 * Encode a primitive value, without boxing it.
+	 * <p>
+	 * Produces the same fields as {@link #encode(LuceneDocumentBuilder, String, Object)}.
+	 */
+	public void encodeLong(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, long value) {
+		addFields( documentBuilder, absoluteFieldPath,
+				isProjectable() ? new StoredField( absoluteFieldPath, value ) : null,
+				isSortable() ? new NumericDocValuesField( absoluteFieldPath, value ) : null,
+				new LongPoint( absoluteFieldPath, value ) );
 	}
 
 	@Override
@@ -15,8 +15,6 @@
 import java.time.format.ResolverStyle;
 import java.util.Locale;
 
-import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
-
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
@@ -36,9 +34,8 @@ public LuceneMonthDayFieldCodec(boolean projectable, boolean sortable) {
 	}
 
 	@Override
-	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, MonthDay value,
-			Integer encodedValue) {
-		documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
+	IndexableField createStoredField(String absoluteFieldPath, MonthDay value, Integer encodedValue) {
+		return new StoredField( absoluteFieldPath, FORMATTER.format( value ) );
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.NumericUtils;
 
 public abstract class LuceneNumericDomain<E> {
 
@@ -33,6 +34,18 @@
 
 	public abstract SortField.Type getSortFieldType();
 
+	/**
+	 * @param value An encoded value in this domain.
+	 * @return A long whose natural order is consistent with the natural order of encoded values.
+	 */
+	public abstract long toSortableLong(E value);
+
+	/**
+	 * @param docValue A value read from the numeric doc values of a field in this domain.
+	 * @return The same long as {@link #toSortableLong(Object)} would return for the corresponding encoded value.
+	 */
+	public abstract long docValueToSortableLong(long docValue);
+
 	abstract IndexableField createIndexField(String absoluteFieldPath, E numericValue);
 
 	abstract IndexableField createDocValuesField(String absoluteFieldPath, E numericValue);
@@ -75,6 +88,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.INT;
 		}
 
+		@Override
+		public long toSortableLong(Integer value) {
+			return value;
+		}
+
+		@Override
+		public long docValueToSortableLong(long docValue) {
+			return docValue;
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Integer numericValue) {
 			return new IntPoint( absoluteFieldPath, numericValue );
@@ -124,6 +147,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.LONG;
 		}
 
+		@Override
+		public long toSortableLong(Long value) {
+			return value;
+		}
+
+		@Override
+		public long docValueToSortableLong(long docValue) {
+			return docValue;
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Long numericValue) {
 			return new LongPoint( absoluteFieldPath, numericValue );
@@ -173,6 +206,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.FLOAT;
 		}
 
+		@Override
+		public long toSortableLong(Float value) {
+			return NumericUtils.sortableFloatBits( Float.floatToRawIntBits( value ) );
+		}
+
+		@Override
+		public long docValueToSortableLong(long docValue) {
+			return NumericUtils.sortableFloatBits( (int) docValue );
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Float numericValue) {
 			return new FloatPoint( absoluteFieldPath, numericValue );
@@ -222,6 +265,16 @@ public SortField.Type getSortFieldType() {
 			return SortField.Type.DOUBLE;
 		}
 
+		@Override
+		public long toSortableLong(Double value) {
+			return NumericUtils.sortableDoubleBits( Double.doubleToRawLongBits( value ) );
+		}
+
+		@Override
+		public long docValueToSortableLong(long docValue) {
+			return NumericUtils.sortableDoubleBits( docValue );
+		}
+
 		@Override
 		IndexableField createIndexField(String absoluteFieldPath, Double numericValue) {
 			return new DoublePoint( absoluteFieldPath, numericValue );
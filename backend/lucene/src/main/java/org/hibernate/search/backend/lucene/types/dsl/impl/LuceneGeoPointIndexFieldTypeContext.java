@@ -51,7 +51,8 @@ public LuceneIndexFieldType<GeoPoint> toIndexFieldType() {
 				codec,
 				new LuceneGeoPointFieldPredicateBuilderFactory( dslToIndexConverter, codec ),
 				new LuceneGeoPointFieldSortBuilderFactory( resolvedSortable ),
-				new LuceneGeoPointFieldProjectionBuilderFactory( resolvedProjectable, codec, indexToProjectionConverter, createFromDocumentRawConverter() )
+				new LuceneGeoPointFieldProjectionBuilderFactory( resolvedProjectable, codec, indexToProjectionConverter, createFromDocumentRawConverter() ),
+				null
 		);
 	}
 
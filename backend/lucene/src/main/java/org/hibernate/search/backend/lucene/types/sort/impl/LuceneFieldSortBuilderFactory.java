@@ -9,11 +9,14 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.engine.search.predicate.DslConverter;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
+import org.apache.lucene.search.SortField;
+
 /**
  * A field-scoped factory for search sort builders.
  * <p>
@@ -38,6 +41,15 @@ FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 	DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(String absoluteFieldPath, GeoPoint center);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param order The sort order.
+	 * @return A sort field suitable for {@link org.apache.lucene.index.IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort)},
+	 * equal to the sort field a field sort with the same order and no missing value would produce,
+	 * so that query sorts can be matched against the index sort.
+	 */
+	SortField createIndexSortField(String absoluteFieldPath, SortOrder order);
+
 	boolean hasCompatibleCodec(LuceneFieldSortBuilderFactory other);
 
 	boolean hasCompatibleConverter(LuceneFieldSortBuilderFactory other);
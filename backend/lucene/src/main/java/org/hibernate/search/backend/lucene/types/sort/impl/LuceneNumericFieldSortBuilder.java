@@ -32,13 +32,18 @@
 
 	@Override
 	public void buildAndContribute(LuceneSearchSortCollector collector) {
-		SortField sortField = new SortField(
+		SortField sortField = createSortField( absoluteFieldPath, codec, order );
+		setEffectiveMissingValue( sortField, missingValue, order );
+
+		collector.collectSortField( sortField );
+	}
+
+	static SortField createSortField(String absoluteFieldPath, AbstractLuceneNumericFieldCodec<?, ?> codec,
+			SortOrder order) {
+		return new SortField(
 				absoluteFieldPath,
 				codec.getDomain().getSortFieldType(),
 				order == SortOrder.DESC
 		);
-		setEffectiveMissingValue( sortField, missingValue, order );
-
-		collector.collectSortField( sortField );
 	}
 }
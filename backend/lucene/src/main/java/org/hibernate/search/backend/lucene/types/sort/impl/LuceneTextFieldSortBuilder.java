@@ -32,9 +32,13 @@ protected Object encodeMissingAs(F converted) {
 
 	@Override
 	public void buildAndContribute(LuceneSearchSortCollector collector) {
-		SortField sortField = new SortField( absoluteFieldPath, SortField.Type.STRING, order == SortOrder.DESC );
+		SortField sortField = createSortField( absoluteFieldPath, order );
 		setEffectiveMissingValue( sortField, missingValue, order );
 
 		collector.collectSortField( sortField );
 	}
+
+	static SortField createSortField(String absoluteFieldPath, SortOrder order) {
+		return new SortField( absoluteFieldPath, SortField.Type.STRING, order == SortOrder.DESC );
+	}
 }
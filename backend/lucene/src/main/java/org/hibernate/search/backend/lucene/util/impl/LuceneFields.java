@@ -18,6 +18,10 @@ public class LuceneFields {
 
 	private static final String TENANT_ID_FIELD_NAME = internalFieldName( "tenantId" );
 
+	private static final String TENANT_ID_AND_ID_FIELD_NAME = internalFieldName( "tenantId_id" );
+
+	private static final char TENANT_ID_AND_ID_SEPARATOR = ':';
+
 	private static final String TYPE_FIELD_NAME = internalFieldName( "type" );
 
 	private static final String FIELD_NAMES_FIELD_NAME = internalFieldName( "field_names" );
@@ -63,6 +67,21 @@ public static String tenantIdFieldName() {
 		return TENANT_ID_FIELD_NAME;
 	}
 
+	public static String tenantIdAndIdFieldName() {
+		return TENANT_ID_AND_ID_FIELD_NAME;
+	}
+
+	public static String tenantIdAndId(String tenantId, String id) {
+		// Prefix with the length of the tenant ID, so that the value is unambiguous whatever the content of the IDs
+		String tenantIdLength = String.valueOf( tenantId.length() );
+		StringBuilder sb = new StringBuilder( tenantIdLength.length() + tenantId.length() + id.length() + 1 );
+		sb.append( tenantIdLength )
+				.append( TENANT_ID_AND_ID_SEPARATOR )
+				.append( tenantId )
+				.append( id );
+		return sb.toString();
+	}
+
 	public static String typeFieldName() {
 		return TYPE_FIELD_NAME;
 	}
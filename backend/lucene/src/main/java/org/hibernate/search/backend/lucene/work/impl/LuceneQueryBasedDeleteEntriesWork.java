@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.Query;
+
+/**
+ * Deletes multiple entries at once, through a single query matching all their IDs.
+ */
+public class LuceneQueryBasedDeleteEntriesWork extends AbstractLuceneWork<Long> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String tenantId;
+
+	private final Collection<String> ids;
+
+	private final Query deleteQuery;
+
+	public LuceneQueryBasedDeleteEntriesWork(String indexName, String tenantId, Collection<String> ids, Query deleteQuery) {
+		super( "deleteEntries", indexName );
+		this.tenantId = tenantId;
+		this.ids = ids;
+		this.deleteQuery = deleteQuery;
+	}
+
+	@Override
+	public CompletableFuture<Long> execute(LuceneIndexWorkExecutionContext context) {
+		// FIXME for now everything is blocking here, we need a non blocking wrapper on top of the IndexWriter
+		return Futures.create( () -> CompletableFuture.completedFuture( deleteDocuments( context.getIndexWriter() ) ) );
+	}
+
+	private Long deleteDocuments(IndexWriter indexWriter) {
+		try {
+			return indexWriter.deleteDocuments( deleteQuery );
+		}
+		catch (IOException e) {
+			throw log.unableToDeleteEntriesFromIndex( tenantId, ids, getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "type=" ).append( workType )
+				.append( ", indexName=" ).append( indexName )
+				.append( ", ids=" ).append( ids )
+				.append( "]" );
+		return sb.toString();
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
@@ -38,6 +40,11 @@ public LuceneIndexWork<?> delete(String indexName, String tenantId, String id, S
 		return multiTenancyStrategy.createDeleteEntryLuceneWork( indexName, tenantId, id );
 	}
 
+	@Override
+	public LuceneIndexWork<?> delete(String indexName, String tenantId, Collection<String> ids) {
+		return multiTenancyStrategy.createDeleteEntriesLuceneWork( indexName, tenantId, ids );
+	}
+
 	@Override
 	public LuceneIndexWork<?> deleteAll(String indexName, String tenantId) {
 		return multiTenancyStrategy.createDeleteAllEntriesLuceneWork( indexName, tenantId );
@@ -10,19 +10,21 @@
 
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneTermBasedDeleteEntryWork extends AbstractLuceneDeleteEntryWork {
 
-	public LuceneTermBasedDeleteEntryWork(String indexName, String tenantId, String id) {
+	private final Term idTerm;
+
+	public LuceneTermBasedDeleteEntryWork(String indexName, String tenantId, String id, Term idTerm) {
 		super( indexName, tenantId, id );
+		this.idTerm = idTerm;
 	}
 
 	@Override
 	protected long doDeleteDocuments(IndexWriter indexWriter, String tenantId, String id) throws IOException {
-		return indexWriter.deleteDocuments( new Term( LuceneFields.idFieldName(), id ) );
+		return indexWriter.deleteDocuments( idTerm );
 	}
 }
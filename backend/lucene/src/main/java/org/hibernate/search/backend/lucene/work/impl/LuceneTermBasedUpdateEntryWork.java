@@ -11,19 +11,22 @@
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneTermBasedUpdateEntryWork extends AbstractLuceneUpdateEntryWork {
 
-	public LuceneTermBasedUpdateEntryWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+	private final Term idTerm;
+
+	public LuceneTermBasedUpdateEntryWork(String indexName, String tenantId, String id, Term idTerm,
+			LuceneIndexEntry indexEntry) {
 		super( indexName, tenantId, id, indexEntry );
+		this.idTerm = idTerm;
 	}
 
 	@Override
 	protected long doUpdateEntry(IndexWriter indexWriter, String tenantId, String id, LuceneIndexEntry indexEntry) throws IOException {
-		return indexWriter.updateDocuments( new Term( LuceneFields.idFieldName(), id ), indexEntry );
+		return indexWriter.updateDocuments( idTerm, indexEntry );
 	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
@@ -21,6 +23,8 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 
 	LuceneIndexWork<?> delete(String indexName, String tenantId, String id, String routingKey);
 
+	LuceneIndexWork<?> delete(String indexName, String tenantId, Collection<String> ids);
+
 	LuceneIndexWork<?> deleteAll(String indexName, String tenantId);
 
 	LuceneIndexWork<?> commit(String indexName);
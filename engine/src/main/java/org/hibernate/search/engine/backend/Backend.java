@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.backend;
 
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
 import org.hibernate.search.util.common.SearchException;
 
 /**
@@ -17,9 +18,14 @@
 public interface Backend {
 
 	// TODO add standard APIs related to analysis (which is backend-scoped). To test if an analyzer is defined, for example.
-	// TODO add standard APIs related to statistics?
 	// TODO add other standard backend APIs?
 
+	/**
+	 * @return Metrics about the search queries executed by this backend:
+	 * execution counts and time spent in each {@link org.hibernate.search.engine.search.query.SearchQueryPhase phase}.
+	 */
+	SearchQueryMetrics getSearchQueryMetrics();
+
 	/**
 	 * Unwrap the backend to some implementation-specific type.
 	 *
@@ -28,6 +28,45 @@ public interface DocumentElement {
 	 */
 	<F> void addValue(IndexFieldReference<F> fieldReference, F value);
 
+	/**
+	 * Add a new {@code int} value to the referenced field in this document element.
+	 * <p>
+	 * Equivalent to {@link #addValue(IndexFieldReference, Object)},
+	 * but some backends may encode the value without boxing it.
+	 *
+	 * @param fieldReference The field to add a value to.
+	 * @param value The value to add to the field.
+	 */
+	default void addIntValue(IndexFieldReference<Integer> fieldReference, int value) {
+		addValue( fieldReference, value );
+	}
+
+	/**
+	 * Add a new {@code long} value to the referenced field in this document element.
+	 * <p>
+	 * Equivalent to {@link #addValue(IndexFieldReference, Object)},
+	 * but some backends may encode the value without boxing it.
+	 *
+	 * @param fieldReference The field to add a value to.
+	 * @param value The value to add to the field.
+	 */
+	default void addLongValue(IndexFieldReference<Long> fieldReference, long value) {
+		addValue( fieldReference, value );
+	}
+
+	/**
+	 * Add a new {@code double} value to the referenced field in this document element.
+	 * <p>
+	 * Equivalent to {@link #addValue(IndexFieldReference, Object)},
+	 * but some backends may encode the value without boxing it.
+	 *
+	 * @param fieldReference The field to add a value to.
+	 * @param value The value to add to the field.
+	 */
+	default void addDoubleValue(IndexFieldReference<Double> fieldReference, double value) {
+		addValue( fieldReference, value );
+	}
+
 	/**
 	 * Add a new object to the referenced field in this document element.
 	 *
@@ -16,9 +16,14 @@
  */
 public interface IndexManager {
 
-	// TODO add standard APIs related to statistics?
 	// TODO add other standard index manager APIs?
 
+	/**
+	 * @return Metrics about the indexing works executed by this index manager:
+	 * throughput, batch sizes, queue depth and latency.
+	 */
+	IndexingMetrics getIndexingMetrics();
+
 	/**
 	 * Unwrap the index manager to some implementation-specific type.
 	 *
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index;
+
+import java.util.Optional;
+
+/**
+ * A report about the execution of a batch of indexing works.
+ *
+ * @see IndexingListener
+ */
+public interface IndexingBatchReport {
+
+	/**
+	 * @return The name of the backend the works were executed against.
+	 */
+	String getBackendName();
+
+	/**
+	 * @return The name of the index the works were executed against.
+	 */
+	String getIndexName();
+
+	/**
+	 * @return The number of works in the batch.
+	 */
+	int getWorkCount();
+
+	/**
+	 * @return The time between the submission of the batch and the moment the backend started processing it,
+	 * in nanoseconds.
+	 */
+	long getQueueDurationNanos();
+
+	/**
+	 * @return The time spent by the backend processing the batch, in nanoseconds.
+	 */
+	long getApplyDurationNanos();
+
+	/**
+	 * @return The time between the submission of the batch and the moment its changes
+	 * are visible to search queries, in nanoseconds.
+	 */
+	long getVisibilityLatencyNanos();
+
+	/**
+	 * @return The failure that prevented the batch from being applied, if any.
+	 */
+	Optional<Throwable> getFailure();
+
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index;
+
+/**
+ * A listener notified of each batch of indexing works executed by an index manager.
+ * <p>
+ * Listeners are configured through {@link org.hibernate.search.engine.cfg.EngineSettings#INDEXING_LISTENERS}.
+ * <p>
+ * Listeners are called in the thread that completed the batch,
+ * which will generally be a backend thread:
+ * implementations must be thread-safe, and should return quickly.
+ */
+public interface IndexingListener {
+
+	/**
+	 * @param report A report about the execution of a batch of works, successful or not.
+	 */
+	void onBatchExecuted(IndexingBatchReport report);
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index;
+
+import java.util.SortedMap;
+
+/**
+ * Metrics about the indexing works executed by an index manager since it started.
+ * <p>
+ * Works are submitted to the backend in batches:
+ * all the works of a work plan (for example all the changes of a transaction) form a single batch.
+ * <p>
+ * All values are cumulative, except the number of pending works, and are read without locking:
+ * they are meant to be polled periodically and exported to a monitoring system.
+ */
+public interface IndexingMetrics {
+
+	/**
+	 * @return The number of works submitted to the index manager.
+	 */
+	long getSubmittedWorkCount();
+
+	/**
+	 * @return The number of works applied successfully to the index.
+	 */
+	long getAppliedWorkCount();
+
+	/**
+	 * @return The number of works that failed, including all the works of a batch that failed.
+	 */
+	long getFailedWorkCount();
+
+	/**
+	 * @return The number of works submitted but not yet applied, i.e. the current depth of the indexing queue.
+	 */
+	long getPendingWorkCount();
+
+	/**
+	 * @return The number of batches executed, successfully or not.
+	 */
+	long getBatchCount();
+
+	/**
+	 * @return The number of executed batches for each range of batch sizes.
+	 * Each key is the (inclusive) upper bound of a range, whose lower bound is the previous key (exclusive).
+	 */
+	SortedMap<Integer, Long> getBatchSizeHistogram();
+
+	/**
+	 * @return The cumulated time spent applying batches, from the moment the backend
+	 * starts processing a batch to the moment it is done, in nanoseconds.
+	 */
+	long getTotalApplyDurationNanos();
+
+	/**
+	 * @return The longest time spent applying a single batch, in nanoseconds.
+	 */
+	long getMaxApplyDurationNanos();
+
+	/**
+	 * @return The cumulated time between the submission of batches
+	 * (for example right after a transaction commit)
+	 * and the moment their changes are visible to search queries, in nanoseconds.
+	 */
+	long getTotalVisibilityLatencyNanos();
+
+	/**
+	 * @return The longest time between the submission of a single batch
+	 * and the moment its changes are visible to search queries, in nanoseconds.
+	 */
+	long getMaxVisibilityLatencyNanos();
+
+}
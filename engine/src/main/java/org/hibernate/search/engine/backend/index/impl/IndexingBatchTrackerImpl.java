@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.engine.backend.index.IndexingBatchReport;
+import org.hibernate.search.engine.backend.index.spi.IndexingBatchTracker;
+
+final class IndexingBatchTrackerImpl implements IndexingBatchTracker, IndexingBatchReport {
+
+	private final IndexingInstrumentationImpl instrumentation;
+	private final int workCount;
+	private final long submitNanos;
+
+	private long applyStartNanos;
+	private long endNanos;
+	private Throwable failure;
+	private boolean ended = false;
+
+	IndexingBatchTrackerImpl(IndexingInstrumentationImpl instrumentation, int workCount) {
+		this.instrumentation = instrumentation;
+		this.workCount = workCount;
+		this.submitNanos = System.nanoTime();
+		this.applyStartNanos = submitNanos;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "backendName=" ).append( getBackendName() )
+				.append( ", indexName=" ).append( getIndexName() )
+				.append( ", workCount=" ).append( workCount )
+				.append( ", visibilityLatencyNanos=" ).append( getVisibilityLatencyNanos() )
+				.append( ", failure=" ).append( failure )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public void startApplying() {
+		this.applyStartNanos = System.nanoTime();
+	}
+
+	@Override
+	public void complete() {
+		end();
+	}
+
+	@Override
+	public void fail(Throwable throwable) {
+		this.failure = throwable;
+		end();
+	}
+
+	@Override
+	public String getBackendName() {
+		return instrumentation.getBackendName();
+	}
+
+	@Override
+	public String getIndexName() {
+		return instrumentation.getIndexName();
+	}
+
+	@Override
+	public int getWorkCount() {
+		return workCount;
+	}
+
+	@Override
+	public long getQueueDurationNanos() {
+		return applyStartNanos - submitNanos;
+	}
+
+	@Override
+	public long getApplyDurationNanos() {
+		return endNanos - applyStartNanos;
+	}
+
+	@Override
+	public long getVisibilityLatencyNanos() {
+		return endNanos - submitNanos;
+	}
+
+	@Override
+	public Optional<Throwable> getFailure() {
+		return Optional.ofNullable( failure );
+	}
+
+	private void end() {
+		if ( ended ) {
+			// Only report each batch once
+			return;
+		}
+		ended = true;
+		endNanos = System.nanoTime();
+		instrumentation.onBatchEnd( this );
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.index.IndexingListener;
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
+import org.hibernate.search.engine.backend.index.spi.IndexingBatchTracker;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The indexing instrumentation of a single index manager:
+ * updates metrics and notifies listeners.
+ */
+public final class IndexingInstrumentationImpl implements IndexingInstrumentation {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String backendName;
+	private final String indexName;
+	private final List<IndexingListener> listeners;
+	private final IndexingMetricsImpl metrics = new IndexingMetricsImpl();
+
+	/**
+	 * @param backendName The name of the backend of the instrumented index manager.
+	 * @param indexName The name of the instrumented index manager.
+	 * @param listeners The listeners to notify of each batch execution.
+	 */
+	public IndexingInstrumentationImpl(String backendName, String indexName, List<IndexingListener> listeners) {
+		this.backendName = backendName;
+		this.indexName = indexName;
+		this.listeners = listeners;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "backendName=" ).append( backendName )
+				.append( ", indexName=" ).append( indexName )
+				.append( ", listeners=" ).append( listeners )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public IndexingBatchTracker startBatch(int workCount) {
+		metrics.onSubmit( workCount );
+		return new IndexingBatchTrackerImpl( this, workCount );
+	}
+
+	@Override
+	public IndexingMetrics getMetrics() {
+		return metrics;
+	}
+
+	String getBackendName() {
+		return backendName;
+	}
+
+	String getIndexName() {
+		return indexName;
+	}
+
+	void onBatchEnd(IndexingBatchTrackerImpl batch) {
+		metrics.record( batch );
+
+		for ( IndexingListener listener : listeners ) {
+			try {
+				listener.onBatchExecuted( batch );
+			}
+			catch (RuntimeException e) {
+				log.indexingListenerFailed( listener, e.getMessage(), e );
+			}
+		}
+	}
+}
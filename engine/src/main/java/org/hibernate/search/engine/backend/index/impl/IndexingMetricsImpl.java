@@ -0,0 +1,137 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.impl;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.backend.index.IndexingBatchReport;
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
+
+final class IndexingMetricsImpl implements IndexingMetrics {
+
+	private static final int[] BATCH_SIZE_UPPER_BOUNDS = {
+			1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024, Integer.MAX_VALUE
+	};
+
+	private final LongAdder submittedWorkCount = new LongAdder();
+	private final LongAdder appliedWorkCount = new LongAdder();
+	private final LongAdder failedWorkCount = new LongAdder();
+	private final LongAdder batchCount = new LongAdder();
+	private final LongAdder[] batchSizeCounts = new LongAdder[BATCH_SIZE_UPPER_BOUNDS.length];
+	private final LongAdder totalApplyDurationNanos = new LongAdder();
+	private final LongAccumulator maxApplyDurationNanos = new LongAccumulator( Math::max, 0L );
+	private final LongAdder totalVisibilityLatencyNanos = new LongAdder();
+	private final LongAccumulator maxVisibilityLatencyNanos = new LongAccumulator( Math::max, 0L );
+
+	IndexingMetricsImpl() {
+		for ( int i = 0; i < batchSizeCounts.length; i++ ) {
+			batchSizeCounts[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "submittedWorkCount=" ).append( getSubmittedWorkCount() )
+				.append( ", appliedWorkCount=" ).append( getAppliedWorkCount() )
+				.append( ", failedWorkCount=" ).append( getFailedWorkCount() )
+				.append( ", batchCount=" ).append( getBatchCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getSubmittedWorkCount() {
+		return submittedWorkCount.sum();
+	}
+
+	@Override
+	public long getAppliedWorkCount() {
+		return appliedWorkCount.sum();
+	}
+
+	@Override
+	public long getFailedWorkCount() {
+		return failedWorkCount.sum();
+	}
+
+	@Override
+	public long getPendingWorkCount() {
+		// Read the completed works first, so that concurrent updates can only over-estimate the result
+		long completed = appliedWorkCount.sum() + failedWorkCount.sum();
+		return Math.max( 0L, submittedWorkCount.sum() - completed );
+	}
+
+	@Override
+	public long getBatchCount() {
+		return batchCount.sum();
+	}
+
+	@Override
+	public SortedMap<Integer, Long> getBatchSizeHistogram() {
+		SortedMap<Integer, Long> histogram = new TreeMap<>();
+		for ( int i = 0; i < BATCH_SIZE_UPPER_BOUNDS.length; i++ ) {
+			histogram.put( BATCH_SIZE_UPPER_BOUNDS[i], batchSizeCounts[i].sum() );
+		}
+		return Collections.unmodifiableSortedMap( histogram );
+	}
+
+	@Override
+	public long getTotalApplyDurationNanos() {
+		return totalApplyDurationNanos.sum();
+	}
+
+	@Override
+	public long getMaxApplyDurationNanos() {
+		return maxApplyDurationNanos.get();
+	}
+
+	@Override
+	public long getTotalVisibilityLatencyNanos() {
+		return totalVisibilityLatencyNanos.sum();
+	}
+
+	@Override
+	public long getMaxVisibilityLatencyNanos() {
+		return maxVisibilityLatencyNanos.get();
+	}
+
+	void onSubmit(int workCount) {
+		submittedWorkCount.add( workCount );
+	}
+
+	void record(IndexingBatchReport report) {
+		int workCount = report.getWorkCount();
+		if ( report.getFailure().isPresent() ) {
+			failedWorkCount.add( workCount );
+		}
+		else {
+			appliedWorkCount.add( workCount );
+		}
+		batchCount.increment();
+		batchSizeCounts[bucketIndex( workCount )].increment();
+		long applyDuration = report.getApplyDurationNanos();
+		totalApplyDurationNanos.add( applyDuration );
+		maxApplyDurationNanos.accumulate( applyDuration );
+		long visibilityLatency = report.getVisibilityLatencyNanos();
+		totalVisibilityLatencyNanos.add( visibilityLatency );
+		maxVisibilityLatencyNanos.accumulate( visibilityLatency );
+	}
+
+	private static int bucketIndex(int batchSize) {
+		int i = 0;
+		while ( batchSize > BATCH_SIZE_UPPER_BOUNDS[i] ) {
+			++i;
+		}
+		return i;
+	}
+}
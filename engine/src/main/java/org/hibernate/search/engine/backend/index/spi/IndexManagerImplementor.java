@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.index.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
@@ -25,10 +27,19 @@
 	 * Called by the engine once after bootstrap, after
 	 * {@link org.hibernate.search.engine.backend.spi.BackendImplementor#start(BackendStartContext)}
 	 * was called on the corresponding backend.
+	 * <p>
+	 * The engine may start multiple index managers concurrently:
+	 * lengthy operations such as creating or validating the index schema
+	 * should be executed asynchronously, and their completion reported through the returned future.
+	 * <p>
+	 * Failures may be reported either by throwing an exception, by completing the returned future exceptionally,
+	 * or through the {@link IndexManagerStartContext#getFailureCollector() failure collector},
+	 * which may be used from any thread.
 	 *
 	 * @param context The start context.
+	 * @return A future that will complete when the index manager is ready to be used.
 	 */
-	void start(IndexManagerStartContext context);
+	CompletableFuture<?> start(IndexManagerStartContext context);
 
 	/**
 	 * @return The object that should be exposed as API to users.
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+/**
+ * Records data about the execution of a single batch of indexing works.
+ * <p>
+ * Calls may happen from different threads, but must not happen concurrently.
+ */
+public interface IndexingBatchTracker {
+
+	/**
+	 * Marks the moment the backend starts processing the batch, ending the time spent in the queue.
+	 * <p>
+	 * If never called, the batch is considered to have been processed as soon as it was submitted.
+	 */
+	void startApplying();
+
+	/**
+	 * Ends the execution successfully, notifying the metrics and listeners.
+	 */
+	void complete();
+
+	/**
+	 * Ends the execution with a failure, notifying the metrics and listeners.
+	 *
+	 * @param throwable The failure.
+	 */
+	void fail(Throwable throwable);
+
+}
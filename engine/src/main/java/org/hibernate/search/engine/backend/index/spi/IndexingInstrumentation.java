@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
+
+/**
+ * The entry point for backends to report the indexing works executed by an index manager
+ * to the metrics and listeners configured in the engine.
+ */
+public interface IndexingInstrumentation {
+
+	/**
+	 * @param workCount The number of works submitted together.
+	 * @return A tracker for the execution of the batch.
+	 * One of {@link IndexingBatchTracker#complete()} or {@link IndexingBatchTracker#fail(Throwable)}
+	 * must be called when the execution ends.
+	 */
+	IndexingBatchTracker startBatch(int workCount);
+
+	/**
+	 * @return The metrics updated by the batches of this index manager.
+	 */
+	IndexingMetrics getMetrics();
+
+}
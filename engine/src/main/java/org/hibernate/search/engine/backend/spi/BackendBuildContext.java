@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.engine.backend.spi;
 
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 
 /**
  * A build context for backends.
@@ -21,4 +23,16 @@ public interface BackendBuildContext {
 
 	BeanProvider getBeanProvider();
 
+	/**
+	 * @return The instrumentation to notify of each search query execution in this backend.
+	 */
+	SearchQueryInstrumentation getSearchQueryInstrumentation();
+
+	/**
+	 * @param indexName The name of an index managed by this backend.
+	 * @return A new instrumentation to notify of each batch of works executed by the index manager,
+	 * to be created once per index manager.
+	 */
+	IndexingInstrumentation createIndexingInstrumentation(String indexName);
+
 }
@@ -6,6 +6,13 @@
  */
 package org.hibernate.search.engine.cfg;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.index.IndexingListener;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
+
 /**
  * Configuration properties for the Hibernate Search engine.
  */
@@ -28,6 +35,57 @@ private EngineSettings() {
 	 */
 	public static final String BACKENDS = "backends";
 
+	/**
+	 * The {@link SearchQueryListener} instances notified of each search query execution,
+	 * with a breakdown of the time spent in each phase of the execution.
+	 * <p>
+	 * Expects a multi-valued reference to a bean of type {@link SearchQueryListener}.
+	 * <p>
+	 * Defaults to no value.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "multi-valued bean reference" properties and accepted values.
+	 */
+	public static final String QUERY_LISTENERS = "query.listeners";
+
+	/**
+	 * The duration above which search query executions are logged as slow, in milliseconds.
+	 * <p>
+	 * Slow queries are logged at the WARN level, with the time spent in each phase of the execution.
+	 * <p>
+	 * Expects a positive Long value in milliseconds, such as {@code 500},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are not logged.
+	 */
+	public static final String QUERY_SLOW_THRESHOLD = "query.slow_threshold";
+
+	/**
+	 * The {@link IndexingListener} instances notified of each batch of indexing works executed by an index manager,
+	 * with the time spent waiting in the queue and applying the works.
+	 * <p>
+	 * Expects a multi-valued reference to a bean of type {@link IndexingListener}.
+	 * <p>
+	 * Defaults to no value.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "multi-valued bean reference" properties and accepted values.
+	 */
+	public static final String INDEXING_LISTENERS = "indexing.listeners";
+
+	/**
+	 * The maximum number of indexes started concurrently during bootstrap.
+	 * <p>
+	 * Starting an index may involve lengthy operations, such as creating, validating or updating its schema.
+	 * These operations are executed concurrently for multiple indexes, up to this limit.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEX_STARTUP_PARALLELISM}.
+	 */
+	public static final String INDEX_STARTUP_PARALLELISM = "index_startup.parallelism";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -36,5 +94,9 @@ public static final class Defaults {
 		private Defaults() {
 		}
 
+		public static final List<BeanReference<? extends SearchQueryListener>> QUERY_LISTENERS = Collections.emptyList();
+		public static final List<BeanReference<? extends IndexingListener>> INDEXING_LISTENERS = Collections.emptyList();
+		public static final int INDEX_STARTUP_PARALLELISM = 10;
+
 	}
 }
@@ -6,12 +6,37 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.List;
+
+import org.hibernate.search.engine.backend.index.IndexingListener;
+import org.hibernate.search.engine.backend.index.impl.IndexingInstrumentationImpl;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 
 class BackendBuildContextImpl extends DelegatingBuildContext implements BackendBuildContext {
 
-	BackendBuildContextImpl(RootBuildContext delegate) {
+	private final String backendName;
+	private final SearchQueryInstrumentation searchQueryInstrumentation;
+	private final List<IndexingListener> indexingListeners;
+
+	BackendBuildContextImpl(RootBuildContext delegate, String backendName,
+			SearchQueryInstrumentation searchQueryInstrumentation,
+			List<IndexingListener> indexingListeners) {
 		super( delegate );
+		this.backendName = backendName;
+		this.searchQueryInstrumentation = searchQueryInstrumentation;
+		this.indexingListeners = indexingListeners;
+	}
+
+	@Override
+	public SearchQueryInstrumentation getSearchQueryInstrumentation() {
+		return searchQueryInstrumentation;
+	}
+
+	@Override
+	public IndexingInstrumentation createIndexingInstrumentation(String indexName) {
+		return new IndexingInstrumentationImpl( backendName, indexName, indexingListeners );
 	}
 
 }
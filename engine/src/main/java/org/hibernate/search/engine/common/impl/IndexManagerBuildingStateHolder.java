@@ -8,10 +8,12 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.IndexingListener;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
@@ -32,6 +34,8 @@
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.mapper.mapping.building.impl.IndexedEntityBindingContextImpl;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexManagerBuildingState;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
+import org.hibernate.search.engine.search.query.impl.SearchQueryInstrumentationImpl;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.StringHelper;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -55,6 +59,9 @@ class IndexManagerBuildingStateHolder {
 	private final BeanProvider beanProvider;
 	private final ConfigurationPropertySource propertySource;
 	private final RootBuildContext rootBuildContext;
+	private final List<SearchQueryListener> queryListeners;
+	private final Long querySlowThreshold;
+	private final List<IndexingListener> indexingListeners;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<String, BackendInitialBuildState<?>> backendBuildStateByName = new LinkedHashMap<>();
@@ -62,10 +69,15 @@ class IndexManagerBuildingStateHolder {
 	private final Map<String, IndexManagerInitialBuildState<?>> indexManagerBuildStateByName = new LinkedHashMap<>();
 
 	IndexManagerBuildingStateHolder(BeanProvider beanProvider, ConfigurationPropertySource propertySource,
-			RootBuildContext rootBuildContext) {
+			RootBuildContext rootBuildContext,
+			List<SearchQueryListener> queryListeners, Long querySlowThreshold,
+			List<IndexingListener> indexingListeners) {
 		this.beanProvider = beanProvider;
 		this.propertySource = propertySource;
 		this.rootBuildContext = rootBuildContext;
+		this.queryListeners = queryListeners;
+		this.querySlowThreshold = querySlowThreshold;
+		this.indexingListeners = indexingListeners;
 	}
 
 	BackendInitialBuildState<?> getBackend(String backendName) {
@@ -120,7 +132,11 @@ private BackendInitialBuildState<?> createBackend(String backendName) {
 						beanProvider::getBean,
 						key -> log.backendTypeCannotBeNullOrEmpty( backendName, key )
 				) ) {
-			BackendBuildContext backendBuildContext = new BackendBuildContextImpl( rootBuildContext );
+			BackendBuildContext backendBuildContext = new BackendBuildContextImpl(
+					rootBuildContext, backendName,
+					new SearchQueryInstrumentationImpl( backendName, queryListeners, querySlowThreshold ),
+					indexingListeners
+			);
 
 			BackendImplementor<?> backend = backendFactoryHolder.get()
 					.create( backendName, backendBuildContext, backendPropertySource );
@@ -6,15 +6,24 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.impl.EngineConfigurationUtils;
+import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.impl.RootFailureCollector;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 class IndexManagerPartialBuildState {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final String backendName;
 	private final String indexName;
 	private final IndexManagerImplementor<?> partiallyBuiltIndexManager;
@@ -30,7 +39,15 @@ void closeOnFailure() {
 		partiallyBuiltIndexManager.close();
 	}
 
-	IndexManagerImplementor<?> finalizeBuild(RootFailureCollector rootFailureCollector,
+	/**
+	 * Start the index manager.
+	 *
+	 * @param rootFailureCollector The collector for failures occurring during startup.
+	 * @param rootPropertySource The root configuration property source.
+	 * @return A future completing when the index manager is started.
+	 * Startup failures are reported to the failure collector, never through the future.
+	 */
+	CompletableFuture<?> start(RootFailureCollector rootFailureCollector,
 			ConfigurationPropertySource rootPropertySource) {
 		ContextualFailureCollector indexFailureCollector =
 				rootFailureCollector.withContext( EventContexts.fromIndexName( indexName ) );
@@ -45,12 +62,33 @@ IndexManagerImplementor<?> finalizeBuild(RootFailureCollector rootFailureCollect
 		IndexManagerStartContextImpl startContext = new IndexManagerStartContextImpl(
 				indexFailureCollector, indexPropertySource
 		);
+		long startNanos = System.nanoTime();
+		CompletableFuture<?> future;
 		try {
-			partiallyBuiltIndexManager.start( startContext );
+			future = partiallyBuiltIndexManager.start( startContext );
 		}
 		catch (RuntimeException e) {
-			indexFailureCollector.add( e );
+			CompletableFuture<?> failedFuture = new CompletableFuture<>();
+			failedFuture.completeExceptionally( e );
+			future = failedFuture;
 		}
+		return future.handle( Futures.handler( (ignored, throwable) -> {
+			if ( throwable != null ) {
+				indexFailureCollector.add( throwable );
+			}
+			else {
+				log.startedIndexManager( indexName,
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startNanos ) );
+			}
+			return null;
+		} ) );
+	}
+
+	/**
+	 * @return The index manager, fully built once the future returned by
+	 * {@link #start(RootFailureCollector, ConfigurationPropertySource)} completed.
+	 */
+	IndexManagerImplementor<?> finalizeBuild() {
 		return partiallyBuiltIndexManager; // The index manager is now fully built
 	}
 }
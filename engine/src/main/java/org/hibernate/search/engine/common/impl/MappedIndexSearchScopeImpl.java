@@ -8,12 +8,15 @@
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexSearchScope;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.DefaultSearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.impl.DefaultSearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
@@ -53,27 +56,30 @@ public String toString() {
 	public <T, Q> SearchQueryResultContext<Q> queryAsLoadedObject(SessionContextImplementor sessionContext,
 			ObjectLoader<R, T> objectLoader,
 			Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory) {
-		ProjectionHitMapper<R, T> projectionHitMapper =
-				new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
-
-		SearchQueryBuilder<T, C> builder = delegate.getSearchQueryBuilderFactory()
-				.asObject( sessionContext, projectionHitMapper );
+		Supplier<SearchQueryBuilder<T, C>> builderFactory = () -> {
+			ProjectionHitMapper<R, T> projectionHitMapper =
+					new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+			return delegate.getSearchQueryBuilderFactory()
+					.asObject( sessionContext, projectionHitMapper );
+		};
 
 		return new SearchQueryResultContextImpl<>(
-				delegate, builder, searchQueryWrapperFactory
+				delegate, builderFactory, searchQueryWrapperFactory
 		);
 	}
 
 	@Override
 	public <Q> SearchQueryResultContext<Q> queryAsReference(SessionContextImplementor sessionContext,
 			Function<IndexSearchQuery<R>, Q> searchQueryWrapperFactory) {
-		ProjectionHitMapper<R, Void> referenceHitMapper = new NoLoadingProjectionHitMapper<>( documentReferenceTransformer );
-
-		SearchQueryBuilder<R, C> builder = delegate.getSearchQueryBuilderFactory()
-				.asReference( sessionContext, referenceHitMapper );
+		Supplier<SearchQueryBuilder<R, C>> builderFactory = () -> {
+			ProjectionHitMapper<R, Void> referenceHitMapper =
+					new NoLoadingProjectionHitMapper<>( documentReferenceTransformer );
+			return delegate.getSearchQueryBuilderFactory()
+					.asReference( sessionContext, referenceHitMapper );
+		};
 
 		return new SearchQueryResultContextImpl<>(
-				delegate, builder, searchQueryWrapperFactory
+				delegate, builderFactory, searchQueryWrapperFactory
 		);
 	}
 
@@ -81,14 +87,15 @@ public <Q> SearchQueryResultContext<Q> queryAsReference(SessionContextImplemento
 	public <T, Q> SearchQueryResultContext<Q> queryAsProjection(SessionContextImplementor sessionContext,
 			ObjectLoader<R, O> objectLoader,
 			Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory, SearchProjection<T> projection) {
-		ProjectionHitMapper<R, O> projectionHitMapper =
-				new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
-
-		SearchQueryBuilder<T, C> builder = delegate.getSearchQueryBuilderFactory()
-				.asProjection( sessionContext, projectionHitMapper, projection );
+		Supplier<SearchQueryBuilder<T, C>> builderFactory = () -> {
+			ProjectionHitMapper<R, O> projectionHitMapper =
+					new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+			return delegate.getSearchQueryBuilderFactory()
+					.asProjection( sessionContext, projectionHitMapper, projection );
+		};
 
 		return new SearchQueryResultContextImpl<>(
-				delegate, builder, searchQueryWrapperFactory
+				delegate, builderFactory, searchQueryWrapperFactory
 		);
 	}
 
@@ -98,14 +105,15 @@ public <Q> SearchQueryResultContext<Q> queryAsProjections(
 			ObjectLoader<R, O> objectLoader,
 			Function<IndexSearchQuery<List<?>>, Q> searchQueryWrapperFactory,
 			SearchProjection<?>... projections) {
-		ProjectionHitMapper<R, O> projectionHitMapper =
-				new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
-
-		SearchQueryBuilder<List<?>, C> builder = delegate.getSearchQueryBuilderFactory()
-				.asProjections( sessionContext, projectionHitMapper, projections );
+		Supplier<SearchQueryBuilder<List<?>, C>> builderFactory = () -> {
+			ProjectionHitMapper<R, O> projectionHitMapper =
+					new DefaultProjectionHitMapper<>( documentReferenceTransformer, objectLoader );
+			return delegate.getSearchQueryBuilderFactory()
+					.asProjections( sessionContext, projectionHitMapper, projections );
+		};
 
 		return new SearchQueryResultContextImpl<>(
-				delegate, builder, searchQueryWrapperFactory
+				delegate, builderFactory, searchQueryWrapperFactory
 		);
 	}
 
@@ -123,4 +131,9 @@ public SearchSortContainerContext sort() {
 	public SearchProjectionFactoryContext<R, O> projection() {
 		return new DefaultSearchProjectionFactoryContext<>( delegate.getSearchProjectionFactory() );
 	}
+
+	@Override
+	public SearchAggregationFactoryContext aggregation() {
+		return new DefaultSearchAggregationFactoryContext( delegate.getSearchAggregationBuilderFactory() );
+	}
 }
@@ -19,12 +19,19 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import org.hibernate.search.engine.backend.index.IndexingListener;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.spi.SearchIntegrationPartialBuildState;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.impl.ConfiguredBeanProvider;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.environment.bean.spi.ReflectionBeanResolver;
@@ -46,6 +53,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingKey;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPartialBuildState;
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -57,6 +65,25 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 
 	private static final int FAILURE_LIMIT = 100;
 
+	private static final ConfigurationProperty<List<BeanReference<? extends SearchQueryListener>>> QUERY_LISTENERS =
+			ConfigurationProperty.forKey( EngineSettings.QUERY_LISTENERS )
+					.asBeanReference( SearchQueryListener.class )
+					.multivalued( Pattern.compile( "\\s+" ) )
+					.withDefault( EngineSettings.Defaults.QUERY_LISTENERS )
+					.build();
+
+	private static final ConfigurationProperty<List<BeanReference<? extends IndexingListener>>> INDEXING_LISTENERS =
+			ConfigurationProperty.forKey( EngineSettings.INDEXING_LISTENERS )
+					.asBeanReference( IndexingListener.class )
+					.multivalued( Pattern.compile( "\\s+" ) )
+					.withDefault( EngineSettings.Defaults.INDEXING_LISTENERS )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_THRESHOLD =
+			ConfigurationProperty.forKey( EngineSettings.QUERY_SLOW_THRESHOLD )
+					.asLong()
+					.build();
+
 	private final ConfigurationPropertySource mainPropertySource;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
 
@@ -112,6 +139,8 @@ public <PBM extends MappingPartialBuildState> SearchIntegrationBuilder addMappin
 
 	@Override
 	public SearchIntegrationPartialBuildState prepareBuild() {
+		BeanHolder<List<SearchQueryListener>> queryListenersHolder = null;
+		BeanHolder<List<IndexingListener>> indexingListenersHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -145,7 +174,15 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			BeanProvider beanProvider = new ConfiguredBeanProvider( classResolver, beanResolver, propertySource );
 			RootBuildContext rootBuildContext = new RootBuildContext( classResolver, resourceResolver, beanProvider, failureCollector );
 
-			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanProvider, propertySource, rootBuildContext );
+			Long querySlowThreshold = QUERY_SLOW_THRESHOLD.getAndMap(
+					propertySource, SearchIntegrationBuilderImpl::checkPositiveOrZero
+			)
+					.orElse( null );
+			queryListenersHolder = QUERY_LISTENERS.getAndTransform( propertySource, beanProvider::getBeans );
+			indexingListenersHolder = INDEXING_LISTENERS.getAndTransform( propertySource, beanProvider::getBeans );
+
+			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanProvider, propertySource,
+					rootBuildContext, queryListenersHolder.get(), querySlowThreshold, indexingListenersHolder.get() );
 
 			// First step: collect configuration for all mappings
 			for ( Map.Entry<MappingKey<?, ?>, MappingInitiator<?, ?>> entry : mappingInitiators.entrySet() ) {
@@ -180,6 +217,8 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 
 			return new SearchIntegrationPartialBuildStateImpl(
 					beanResolver,
+					queryListenersHolder,
+					indexingListenersHolder,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendPartialBuildStates(),
 					indexManagerBuildingStateHolder.getIndexManagersByName()
@@ -218,6 +257,9 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( MappingBuildingState::closeOnFailure, mappingBuildingStates );
 			// Close the resources contained in the index manager building state before aborting
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
+			// Close the query and indexing listeners before aborting
+			closer.pushAll( BeanHolder::close, queryListenersHolder );
+			closer.pushAll( BeanHolder::close, indexingListenersHolder );
 			// Close the bean resolver before aborting
 			closer.pushAll( BeanResolver::close, beanResolver );
 
@@ -225,6 +267,13 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 		}
 	}
 
+	private static Long checkPositiveOrZero(Long value) {
+		if ( value < 0L ) {
+			throw log.invalidNegativeValue( value );
+		}
+		return value;
+	}
+
 	private static class MappingBuildingState<C, PBM extends MappingPartialBuildState> {
 		private final MappingBuildContext buildContext;
 
@@ -7,17 +7,21 @@
 package org.hibernate.search.engine.common.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.IndexingListener;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingKey;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -26,16 +30,22 @@ public class SearchIntegrationImpl implements SearchIntegration {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final BeanResolver beanResolver;
+	private final BeanHolder<List<SearchQueryListener>> queryListenersHolder;
+	private final BeanHolder<List<IndexingListener>> indexingListenersHolder;
 
 	private final Map<MappingKey<?, ?>, MappingImplementor<?>> mappings;
 	private final Map<String, BackendImplementor<?>> backends;
 	private final Map<String, IndexManagerImplementor<?>> indexManagers;
 
 	SearchIntegrationImpl(BeanResolver beanResolver,
+			BeanHolder<List<SearchQueryListener>> queryListenersHolder,
+			BeanHolder<List<IndexingListener>> indexingListenersHolder,
 			Map<MappingKey<?, ?>, MappingImplementor<?>> mappings,
 			Map<String, BackendImplementor<?>> backends,
 			Map<String, IndexManagerImplementor<?>> indexManagers) {
 		this.beanResolver = beanResolver;
+		this.queryListenersHolder = queryListenersHolder;
+		this.indexingListenersHolder = indexingListenersHolder;
 		this.mappings = mappings;
 		this.backends = backends;
 		this.indexManagers = indexManagers;
@@ -76,6 +86,8 @@ public void close() {
 			closer.pushAll( MappingImplementor::close, mappings.values() );
 			closer.pushAll( IndexManagerImplementor::close, indexManagers.values() );
 			closer.pushAll( BackendImplementor::close, backends.values() );
+			closer.pushAll( BeanHolder::close, queryListenersHolder );
+			closer.pushAll( BeanHolder::close, indexingListenersHolder );
 			closer.pushAll( BeanResolver::close, beanResolver );
 		}
 	}
@@ -6,28 +6,51 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.backend.index.IndexingListener;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationPartialBuildState;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
+import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingKey;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPartialBuildState;
 import org.hibernate.search.engine.reporting.impl.RootFailureCollector;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartialBuildState {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final int FAILURE_LIMIT = 100;
 
+	private static final ConfigurationProperty<Integer> INDEX_STARTUP_PARALLELISM =
+			ConfigurationProperty.forKey( EngineSettings.INDEX_STARTUP_PARALLELISM )
+					.asInteger()
+					.withDefault( EngineSettings.Defaults.INDEX_STARTUP_PARALLELISM )
+					.build();
+
 	private final BeanResolver beanResolver;
+	private final BeanHolder<List<SearchQueryListener>> queryListenersHolder;
+	private final BeanHolder<List<IndexingListener>> indexingListenersHolder;
 
 	private final Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings;
 	private final Map<MappingKey<?, ?>, MappingImplementor<?>> fullyBuiltMappings = new LinkedHashMap<>();
@@ -38,10 +61,14 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 
 	SearchIntegrationPartialBuildStateImpl(
 			BeanResolver beanResolver,
+			BeanHolder<List<SearchQueryListener>> queryListenersHolder,
+			BeanHolder<List<IndexingListener>> indexingListenersHolder,
 			Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings,
 			Map<String, BackendPartialBuildState> partiallyBuiltBackends,
 			Map<String, IndexManagerPartialBuildState> partiallyBuiltIndexManagers) {
 		this.beanResolver = beanResolver;
+		this.queryListenersHolder = queryListenersHolder;
+		this.indexingListenersHolder = indexingListenersHolder;
 		this.partiallyBuiltMappings = partiallyBuiltMappings;
 		this.partiallyBuiltBackends = partiallyBuiltBackends;
 		this.partiallyBuiltIndexManagers = partiallyBuiltIndexManagers;
@@ -56,6 +83,8 @@ public void closeOnFailure() {
 			closer.pushAll( IndexManagerImplementor::close, fullyBuiltIndexManagers.values() );
 			closer.pushAll( BackendPartialBuildState::closeOnFailure, partiallyBuiltBackends.values() );
 			closer.pushAll( BackendImplementor::close, fullyBuiltBackends.values() );
+			closer.pushAll( BeanHolder::close, queryListenersHolder );
+			closer.pushAll( BeanHolder::close, indexingListenersHolder );
 			closer.pushAll( BeanResolver::close, beanResolver );
 		}
 	}
@@ -102,20 +131,55 @@ public SearchIntegration finalizeIntegration(ConfigurationPropertySource configu
 		failureCollector.checkNoFailure();
 
 		// Start indexes
+		startIndexManagers( failureCollector, configurationPropertySource );
 		for ( Map.Entry<String, IndexManagerPartialBuildState> entry : partiallyBuiltIndexManagers.entrySet() ) {
-			// TODO HSEARCH-3084 perform index initialization in parallel for all indexes?
-			fullyBuiltIndexManagers.put(
-					entry.getKey(),
-					entry.getValue().finalizeBuild( failureCollector, configurationPropertySource )
-			);
+			fullyBuiltIndexManagers.put( entry.getKey(), entry.getValue().finalizeBuild() );
 		}
 		failureCollector.checkNoFailure();
 
 		return new SearchIntegrationImpl(
 				beanResolver,
+				queryListenersHolder,
+				indexingListenersHolder,
 				fullyBuiltMappings,
 				fullyBuiltBackends,
 				fullyBuiltIndexManagers
 		);
 	}
+
+	/*
+	 * Index managers are started concurrently, up to a configurable limit,
+	 * so that lengthy operations such as schema creation or validation
+	 * do not have to be executed one index after the other.
+	 */
+	private void startIndexManagers(RootFailureCollector failureCollector,
+			ConfigurationPropertySource configurationPropertySource) {
+		int parallelism = INDEX_STARTUP_PARALLELISM.getAndTransform( configurationPropertySource, value -> {
+			if ( value < 1 ) {
+				throw log.invalidNonStrictlyPositiveValue( value );
+			}
+			return value;
+		} );
+		Semaphore permits = new Semaphore( parallelism );
+		List<CompletableFuture<?>> futures = new ArrayList<>( partiallyBuiltIndexManagers.size() );
+		try {
+			for ( IndexManagerPartialBuildState indexManager : partiallyBuiltIndexManagers.values() ) {
+				permits.acquire();
+				futures.add(
+						indexManager.start( failureCollector, configurationPropertySource )
+								.whenComplete( (ignored, throwable) -> permits.release() )
+				);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedWhileStartingIndexManagers( e );
+		}
+		finally {
+			// Wait for index managers that already started, so that they can be closed safely in case of failure
+			for ( CompletableFuture<?> future : futures ) {
+				Futures.unwrappedExceptionJoin( future );
+			}
+		}
+	}
 }
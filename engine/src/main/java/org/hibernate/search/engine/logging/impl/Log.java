@@ -266,5 +266,61 @@ SearchException invalidBeanType(
 			value = "Invalid pattern: the pattern to match in wildcard predicates must be non-null.")
 	SearchException wildcardPredicateCannotMatchNullPattern(@Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 57,
+			value = "Multiple aggregations with the same key: '%1$s'. Use a different key for each aggregation.")
+	SearchException duplicateAggregationKey(String key);
+
+	@Message(id = ID_OFFSET_2 + 58,
+			value = "Unknown aggregation key: '%1$s'. This key was not used when building the search query.")
+	SearchException unknownAggregationKey(String key);
+
+	@Message(id = ID_OFFSET_2 + 59,
+			value = "Cannot use query parameter '%1$s' here: query parameters can only be used"
+					+ " in the predicate passed to the query DSL, and the query must be compiled with toCompiledQuery().")
+	SearchException cannotUseQueryParameterOutsideOfQuery(String parameterName);
+
+	@Message(id = ID_OFFSET_2 + 60,
+			value = "This query uses parameters %1$s. Use toCompiledQuery() instead of toQuery(),"
+					+ " then bind values to parameters.")
+	SearchException cannotCreateParameterizedQueryWithoutCompiling(Collection<String> parameterNames);
+
+	@Message(id = ID_OFFSET_2 + 61,
+			value = "Missing values for query parameters %1$s. Values must be provided for every parameter of the query.")
+	SearchException missingQueryParameterValues(Collection<String> parameterNames);
+
+	@Message(id = ID_OFFSET_2 + 62,
+			value = "Unknown query parameters %1$s. Parameters used in this query are %2$s.")
+	SearchException unknownQueryParameters(Collection<String> unknownParameterNames,
+			Collection<String> parameterNames);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 63,
+			value = "Slow search query on backend '%1$s', indexes %2$s: %3$d ms, exceeding the threshold of %4$d ms."
+					+ " Time per phase: %5$s. Total hit count: %6$d. Query: %7$s")
+	void slowSearchQuery(String backendName, Collection<String> indexNames, long totalMillis, long thresholdMillis,
+			String phaseDurations, long totalHitCount, String queryString);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 64,
+			value = "Search query listener '%1$s' failed; ignoring. Exception: %2$s")
+	void searchQueryListenerFailed(Object listener, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 65, value = "Invalid value: %1$d. The value must be positive or zero.")
+	SearchException invalidNegativeValue(long value);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 66,
+			value = "Indexing listener '%1$s' failed; ignoring. Exception: %2$s")
+	void indexingListenerFailed(Object listener, String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 67, value = "Started index '%1$s' in %2$d ms.")
+	void startedIndexManager(String indexName, long durationMillis);
+
+	@Message(id = ID_OFFSET_2 + 68, value = "Interrupted while waiting for indexes to start.")
+	SearchException interruptedWhileStartingIndexManagers(@Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_2 + 69, value = "Invalid value: %1$d. The value must be strictly positive.")
+	SearchException invalidNonStrictlyPositiveValue(long value);
 
 }
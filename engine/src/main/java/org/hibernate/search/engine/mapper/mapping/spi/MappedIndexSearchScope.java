@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
@@ -73,4 +74,6 @@ <Q> SearchQueryResultContext<Q> queryAsProjections(
 	 */
 	SearchProjectionFactoryContext<R, O> projection();
 
+	SearchAggregationFactoryContext aggregation();
+
 }
@@ -28,6 +28,13 @@
 
 import org.jboss.logging.Messages;
 
+/**
+ * The root of a tree of failure collectors.
+ * <p>
+ * This class and the collectors it creates are thread-safe:
+ * they may be used concurrently, for example by index managers starting in parallel.
+ * All access to the tree is synchronized on the root collector.
+ */
 public class RootFailureCollector implements FailureCollector {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -43,14 +50,14 @@ public class RootFailureCollector implements FailureCollector {
 	 */
 	private final int failureLimit;
 
-	private NonRootFailureCollector delegate;
-	private int failureCount = 0;
+	private NonRootFailureCollector delegate; // Guarded by this
+	private int failureCount = 0; // Guarded by this
 
 	public RootFailureCollector(int failureLimit) {
 		this.failureLimit = failureLimit;
 	}
 
-	public void checkNoFailure() {
+	public synchronized void checkNoFailure() {
 		if ( failureCount > 0 ) {
 			String renderedFailures = renderFailures();
 			throw log.bootstrapCollectedFailures( renderedFailures );
@@ -72,7 +79,7 @@ private String renderFailures() {
 	}
 
 	@Override
-	public ContextualFailureCollector withContext(EventContext context) {
+	public synchronized ContextualFailureCollector withContext(EventContext context) {
 		if ( delegate == null ) {
 			delegate = new NonRootFailureCollector( this );
 		}
@@ -80,7 +87,7 @@ public ContextualFailureCollector withContext(EventContext context) {
 	}
 
 	@Override
-	public ContextualFailureCollector withContext(EventContextElement contextElement) {
+	public synchronized ContextualFailureCollector withContext(EventContextElement contextElement) {
 		if ( delegate == null ) {
 			delegate = new NonRootFailureCollector( this );
 		}
@@ -97,7 +104,7 @@ private void onAddFailure() {
 
 	private static class NonRootFailureCollector implements FailureCollector {
 		protected final RootFailureCollector root;
-		private Map<EventContextElement, ContextualFailureCollectorImpl> children;
+		private Map<EventContextElement, ContextualFailureCollectorImpl> children; // Guarded by root
 
 		private NonRootFailureCollector(RootFailureCollector root) {
 			this.root = root;
@@ -127,18 +134,20 @@ public ContextualFailureCollectorImpl withContext(EventContext context) {
 
 		@Override
 		public ContextualFailureCollectorImpl withContext(EventContextElement contextElement) {
-			if ( children == null ) {
-				// Use a LinkedHashMap for deterministic iteration
-				children = new LinkedHashMap<>();
-			}
-			ContextualFailureCollectorImpl child = children.get( contextElement );
-			if ( child != null ) {
-				return child;
-			}
-			else {
-				child = new ContextualFailureCollectorImpl( this, contextElement );
-				children.put( contextElement, child );
-				return child;
+			synchronized ( root ) {
+				if ( children == null ) {
+					// Use a LinkedHashMap for deterministic iteration
+					children = new LinkedHashMap<>();
+				}
+				ContextualFailureCollectorImpl child = children.get( contextElement );
+				if ( child != null ) {
+					return child;
+				}
+				else {
+					child = new ContextualFailureCollectorImpl( this, contextElement );
+					children.put( contextElement, child );
+					return child;
+				}
 			}
 		}
 
@@ -173,7 +182,7 @@ private static class ContextualFailureCollectorImpl extends NonRootFailureCollec
 		private final NonRootFailureCollector parent;
 		private final EventContextElement context;
 
-		private List<String> failureMessages;
+		private List<String> failureMessages; // Guarded by root
 
 		private ContextualFailureCollectorImpl(NonRootFailureCollector parent, EventContextElement context) {
 			super( parent );
@@ -183,15 +192,17 @@ private ContextualFailureCollectorImpl(NonRootFailureCollector parent, EventCont
 
 		@Override
 		public boolean hasFailure() {
-			if ( failureMessages != null && !failureMessages.isEmpty() ) {
-				return true;
-			}
-			for ( ContextualFailureCollectorImpl child : getChildren().values() ) {
-				if ( child.hasFailure() ) {
+			synchronized ( root ) {
+				if ( failureMessages != null && !failureMessages.isEmpty() ) {
 					return true;
 				}
+				for ( ContextualFailureCollectorImpl child : getChildren().values() ) {
+					if ( child.hasFailure() ) {
+						return true;
+					}
+				}
+				return false;
 			}
-			return false;
 		}
 
 		@Override
@@ -250,12 +261,14 @@ private void doAdd(Throwable failure, String failureMessage) {
 		}
 
 		private void doAdd(String failureMessage) {
-			if ( failureMessages == null ) {
-				failureMessages = new ArrayList<>();
-			}
-			failureMessages.add( failureMessage );
+			synchronized ( root ) {
+				if ( failureMessages == null ) {
+					failureMessages = new ArrayList<>();
+				}
+				failureMessages.add( failureMessage );
 
-			root.onAddFailure();
+				root.onAddFailure();
+			}
 		}
 	}
 
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation;
+
+import java.util.Objects;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A key allowing to retrieve an aggregation from a search result.
+ *
+ * @param <A> The type of result for this aggregation.
+ */
+public final class AggregationKey<A> {
+
+	/**
+	 * @param name The name of the aggregation. All aggregations in a query must have a distinct name.
+	 * @param <A> The type of result for this aggregation.
+	 * @return A new aggregation key.
+	 */
+	public static <A> AggregationKey<A> of(String name) {
+		Contracts.assertNotNullNorEmpty( name, "name" );
+		return new AggregationKey<>( name );
+	}
+
+	private final String name;
+
+	private AggregationKey(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		AggregationKey<?> other = (AggregationKey<?>) obj;
+		return name.equals( other.name );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode( name );
+	}
+
+	@Override
+	public String toString() {
+		return "AggregationKey[" + name + "]";
+	}
+
+	/**
+	 * @return The name passed to {@link #of(String)}.
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.util.common.data.Range;
+
+/**
+ * The context used when defining a range aggregation, before at least one range has been added.
+ *
+ * @param <K> The type of range bounds.
+ */
+public interface RangeAggregationRangeContext<K> {
+
+	/**
+	 * Add a bucket for the range {@code [lowerBoundIncluded, upperBoundExcluded)}.
+	 *
+	 * @param lowerBoundIncluded The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param upperBoundExcluded The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 * @return A context allowing to add more ranges, or to end the aggregation definition.
+	 */
+	default RangeAggregationRangeMoreContext<K> range(K lowerBoundIncluded, K upperBoundExcluded) {
+		return range( Range.between( lowerBoundIncluded, upperBoundExcluded ) );
+	}
+
+	/**
+	 * Add a bucket for the given range.
+	 *
+	 * @param range The range to add. Will be used as a key in the resulting map.
+	 * @return A context allowing to add more ranges, or to end the aggregation definition.
+	 */
+	RangeAggregationRangeMoreContext<K> range(Range<? extends K> range);
+
+}
@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+import org.hibernate.search.util.common.data.Range;
+
+/**
+ * The context used when defining a range aggregation, after at least one range has been added.
+ *
+ * @param <K> The type of range bounds.
+ */
+public interface RangeAggregationRangeMoreContext<K>
+		extends RangeAggregationRangeContext<K>, SearchAggregationTerminalContext<Map<Range<K>, Long>> {
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+/**
+ * A context allowing to create an aggregation.
+ */
+public interface SearchAggregationFactoryContext {
+
+	/**
+	 * Perform aggregation in term buckets,
+	 * i.e. count the number of matching documents for each distinct value of a field.
+	 *
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	TermsAggregationFieldContext terms();
+
+	/**
+	 * Perform aggregation in range buckets,
+	 * i.e. count the number of matching documents whose field value falls into each given range.
+	 *
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	RangeAggregationFieldContext range();
+
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+/**
+ * The terminal context of the aggregation DSL.
+ *
+ * @param <A> The type of result for this aggregation.
+ */
+public interface SearchAggregationTerminalContext<A> {
+
+	/**
+	 * Create a {@link SearchAggregation} instance
+	 * matching the definition given in the previous DSL steps.
+	 *
+	 * @return The {@link SearchAggregation} instance.
+	 */
+	SearchAggregation<A> toAggregation();
+
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+/**
+ * The context used when defining a terms aggregation, before the field is set.
+ */
+public interface TermsAggregationFieldContext {
+
+	/**
+	 * Target the given field in the terms aggregation.
+	 * <p>
+	 * The field must be sortable.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param type The type of field values, i.e. of aggregation keys.
+	 * @param <K> The type of field values.
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	<K> TermsAggregationOptionsContext<K> field(String absoluteFieldPath, Class<K> type);
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The context used when defining a terms aggregation, after the field is set.
+ *
+ * @param <K> The type of keys in the returned map.
+ */
+public interface TermsAggregationOptionsContext<K>
+		extends SearchAggregationTerminalContext<Map<K, Long>> {
+
+	/**
+	 * Only include terms matched by at least the given number of documents in the result.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * Terms that are not matched by any document are never included,
+	 * so the minimum must be strictly positive.
+	 *
+	 * @param minDocumentCount The minimum number of matching documents for a term to be included.
+	 * Must be strictly positive.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationOptionsContext<K> minDocumentCount(int minDocumentCount);
+
+	/**
+	 * Only include the given number of terms in the result, those with the most matching documents.
+	 * <p>
+	 * Defaults to {@code 100}.
+	 *
+	 * @param maxTermCount The maximum number of terms to include.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationOptionsContext<K> maxTermCount(int maxTermCount);
+
+}
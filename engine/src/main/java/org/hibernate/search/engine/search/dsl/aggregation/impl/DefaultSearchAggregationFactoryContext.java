@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationFieldContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationFieldContext;
+
+
+public class DefaultSearchAggregationFactoryContext implements SearchAggregationFactoryContext {
+
+	private final SearchAggregationBuilderFactory<?> factory;
+
+	public DefaultSearchAggregationFactoryContext(SearchAggregationBuilderFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TermsAggregationFieldContext terms() {
+		return new TermsAggregationFieldContextImpl( factory );
+	}
+
+	@Override
+	public RangeAggregationFieldContext range() {
+		return new RangeAggregationFieldContextImpl( factory );
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationFieldContext;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationRangeContext;
+import org.hibernate.search.util.common.impl.Contracts;
+
+
+class RangeAggregationFieldContextImpl implements RangeAggregationFieldContext {
+
+	private final SearchAggregationBuilderFactory<?> factory;
+
+	RangeAggregationFieldContextImpl(SearchAggregationBuilderFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public <K> RangeAggregationRangeContext<K> field(String absoluteFieldPath, Class<K> type) {
+		Contracts.assertNotNull( absoluteFieldPath, "absoluteFieldPath" );
+		Contracts.assertNotNull( type, "type" );
+		return new RangeAggregationRangeContextImpl<>(
+				factory.createRangeAggregationBuilder( absoluteFieldPath, type )
+		);
+	}
+}
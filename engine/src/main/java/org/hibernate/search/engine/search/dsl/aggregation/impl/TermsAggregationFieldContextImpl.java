@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationFieldContext;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationOptionsContext;
+import org.hibernate.search.util.common.impl.Contracts;
+
+
+class TermsAggregationFieldContextImpl implements TermsAggregationFieldContext {
+
+	private final SearchAggregationBuilderFactory<?> factory;
+
+	TermsAggregationFieldContextImpl(SearchAggregationBuilderFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public <K> TermsAggregationOptionsContext<K> field(String absoluteFieldPath, Class<K> type) {
+		Contracts.assertNotNull( absoluteFieldPath, "absoluteFieldPath" );
+		Contracts.assertNotNull( type, "type" );
+		return new TermsAggregationOptionsContextImpl<>(
+				factory.createTermsAggregationBuilder( absoluteFieldPath, type )
+		);
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationOptionsContext;
+import org.hibernate.search.util.common.impl.Contracts;
+
+
+class TermsAggregationOptionsContextImpl<K> implements TermsAggregationOptionsContext<K> {
+
+	private final TermsAggregationBuilder<K> builder;
+
+	TermsAggregationOptionsContextImpl(TermsAggregationBuilder<K> builder) {
+		this.builder = builder;
+	}
+
+	@Override
+	public TermsAggregationOptionsContext<K> minDocumentCount(int minDocumentCount) {
+		Contracts.assertStrictlyPositive( minDocumentCount, "minDocumentCount" );
+		builder.minDocumentCount( minDocumentCount );
+		return this;
+	}
+
+	@Override
+	public TermsAggregationOptionsContext<K> maxTermCount(int maxTermCount) {
+		Contracts.assertStrictlyPositive( maxTermCount, "maxTermCount" );
+		builder.maxTermCount( maxTermCount );
+		return this;
+	}
+
+	@Override
+	public SearchAggregation<Map<K, Long>> toAggregation() {
+		return builder.build();
+	}
+}
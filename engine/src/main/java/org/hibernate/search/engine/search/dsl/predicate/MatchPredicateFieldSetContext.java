@@ -73,4 +73,36 @@ default MatchPredicateTerminalContext matching(Object value) {
 	 * @see DslConverter
 	 */
 	MatchPredicateTerminalContext matching(Object value, DslConverter dslConverter);
+
+	/**
+	 * Require at least one of the targeted fields to match the value of the given query parameter.
+	 * <p>
+	 * The value is provided when binding the parameter on a compiled query,
+	 * and DSL converters will be applied to it as in {@link #matching(Object)}.
+	 * <p>
+	 * Parameters can only be used when building a query whose result is compiled,
+	 * see {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#toCompiledQuery()}.
+	 *
+	 * @param parameterName The name of the query parameter.
+	 * @return A context allowing to set further options or get the resulting predicate.
+	 *
+	 * @see #matchingParameter(String, DslConverter)
+	 */
+	default MatchPredicateTerminalContext matchingParameter(String parameterName) {
+		return matchingParameter( parameterName, DslConverter.ENABLED );
+	}
+
+	/**
+	 * Require at least one of the targeted fields to match the value of the given query parameter.
+	 *
+	 * @param parameterName The name of the query parameter.
+	 * @param dslConverter Controls how the parameter value should be converted
+	 * before Hibernate Search attempts to interpret it as a field value.
+	 * See {@link DslConverter} for more information.
+	 * @return A context allowing to set further options or get the resulting predicate.
+	 *
+	 * @see #matchingParameter(String)
+	 * @see org.hibernate.search.engine.search.dsl.query.CompiledSearchQuery
+	 */
+	MatchPredicateTerminalContext matchingParameter(String parameterName, DslConverter dslConverter);
 }
@@ -30,9 +30,21 @@
 public class DefaultSearchPredicateFactoryContext<B> implements SearchPredicateFactoryContext {
 
 	private final SearchPredicateBuilderFactory<?, B> factory;
+	private final SearchPredicateParameterRegistry parameterRegistry;
 
 	public DefaultSearchPredicateFactoryContext(SearchPredicateBuilderFactory<?, B> factory) {
+		this( factory, null );
+	}
+
+	/**
+	 * @param factory The predicate builder factory.
+	 * @param parameterRegistry The registry for query parameters,
+	 * or {@code null} if query parameters are not allowed.
+	 */
+	public DefaultSearchPredicateFactoryContext(SearchPredicateBuilderFactory<?, B> factory,
+			SearchPredicateParameterRegistry parameterRegistry) {
 		this.factory = factory;
+		this.parameterRegistry = parameterRegistry;
 	}
 
 	@Override
@@ -59,7 +71,7 @@ public SearchPredicateTerminalContext bool(Consumer<? super BooleanJunctionPredi
 
 	@Override
 	public MatchPredicateContext match() {
-		return new MatchPredicateContextImpl<>( factory );
+		return new MatchPredicateContextImpl<>( factory, parameterRegistry );
 	}
 
 	@Override
@@ -17,8 +17,9 @@
 
 	private final MatchPredicateFieldSetContextImpl.CommonState<B> commonState;
 
-	MatchPredicateContextImpl(SearchPredicateBuilderFactory<?, B> factory) {
-		this.commonState = new MatchPredicateFieldSetContextImpl.CommonState<>( factory );
+	MatchPredicateContextImpl(SearchPredicateBuilderFactory<?, B> factory,
+			SearchPredicateParameterRegistry parameterRegistry) {
+		this.commonState = new MatchPredicateFieldSetContextImpl.CommonState<>( factory, parameterRegistry );
 	}
 
 	@Override
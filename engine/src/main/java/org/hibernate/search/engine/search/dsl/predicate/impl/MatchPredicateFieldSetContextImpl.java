@@ -59,6 +59,11 @@ public MatchPredicateTerminalContext matching(Object value, DslConverter dslConv
 		return commonState.matching( value, dslConverter );
 	}
 
+	@Override
+	public MatchPredicateTerminalContext matchingParameter(String parameterName, DslConverter dslConverter) {
+		return commonState.matchingParameter( parameterName, dslConverter );
+	}
+
 	@Override
 	public List<String> getAbsoluteFieldPaths() {
 		return absoluteFieldPaths;
@@ -77,8 +82,11 @@ public void contributePredicateBuilders(Consumer<B> collector) {
 	static class CommonState<B> extends AbstractBooleanMultiFieldPredicateCommonState<CommonState<B>, B, MatchPredicateFieldSetContextImpl<B>>
 			implements MatchPredicateTerminalContext {
 
-		CommonState(SearchPredicateBuilderFactory<?, B> factory) {
+		private final SearchPredicateParameterRegistry parameterRegistry;
+
+		CommonState(SearchPredicateBuilderFactory<?, B> factory, SearchPredicateParameterRegistry parameterRegistry) {
 			super( factory );
+			this.parameterRegistry = parameterRegistry;
 		}
 
 		MatchPredicateTerminalContext matching(Object value, DslConverter dslConverter) {
@@ -94,6 +102,15 @@ MatchPredicateTerminalContext matching(Object value, DslConverter dslConverter)
 			return this;
 		}
 
+		MatchPredicateTerminalContext matchingParameter(String parameterName, DslConverter dslConverter) {
+			if ( parameterRegistry == null ) {
+				throw log.cannotUseQueryParameterOutsideOfQuery( parameterName );
+			}
+			// The value will be passed to the predicate builders each time the parameter is bound
+			parameterRegistry.register( parameterName, value -> matching( value, dslConverter ) );
+			return this;
+		}
+
 		@Override
 		public MatchPredicateTerminalContext fuzzy(int maxEditDistance, int exactPrefixLength) {
 			if ( maxEditDistance < 0 || 2 < maxEditDistance ) {
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Keeps track of the query parameters declared in predicates,
+ * and of how to pass parameter values to the predicate builders.
+ * <p>
+ * Binding values mutates the predicate builders:
+ * the predicate must be built again after each binding.
+ */
+public final class SearchPredicateParameterRegistry {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Map<String, List<Consumer<Object>>> bindersByName = new LinkedHashMap<>();
+
+	public Set<String> getParameterNames() {
+		return Collections.unmodifiableSet( bindersByName.keySet() );
+	}
+
+	public boolean isEmpty() {
+		return bindersByName.isEmpty();
+	}
+
+	public void bind(Map<String, ?> parameterValues) {
+		if ( !bindersByName.keySet().equals( parameterValues.keySet() ) ) {
+			List<String> missing = new ArrayList<>( bindersByName.keySet() );
+			missing.removeAll( parameterValues.keySet() );
+			if ( !missing.isEmpty() ) {
+				throw log.missingQueryParameterValues( missing );
+			}
+			List<String> unknown = new ArrayList<>( parameterValues.keySet() );
+			unknown.removeAll( bindersByName.keySet() );
+			throw log.unknownQueryParameters( unknown, bindersByName.keySet() );
+		}
+		for ( Map.Entry<String, List<Consumer<Object>>> entry : bindersByName.entrySet() ) {
+			Object value = parameterValues.get( entry.getKey() );
+			for ( Consumer<Object> binder : entry.getValue() ) {
+				binder.accept( value );
+			}
+		}
+	}
+
+	void register(String parameterName, Consumer<Object> binder) {
+		bindersByName.computeIfAbsent( parameterName, ignored -> new ArrayList<>() ).add( binder );
+	}
+}
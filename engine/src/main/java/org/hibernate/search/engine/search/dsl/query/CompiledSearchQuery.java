@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.query;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.engine.search.dsl.predicate.MatchPredicateFieldSetContext;
+
+/**
+ * A search query whose definition was built once, and that can be turned into executable queries
+ * by binding values to its parameters.
+ * <p>
+ * Binding parameters skips the query DSL entirely:
+ * fields, codecs and converters are resolved once, when the compiled query is created,
+ * and only the parameter values need to be converted on each binding.
+ * <p>
+ * Compiled queries are bound to the same session as the query DSL that created them,
+ * and are not thread-safe.
+ * Queries returned by previous calls to {@link #bind(Map)} are not affected by subsequent calls.
+ *
+ * @param <Q> The type of queries created by this compiled query.
+ * @see SearchQueryContext#toCompiledQuery()
+ * @see MatchPredicateFieldSetContext#matchingParameter(String)
+ */
+public interface CompiledSearchQuery<Q> {
+
+	/**
+	 * @return The names of the parameters used in this query.
+	 */
+	Set<String> getParameterNames();
+
+	/**
+	 * Create a query, binding the given value to the single parameter of this query.
+	 *
+	 * @param parameterName The name of the parameter.
+	 * @param value The value to bind to the parameter.
+	 * @return The resulting query.
+	 * @throws org.hibernate.search.util.common.SearchException If the parameter name is not used in this query,
+	 * if this query uses other parameters, or if the value cannot be converted.
+	 * @see #bind(Map)
+	 */
+	default Q bind(String parameterName, Object value) {
+		return bind( Collections.singletonMap( parameterName, value ) );
+	}
+
+	/**
+	 * Create a query, binding the given values to the parameters of this query.
+	 *
+	 * @param parameterValues The value of each parameter, indexed by parameter name.
+	 * Must contain a non-null value for every parameter of this query, and nothing else.
+	 * @return The resulting query.
+	 * @throws org.hibernate.search.util.common.SearchException If a parameter is missing or unknown,
+	 * or if a value cannot be converted.
+	 */
+	Q bind(Map<String, ?> parameterValues);
+
+}
@@ -9,8 +9,13 @@
 
 import java.util.Collection;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 
 /**
@@ -26,6 +31,41 @@
 
 	SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> sortContributor);
 
+	/**
+	 * Add an aggregation to this query.
+	 * <p>
+	 * Aggregations are computed on all matching documents, in the same pass as the search itself.
+	 *
+	 * @param key The key that will be used to retrieve the result of the aggregation from the search result.
+	 * @param aggregation A {@link SearchAggregation} object obtained from the search scope.
+	 * @param <A> The type of result for the aggregation.
+	 * @return {@code this}, for method chaining.
+	 */
+	<A> SearchQueryContext<Q> aggregation(AggregationKey<A> key, SearchAggregation<A> aggregation);
+
+	/**
+	 * Add an aggregation to this query.
+	 *
+	 * @param key The key that will be used to retrieve the result of the aggregation from the search result.
+	 * @param aggregationContributor A function that will use the context passed in parameter to create an aggregation.
+	 * @param <A> The type of result for the aggregation.
+	 * @return {@code this}, for method chaining.
+	 */
+	<A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor);
+
 	Q toQuery();
 
+	/**
+	 * Create a compiled query, whose parameters can be bound to different values
+	 * to create multiple queries without going through the DSL again.
+	 * <p>
+	 * Parameters are declared in predicates, for example with
+	 * {@link org.hibernate.search.engine.search.dsl.predicate.MatchPredicateFieldSetContext#matchingParameter(String)}.
+	 *
+	 * @return The compiled query.
+	 * @see CompiledSearchQuery
+	 */
+	CompiledSearchQuery<Q> toCompiledQuery();
+
 }
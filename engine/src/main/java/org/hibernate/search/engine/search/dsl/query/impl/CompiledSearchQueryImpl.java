@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.search.SearchPredicate;
+import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.dsl.predicate.impl.SearchPredicateParameterRegistry;
+import org.hibernate.search.engine.search.dsl.query.CompiledSearchQuery;
+import org.hibernate.search.engine.search.dsl.spi.IndexSearchScope;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+
+final class CompiledSearchQueryImpl<T, Q, C> implements CompiledSearchQuery<Q> {
+
+	private final IndexSearchScope<C> targetContext;
+	private final Supplier<SearchQueryBuilder<T, C>> searchQueryBuilderFactory;
+	private final Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory;
+
+	private final List<String> routingKeys;
+	private final SearchPredicate predicate;
+	private final SearchSort sort;
+	private final SearchQueryAggregationCollector<? super C> searchAggregationCollector;
+	private final SearchPredicateParameterRegistry parameterRegistry;
+
+	CompiledSearchQueryImpl(IndexSearchScope<C> targetContext,
+			Supplier<SearchQueryBuilder<T, C>> searchQueryBuilderFactory,
+			Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory,
+			List<String> routingKeys,
+			SearchPredicate predicate, SearchSort sort,
+			SearchQueryAggregationCollector<? super C> searchAggregationCollector,
+			SearchPredicateParameterRegistry parameterRegistry) {
+		this.targetContext = targetContext;
+		this.searchQueryBuilderFactory = searchQueryBuilderFactory;
+		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
+		this.routingKeys = new ArrayList<>( routingKeys );
+		this.predicate = predicate;
+		this.sort = sort;
+		this.searchAggregationCollector = searchAggregationCollector;
+		this.parameterRegistry = parameterRegistry;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "parameterNames=" ).append( parameterRegistry.getParameterNames() )
+				.append( ", predicate=" ).append( predicate )
+				.append( ", sort=" ).append( sort )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public Set<String> getParameterNames() {
+		return parameterRegistry.getParameterNames();
+	}
+
+	@Override
+	public Q bind(Map<String, ?> parameterValues) {
+		long buildStartNanos = System.nanoTime();
+
+		// Pass the values to the predicate builders, which are shared with the predicate object
+		parameterRegistry.bind( parameterValues );
+
+		SearchQueryBuilder<T, C> searchQueryBuilder = searchQueryBuilderFactory.get();
+		searchQueryBuilder.setBuildStartNanos( buildStartNanos );
+		routingKeys.forEach( searchQueryBuilder::addRoutingKey );
+		C collector = searchQueryBuilder.getQueryElementCollector();
+
+		SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector =
+				new SearchQueryPredicateCollector<>( targetContext.getSearchPredicateBuilderFactory() );
+		searchPredicateCollector.collect( predicate );
+		searchPredicateCollector.contribute( collector );
+
+		SearchQuerySortCollector<? super C, ?> searchSortCollector =
+				new SearchQuerySortCollector<>( targetContext.getSearchSortBuilderFactory() );
+		searchSortCollector.collect( sort );
+		searchSortCollector.contribute( collector );
+
+		searchAggregationCollector.contribute( collector );
+
+		return searchQueryBuilder.build( searchQueryWrapperFactory );
+	}
+}
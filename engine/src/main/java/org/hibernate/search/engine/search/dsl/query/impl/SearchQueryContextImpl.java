@@ -6,44 +6,73 @@
  */
 package org.hibernate.search.engine.search.dsl.query.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.logging.impl.Log;
 
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
+import org.hibernate.search.engine.search.dsl.predicate.impl.SearchPredicateParameterRegistry;
+import org.hibernate.search.engine.search.dsl.query.CompiledSearchQuery;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 import org.hibernate.search.engine.search.dsl.spi.IndexSearchScope;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 
 public final class SearchQueryContextImpl<T, Q, C> implements SearchQueryContext<Q> {
 
-	private final SearchQueryBuilder<T, C> searchQueryBuilder;
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final IndexSearchScope<C> targetContext;
+	private final Supplier<SearchQueryBuilder<T, C>> searchQueryBuilderFactory;
 	private final Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory;
 	private final SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector;
+	private final SearchPredicateParameterRegistry parameterRegistry;
 
+	private final List<String> routingKeys = new ArrayList<>();
 	private final SearchQuerySortCollector<? super C, ?> searchSortCollector;
+	private final SearchQueryAggregationCollector<? super C> searchAggregationCollector;
+
+	private final long buildStartNanos;
 
-	public SearchQueryContextImpl(IndexSearchScope<C> targetContext, SearchQueryBuilder<T, C> searchQueryBuilder,
+	public SearchQueryContextImpl(IndexSearchScope<C> targetContext,
+			Supplier<SearchQueryBuilder<T, C>> searchQueryBuilderFactory,
 			Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory,
-			SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector) {
-		this.searchQueryBuilder = searchQueryBuilder;
+			SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector,
+			SearchPredicateParameterRegistry parameterRegistry,
+			long buildStartNanos) {
+		this.targetContext = targetContext;
+		this.searchQueryBuilderFactory = searchQueryBuilderFactory;
 		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
 		this.searchPredicateCollector = searchPredicateCollector;
+		this.parameterRegistry = parameterRegistry;
 		this.searchSortCollector = new SearchQuerySortCollector<>( targetContext.getSearchSortBuilderFactory() );
+		this.searchAggregationCollector =
+				new SearchQueryAggregationCollector<>( targetContext.getSearchAggregationBuilderFactory() );
+		this.buildStartNanos = buildStartNanos;
 	}
 
 	@Override
 	public SearchQueryContext<Q> routing(String routingKey) {
-		searchQueryBuilder.addRoutingKey( routingKey );
+		routingKeys.add( routingKey );
 		return this;
 	}
 
 	@Override
 	public SearchQueryContext<Q> routing(Collection<String> routingKeys) {
-		routingKeys.forEach( searchQueryBuilder::addRoutingKey );
+		this.routingKeys.addAll( routingKeys );
 		return this;
 	}
 
@@ -59,8 +88,24 @@ public SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> d
 		return this;
 	}
 
+	@Override
+	public <A> SearchQueryContext<Q> aggregation(AggregationKey<A> key, SearchAggregation<A> aggregation) {
+		searchAggregationCollector.collect( key, aggregation );
+		return this;
+	}
+
+	@Override
+	public <A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> dslAggregationContributor) {
+		searchAggregationCollector.collect( key, dslAggregationContributor );
+		return this;
+	}
+
 	@Override
 	public Q toQuery() {
+		if ( !parameterRegistry.isEmpty() ) {
+			throw log.cannotCreateParameterizedQueryWithoutCompiling( parameterRegistry.getParameterNames() );
+		}
 		/*
 		 * HSEARCH-3207: we must never call a contribution twice.
 		 * Contributions may have side-effects, such as finishing the building of a boolean predicate by adding
@@ -72,10 +117,29 @@ public Q toQuery() {
 		 * otherwise we'd need to execute the contribution upon some DSL method being called
 		 * (an end() method for example), and this method could be called twice by the user.
 		 */
+		SearchQueryBuilder<T, C> searchQueryBuilder = searchQueryBuilderFactory.get();
+		searchQueryBuilder.setBuildStartNanos( buildStartNanos );
+		routingKeys.forEach( searchQueryBuilder::addRoutingKey );
 		C collector = searchQueryBuilder.getQueryElementCollector();
 		searchPredicateCollector.contribute( collector );
 		searchSortCollector.contribute( collector );
+		searchAggregationCollector.contribute( collector );
 		return searchQueryBuilder.build( searchQueryWrapperFactory );
 	}
 
+	@Override
+	public CompiledSearchQuery<Q> toCompiledQuery() {
+		/*
+		 * The compiled query will contribute the same predicate, sorts and aggregations multiple times.
+		 * We must not call DSL contributions multiple times (see HSEARCH-3207),
+		 * so we convert them to reusable SearchPredicate/SearchSort/SearchAggregation objects.
+		 */
+		return new CompiledSearchQueryImpl<>(
+				targetContext, searchQueryBuilderFactory, searchQueryWrapperFactory,
+				routingKeys,
+				searchPredicateCollector.toPredicate(), searchSortCollector.toSort(), searchAggregationCollector,
+				parameterRegistry
+		);
+	}
+
 }
@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateTerminalContext;
 import org.hibernate.search.engine.search.dsl.predicate.impl.DefaultSearchPredicateFactoryContext;
+import org.hibernate.search.engine.search.dsl.predicate.impl.SearchPredicateParameterRegistry;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -29,23 +30,34 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final SearchPredicateBuilderFactory<C, B> factory;
+	private final SearchPredicateParameterRegistry parameterRegistry;
 
 	private B builder;
 
 	SearchQueryPredicateCollector(SearchPredicateBuilderFactory<C, B> factory) {
+		this( factory, null );
+	}
+
+	SearchQueryPredicateCollector(SearchPredicateBuilderFactory<C, B> factory,
+			SearchPredicateParameterRegistry parameterRegistry) {
 		this.factory = factory;
+		this.parameterRegistry = parameterRegistry;
 	}
 
 	void contribute(C collector) {
 		factory.contribute( collector, builder );
 	}
 
+	SearchPredicate toPredicate() {
+		return factory.toSearchPredicate( builder );
+	}
+
 	void collect(SearchPredicate predicate) {
 		collect( factory.toImplementation( predicate ) );
 	}
 
 	void collect(Function<? super SearchPredicateFactoryContext, SearchPredicateTerminalContext> dslPredicateContributor) {
-		SearchPredicateFactoryContext factoryContext = new DefaultSearchPredicateFactoryContext<>( factory );
+		SearchPredicateFactoryContext factoryContext = new DefaultSearchPredicateFactoryContext<>( factory, parameterRegistry );
 		collect( dslPredicateContributor.apply( factoryContext ).toPredicate() );
 	}
 
@@ -7,11 +7,13 @@
 package org.hibernate.search.engine.search.dsl.query.impl;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateTerminalContext;
+import org.hibernate.search.engine.search.dsl.predicate.impl.SearchPredicateParameterRegistry;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
 import org.hibernate.search.engine.search.dsl.spi.IndexSearchScope;
@@ -22,19 +24,32 @@
 		implements SearchQueryResultContext<Q> {
 
 	private final IndexSearchScope<C> targetContext;
-	private final SearchQueryBuilder<T, C> searchQueryBuilder;
+	private final Supplier<SearchQueryBuilder<T, C>> searchQueryBuilderFactory;
 	private final Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory;
 
+	private final SearchPredicateParameterRegistry parameterRegistry;
 	private final SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector;
 
+	private final long buildStartNanos;
+
+	/**
+	 * @param targetContext The targeted indexes.
+	 * @param searchQueryBuilderFactory A factory for query builders.
+	 * Will be called once per query to build:
+	 * once when the query is built with {@link SearchQueryContext#toQuery()},
+	 * or once per binding when it is compiled with {@link SearchQueryContext#toCompiledQuery()}.
+	 * @param searchQueryWrapperFactory A factory for the query wrappers returned to users.
+	 */
 	public SearchQueryResultContextImpl(IndexSearchScope<C> targetContext,
-			SearchQueryBuilder<T, C> searchQueryBuilder,
+			Supplier<SearchQueryBuilder<T, C>> searchQueryBuilderFactory,
 			Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory) {
+		this.buildStartNanos = System.nanoTime();
 		this.targetContext = targetContext;
-		this.searchQueryBuilder = searchQueryBuilder;
+		this.searchQueryBuilderFactory = searchQueryBuilderFactory;
 		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
+		this.parameterRegistry = new SearchPredicateParameterRegistry();
 		this.searchPredicateCollector = new SearchQueryPredicateCollector<>(
-				targetContext.getSearchPredicateBuilderFactory()
+				targetContext.getSearchPredicateBuilderFactory(), parameterRegistry
 		);
 	}
 
@@ -52,8 +67,8 @@ public SearchQueryContext<Q> predicate(Function<? super SearchPredicateFactoryCo
 
 	private SearchQueryContext<Q> getNext() {
 		return new SearchQueryContextImpl<>(
-				targetContext, searchQueryBuilder, searchQueryWrapperFactory,
-				searchPredicateCollector
+				targetContext, searchQueryBuilderFactory, searchQueryWrapperFactory,
+				searchPredicateCollector, parameterRegistry, buildStartNanos
 		);
 	}
 
@@ -36,6 +36,10 @@ void contribute(C collector) {
 		factory.contribute( collector, rootDslContext.getResultingBuilders() );
 	}
 
+	SearchSort toSort() {
+		return rootDslContext.toSort();
+	}
+
 	void collect(SearchSort sort) {
 		factory.toImplementation( sort, rootDslContext::addChild );
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.search.dsl.spi;
 
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.projection.spi.SearchProjectionBuilderFactory;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilderFactory;
@@ -26,4 +27,6 @@
 
 	SearchProjectionBuilderFactory getSearchProjectionFactory();
 
+	SearchAggregationBuilderFactory<? super C> getSearchAggregationBuilderFactory();
+
 }
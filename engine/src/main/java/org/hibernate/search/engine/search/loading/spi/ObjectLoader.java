@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +26,30 @@
 	 */
 	List<O> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references, without blocking the current thread if possible.
+	 * <p>
+	 * The default implementation simply delegates to {@link #loadBlocking(List)} in the current thread;
+	 * loaders able to load objects asynchronously should override this method.
+	 * When a query is executed asynchronously, this method is called from the loading executor
+	 * passed to {@link org.hibernate.search.engine.search.query.spi.IndexSearchQuery#fetchAsync(Long, Long, java.util.concurrent.Executor)}.
+	 *
+	 * @param references A list of references to the objects to load.
+	 * @return A future that will be completed with a list of loaded objects,
+	 * in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 */
+	default CompletableFuture<List<O>> loadAsync(List<R> references) {
+		try {
+			return CompletableFuture.completedFuture( loadBlocking( references ) );
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<List<O>> future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+			return future;
+		}
+	}
+
 	static <T> ObjectLoader<T, T> identity() {
 		return IdentityObjectLoader.get();
 	}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A report about the execution of a search query.
+ */
+public interface SearchQueryExecutionReport {
+
+	/**
+	 * @return The name of the backend that executed the query.
+	 */
+	String getBackendName();
+
+	/**
+	 * @return The names of the indexes targeted by the query.
+	 */
+	Set<String> getIndexNames();
+
+	/**
+	 * @return A string representation of the backend query.
+	 * Computed lazily, so listeners that do not call this method do not pay for it.
+	 */
+	String getQueryString();
+
+	/**
+	 * @param phase A phase of the query execution.
+	 * @return The time spent in the given phase, in nanoseconds.
+	 * {@code 0} if the phase was not executed, for instance loading when only the hit count was requested.
+	 */
+	long getDurationNanos(SearchQueryPhase phase);
+
+	/**
+	 * @return The time spent in all phases, in nanoseconds.
+	 */
+	long getTotalDurationNanos();
+
+	/**
+	 * @return The total number of hits matching the query, or {@code -1} if unknown (for instance on failure).
+	 */
+	long getTotalHitCount();
+
+	/**
+	 * @return The number of hits actually returned by the query, i.e. taking offset and limit into account.
+	 */
+	int getReturnedHitCount();
+
+	/**
+	 * @return The size of the response sent by the backend, in bytes,
+	 * or {@code -1} if the backend does not report it (for instance for embedded backends).
+	 */
+	long getResponseBytes();
+
+	/**
+	 * @return {@code true} if the total duration of the query exceeded the configured
+	 * {@link org.hibernate.search.engine.cfg.EngineSettings#QUERY_SLOW_THRESHOLD slow query threshold}.
+	 */
+	boolean isSlow();
+
+	/**
+	 * @return The failure that interrupted the query execution, or an empty optional if the query succeeded.
+	 */
+	Optional<Throwable> getFailure();
+
+}
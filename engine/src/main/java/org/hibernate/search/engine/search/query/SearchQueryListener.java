@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * A listener notified of each execution of a search query.
+ * <p>
+ * Listeners are configured through {@link org.hibernate.search.engine.cfg.EngineSettings#QUERY_LISTENERS}.
+ * <p>
+ * Listeners are called in the thread that completed the query execution,
+ * which may be a backend thread for asynchronous executions:
+ * implementations must be thread-safe, and should return quickly.
+ */
+public interface SearchQueryListener {
+
+	/**
+	 * @param report A report about the execution of a query, successful or not.
+	 */
+	void onQueryExecuted(SearchQueryExecutionReport report);
+
+}
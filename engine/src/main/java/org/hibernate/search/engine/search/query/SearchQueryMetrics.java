@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * Metrics about the search queries executed by a backend since it started.
+ * <p>
+ * All values are cumulative and read without locking:
+ * they are meant to be polled periodically and exported to a monitoring system.
+ */
+public interface SearchQueryMetrics {
+
+	/**
+	 * @return The number of query executions, successful or not.
+	 */
+	long getExecutionCount();
+
+	/**
+	 * @return The number of query executions that failed.
+	 */
+	long getFailureCount();
+
+	/**
+	 * @return The number of query executions whose total duration exceeded the
+	 * {@link org.hibernate.search.engine.cfg.EngineSettings#QUERY_SLOW_THRESHOLD slow query threshold}.
+	 */
+	long getSlowExecutionCount();
+
+	/**
+	 * @param phase A phase of the query execution.
+	 * @return The cumulated time spent in the given phase by all query executions, in nanoseconds.
+	 */
+	long getTotalDurationNanos(SearchQueryPhase phase);
+
+	/**
+	 * @param phase A phase of the query execution.
+	 * @return The longest time spent in the given phase by a single query execution, in nanoseconds.
+	 */
+	long getMaxDurationNanos(SearchQueryPhase phase);
+
+	/**
+	 * @return The cumulated number of hits returned by all query executions.
+	 */
+	long getReturnedHitCount();
+
+	/**
+	 * @return The cumulated size of the responses sent by the backend, in bytes,
+	 * for backends that report it.
+	 */
+	long getResponseBytes();
+
+}
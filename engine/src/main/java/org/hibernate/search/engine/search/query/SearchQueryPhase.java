@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * The phases of the execution of a search query, as reported to {@link SearchQueryListener}s.
+ */
+public enum SearchQueryPhase {
+
+	/**
+	 * Building the query through the search DSL, until the backend query is created.
+	 */
+	BUILD,
+	/**
+	 * Executing the query in the backend:
+	 * collecting hits for the Lucene backend, or the HTTP round-trip for the Elasticsearch backend.
+	 */
+	EXECUTION,
+	/**
+	 * Extracting hits from the backend results:
+	 * reading stored fields for the Lucene backend, or reading the JSON response for the Elasticsearch backend.
+	 */
+	EXTRACTION,
+	/**
+	 * Loading hits through the mapper (for example loading entities from the database)
+	 * and converting them into the final hits.
+	 */
+	LOADING
+
+}
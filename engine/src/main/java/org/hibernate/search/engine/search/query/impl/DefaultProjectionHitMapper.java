@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.DocumentReference;
@@ -45,6 +46,11 @@ public LoadingResult<O> loadBlocking() {
 		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
 	}
 
+	@Override
+	public CompletableFuture<LoadingResult<O>> loadAsync() {
+		return objectLoader.loadAsync( referencesToLoad ).thenApply( DefaultLoadingResult::new );
+	}
+
 	private static class DefaultLoadingResult<O> implements LoadingResult<O> {
 
 		private final List<O> loadedObjects;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.search.query.impl;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.DocumentReference;
@@ -36,6 +37,11 @@ public LoadingResult<Void> loadBlocking() {
 		return UnusableLoadingResult.INSTANCE;
 	}
 
+	@Override
+	public CompletableFuture<LoadingResult<Void>> loadAsync() {
+		return CompletableFuture.completedFuture( UnusableLoadingResult.INSTANCE );
+	}
+
 	private static class UnusableLoadingResult implements LoadingResult<Void> {
 
 		private static final UnusableLoadingResult INSTANCE = new UnusableLoadingResult();
@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.search.query.SearchQueryExecutionReport;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
+
+final class SearchQueryExecutionTrackerImpl implements SearchQueryExecutionTracker, SearchQueryExecutionReport {
+
+	private final SearchQueryInstrumentationImpl instrumentation;
+	private final Set<String> indexNames;
+	private final Supplier<String> queryStringSupplier;
+
+	private final long[] durationNanos = new long[SearchQueryPhase.values().length];
+	private long totalHitCount = -1L;
+	private int returnedHitCount = 0;
+	private long responseBytes = -1L;
+	private Throwable failure;
+	private boolean slow;
+	private boolean ended = false;
+
+	private String queryString;
+
+	SearchQueryExecutionTrackerImpl(SearchQueryInstrumentationImpl instrumentation, Set<String> indexNames,
+			Supplier<String> queryStringSupplier, long buildDurationNanos) {
+		this.instrumentation = instrumentation;
+		this.indexNames = indexNames;
+		this.queryStringSupplier = queryStringSupplier;
+		this.durationNanos[SearchQueryPhase.BUILD.ordinal()] = buildDurationNanos;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "backendName=" ).append( getBackendName() )
+				.append( ", indexNames=" ).append( indexNames )
+				.append( ", totalDurationNanos=" ).append( getTotalDurationNanos() )
+				.append( ", totalHitCount=" ).append( totalHitCount )
+				.append( ", failure=" ).append( failure )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public void recordPhase(SearchQueryPhase phase, long durationNanos) {
+		this.durationNanos[phase.ordinal()] += durationNanos;
+	}
+
+	@Override
+	public void recordHitCounts(long totalHitCount, int returnedHitCount) {
+		this.totalHitCount = totalHitCount;
+		this.returnedHitCount = returnedHitCount;
+	}
+
+	@Override
+	public void recordResponseBytes(long responseBytes) {
+		this.responseBytes = responseBytes;
+	}
+
+	@Override
+	public void complete() {
+		end();
+	}
+
+	@Override
+	public void fail(Throwable throwable) {
+		this.failure = throwable;
+		end();
+	}
+
+	@Override
+	public String getBackendName() {
+		return instrumentation.getBackendName();
+	}
+
+	@Override
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	@Override
+	public String getQueryString() {
+		if ( queryString == null ) {
+			queryString = queryStringSupplier.get();
+		}
+		return queryString;
+	}
+
+	@Override
+	public long getDurationNanos(SearchQueryPhase phase) {
+		return durationNanos[phase.ordinal()];
+	}
+
+	@Override
+	public long getTotalDurationNanos() {
+		long total = 0L;
+		for ( long phaseDurationNanos : durationNanos ) {
+			total += phaseDurationNanos;
+		}
+		return total;
+	}
+
+	@Override
+	public long getTotalHitCount() {
+		return totalHitCount;
+	}
+
+	@Override
+	public int getReturnedHitCount() {
+		return returnedHitCount;
+	}
+
+	@Override
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+
+	@Override
+	public boolean isSlow() {
+		return slow;
+	}
+
+	@Override
+	public Optional<Throwable> getFailure() {
+		return Optional.ofNullable( failure );
+	}
+
+	void setSlow(boolean slow) {
+		this.slow = slow;
+	}
+
+	private void end() {
+		if ( ended ) {
+			// Only report each execution once
+			return;
+		}
+		ended = true;
+		instrumentation.onExecutionEnd( this );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchQueryExecutionReport;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionTracker;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The query instrumentation of a single backend:
+ * updates metrics, logs slow queries and notifies listeners.
+ */
+public final class SearchQueryInstrumentationImpl implements SearchQueryInstrumentation {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String backendName;
+	private final List<SearchQueryListener> listeners;
+	private final Long slowThresholdMillis;
+	private final long slowThresholdNanos;
+	private final SearchQueryMetricsImpl metrics = new SearchQueryMetricsImpl();
+
+	/**
+	 * @param backendName The name of the instrumented backend.
+	 * @param listeners The listeners to notify of each query execution.
+	 * @param slowThresholdMillis The duration above which queries are logged as slow, in milliseconds,
+	 * or {@code null} to disable the slow query log.
+	 */
+	public SearchQueryInstrumentationImpl(String backendName, List<SearchQueryListener> listeners,
+			Long slowThresholdMillis) {
+		this.backendName = backendName;
+		this.listeners = listeners;
+		this.slowThresholdMillis = slowThresholdMillis;
+		this.slowThresholdNanos = slowThresholdMillis == null
+				? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos( slowThresholdMillis );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "backendName=" ).append( backendName )
+				.append( ", listeners=" ).append( listeners )
+				.append( ", slowThresholdMillis=" ).append( slowThresholdMillis )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public SearchQueryExecutionTracker startExecution(Set<String> indexNames, Supplier<String> queryStringSupplier,
+			long buildDurationNanos) {
+		return new SearchQueryExecutionTrackerImpl( this, indexNames, queryStringSupplier, buildDurationNanos );
+	}
+
+	@Override
+	public SearchQueryMetrics getMetrics() {
+		return metrics;
+	}
+
+	String getBackendName() {
+		return backendName;
+	}
+
+	void onExecutionEnd(SearchQueryExecutionTrackerImpl execution) {
+		long totalDurationNanos = execution.getTotalDurationNanos();
+		boolean slow = totalDurationNanos > slowThresholdNanos;
+		execution.setSlow( slow );
+
+		metrics.record( execution );
+
+		if ( slow ) {
+			log.slowSearchQuery(
+					backendName, execution.getIndexNames(),
+					TimeUnit.NANOSECONDS.toMillis( totalDurationNanos ), slowThresholdMillis,
+					formatPhaseDurations( execution ), execution.getTotalHitCount(), execution.getQueryString()
+			);
+		}
+
+		for ( SearchQueryListener listener : listeners ) {
+			try {
+				listener.onQueryExecuted( execution );
+			}
+			catch (RuntimeException e) {
+				log.searchQueryListenerFailed( listener, e.getMessage(), e );
+			}
+		}
+	}
+
+	private static String formatPhaseDurations(SearchQueryExecutionReport report) {
+		StringBuilder builder = new StringBuilder( "{" );
+		for ( SearchQueryPhase phase : SearchQueryPhase.values() ) {
+			if ( phase.ordinal() > 0 ) {
+				builder.append( ", " );
+			}
+			builder.append( phase ).append( "=" )
+					.append( TimeUnit.NANOSECONDS.toMillis( report.getDurationNanos( phase ) ) ).append( " ms" );
+		}
+		return builder.append( "}" ).toString();
+	}
+}
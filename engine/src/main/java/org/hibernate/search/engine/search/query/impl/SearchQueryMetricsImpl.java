@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.search.query.SearchQueryExecutionReport;
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+
+final class SearchQueryMetricsImpl implements SearchQueryMetrics {
+
+	private static final SearchQueryPhase[] PHASES = SearchQueryPhase.values();
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder failureCount = new LongAdder();
+	private final LongAdder slowExecutionCount = new LongAdder();
+	private final LongAdder[] totalDurationNanos = new LongAdder[PHASES.length];
+	private final LongAccumulator[] maxDurationNanos = new LongAccumulator[PHASES.length];
+	private final LongAdder returnedHitCount = new LongAdder();
+	private final LongAdder responseBytes = new LongAdder();
+
+	SearchQueryMetricsImpl() {
+		for ( int i = 0; i < PHASES.length; i++ ) {
+			totalDurationNanos[i] = new LongAdder();
+			maxDurationNanos[i] = new LongAccumulator( Math::max, 0L );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "executionCount=" ).append( getExecutionCount() )
+				.append( ", failureCount=" ).append( getFailureCount() )
+				.append( ", slowExecutionCount=" ).append( getSlowExecutionCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getFailureCount() {
+		return failureCount.sum();
+	}
+
+	@Override
+	public long getSlowExecutionCount() {
+		return slowExecutionCount.sum();
+	}
+
+	@Override
+	public long getTotalDurationNanos(SearchQueryPhase phase) {
+		return totalDurationNanos[phase.ordinal()].sum();
+	}
+
+	@Override
+	public long getMaxDurationNanos(SearchQueryPhase phase) {
+		return maxDurationNanos[phase.ordinal()].get();
+	}
+
+	@Override
+	public long getReturnedHitCount() {
+		return returnedHitCount.sum();
+	}
+
+	@Override
+	public long getResponseBytes() {
+		return responseBytes.sum();
+	}
+
+	void record(SearchQueryExecutionReport report) {
+		executionCount.increment();
+		if ( report.getFailure().isPresent() ) {
+			failureCount.increment();
+		}
+		if ( report.isSlow() ) {
+			slowExecutionCount.increment();
+		}
+		for ( SearchQueryPhase phase : PHASES ) {
+			long duration = report.getDurationNanos( phase );
+			totalDurationNanos[phase.ordinal()].add( duration );
+			maxDurationNanos[phase.ordinal()].accumulate( duration );
+		}
+		returnedHitCount.add( report.getReturnedHitCount() );
+		long reportResponseBytes = report.getResponseBytes();
+		if ( reportResponseBytes > 0L ) {
+			responseBytes.add( reportResponseBytes );
+		}
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * @param <T> The type of results.
  */
@@ -19,6 +22,36 @@ default IndexSearchResult<T> fetch() {
 
 	long fetchTotalHitCount();
 
+	default CompletableFuture<IndexSearchResult<T>> fetchAsync(Executor loadingExecutor) {
+		return fetchAsync( null, null, loadingExecutor );
+	}
+
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * The returned future will be completed with the result once the query has been executed
+	 * and the hits have been loaded, if necessary.
+	 * Depending on the backend, the query itself may still be executed in the calling thread.
+	 * <p>
+	 * Loading is always started from the given executor, never from a backend thread:
+	 * object loaders may block, for instance while accessing a database,
+	 * and may rely on resources such as a session that only the caller can make available.
+	 *
+	 * @param limit The maximum number of hits to be included in the result. {@code null} means no limit.
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param loadingExecutor The executor in which hits will be loaded.
+	 * @return A future that will be completed with the result,
+	 * or completed exceptionally with a {@link org.hibernate.search.util.common.SearchException} if something goes wrong.
+	 */
+	CompletableFuture<IndexSearchResult<T>> fetchAsync(Long limit, Long offset, Executor loadingExecutor);
+
+	/**
+	 * Execute the query asynchronously and retrieve the total hit count.
+	 *
+	 * @return A future that will be completed with the total number of matching documents, ignoring pagination settings.
+	 */
+	CompletableFuture<Long> fetchTotalHitCountAsync();
+
 	String getQueryString();
 
 }
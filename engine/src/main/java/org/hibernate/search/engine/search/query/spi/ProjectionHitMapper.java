@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.search.DocumentReference;
 
 /**
@@ -38,4 +40,11 @@
 	 * @return The loaded entities.
 	 */
 	LoadingResult<O> loadBlocking();
+
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread if possible.
+	 *
+	 * @return A future that will be completed with the loaded entities.
+	 */
+	CompletableFuture<LoadingResult<O>> loadAsync();
 }
@@ -20,6 +20,12 @@
 
 	void addRoutingKey(String routingKey);
 
+	/**
+	 * @param buildStartNanos The value of {@link System#nanoTime()} when building the query started,
+	 * used to report the duration of the {@link org.hibernate.search.engine.search.query.SearchQueryPhase#BUILD build phase}.
+	 */
+	void setBuildStartNanos(long buildStartNanos);
+
 	// TODO add more arguments, such as faceting options
 
 	<Q> Q build(Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory);
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+
+/**
+ * Records data about a single execution of a search query.
+ * <p>
+ * Calls may happen from different threads, but must not happen concurrently.
+ */
+public interface SearchQueryExecutionTracker {
+
+	/**
+	 * @param phase A phase of the query execution.
+	 * @param durationNanos The time spent in this phase, in nanoseconds.
+	 * Added to any time previously recorded for the same phase.
+	 */
+	void recordPhase(SearchQueryPhase phase, long durationNanos);
+
+	/**
+	 * @param totalHitCount The total number of hits matching the query.
+	 * @param returnedHitCount The number of hits returned by the query.
+	 */
+	void recordHitCounts(long totalHitCount, int returnedHitCount);
+
+	/**
+	 * @param responseBytes The size of the response sent by the backend, in bytes.
+	 */
+	void recordResponseBytes(long responseBytes);
+
+	/**
+	 * Ends the execution successfully, notifying the metrics and listeners.
+	 */
+	void complete();
+
+	/**
+	 * Ends the execution with a failure, notifying the metrics and listeners.
+	 *
+	 * @param throwable The failure.
+	 */
+	void fail(Throwable throwable);
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+
+/**
+ * The entry point for backends to report query executions
+ * to the metrics, slow query log and listeners configured in the engine.
+ */
+public interface SearchQueryInstrumentation {
+
+	/**
+	 * @param indexNames The names of the indexes targeted by the query.
+	 * @param queryStringSupplier A supplier for a string representation of the backend query.
+	 * Only called if necessary.
+	 * @param buildDurationNanos The time spent building the query, in nanoseconds.
+	 * @return A tracker for a single execution of the query.
+	 * One of {@link SearchQueryExecutionTracker#complete()} or {@link SearchQueryExecutionTracker#fail(Throwable)}
+	 * must be called when the execution ends.
+	 */
+	SearchQueryExecutionTracker startExecution(Set<String> indexNames, Supplier<String> queryStringSupplier,
+			long buildDurationNanos);
+
+	/**
+	 * @return The metrics updated by the query executions of this backend.
+	 */
+	SearchQueryMetrics getMetrics();
+
+}
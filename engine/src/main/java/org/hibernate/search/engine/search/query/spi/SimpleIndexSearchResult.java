@@ -6,15 +6,31 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public final class SimpleIndexSearchResult<T> implements IndexSearchResult<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final long hitCount;
 	private final List<T> hits;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	public SimpleIndexSearchResult(long hitCount, List<T> hits) {
+		this( hitCount, hits, Collections.emptyMap() );
+	}
+
+	public SimpleIndexSearchResult(long hitCount, List<T> hits, Map<AggregationKey<?>, ?> aggregationResults) {
 		this.hitCount = hitCount;
 		this.hits = hits;
+		this.aggregationResults = aggregationResults;
 	}
 
 	@Override
@@ -27,11 +43,22 @@ public List<T> getHits() {
 		return hits;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // The type of the aggregation result is enforced by the key
+	public <A> A getAggregation(AggregationKey<A> key) {
+		A result = (A) aggregationResults.get( key );
+		if ( result == null && !aggregationResults.containsKey( key ) ) {
+			throw log.unknownAggregationKey( key.getName() );
+		}
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
 				+ ", hits=" + hits
+				+ ", aggregationResults=" + aggregationResults
 				+ "]";
 	}
 }
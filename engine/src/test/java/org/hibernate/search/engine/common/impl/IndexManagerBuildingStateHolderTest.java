@@ -8,6 +8,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -44,7 +45,8 @@ public class IndexManagerBuildingStateHolderTest extends EasyMockSupport {
 			partialMockBuilder( AbstractBeanProviderPartialMock.class ).mock();
 
 	private IndexManagerBuildingStateHolder holder =
-			new IndexManagerBuildingStateHolder( beanProviderMock, configurationSourceMock, rootBuildContextMock );
+			new IndexManagerBuildingStateHolder( beanProviderMock, configurationSourceMock, rootBuildContextMock,
+					Collections.emptyList(), null, Collections.emptyList() );
 
 	@Test
 	public void success() {
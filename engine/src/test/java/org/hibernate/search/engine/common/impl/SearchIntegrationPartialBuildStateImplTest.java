@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+// We have to use raw types to mock methods returning generic types with wildcards
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class SearchIntegrationPartialBuildStateImplTest extends EasyMockSupport {
+
+	private static final int INDEX_COUNT = 10;
+
+	@Rule
+	public final ExpectedException thrown = ExpectedException.none();
+
+	private final BeanResolver beanResolverMock = createMock( BeanResolver.class );
+	private final ExecutorService executor = Executors.newFixedThreadPool( INDEX_COUNT );
+
+	private final AtomicInteger startedCount = new AtomicInteger();
+	private final AtomicInteger inFlightCount = new AtomicInteger();
+	private final AtomicInteger maxInFlightCount = new AtomicInteger();
+
+	@After
+	public void shutdownExecutor() throws InterruptedException {
+		executor.shutdownNow();
+		executor.awaitTermination( 10, TimeUnit.SECONDS );
+	}
+
+	@Test
+	public void startIndexManagers_parallel() {
+		Map<String, IndexManagerImplementor<?>> indexManagerMocks = createIndexManagerMocks();
+		SearchIntegrationPartialBuildStateImpl partialBuildState = createPartialBuildState( indexManagerMocks );
+
+		resetAll();
+		for ( IndexManagerImplementor<?> indexManagerMock : indexManagerMocks.values() ) {
+			EasyMock.expect( indexManagerMock.start( EasyMock.anyObject() ) )
+					.andAnswer( () -> (CompletableFuture) startAsynchronously( null ) );
+		}
+		replayAll();
+		SearchIntegration integration = partialBuildState.finalizeIntegration(
+				propertySource( EngineSettings.INDEX_STARTUP_PARALLELISM, "3" ) );
+		verifyAll();
+
+		assertThat( integration ).isNotNull();
+		assertThat( startedCount ).hasValue( INDEX_COUNT );
+		assertThat( inFlightCount ).hasValue( 0 );
+		// Index managers must have been started concurrently, but never more than allowed
+		assertThat( maxInFlightCount.get() ).isGreaterThan( 1 ).isLessThanOrEqualTo( 3 );
+	}
+
+	@Test
+	public void startIndexManagers_parallel_failures() {
+		Map<String, IndexManagerImplementor<?>> indexManagerMocks = createIndexManagerMocks();
+		SearchIntegrationPartialBuildStateImpl partialBuildState = createPartialBuildState( indexManagerMocks );
+
+		resetAll();
+		int i = 0;
+		for ( IndexManagerImplementor<?> indexManagerMock : indexManagerMocks.values() ) {
+			// Every other index fails to start
+			RuntimeException failure = i % 2 == 0 ? new RuntimeException( "Simulated failure #" + i ) : null;
+			EasyMock.expect( indexManagerMock.start( EasyMock.anyObject() ) )
+					.andAnswer( () -> (CompletableFuture) startAsynchronously( failure ) );
+			++i;
+		}
+		replayAll();
+		try {
+			partialBuildState.finalizeIntegration( ConfigurationPropertySource.empty() );
+			throw new AssertionError( "Startup should have failed" );
+		}
+		catch (SearchException e) {
+			assertThat( e.getMessage() )
+					.contains( "index0", "Simulated failure #0", "index8", "Simulated failure #8" )
+					.doesNotContain( "index1", "index9" );
+		}
+		verifyAll();
+
+		// All index managers must have finished starting, so that they can be closed safely
+		assertThat( startedCount ).hasValue( INDEX_COUNT );
+		assertThat( inFlightCount ).hasValue( 0 );
+	}
+
+	@Test
+	public void startIndexManagers_invalidParallelism() {
+		Map<String, IndexManagerImplementor<?>> indexManagerMocks = createIndexManagerMocks();
+		SearchIntegrationPartialBuildStateImpl partialBuildState = createPartialBuildState( indexManagerMocks );
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Unable to convert configuration property '" + EngineSettings.INDEX_STARTUP_PARALLELISM
+				+ "' with value '0'" );
+		thrown.expectMessage( "The value must be strictly positive" );
+
+		resetAll();
+		replayAll();
+		partialBuildState.finalizeIntegration( propertySource( EngineSettings.INDEX_STARTUP_PARALLELISM, "0" ) );
+	}
+
+	private Map<String, IndexManagerImplementor<?>> createIndexManagerMocks() {
+		Map<String, IndexManagerImplementor<?>> indexManagerMocks = new LinkedHashMap<>();
+		for ( int i = 0; i < INDEX_COUNT; i++ ) {
+			indexManagerMocks.put( "index" + i, createMock( IndexManagerImplementor.class ) );
+		}
+		return indexManagerMocks;
+	}
+
+	private SearchIntegrationPartialBuildStateImpl createPartialBuildState(
+			Map<String, IndexManagerImplementor<?>> indexManagerMocks) {
+		Map<String, IndexManagerPartialBuildState> partiallyBuiltIndexManagers = new LinkedHashMap<>();
+		for ( Map.Entry<String, IndexManagerImplementor<?>> entry : indexManagerMocks.entrySet() ) {
+			partiallyBuiltIndexManagers.put( entry.getKey(),
+					new IndexManagerPartialBuildState( "myBackend", entry.getKey(), entry.getValue() ) );
+		}
+		return new SearchIntegrationPartialBuildStateImpl(
+				beanResolverMock,
+				BeanHolder.of( Collections.emptyList() ),
+				BeanHolder.of( Collections.emptyList() ),
+				new LinkedHashMap<>(),
+				new LinkedHashMap<>(),
+				partiallyBuiltIndexManagers
+		);
+	}
+
+	private CompletableFuture<?> startAsynchronously(RuntimeException failure) {
+		startedCount.incrementAndGet();
+		int inFlight = inFlightCount.incrementAndGet();
+		maxInFlightCount.accumulateAndGet( inFlight, Math::max );
+		return CompletableFuture.runAsync( () -> {
+			try {
+				Thread.sleep( 100 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			inFlightCount.decrementAndGet();
+			if ( failure != null ) {
+				throw failure;
+			}
+		}, executor );
+	}
+
+	private static ConfigurationPropertySource propertySource(String key, String value) {
+		Map<String, Object> map = new HashMap<>();
+		map.put( key, value );
+		return ConfigurationPropertySource.fromMap( map );
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.reporting.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class RootFailureCollectorTest {
+
+	private static final int THREAD_COUNT = 8;
+	private static final int FAILURES_PER_THREAD = 50;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( THREAD_COUNT );
+
+	@After
+	public void shutdownExecutor() throws InterruptedException {
+		executor.shutdownNow();
+		executor.awaitTermination( 10, TimeUnit.SECONDS );
+	}
+
+	@Test
+	public void noFailure() {
+		RootFailureCollector rootFailureCollector = new RootFailureCollector( Integer.MAX_VALUE );
+		ContextualFailureCollector indexFailureCollector =
+				rootFailureCollector.withContext( EventContexts.fromIndexName( "myIndex" ) );
+		assertThat( indexFailureCollector.hasFailure() ).isFalse();
+		rootFailureCollector.checkNoFailure();
+	}
+
+	@Test
+	public void concurrentFailures() {
+		RootFailureCollector rootFailureCollector = new RootFailureCollector( Integer.MAX_VALUE );
+		CountDownLatch startLatch = new CountDownLatch( 1 );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < THREAD_COUNT; i++ ) {
+			// Threads share some contexts, so that they also add failures to the same collectors concurrently
+			String indexName = "index" + ( i % ( THREAD_COUNT / 2 ) );
+			int threadIndex = i;
+			futures.add( CompletableFuture.runAsync( () -> {
+				awaitQuietly( startLatch );
+				ContextualFailureCollector indexFailureCollector =
+						rootFailureCollector.withContext( EventContexts.fromIndexName( indexName ) );
+				for ( int j = 0; j < FAILURES_PER_THREAD; j++ ) {
+					indexFailureCollector.add( "Failure #" + j + " from thread #" + threadIndex );
+				}
+			}, executor ) );
+		}
+		startLatch.countDown();
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		for ( int i = 0; i < THREAD_COUNT / 2; i++ ) {
+			assertThat( rootFailureCollector.withContext( EventContexts.fromIndexName( "index" + i ) ).hasFailure() )
+					.isTrue();
+		}
+		try {
+			rootFailureCollector.checkNoFailure();
+			throw new AssertionError( "checkNoFailure() should have thrown an exception" );
+		}
+		catch (SearchException e) {
+			String message = e.getMessage();
+			for ( int i = 0; i < THREAD_COUNT; i++ ) {
+				for ( int j = 0; j < FAILURES_PER_THREAD; j++ ) {
+					assertThat( message ).contains( "Failure #" + j + " from thread #" + i );
+				}
+			}
+			// Each context must be reported exactly once, whatever the number of threads that used it
+			for ( int i = 0; i < THREAD_COUNT / 2; i++ ) {
+				String indexContext = EventContexts.fromIndexName( "index" + i ).render();
+				assertThat( message.indexOf( indexContext ) )
+						.isGreaterThanOrEqualTo( 0 )
+						.isEqualTo( message.lastIndexOf( indexContext ) );
+			}
+		}
+	}
+
+	@Test
+	public void concurrentFailures_limit() {
+		int failureLimit = THREAD_COUNT * FAILURES_PER_THREAD / 2;
+		RootFailureCollector rootFailureCollector = new RootFailureCollector( failureLimit );
+		CountDownLatch startLatch = new CountDownLatch( 1 );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < THREAD_COUNT; i++ ) {
+			String indexName = "index" + i;
+			futures.add( CompletableFuture.runAsync( () -> {
+				awaitQuietly( startLatch );
+				ContextualFailureCollector indexFailureCollector =
+						rootFailureCollector.withContext( EventContexts.fromIndexName( indexName ) );
+				for ( int j = 0; j < FAILURES_PER_THREAD; j++ ) {
+					indexFailureCollector.add( "Failure #" + j );
+				}
+			}, executor ) );
+		}
+		startLatch.countDown();
+
+		List<String> limitReachedMessages = new ArrayList<>();
+		for ( CompletableFuture<?> future : futures ) {
+			try {
+				future.join();
+			}
+			catch (RuntimeException e) {
+				assertThat( e ).hasCauseInstanceOf( SearchException.class );
+				limitReachedMessages.add( e.getCause().getMessage() );
+			}
+		}
+		assertThat( limitReachedMessages ).isNotEmpty();
+		// No failure must be lost: exactly one failure brought the count to the limit
+		assertThat( limitReachedMessages )
+				.filteredOn( message -> message.contains( "after '" + failureLimit + "' failures" ) )
+				.hasSize( 1 );
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -13,6 +13,8 @@
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
@@ -107,10 +109,35 @@ public void routing() {
 		query.fetch();
 	}
 
+	@Test
+	public void aggregationOnly_requestCache() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<?> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( AggregationKey.of( "terms" ), f -> f.terms().field( "sortableString", String.class ) )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "size", 0L )
+						.param( "request_cache", true )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetch( 0L, null );
+	}
+
 	@SuppressWarnings("unused")
 	private static class IndexMapping {
 		final IndexFieldReference<Integer> integer;
 		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> sortableString;
 
 		IndexMapping(IndexSchemaElement root) {
 			integer = root.field(
@@ -123,6 +150,11 @@ private static class IndexMapping {
 					f -> f.asString().projectable( Projectable.YES )
 			)
 					.toReference();
+			sortableString = root.field(
+					"sortableString",
+					f -> f.asString().sortable( Sortable.YES )
+			)
+					.toReference();
 		}
 	}
 
@@ -441,6 +441,32 @@ public void projection_documentAndField() {
 				) );
 	}
 
+	@Test
+	public void projection_document_multiple() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<List<?>> query = scope.query()
+				.asProjection( f ->
+						f.composite(
+								f.extension( LuceneExtension.get() ).document(),
+								f.extension( LuceneExtension.get() ).document()
+						)
+				)
+				.predicate( f -> f.id().matching( FIRST_ID ) )
+				.toQuery();
+
+		List<List<?>> hits = query.fetch().getHits();
+		Assertions.assertThat( hits ).hasSize( 1 );
+		List<?> hit = hits.get( 0 );
+		// Each projection adds the index name and id to its own copy of the document
+		for ( Object projected : hit ) {
+			Document document = (Document) projected;
+			Assertions.assertThat( document.getValues( LuceneFields.idFieldName() ) ).containsExactly( FIRST_ID );
+			Assertions.assertThat( document.getValues( LuceneFields.indexFieldName() ) ).containsExactly( INDEX_NAME );
+		}
+		Assertions.assertThat( hit.get( 0 ) ).isNotSameAs( hit.get( 1 ) );
+	}
+
 	@Test
 	public void projection_explanation() {
 		StubMappingSearchScope scope = indexManager.createSearchScope();
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneIndexWriterMetrics;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneIndexWriterMetricsIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void flushesAndMerges() {
+		SearchIntegration integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, "10" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_USE_COMPOUND_FILE, "false" )
+				// Prevent automatic merges, so that segments are only merged when we force it
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER, "50" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, "1" )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		LuceneIndexWriterMetrics metrics = integration.getIndexManager( INDEX_NAME )
+				.unwrap( LuceneIndexManager.class )
+				.getIndexWriterMetrics();
+		Assertions.assertThat( metrics.getFlushCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getFlushedBytes() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getMergeCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getSegmentCount() ).isEqualTo( 0 );
+
+		// The buffer is flushed automatically, at most every 10 documents
+		indexDocuments( 0, DOCUMENT_COUNT );
+		long flushCount = metrics.getFlushCount();
+		long flushedBytes = metrics.getFlushedBytes();
+		Assertions.assertThat( flushCount ).isGreaterThanOrEqualTo( DOCUMENT_COUNT / 10 );
+		Assertions.assertThat( flushedBytes ).isGreaterThan( 0L );
+		// Each flush created a segment
+		Assertions.assertThat( (long) metrics.getSegmentCount() ).isEqualTo( flushCount );
+
+		// Fewer documents than the buffer can hold: the commit forces a flush
+		indexDocuments( DOCUMENT_COUNT, 5 );
+		Assertions.assertThat( metrics.getFlushCount() ).isEqualTo( flushCount + 1 );
+		Assertions.assertThat( metrics.getFlushedBytes() ).isGreaterThan( flushedBytes );
+		Assertions.assertThat( (long) metrics.getSegmentCount() ).isEqualTo( flushCount + 1 );
+		Assertions.assertThat( metrics.getMergeCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getMergedBytes() ).isEqualTo( 0L );
+
+		// Force a merge into a single segment
+		indexManager.createWorkExecutor().optimize().join();
+		Assertions.assertThat( metrics.getMergeCount() ).isGreaterThan( 0L );
+		Assertions.assertThat( metrics.getMergedBytes() ).isGreaterThan( 0L );
+		Assertions.assertThat( metrics.getMergeTimeMillis() ).isGreaterThanOrEqualTo( 0L );
+		Assertions.assertThat( metrics.hasPendingMerges() ).isFalse();
+		Assertions.assertThat( metrics.getSegmentCount() ).isEqualTo( 1 );
+		Assertions.assertThat( metrics.getFlushCount() ).isEqualTo( flushCount + 1 );
+		Assertions.assertThat( metrics.getRamBytesUsed() ).isGreaterThanOrEqualTo( 0L );
+	}
+
+	@Test
+	public void invalidRamBufferSize() {
+		SubTest.expectException(
+				() -> setup( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, "0" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE );
+	}
+
+	@Test
+	public void invalidMaxThreadCount() {
+		SubTest.expectException(
+				() -> setup( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, "notAnInteger" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT );
+	}
+
+	private void setup(String key, String value) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, key, value )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(int firstId, int count) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = firstId; i < firstId + count; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( value ) ), document -> {
+				document.addValue( indexMapping.string, "text " + value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneIndexSortIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 50;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void sortMatchingIndexSort() {
+		setup( "date:desc" );
+		initData();
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "date" ).desc() )
+				.toQuery();
+
+		assertThat( query.fetch( 3L, 0L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, id( DOCUMENT_COUNT - 1 ), id( DOCUMENT_COUNT - 2 ), id( DOCUMENT_COUNT - 3 ) );
+		assertThat( query.fetch( 2L, 10L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, id( DOCUMENT_COUNT - 11 ), id( DOCUMENT_COUNT - 12 ) );
+	}
+
+	@Test
+	public void sortNotMatchingIndexSort() {
+		setup( "date:desc" );
+		initData();
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "date" ).asc() )
+				.toQuery();
+
+		assertThat( query.fetch( 3L, 0L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, id( 0 ), id( 1 ), id( 2 ) );
+	}
+
+	@Test
+	public void multipleFields() {
+		setup( "string, date : desc" );
+		initData();
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ) )
+				.toQuery();
+
+		assertThat( query.fetch( 2L, 0L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, id( 0 ), id( 1 ) );
+	}
+
+	@Test
+	public void unknownField() {
+		SubTest.expectException(
+				() -> setup( "unknownField" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort: unknown field 'unknownField'" );
+	}
+
+	@Test
+	public void invalidOrder() {
+		SubTest.expectException(
+				() -> setup( "date:descending" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort: invalid sort order 'descending' for field 'date'" );
+	}
+
+	@Test
+	public void unsortableField() {
+		SubTest.expectException(
+				() -> setup( "unsortable" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Sorting is not enabled for field 'unsortable'" );
+	}
+
+	@Test
+	public void nestedObjects() {
+		SubTest.expectException(
+				() -> setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.INDEX_SORT, "date" )
+						.withIndex(
+								INDEX_NAME,
+								ctx -> {
+									IndexSchemaElement root = ctx.getSchemaElement();
+									root.field( "date", f -> f.asLocalDate().sortable( Sortable.YES ) ).toReference();
+									root.objectField( "nested", ObjectFieldStorage.NESTED ).toReference();
+								},
+								indexManager -> { }
+						)
+						.setup()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Index sorting cannot be used on an index containing nested object fields" );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.INDEX_SORT, indexSort )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData() {
+		// Add documents in an order that does not match the index sort, in two segments
+		for ( int batch = 0; batch < 2; batch++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = batch; i < DOCUMENT_COUNT; i += 2 ) {
+				int value = i;
+				workPlan.add( referenceProvider( id( value ) ), document -> {
+					document.addValue( indexMapping.date, LocalDate.of( 2018, 1, 1 ).plusDays( value ) );
+					document.addValue( indexMapping.string, String.format( Locale.ROOT, "%03d", value ) );
+					document.addValue( indexMapping.unsortable, "text" );
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private static String id(int value) {
+		return String.valueOf( value );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<LocalDate> date;
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> unsortable;
+
+		IndexMapping(IndexSchemaElement root) {
+			date = root.field( "date", f -> f.asLocalDate().sortable( Sortable.YES ) ).toReference();
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			unsortable = root.field( "unsortable", f -> f.asString() ).toReference();
+		}
+	}
+}
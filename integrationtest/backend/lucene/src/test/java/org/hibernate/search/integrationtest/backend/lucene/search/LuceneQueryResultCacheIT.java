@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.search.query.LuceneQueryResultCacheMetrics;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneQueryResultCacheIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final AggregationKey<Map<String, Long>> TERMS_KEY = AggregationKey.of( "terms" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void sameQuery() {
+		LuceneQueryResultCacheMetrics metrics = setup( "10" );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		assertThat( query.fetch() ).hasDocRefHitsAnyOrder( INDEX_NAME, "0", "1", "2" );
+		Assertions.assertThat( metrics.getMissCount() ).isEqualTo( 1L );
+		Assertions.assertThat( metrics.getHitCount() ).isEqualTo( 0L );
+
+		assertThat( query.fetch() ).hasDocRefHitsAnyOrder( INDEX_NAME, "0", "1", "2" );
+		// An identical query built separately should also hit the cache
+		assertThat( matchAllQuery().fetch() ).hasDocRefHitsAnyOrder( INDEX_NAME, "0", "1", "2" );
+		Assertions.assertThat( metrics.getMissCount() ).isEqualTo( 1L );
+		Assertions.assertThat( metrics.getHitCount() ).isEqualTo( 2L );
+		Assertions.assertThat( metrics.getEntryCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void indexChange() {
+		LuceneQueryResultCacheMetrics metrics = setup( "10" );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		assertThat( query.fetch() ).hasTotalHitCount( 3L );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "3" ), document -> document.addValue( indexMapping.string, "red" ) );
+		workPlan.execute().join();
+
+		// Entries collected before the change must not be used
+		assertThat( query.fetch() )
+				.hasTotalHitCount( 4L )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "0", "1", "2", "3" );
+		Assertions.assertThat( metrics.getMissCount() ).isEqualTo( 2L );
+		Assertions.assertThat( metrics.getHitCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void differentPaging() {
+		LuceneQueryResultCacheMetrics metrics = setup( "10" );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		Assertions.assertThat( query.fetch( 1L, null ).getHits() ).hasSize( 1 );
+		Assertions.assertThat( query.fetch( 2L, null ).getHits() ).hasSize( 2 );
+		Assertions.assertThat( query.fetch( 2L, 1L ).getHits() ).hasSize( 2 );
+		Assertions.assertThat( metrics.getMissCount() ).isEqualTo( 3L );
+		Assertions.assertThat( metrics.getHitCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void aggregation() {
+		LuceneQueryResultCacheMetrics metrics = setup( "10" );
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		for ( int i = 0; i < 2; i++ ) {
+			IndexSearchQuery<DocumentReference> query = scope.query()
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+					.toQuery();
+			Assertions.assertThat( query.fetch().getAggregation( TERMS_KEY ) ).containsExactly(
+					entry( "blue", 2L ),
+					entry( "red", 1L )
+			);
+		}
+		Assertions.assertThat( metrics.getHitCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void eviction() {
+		LuceneQueryResultCacheMetrics metrics = setup( "1" );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		query.fetch( 1L, null );
+		query.fetch( 2L, null );
+		query.fetch( 1L, null );
+		Assertions.assertThat( metrics.getMissCount() ).isEqualTo( 3L );
+		Assertions.assertThat( metrics.getEvictionCount() ).isEqualTo( 2L );
+		Assertions.assertThat( metrics.getEntryCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void disabledByDefault() {
+		LuceneQueryResultCacheMetrics metrics = setup( null );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		query.fetch();
+		query.fetch();
+		Assertions.assertThat( metrics.getMissCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getHitCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getEntryCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void invalidMaxEntries() {
+		SubTest.expectException(
+				() -> setup( "-1" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES );
+	}
+
+	private IndexSearchQuery<DocumentReference> matchAllQuery() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private LuceneQueryResultCacheMetrics setup(String maxEntries) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME );
+		if ( maxEntries != null ) {
+			setupContext.withBackendProperty(
+					BACKEND_NAME, LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, maxEntries
+			);
+		}
+		SearchIntegration integration = setupContext
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+
+		return integration.getBackend( BACKEND_NAME )
+				.unwrap( LuceneBackend.class )
+				.getQueryResultCacheMetrics();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		String[] strings = { "blue", "red", "blue" };
+		for ( int i = 0; i < strings.length; i++ ) {
+			String string = strings[i];
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.string, string );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -227,6 +227,65 @@ public void delete_only_deletes_elements_of_the_tenant() {
 				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_1, DOCUMENT_ID_2 );
 	}
 
+	@Test
+	public void delete_multiple_only_deletes_elements_of_the_tenant() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( tenant2SessionContext );
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query( tenant2SessionContext )
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_1, DOCUMENT_ID_2 );
+
+		workPlan.delete( referenceProvider( DOCUMENT_ID_1 ) );
+		workPlan.delete( referenceProvider( DOCUMENT_ID_2 ) );
+
+		workPlan.execute().join();
+
+		assertThat( query ).hasNoHits();
+
+		query = scope.query( tenant1SessionContext )
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_1, DOCUMENT_ID_2 );
+	}
+
+	@Test
+	public void delete_then_add_only_affects_elements_of_the_tenant() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( tenant2SessionContext );
+		workPlan.delete( referenceProvider( DOCUMENT_ID_1 ) );
+		workPlan.delete( referenceProvider( DOCUMENT_ID_2 ) );
+		workPlan.add( referenceProvider( DOCUMENT_ID_1 ), document -> {
+			document.addValue( indexMapping.string, UPDATED_STRING );
+			document.addValue( indexMapping.integer, INTEGER_VALUE_4 );
+		} );
+
+		workPlan.execute().join();
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<List<?>> query = scope.query( tenant2SessionContext )
+				.asProjection( f ->
+						f.composite(
+								f.field( "string", String.class ),
+								f.field( "integer", Integer.class )
+						)
+				)
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasListHitsAnyOrder( b -> b.list( UPDATED_STRING, INTEGER_VALUE_4 ) );
+
+		IndexSearchQuery<DocumentReference> checkQuery = scope.query( tenant1SessionContext )
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( checkQuery )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_1, DOCUMENT_ID_2 );
+	}
+
 	@Test
 	public void update_only_updates_elements_of_the_tenant() {
 		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( tenant2SessionContext );
@@ -0,0 +1,258 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.aggregation;
+
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final AggregationKey<Map<String, Long>> TERMS_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Integer>, Long>> RANGE_KEY = AggregationKey.of( "range" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void terms() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch( 1L, null );
+		// Aggregations take into account all matching documents, not just the returned hits
+		Assertions.assertThat( result.getHits() ).hasSize( 1 );
+
+		Assertions.assertThat( result.getAggregation( TERMS_KEY ) ).containsExactly(
+				entry( "blue", 3L ),
+				entry( "red", 2L ),
+				entry( "green", 1L )
+		);
+	}
+
+	@Test
+	public void terms_predicate() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).above( 2 ) )
+				.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+				.toQuery();
+
+		Assertions.assertThat( query.fetch().getAggregation( TERMS_KEY ) ).containsExactly(
+				entry( "blue", 2L ),
+				entry( "green", 1L ),
+				entry( "red", 1L )
+		);
+	}
+
+	@Test
+	public void terms_minDocumentCount_maxTermCount() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ).minDocumentCount( 2 ) )
+				.toQuery();
+
+		Assertions.assertThat( query.fetch().getAggregation( TERMS_KEY ) ).containsExactly(
+				entry( "blue", 3L ),
+				entry( "red", 2L )
+		);
+
+		query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ).maxTermCount( 1 ) )
+				.toQuery();
+
+		Assertions.assertThat( query.fetch().getAggregation( TERMS_KEY ) ).containsOnlyKeys( "blue" );
+	}
+
+	@Test
+	public void terms_minDocumentCount_zero() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		SubTest.expectException(
+				"terms aggregation with minDocumentCount 0",
+				() -> scope.aggregation().terms().field( "string", String.class ).minDocumentCount( 0 )
+		)
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'minDocumentCount'" )
+				.hasMessageContaining( "must be strictly positive" );
+	}
+
+	@Test
+	public void range() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().field( "integer", Integer.class )
+						.range( Range.lessThan( 2 ) )
+						.range( 2, 5 )
+						.range( Range.atLeast( 5 ) )
+				)
+				.toQuery();
+
+		Assertions.assertThat( query.fetch().getAggregation( RANGE_KEY ) ).containsExactly(
+				entry( Range.lessThan( 2 ), 2L ),
+				entry( Range.between( 2, 5 ), 3L ),
+				entry( Range.atLeast( 5 ), 1L )
+		);
+	}
+
+	@Test
+	public void multipleAggregations_reusedAggregation() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SearchAggregation<Map<String, Long>> termsAggregation =
+				scope.aggregation().terms().field( "string", String.class ).toAggregation();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, termsAggregation )
+				.aggregation( RANGE_KEY, f -> f.range().field( "integer", Integer.class ).range( 0, 100 ) )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch();
+		Assertions.assertThat( result.getAggregation( TERMS_KEY ) ).containsEntry( "blue", 3L );
+		Assertions.assertThat( result.getAggregation( RANGE_KEY ) ).containsEntry( Range.between( 0, 100 ), 6L );
+
+		// Executing the same query again should not accumulate counts
+		result = query.fetch();
+		Assertions.assertThat( result.getAggregation( TERMS_KEY ) ).containsEntry( "blue", 3L );
+	}
+
+	@Test
+	public void error_unsortableField() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SubTest.expectException(
+				() -> scope.aggregation().terms().field( "unsortableString", String.class )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Aggregations are not enabled for field" )
+				.hasMessageContaining( "unsortableString" );
+	}
+
+	@Test
+	public void error_unsupportedAggregationType() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SubTest.expectException(
+				() -> scope.aggregation().range().field( "string", String.class )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Range aggregations are not supported by this field's type" );
+	}
+
+	@Test
+	public void error_duplicateKey() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SubTest.expectException(
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+						.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "terms" );
+	}
+
+	@Test
+	public void error_unknownKey() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch();
+		SubTest.expectException(
+				() -> result.getAggregation( TERMS_KEY )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "terms" );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		String[] strings = { "blue", "red", "blue", "green", "red", "blue" };
+		for ( int i = 0; i < strings.length; i++ ) {
+			int value = i;
+			String string = strings[i];
+			workPlan.add( referenceProvider( String.valueOf( value ) ), document -> {
+				document.addValue( indexMapping.string, string );
+				document.addValue( indexMapping.unsortableString, string );
+				document.addValue( indexMapping.integer, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> unsortableString;
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			unsortableString = root.field( "unsortableString", f -> f.asString() ).toReference();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.dsl.query.CompiledSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class CompiledSearchQueryIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void singleParameter() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		CompiledSearchQuery<IndexSearchQuery<DocumentReference>> compiledQuery = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matchingParameter( "color" ) )
+				.sort( c -> c.byField( "integer" ) )
+				.toCompiledQuery();
+
+		Assertions.assertThat( compiledQuery.getParameterNames() ).containsExactly( "color" );
+
+		IndexSearchQuery<DocumentReference> blueQuery = compiledQuery.bind( "color", "blue" );
+		IndexSearchQuery<DocumentReference> redQuery = compiledQuery.bind( "color", "red" );
+
+		assertThat( redQuery ).hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+		// Binding other values must not affect previously created queries
+		assertThat( blueQuery ).hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_3 );
+		assertThat( compiledQuery.bind( "color", "blue" ) )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_3 );
+	}
+
+	@Test
+	public void multipleParameters() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		CompiledSearchQuery<IndexSearchQuery<DocumentReference>> compiledQuery = scope.query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.must( f.match().onField( "string" ).matchingParameter( "color" ) )
+						.mustNot( f.match().onField( "integer" ).matchingParameter( "excluded" ) )
+				)
+				.toCompiledQuery();
+
+		Assertions.assertThat( compiledQuery.getParameterNames() ).containsOnly( "color", "excluded" );
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put( "color", "blue" );
+		parameters.put( "excluded", 1 );
+		assertThat( compiledQuery.bind( parameters ) ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_3 );
+
+		parameters.put( "excluded", 3 );
+		assertThat( compiledQuery.bind( parameters ) ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 );
+	}
+
+	@Test
+	public void sameParameterMultipleTimes() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		CompiledSearchQuery<IndexSearchQuery<DocumentReference>> compiledQuery = scope.query()
+				.asReference()
+				.predicate( f -> f.bool()
+						.should( f.match().onField( "string" ).matchingParameter( "color" ) )
+						.should( f.match().onField( "otherString" ).matchingParameter( "color" ) )
+				)
+				.toCompiledQuery();
+
+		assertThat( compiledQuery.bind( "color", "red" ) )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void error_missingParameter() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		CompiledSearchQuery<IndexSearchQuery<DocumentReference>> compiledQuery = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matchingParameter( "color" ) )
+				.toCompiledQuery();
+
+		SubTest.expectException(
+				"bind() with missing parameter",
+				() -> compiledQuery.bind( Collections.emptyMap() )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Missing values for query parameters" )
+				.hasMessageContaining( "color" );
+	}
+
+	@Test
+	public void error_unknownParameter() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		CompiledSearchQuery<IndexSearchQuery<DocumentReference>> compiledQuery = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matchingParameter( "color" ) )
+				.toCompiledQuery();
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put( "color", "blue" );
+		parameters.put( "size", 42 );
+		SubTest.expectException(
+				"bind() with unknown parameter",
+				() -> compiledQuery.bind( parameters )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown query parameters" )
+				.hasMessageContaining( "size" );
+	}
+
+	@Test
+	public void error_nullValue() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		CompiledSearchQuery<IndexSearchQuery<DocumentReference>> compiledQuery = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matchingParameter( "color" ) )
+				.toCompiledQuery();
+
+		SubTest.expectException(
+				"bind() with null value",
+				() -> compiledQuery.bind( "color", null )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value" )
+				.hasMessageContaining( "must be non-null" );
+	}
+
+	@Test
+	public void error_toQueryWithParameters() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		SubTest.expectException(
+				"toQuery() on a query with parameters",
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.match().onField( "string" ).matchingParameter( "color" ) )
+						.toQuery()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "This query uses parameters" )
+				.hasMessageContaining( "toCompiledQuery()" );
+	}
+
+	@Test
+	public void error_parameterOutsideOfQuery() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		SubTest.expectException(
+				"matchingParameter() on a predicate built outside of a query",
+				() -> scope.predicate().match().onField( "string" ).matchingParameter( "color" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot use query parameter 'color' here" );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.string, "blue" );
+			document.addValue( indexMapping.otherString, "green" );
+			document.addValue( indexMapping.integer, 1 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			document.addValue( indexMapping.string, "red" );
+			document.addValue( indexMapping.otherString, "green" );
+			document.addValue( indexMapping.integer, 2 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			document.addValue( indexMapping.string, "blue" );
+			document.addValue( indexMapping.otherString, "red" );
+			document.addValue( indexMapping.integer, 3 );
+		} );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> otherString;
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+			otherString = root.field( "otherString", f -> f.asString() ).toReference();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
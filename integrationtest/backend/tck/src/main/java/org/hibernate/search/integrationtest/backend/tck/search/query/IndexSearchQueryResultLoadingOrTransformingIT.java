@@ -15,6 +15,8 @@
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.easymock.EasyMock;
@@ -29,6 +31,7 @@
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.stub.StubDocumentReferenceTransformer;
@@ -176,6 +179,52 @@ public void objects_referencesTransformer_objectLoading() {
 		EasyMock.verify( referenceTransformerMock, objectLoaderMock );
 	}
 
+	@Test
+	public void objects_referencesTransformer_objectLoading_async() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+		StubLoadedObject mainLoadedObject = new StubLoadedObject( mainReference );
+		StubLoadedObject emptyLoadedObject = new StubLoadedObject( emptyReference );
+
+		Function<DocumentReference, StubTransformedReference> referenceTransformerMock =
+				EasyMock.createMock( StubDocumentReferenceTransformer.class );
+		ObjectLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				EasyMock.createMock( StubObjectLoader.class );
+
+		EasyMock.expect( referenceTransformerMock.apply( referenceMatcher( mainReference ) ) )
+				.andReturn( mainTransformedReference );
+		EasyMock.expect( referenceTransformerMock.apply( referenceMatcher( emptyReference ) ) )
+				.andReturn( emptyTransformedReference );
+		// Asynchronous fetching must rely on asynchronous loading
+		StubMapperUtils.expectLoadAsync(
+				objectLoaderMock,
+				c -> c.load( mainTransformedReference, mainLoadedObject )
+						.load( emptyTransformedReference, emptyLoadedObject )
+		);
+		EasyMock.replay( referenceTransformerMock, objectLoaderMock );
+
+		GenericStubMappingSearchScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createSearchScope( referenceTransformerMock );
+
+		IndexSearchQuery<StubLoadedObject> objectsQuery = scope.query( objectLoaderMock )
+				.asObject()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		// Loading must be handed off to the given executor
+		AtomicInteger loadingExecutorCalls = new AtomicInteger();
+		Executor loadingExecutor = command -> {
+			loadingExecutorCalls.incrementAndGet();
+			command.run();
+		};
+		IndexSearchResult<StubLoadedObject> result = objectsQuery.fetchAsync( loadingExecutor ).join();
+		assertThat( result ).hasHitsExactOrder( mainLoadedObject, emptyLoadedObject );
+		assertEquals( 1, loadingExecutorCalls.get() );
+
+		EasyMock.verify( referenceTransformerMock, objectLoaderMock );
+	}
+
 	@Test
 	public void projection_referencesTransformer_objectLoading() {
 		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
@@ -359,6 +408,25 @@ public void countQuery() {
 		assertEquals( 2L, query.fetchTotalHitCount() );
 	}
 
+	@Test
+	public void countQuery_async() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		assertEquals( (Long) 2L, query.fetchTotalHitCountAsync().join() );
+
+		query = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( STRING_VALUE ) )
+				.toQuery();
+
+		assertEquals( (Long) 1L, query.fetchTotalHitCountAsync().join() );
+	}
+
 	@Test
 	public void countQueryWithProjection() {
 		StubMappingSearchScope scope = indexManager.createSearchScope();
@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchQueryExecutionReport;
+import org.hibernate.search.engine.search.query.SearchQueryListener;
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.SearchQueryPhase;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchQueryInstrumentationIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final List<SearchQueryExecutionReport> reports = new CopyOnWriteArrayList<>();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+	private SearchIntegration integration;
+
+	@Before
+	public void setup() {
+		SearchQueryListener listener = reports::add;
+		integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( EngineSettings.QUERY_LISTENERS,
+						Collections.singletonList( BeanReference.ofInstance( listener ) ) )
+				// Every query is slow: this checks the slow query log does not fail
+				.withProperty( EngineSettings.QUERY_SLOW_THRESHOLD, 0 )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+		reports.clear();
+	}
+
+	@Test
+	public void fetch() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SearchQueryMetrics metrics = integration.getBackend( BACKEND_NAME ).getSearchQueryMetrics();
+		long executionCountBefore = metrics.getExecutionCount();
+		long returnedHitCountBefore = metrics.getReturnedHitCount();
+
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( "blue" ) )
+				.toQuery();
+
+		assertThat( query.fetch( 1L, null ) ).hasTotalHitCount( 2 );
+
+		Assertions.assertThat( reports ).hasSize( 1 );
+		SearchQueryExecutionReport report = reports.get( 0 );
+		Assertions.assertThat( report.getBackendName() ).isEqualTo( BACKEND_NAME );
+		Assertions.assertThat( report.getIndexNames() ).containsExactly( INDEX_NAME );
+		Assertions.assertThat( report.getQueryString() ).isEqualTo( query.getQueryString() );
+		Assertions.assertThat( report.getTotalHitCount() ).isEqualTo( 2L );
+		Assertions.assertThat( report.getReturnedHitCount() ).isEqualTo( 1 );
+		Assertions.assertThat( report.getFailure() ).isEmpty();
+		Assertions.assertThat( report.isSlow() ).isTrue();
+		for ( SearchQueryPhase phase : SearchQueryPhase.values() ) {
+			Assertions.assertThat( report.getDurationNanos( phase ) ).as( phase.name() ).isGreaterThanOrEqualTo( 0L );
+		}
+		Assertions.assertThat( report.getTotalDurationNanos() ).isGreaterThan( 0L );
+
+		Assertions.assertThat( metrics.getExecutionCount() ).isEqualTo( executionCountBefore + 1 );
+		Assertions.assertThat( metrics.getReturnedHitCount() ).isEqualTo( returnedHitCountBefore + 1 );
+	}
+
+	@Test
+	public void fetchAsync() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		query.fetchAsync( null, null, Runnable::run ).join();
+
+		Assertions.assertThat( reports ).hasSize( 1 );
+		SearchQueryExecutionReport report = reports.get( 0 );
+		Assertions.assertThat( report.getTotalHitCount() ).isEqualTo( 3L );
+		Assertions.assertThat( report.getReturnedHitCount() ).isEqualTo( 3 );
+		Assertions.assertThat( report.getFailure() ).isEmpty();
+	}
+
+	@Test
+	public void fetchTotalHitCount() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( "red" ) )
+				.toQuery();
+
+		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( 1L );
+
+		Assertions.assertThat( reports ).hasSize( 1 );
+		SearchQueryExecutionReport report = reports.get( 0 );
+		Assertions.assertThat( report.getTotalHitCount() ).isEqualTo( 1L );
+		Assertions.assertThat( report.getReturnedHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void multipleExecutions_buildReportedOnce() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		query.fetch();
+		query.fetch();
+
+		Assertions.assertThat( reports ).hasSize( 2 );
+		Assertions.assertThat( reports.get( 1 ).getDurationNanos( SearchQueryPhase.BUILD ) ).isEqualTo( 0L );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.string, "blue" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			document.addValue( indexMapping.string, "red" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			document.addValue( indexMapping.string, "blue" );
+		} );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
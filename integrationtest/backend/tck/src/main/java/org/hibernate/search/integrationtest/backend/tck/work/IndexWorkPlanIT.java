@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.NormalizationUtils.reference;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the execution of work plans combining several works,
+ * which backends may group or reorder internally.
+ */
+public class IndexWorkPlanIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_ID_1 = "1";
+	private static final String DOCUMENT_ID_2 = "2";
+	private static final String DOCUMENT_ID_3 = "3";
+
+	private static final String STRING_VALUE_1 = "string_1";
+	private static final String STRING_VALUE_2 = "string_2";
+	private static final String STRING_VALUE_3 = "string_3";
+	private static final String UPDATED_STRING = "updated_string";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void delete_multiple() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.delete( referenceProvider( DOCUMENT_ID_1 ) );
+		workPlan.delete( referenceProvider( DOCUMENT_ID_2 ) );
+		workPlan.execute().join();
+
+		assertThat( createMatchAllQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_3 );
+	}
+
+	@Test
+	public void delete_multiple_then_add_same_id() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.delete( referenceProvider( DOCUMENT_ID_1 ) );
+		workPlan.delete( referenceProvider( DOCUMENT_ID_2 ) );
+		workPlan.add( referenceProvider( DOCUMENT_ID_1 ), document -> {
+			document.addValue( indexMapping.string, UPDATED_STRING );
+		} );
+		workPlan.execute().join();
+
+		assertThat( createMatchAllQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_1, DOCUMENT_ID_3 );
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<List<?>> query = scope.query()
+				.asProjection( f -> f.composite( f.reference(), f.field( "string", String.class ) ) )
+				.predicate( f -> f.id().matching( DOCUMENT_ID_1 ) )
+				.toQuery();
+		assertThat( query ).hasListHitsAnyOrder( b -> b.list( reference( INDEX_NAME, DOCUMENT_ID_1 ), UPDATED_STRING ) );
+	}
+
+	@Test
+	public void delete_then_add_same_id() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.delete( referenceProvider( DOCUMENT_ID_1 ) );
+		workPlan.add( referenceProvider( DOCUMENT_ID_1 ), document -> {
+			document.addValue( indexMapping.string, UPDATED_STRING );
+		} );
+		workPlan.execute().join();
+
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<List<?>> query = scope.query()
+				.asProjection( f -> f.composite( f.reference(), f.field( "string", String.class ) ) )
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasListHitsAnyOrder( b -> {
+			b.list( reference( INDEX_NAME, DOCUMENT_ID_1 ), UPDATED_STRING );
+			b.list( reference( INDEX_NAME, DOCUMENT_ID_2 ), STRING_VALUE_2 );
+			b.list( reference( INDEX_NAME, DOCUMENT_ID_3 ), STRING_VALUE_3 );
+		} );
+	}
+
+	private IndexSearchQuery<DocumentReference> createMatchAllQuery() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		return scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( DOCUMENT_ID_1 ), document -> {
+			document.addValue( indexMapping.string, STRING_VALUE_1 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_ID_2 ), document -> {
+			document.addValue( indexMapping.string, STRING_VALUE_2 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_ID_3 ), document -> {
+			document.addValue( indexMapping.string, STRING_VALUE_3 );
+		} );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		assertThat( createMatchAllQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_ID_1, DOCUMENT_ID_2, DOCUMENT_ID_3 );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.IndexingBatchReport;
+import org.hibernate.search.engine.backend.index.IndexingListener;
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class IndexingInstrumentationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final List<IndexingBatchReport> reports = new CopyOnWriteArrayList<>();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+	private SearchIntegration integration;
+
+	@Before
+	public void setup() {
+		IndexingListener listener = reports::add;
+		integration = setupHelper.withDefaultConfiguration()
+				.withProperty( EngineSettings.INDEXING_LISTENERS,
+						Collections.singletonList( BeanReference.ofInstance( listener ) ) )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void workPlan() {
+		IndexingMetrics metrics = integration.getIndexManager( INDEX_NAME ).getIndexingMetrics();
+		long batchCountBefore = metrics.getBatchCount();
+		long appliedWorkCountBefore = metrics.getAppliedWorkCount();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.string, "text1" ) );
+		workPlan.add( referenceProvider( "2" ), document -> document.addValue( indexMapping.string, "text2" ) );
+		workPlan.delete( referenceProvider( "3" ) );
+		workPlan.execute().join();
+
+		Assertions.assertThat( reports ).isNotEmpty();
+		for ( IndexingBatchReport report : reports ) {
+			Assertions.assertThat( report.getIndexName() ).isEqualTo( INDEX_NAME );
+			Assertions.assertThat( report.getWorkCount() ).isGreaterThan( 0 );
+			Assertions.assertThat( report.getFailure() ).isEmpty();
+			Assertions.assertThat( report.getQueueDurationNanos() ).isGreaterThanOrEqualTo( 0L );
+			Assertions.assertThat( report.getApplyDurationNanos() ).isGreaterThanOrEqualTo( 0L );
+			Assertions.assertThat( report.getVisibilityLatencyNanos() )
+					.isGreaterThanOrEqualTo( report.getApplyDurationNanos() );
+		}
+
+		Assertions.assertThat( metrics.getBatchCount() ).isEqualTo( batchCountBefore + reports.size() );
+		// Backends may add their own works, e.g. commits: only check a lower bound
+		Assertions.assertThat( metrics.getAppliedWorkCount() ).isGreaterThanOrEqualTo( appliedWorkCountBefore + 3 );
+		Assertions.assertThat( metrics.getSubmittedWorkCount() ).isEqualTo( metrics.getAppliedWorkCount() );
+		Assertions.assertThat( metrics.getFailedWorkCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getPendingWorkCount() ).isEqualTo( 0L );
+		Assertions.assertThat( metrics.getBatchSizeHistogram().values().stream().mapToLong( Long::longValue ).sum() )
+				.isEqualTo( metrics.getBatchCount() );
+		Assertions.assertThat( metrics.getMaxVisibilityLatencyNanos() )
+				.isLessThanOrEqualTo( metrics.getTotalVisibilityLatencyNanos() );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
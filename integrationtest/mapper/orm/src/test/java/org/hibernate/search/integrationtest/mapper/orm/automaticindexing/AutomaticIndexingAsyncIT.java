@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.common.spi.ErrorContext;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test asynchronous automatic indexing,
+ * where committing a transaction does not wait for the changes to be applied to the indexes.
+ */
+public class AutomaticIndexingAsyncIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private final List<Throwable> reportedFailures = new CopyOnWriteArrayList<>();
+	private final CompletableFuture<Throwable> firstReportedFailureFuture = new CompletableFuture<>();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		ErrorHandler errorHandler = new ErrorHandler() {
+			@Override
+			public void handle(ErrorContext context) {
+				reportedFailures.add( context.getThrowable() );
+				firstReportedFailureFuture.complete( context.getThrowable() );
+			}
+
+			@Override
+			public void handleException(String errorMsg, Throwable exception) {
+				reportedFailures.add( exception );
+				firstReportedFailureFuture.complete( exception );
+			}
+		};
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ASYNC, true )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER,
+						BeanReference.ofInstance( errorHandler ) )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void commitDoesNotWait() throws InterruptedException, ExecutionException, TimeoutException {
+		CompletableFuture<Thread> executingThreadFuture = new CompletableFuture<>();
+		CompletableFuture<Object> executionFuture = new CompletableFuture<>();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "indexedField", entity1.getIndexedField() )
+					)
+					.preparedThenExecuted( () -> {
+						executingThreadFuture.complete( Thread.currentThread() );
+						return executionFuture;
+					} );
+		} );
+		// The works are executed in the background, not by the committing thread
+		assertThat( executingThreadFuture.get( 10, TimeUnit.SECONDS ) ).isNotSameAs( Thread.currentThread() );
+		// The transaction was committed even though the works are still being executed
+		backendMock.verifyExpectationsMet();
+		assertThat( executionFuture ).isNotDone();
+		assertThat( reportedFailures ).isEmpty();
+
+		RuntimeException simulatedFailure = new RuntimeException( "Simulated failure" );
+		executionFuture.completeExceptionally( simulatedFailure );
+		// The failure may be reported from the background thread
+		assertThat( firstReportedFailureFuture.get( 10, TimeUnit.SECONDS ) ).isSameAs( simulatedFailure );
+		assertThat( reportedFailures ).containsExactly( simulatedFailure );
+	}
+
+	@Test
+	public void sessionOverride_synchronous() {
+		CompletableFuture<Object> executionFuture = new CompletableFuture<>();
+		RuntimeException simulatedFailure = new RuntimeException( "Simulated failure" );
+		executionFuture.completeExceptionally( simulatedFailure );
+
+		SubTest.expectException( () -> OrmUtils.withinTransaction( sessionFactory, session -> {
+			Search.getSearchSession( session ).setAutomaticIndexingSynchronous( true );
+
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "indexedField", entity1.getIndexedField() )
+					)
+					.preparedThenExecuted( executionFuture );
+		} ) )
+				.assertThrown()
+				.hasStackTraceContaining( "Simulated failure" );
+		backendMock.verifyExpectationsMet();
+		// Synchronous failures are thrown, not reported to the error handler
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
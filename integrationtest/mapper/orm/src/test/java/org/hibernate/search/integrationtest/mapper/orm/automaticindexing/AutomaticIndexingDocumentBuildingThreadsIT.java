@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ValueBridgeRef;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing with documents built in parallel,
+ * which should not affect the content or the order of works sent to the backend.
+ */
+public class AutomaticIndexingDocumentBuildingThreadsIT {
+
+	// Enough to trigger parallel document building
+	private static final int ENTITY_COUNT = 450;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS, 4 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void largeTransaction() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			List<IndexedEntity> entities = new ArrayList<>();
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				entity.setIndexedField( "value" + i );
+				session.persist( entity );
+				entities.add( entity );
+			}
+
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( IndexedEntity entity : entities ) {
+				expectations.add( String.valueOf( entity.getId() ), b -> b
+						.field( "indexedField", entity.getIndexedField() )
+				);
+			}
+			expectations.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void largeTransaction_mixedWorks() {
+		persistEntities( 0, ENTITY_COUNT );
+
+		// Enough updates, deletes and adds to trigger parallel document building, in a single plan
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorksAnyOrder( IndexedEntity.INDEX );
+			for ( int i = 0; i < 200; i++ ) {
+				IndexedEntity entity = session.get( IndexedEntity.class, i );
+				entity.setIndexedField( "updated" + i );
+				expectations.update( String.valueOf( i ), b -> b
+						.field( "indexedField", entity.getIndexedField() )
+				);
+			}
+			for ( int i = 200; i < 300; i++ ) {
+				session.delete( session.get( IndexedEntity.class, i ) );
+				expectations.delete( String.valueOf( i ) );
+			}
+			for ( int i = ENTITY_COUNT; i < ENTITY_COUNT + 150; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				entity.setIndexedField( "value" + i );
+				session.persist( entity );
+				expectations.add( String.valueOf( i ), b -> b
+						.field( "indexedField", entity.getIndexedField() )
+				);
+			}
+			expectations.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void largeTransaction_documentBuildingFailure() {
+		SubTest.expectException( () -> OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				// Fail in the last batch, which is built by another thread
+				entity.setIndexedField( i == ENTITY_COUNT - 1 ? FailingValueBridge.FAILING_VALUE : "value" + i );
+				session.persist( entity );
+			}
+		} ) )
+				.assertThrown()
+				.hasStackTraceContaining( FailingValueBridge.FAILURE_MESSAGE );
+		// No work reached the backend
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void persistEntities(int start, int end) {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = start; i < end; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				entity.setIndexedField( "value" + i );
+				session.persist( entity );
+				expectations.add( String.valueOf( i ), b -> b
+						.field( "indexedField", entity.getIndexedField() )
+				);
+			}
+			expectations.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField(valueBridge = @ValueBridgeRef(type = FailingValueBridge.class))
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	public static final class FailingValueBridge implements ValueBridge<String, String> {
+
+		static final String FAILING_VALUE = "fail";
+		static final String FAILURE_MESSAGE = "Simulated document building failure";
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			if ( FAILING_VALUE.equals( value ) ) {
+				throw new IllegalStateException( FAILURE_MESSAGE );
+			}
+			return value;
+		}
+
+		@Override
+		public String cast(Object value) {
+			return (String) value;
+		}
+
+		@Override
+		public boolean isCompatibleWith(ValueBridge<?, ?> other) {
+			return getClass().equals( other.getClass() );
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToOne;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test the automatic indexing journal,
+ * which records changed entities until their changes are indexed, and reindexes them on startup otherwise.
+ */
+public class AutomaticIndexingJournalIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void replayAfterCrash() throws IOException, InterruptedException {
+		File journalDirectory = temporaryFolder.newFolder();
+		SessionFactory sessionFactory = setup( journalDirectory );
+
+		CountDownLatch executedLatch = new CountDownLatch( 1 );
+		CompletableFuture<Object> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "indexedField", entity1.getIndexedField() )
+					)
+					.preparedThenExecuted( () -> {
+						executedLatch.countDown();
+						return executionFuture;
+					} );
+		} );
+		awaitExecution( executedLatch );
+		backendMock.verifyExpectationsMet();
+
+		// Simulate a crash by copying the journal while the changes are still being indexed
+		File crashedJournalDirectory = temporaryFolder.newFolder();
+		copyFiles( journalDirectory.toPath(), crashedJournalDirectory.toPath() );
+
+		executionFuture.complete( null );
+		sessionFactory.close();
+
+		// The database is re-created on startup, so the entity no longer exists and must be deleted from the index
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.delete( "1" )
+				.preparedThenExecuted();
+		sessionFactory = setup( crashedJournalDirectory );
+		backendMock.verifyExpectationsMet();
+
+		// Changes are only replayed once
+		sessionFactory.close();
+		setup( crashedJournalDirectory );
+		backendMock.verifyExpectationsMet();
+	}
+
+	/**
+	 * Test that replaying spans multiple batches,
+	 * and that changes to contained entities lead to reindexing the containing entities exactly once.
+	 */
+	@Test
+	public void replayMultipleBatchesWithContainedEntities() throws IOException, InterruptedException {
+		int entityCount = 150;
+		File journalDirectory = temporaryFolder.newFolder();
+		// Keep the database content across restarts, so that entities can be reloaded when replaying
+		SessionFactory sessionFactory = setup( journalDirectory, "create" );
+
+		CountDownLatch executedLatch = new CountDownLatch( entityCount );
+		CompletableFuture<Object> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = 1; i <= entityCount; i++ ) {
+				ContainedEntity contained = new ContainedEntity();
+				contained.setId( i );
+				contained.setIncludedField( "contained" + i );
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				entity.setIndexedField( "indexed" + i );
+				entity.setContained( contained );
+				contained.setContaining( entity );
+				session.persist( contained );
+				session.persist( entity );
+
+				int id = i;
+				expectations.add( String.valueOf( i ), b -> b
+						.field( "indexedField", "indexed" + id )
+						.objectField( "contained", b2 -> b2
+								.field( "includedField", "contained" + id )
+						)
+				);
+			}
+			expectations.preparedThenExecuted( () -> {
+				executedLatch.countDown();
+				return executionFuture;
+			} );
+		} );
+		awaitExecution( executedLatch );
+		backendMock.verifyExpectationsMet();
+
+		File crashedJournalDirectory = temporaryFolder.newFolder();
+		copyFiles( journalDirectory.toPath(), crashedJournalDirectory.toPath() );
+
+		executionFuture.complete( null );
+		sessionFactory.close();
+
+		/*
+		 * Each entity has two journal entries, one for the indexed entity and one for the contained entity,
+		 * and entries are replayed in batches of 100:
+		 * each batch must reindex its own entities, and only those.
+		 */
+		int entitiesPerBatch = 50;
+		for ( int batchStart = 1; batchStart <= entityCount; batchStart += entitiesPerBatch ) {
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorksAnyOrder( IndexedEntity.INDEX );
+			for ( int i = batchStart; i < batchStart + entitiesPerBatch; i++ ) {
+				int id = i;
+				expectations.update( String.valueOf( i ), b -> b
+						.field( "indexedField", "indexed" + id )
+						.objectField( "contained", b2 -> b2
+								.field( "includedField", "contained" + id )
+						)
+				);
+			}
+			expectations.preparedThenExecuted();
+		}
+		setup( crashedJournalDirectory, "update" ).close();
+		backendMock.verifyExpectationsMet();
+
+		// Drop the tables when closing the session factory
+		setup( crashedJournalDirectory, "create-drop" ).close();
+		backendMock.verifyExpectationsMet();
+	}
+
+	/*
+	 * Automatic indexing is asynchronous: works are executed in the background after the commit.
+	 */
+	private static void awaitExecution(CountDownLatch executedLatch) throws InterruptedException {
+		if ( !executedLatch.await( 10, TimeUnit.SECONDS ) ) {
+			throw new AssertionError( "Works were not executed after 10 seconds" );
+		}
+	}
+
+	private SessionFactory setup(File journalDirectory) {
+		return setup( journalDirectory, "create-drop" );
+	}
+
+	private SessionFactory setup(File journalDirectory, String schemaManagementAction) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+				.objectField( "contained", b2 -> b2
+						.field( "includedField", String.class )
+				)
+		);
+		SessionFactory sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.HBM2DDL_AUTO, schemaManagementAction )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ASYNC, true )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_JOURNAL_DIRECTORY,
+						journalDirectory.getAbsolutePath() )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	private static void copyFiles(Path source, Path target) throws IOException {
+		try ( Stream<Path> files = Files.list( source ) ) {
+			for ( Path file : (Iterable<Path>) files::iterator ) {
+				Files.copy( file, target.resolve( file.getFileName() ) );
+			}
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		@OneToOne
+		@IndexedEmbedded
+		private ContainedEntity contained;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public ContainedEntity getContained() {
+			return contained;
+		}
+
+		public void setContained(ContainedEntity contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = "contained")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String includedField;
+
+		@OneToOne(mappedBy = "contained")
+		private IndexedEntity containing;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIncludedField() {
+			return includedField;
+		}
+
+		public void setIncludedField(String includedField) {
+			this.includedField = includedField;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+	}
+}
@@ -0,0 +1,402 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the outbox indexing strategy,
+ * which records changed entities in a database table and indexes them from a background processor.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	private static final String OUTBOX_TABLE = HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_TABLE;
+	private static final String LEASE_TABLE = OUTBOX_TABLE + "_LEASE";
+
+	private static final long POLLING_INTERVAL = 50L;
+	private static final long AWAIT_TIMEOUT = TimeUnit.SECONDS.toMillis( 10 );
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Test
+	public void processor() throws InterruptedException {
+		SessionFactory sessionFactory = setup( true );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			// The processor reloads the entity, so it always updates the document
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", entity1.getIndexedField() )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		// Multiple changes to the same entity are coalesced
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setIndexedField( "intermediateValue" );
+			session.flush();
+			entity1.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.delete( session.get( IndexedEntity.class, 1 ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.delete( "1" )
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessed( sessionFactory );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void recordedInTransaction() {
+		SessionFactory sessionFactory = setup( false );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+			session.flush();
+			entity1.setIndexedField( "updatedValue" );
+		} );
+		// Changes are recorded, but not indexed, since the processor is disabled
+		backendMock.verifyExpectationsMet();
+		assertThat( countOutboxEvents( sessionFactory ) ).isEqualTo( 1L );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Transaction transaction = session.beginTransaction();
+			IndexedEntity entity2 = new IndexedEntity();
+			entity2.setId( 2 );
+			entity2.setIndexedField( "initialValue" );
+			session.persist( entity2 );
+			session.flush();
+			transaction.rollback();
+		} );
+		// Changes of rolled back transactions are not recorded
+		assertThat( countOutboxEvents( sessionFactory ) ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void coalescing() throws InterruptedException {
+		SessionFactory recordingSessionFactory = setup( false );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( recordingSessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+			IndexedEntity entity2 = new IndexedEntity();
+			entity2.setId( 2 );
+			entity2.setIndexedField( "initialValue" );
+			session.persist( entity2 );
+		} );
+		OrmUtils.withinTransaction( recordingSessionFactory, session -> {
+			session.get( IndexedEntity.class, 1 ).setIndexedField( "intermediateValue" );
+		} );
+		OrmUtils.withinTransaction( recordingSessionFactory, session -> {
+			session.get( IndexedEntity.class, 1 ).setIndexedField( "updatedValue" );
+			session.delete( session.get( IndexedEntity.class, 2 ) );
+		} );
+		// Each transaction records its own events
+		assertThat( countOutboxEvents( recordingSessionFactory ) ).isEqualTo( 5L );
+
+		// The events of each entity are coalesced into a single work, reflecting the current state of the entity
+		backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+				.update( "1", b -> b
+						.field( "indexedField", "updatedValue" )
+				)
+				.delete( "2" )
+				.preparedThenExecuted();
+		setupProcessor( 1 );
+		awaitOutboxProcessed( recordingSessionFactory );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void partitions() throws InterruptedException {
+		SessionFactory recordingSessionFactory = setupContext( false )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PARTITIONS, 4 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		persistEntities( recordingSessionFactory, 1, 8 );
+		// Events are spread across partitions based on the entity identifier
+		assertThat( selectPartitions( recordingSessionFactory ) ).containsOnly( 0, 1, 2, 3 );
+
+		// Every partition gets processed
+		BackendMock.WorkCallListContext expectedWorks = backendMock.expectWorksAnyOrder( IndexedEntity.INDEX );
+		for ( int id = 1; id <= 8; id++ ) {
+			expectedWorks.update( String.valueOf( id ), b -> b
+					.field( "indexedField", "initialValue" )
+			);
+		}
+		expectedWorks.preparedThenExecuted();
+		setupProcessor( 4 );
+		awaitOutboxProcessed( recordingSessionFactory );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void multipleProcessors() throws InterruptedException {
+		SessionFactory recordingSessionFactory = setupContext( false )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PARTITIONS, 4 )
+				.setup( IndexedEntity.class );
+		setupProcessor( 4 );
+		setupProcessor( 4 );
+		backendMock.verifyExpectationsMet();
+
+		// Each event must be processed exactly once: processing it twice would lead to an unexpected call.
+		// Events of different partitions may be processed in any order.
+		for ( int id = 1; id <= 20; id++ ) {
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.update( String.valueOf( id ), b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.preparedThenExecuted();
+			persistEntities( recordingSessionFactory, id, id );
+		}
+		awaitOutboxProcessed( recordingSessionFactory );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void leaseExpiration() throws InterruptedException {
+		SessionFactory recordingSessionFactory = setup( false );
+		backendMock.verifyExpectationsMet();
+
+		persistEntities( recordingSessionFactory, 1, 1 );
+		// Simulate a node that acquired the lease, then stopped without releasing it
+		long leaseExpiration = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 2 );
+		OrmUtils.withinTransaction( recordingSessionFactory, session -> {
+			session.createNativeQuery( "insert into " + LEASE_TABLE
+					+ " (PARTITION_ID, OWNER, EXPIRES) values (0, 'stoppedNode', :expires)" )
+					.setParameter( "expires", leaseExpiration )
+					.executeUpdate();
+		} );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b
+						.field( "indexedField", "initialValue" )
+				)
+				.preparedThenExecuted();
+		setupProcessor( 1 );
+
+		// The partition is not processed as long as the lease is held by another node...
+		while ( System.currentTimeMillis() < leaseExpiration - POLLING_INTERVAL ) {
+			assertThat( countOutboxEvents( recordingSessionFactory ) ).as( "Remaining outbox events" ).isEqualTo( 1L );
+			Thread.sleep( POLLING_INTERVAL );
+		}
+		// ... but it is taken over once the lease expires
+		awaitOutboxProcessed( recordingSessionFactory );
+		assertThat( System.currentTimeMillis() ).isGreaterThanOrEqualTo( leaseExpiration );
+		assertThat( selectLeaseOwner( recordingSessionFactory ) ).isNotEqualTo( "stoppedNode" );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void failure_retryThenPark() throws InterruptedException {
+		SessionFactory sessionFactory = setupContext( true )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS, 2 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new RuntimeException( "Simulated indexing failure" ) );
+		// The event is retried once, then no longer processed
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b
+						.field( "indexedField", "initialValue" )
+				)
+				.preparedThenExecuted( failingFuture );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b
+						.field( "indexedField", "initialValue" )
+				)
+				.preparedThenExecuted( failingFuture );
+		persistEntities( sessionFactory, 1, 1 );
+
+		await( "Attempts recorded", () -> selectAttempts( sessionFactory ).equals( 2 ) );
+		// The event is kept in the table, so that it can be handled explicitly
+		assertThat( countOutboxEvents( sessionFactory ) ).isEqualTo( 1L );
+		// Let the processor poll a few more times: any further attempt would lead to an unexpected call
+		Thread.sleep( 4 * POLLING_INTERVAL );
+		assertThat( selectAttempts( sessionFactory ) ).isEqualTo( 2 );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private SessionFactory setup(boolean processorEnabled) {
+		return setupContext( processorEnabled ).setup( IndexedEntity.class );
+	}
+
+	/**
+	 * Boots another application node sharing the same database, which only processes events.
+	 */
+	private void setupProcessor(int partitions) {
+		setupContext( true )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PARTITIONS, partitions )
+				// The tables were created by the first node
+				.withProperty( AvailableSettings.HBM2DDL_AUTO, "none" )
+				.setup( IndexedEntity.class );
+	}
+
+	private OrmSetupHelper.SetupContext setupContext(boolean processorEnabled) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+		return ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.INDEXING_STRATEGY,
+						HibernateOrmIndexingStrategyName.OUTBOX )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED,
+						processorEnabled )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL,
+						POLLING_INTERVAL );
+	}
+
+	private static void persistEntities(SessionFactory sessionFactory, int firstId, int lastId) {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int id = firstId; id <= lastId; id++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( id );
+				entity.setIndexedField( "initialValue" );
+				session.persist( entity );
+			}
+		} );
+	}
+
+	private static void awaitOutboxProcessed(SessionFactory sessionFactory) throws InterruptedException {
+		await( "Outbox events processed", () -> countOutboxEvents( sessionFactory ) == 0L );
+	}
+
+	private static void await(String description, BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT;
+		while ( !condition.getAsBoolean() ) {
+			assertThat( System.currentTimeMillis() ).as( description + " before the timeout" ).isLessThan( deadline );
+			Thread.sleep( POLLING_INTERVAL );
+		}
+	}
+
+	private static long countOutboxEvents(SessionFactory sessionFactory) {
+		AtomicLong count = new AtomicLong();
+		OrmUtils.withinSession( sessionFactory, session -> count.set( ( (Number) session.createNativeQuery(
+				"select count(*) from " + OUTBOX_TABLE ).getSingleResult() ).longValue() ) );
+		return count.get();
+	}
+
+	private static List<Integer> selectPartitions(SessionFactory sessionFactory) {
+		List<Integer> partitions = new ArrayList<>();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			for ( Object partition : session.createNativeQuery( "select PARTITION_ID from " + OUTBOX_TABLE )
+					.getResultList() ) {
+				partitions.add( ( (Number) partition ).intValue() );
+			}
+		} );
+		return partitions;
+	}
+
+	private static Integer selectAttempts(SessionFactory sessionFactory) {
+		List<Integer> attempts = new ArrayList<>();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			for ( Object attempt : session.createNativeQuery( "select ATTEMPTS from " + OUTBOX_TABLE )
+					.getResultList() ) {
+				attempts.add( ( (Number) attempt ).intValue() );
+			}
+		} );
+		assertThat( attempts ).hasSize( 1 );
+		return attempts.get( 0 );
+	}
+
+	private static String selectLeaseOwner(SessionFactory sessionFactory) {
+		List<String> owners = new ArrayList<>();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			for ( Object owner : session.createNativeQuery( "select OWNER from " + LEASE_TABLE
+					+ " where PARTITION_ID = 0" ).getResultList() ) {
+				owners.add( (String) owner );
+			}
+		} );
+		assertThat( owners ).hasSize( 1 );
+		return owners.get( 0 );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.mapping.definition.annotationindex;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that annotation indexes generated at build time are taken into account,
+ * using a hand-written index located in the package of this test.
+ * <p>
+ * Skipping types listed as unmapped requires fingerprints matching the class files,
+ * which depend on the compiler: this is tested in the unit tests of the annotation index and of the annotation processor.
+ */
+public class AnnotationIndexIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Test
+	public void staleEntriesAreIgnored() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+		// The index states that these types are unmapped, but the fingerprints do not match their class file
+		backendMock.expectSchema( StaleIndexEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+		backendMock.expectSchema( NoFingerprintEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+
+		ormSetupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class, StaleIndexEntity.class, NoFingerprintEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void disabled() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+		backendMock.expectSchema( StaleIndexEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+
+		ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.ENABLE_ANNOTATION_INDEX, false )
+				.setup( IndexedEntity.class, StaleIndexEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "stale")
+	@Indexed(index = StaleIndexEntity.INDEX)
+	public static class StaleIndexEntity {
+
+		static final String INDEX = "StaleIndexEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "noFingerprint")
+	@Indexed(index = NoFingerprintEntity.INDEX)
+	public static class NoFingerprintEntity {
+
+		static final String INDEX = "NoFingerprintEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
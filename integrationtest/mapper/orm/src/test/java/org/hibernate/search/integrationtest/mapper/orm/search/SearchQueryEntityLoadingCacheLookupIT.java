@@ -0,0 +1,243 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
+import org.hibernate.search.mapper.orm.search.query.SearchQuery;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test cache lookups when loading entities for search hits.
+ */
+public class SearchQueryEntityLoadingCacheLookupIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Test
+	public void defaultStrategy_skip() {
+		setup( null );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Book book1 = session.find( Book.class, 1 );
+			EntityLoadingMetrics metrics = Search.getSearchSession( session ).getEntityLoadingMetrics();
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			List<Book> hits = searchAllBooks( session, null );
+
+			// The entity already in the persistence context is returned, but all entities are selected
+			Assertions.assertThat( hits ).containsExactly( book1, session.load( Book.class, 2 ), session.load( Book.class, 3 ) );
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+			Assertions.assertThat( metrics.getPersistenceContextHitCount() ).isEqualTo( 0L );
+			Assertions.assertThat( metrics.getDatabaseHitCount() ).isEqualTo( 3L );
+		} );
+	}
+
+	@Test
+	public void persistenceContext() {
+		setup( null );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Book book1 = session.find( Book.class, 1 );
+			Book book3 = session.find( Book.class, 3 );
+			EntityLoadingMetrics metrics = Search.getSearchSession( session ).getEntityLoadingMetrics();
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			List<Book> hits = searchAllBooks( session, EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT );
+
+			Assertions.assertThat( hits ).containsExactly( book1, session.load( Book.class, 2 ), book3 );
+			// Only the entity missing from the persistence context is loaded from the database
+			Assertions.assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1L );
+			Assertions.assertThat( metrics.getPersistenceContextHitCount() ).isEqualTo( 2L );
+			Assertions.assertThat( metrics.getSecondLevelCacheHitCount() ).isEqualTo( 0L );
+			Assertions.assertThat( metrics.getDatabaseHitCount() ).isEqualTo( 1L );
+			Assertions.assertThat( metrics.getMissingHitCount() ).isEqualTo( 0L );
+		} );
+	}
+
+	@Test
+	public void persistenceContext_allHits_noStatement() {
+		setup( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Book book1 = session.find( Book.class, 1 );
+			Book book2 = session.find( Book.class, 2 );
+			Book book3 = session.find( Book.class, 3 );
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			// The strategy is taken from the configuration property
+			List<Book> hits = searchAllBooks( session, null );
+
+			Assertions.assertThat( hits ).containsExactly( book1, book2, book3 );
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0L );
+			Assertions.assertThat( Search.getSearchSession( session ).getEntityLoadingMetrics().getPersistenceContextHitCount() )
+					.isEqualTo( 3L );
+		} );
+	}
+
+	@Test
+	public void persistenceContext_deletedEntity() {
+		setup( null );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Book book1 = session.find( Book.class, 1 );
+			session.remove( book1 );
+			EntityLoadingMetrics metrics = Search.getSearchSession( session ).getEntityLoadingMetrics();
+
+			List<Book> hits = searchAllBooks( session, EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT );
+
+			Assertions.assertThat( hits ).containsExactly( null, session.load( Book.class, 2 ), session.load( Book.class, 3 ) );
+			Assertions.assertThat( metrics.getPersistenceContextHitCount() ).isEqualTo( 0L );
+			Assertions.assertThat( metrics.getDatabaseHitCount() ).isEqualTo( 2L );
+			Assertions.assertThat( metrics.getMissingHitCount() ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void secondLevelCache_notCacheable() {
+		setup( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Book book2 = session.find( Book.class, 2 );
+			EntityLoadingMetrics metrics = Search.getSearchSession( session ).getEntityLoadingMetrics();
+
+			List<Book> hits = searchAllBooks( session, null );
+
+			// Book is not cacheable: entities missing from the persistence context are loaded from the database
+			Assertions.assertThat( hits ).containsExactly( session.load( Book.class, 1 ), book2, session.load( Book.class, 3 ) );
+			Assertions.assertThat( metrics.getPersistenceContextHitCount() ).isEqualTo( 1L );
+			Assertions.assertThat( metrics.getSecondLevelCacheHitCount() ).isEqualTo( 0L );
+			Assertions.assertThat( metrics.getDatabaseHitCount() ).isEqualTo( 2L );
+		} );
+	}
+
+	private List<Book> searchAllBooks(Session session, EntityLoadingCacheLookupStrategy strategy) {
+		SearchSession searchSession = Search.getSearchSession( session );
+		SearchQuery<Book> query = searchSession.search( Book.class )
+				.asEntity()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		if ( strategy != null ) {
+			query.setCacheLookupStrategy( strategy );
+		}
+
+		backendMock.expectSearchObjects(
+				Arrays.asList( Book.INDEX ),
+				b -> { },
+				StubSearchWorkBehavior.of(
+						3L,
+						reference( Book.INDEX, "1" ),
+						reference( Book.INDEX, "2" ),
+						reference( Book.INDEX, "3" )
+				)
+		);
+
+		List<Book> hits = query.fetchHits();
+		backendMock.verifyExpectationsMet();
+		return hits;
+	}
+
+	private void setup(EntityLoadingCacheLookupStrategy strategy) {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		OrmSetupHelper.SetupContext setupContext = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true );
+		if ( strategy != null ) {
+			setupContext.withProperty( HibernateOrmMapperSettings.QUERY_LOADING_CACHE_LOOKUP_STRATEGY, strategy );
+		}
+		sessionFactory = setupContext.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, "4 3 2 1" ) );
+			session.persist( new Book( 2, "The Cider House Rules" ) );
+			session.persist( new Book( 3, "Avenue of Mysteries" ) );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "1", b -> b.field( "title", "4 3 2 1" ) )
+					.add( "2", b -> b.field( "title", "The Cider House Rules" ) )
+					.add( "3", b -> b.field( "title", "Avenue of Mysteries" ) )
+					.preparedThenExecuted();
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
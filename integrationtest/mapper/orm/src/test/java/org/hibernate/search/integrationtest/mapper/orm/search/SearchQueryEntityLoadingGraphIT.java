@@ -0,0 +1,358 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.EntityGraph;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.FetchProfile;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.search.query.SearchQuery;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test entity graphs and fetch profiles when loading entities for search hits.
+ */
+public class SearchQueryEntityLoadingGraphIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+		backendMock.expectAnySchema( Magazine.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( Book.class, Author.class, Magazine.class );
+
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book " + i, author ) );
+			}
+			session.persist( new Magazine( 4, "Magazine 4" ) );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "1", b -> b.field( "title", "Book 1" ) )
+					.add( "2", b -> b.field( "title", "Book 2" ) )
+					.add( "3", b -> b.field( "title", "Book 3" ) )
+					.preparedThenExecuted();
+			backendMock.expectWorks( Magazine.INDEX )
+					.add( "4", b -> b.field( "title", "Magazine 4" ) )
+					.preparedThenExecuted();
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void defaultFetchPlan() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<Book> query = Search.getSearchSession( session ).search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			List<Book> hits = fetchAllBooks( query );
+
+			Assertions.assertThat( hits ).hasSize( 3 );
+			Assertions.assertThat( hits ).allSatisfy(
+					book -> Assertions.assertThat( Hibernate.isInitialized( book.getAuthor() ) ).isFalse()
+			);
+		} );
+	}
+
+	@Test
+	public void entityGraph_fetch() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			EntityGraph<Book> graph = session.createEntityGraph( Book.class );
+			graph.addAttributeNodes( "author" );
+			SearchQuery<Book> query = Search.getSearchSession( session ).search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery()
+					.setEntityGraphHint( graph, GraphSemantic.FETCH );
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			List<Book> hits = fetchAllBooks( query );
+
+			assertAuthorsInitialized( hits );
+			// Authors are fetched along with books
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void entityGraph_load_byName() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<Book> query = Search.getSearchSession( session ).search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery()
+					.setEntityGraphHint( Book.GRAPH_AUTHOR, GraphSemantic.LOAD );
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			List<Book> hits = fetchAllBooks( query );
+
+			assertAuthorsInitialized( hits );
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void entityGraph_jpaHint() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<Book> query = Search.getSearchSession( session ).search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			query.toJpaQuery().setHint( "javax.persistence.fetchgraph", session.getEntityGraph( Book.GRAPH_AUTHOR ) );
+
+			List<Book> hits = fetchAllBooks( query );
+
+			assertAuthorsInitialized( hits );
+		} );
+	}
+
+	@Test
+	public void entityGraph_multipleTypes() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			SearchQuery<Object> query = searchSession.search( Arrays.asList( Book.class, Magazine.class ) )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery()
+					// The graph only applies to books
+					.setEntityGraphHint( Book.GRAPH_AUTHOR, GraphSemantic.FETCH );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX, Magazine.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( Book.INDEX, "1" ),
+							reference( Magazine.INDEX, "4" )
+					)
+			);
+
+			List<Object> hits = query.fetchHits();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( hits ).containsExactly( session.load( Book.class, 1 ), session.load( Magazine.class, 4 ) );
+			Assertions.assertThat( Hibernate.isInitialized( ( (Book) hits.get( 0 ) ).getAuthor() ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void fetchProfile() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<Book> query = Search.getSearchSession( session ).search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery()
+					.enableFetchProfile( Book.FETCH_PROFILE_AUTHOR );
+
+			List<Book> hits = fetchAllBooks( query );
+
+			assertAuthorsInitialized( hits );
+			// The fetch profile is only enabled while loading
+			Assertions.assertThat( session.isFetchProfileEnabled( Book.FETCH_PROFILE_AUTHOR ) ).isFalse();
+		} );
+	}
+
+	private List<Book> fetchAllBooks(SearchQuery<Book> query) {
+		backendMock.expectSearchObjects(
+				Arrays.asList( Book.INDEX ),
+				b -> { },
+				StubSearchWorkBehavior.of(
+						3L,
+						reference( Book.INDEX, "1" ),
+						reference( Book.INDEX, "2" ),
+						reference( Book.INDEX, "3" )
+				)
+		);
+
+		List<Book> hits = query.fetchHits();
+		backendMock.verifyExpectationsMet();
+		return hits;
+	}
+
+	private static void assertAuthorsInitialized(List<Book> hits) {
+		Assertions.assertThat( hits ).hasSize( 3 );
+		Assertions.assertThat( hits ).allSatisfy(
+				book -> Assertions.assertThat( Hibernate.isInitialized( book.getAuthor() ) ).isTrue()
+		);
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	@NamedEntityGraph(name = Book.GRAPH_AUTHOR, attributeNodes = @NamedAttributeNode("author"))
+	@FetchProfile(name = Book.FETCH_PROFILE_AUTHOR, fetchOverrides = @FetchProfile.FetchOverride(
+			entity = Book.class, association = "author", mode = FetchMode.JOIN
+	))
+	public static class Book {
+
+		public static final String INDEX = "Book";
+		public static final String GRAPH_AUTHOR = "Book.author";
+		public static final String FETCH_PROFILE_AUTHOR = "book-author";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+
+		public void setAuthor(Author author) {
+			this.author = author;
+		}
+	}
+
+	@Entity
+	@Table(name = "author")
+	public static class Author {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity
+	@Table(name = "magazine")
+	@Indexed(index = Magazine.INDEX)
+	public static class Magazine {
+
+		public static final String INDEX = "Magazine";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Magazine() {
+		}
+
+		public Magazine(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
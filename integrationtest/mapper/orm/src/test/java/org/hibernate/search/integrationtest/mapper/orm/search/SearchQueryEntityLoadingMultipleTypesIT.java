@@ -0,0 +1,221 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.search.query.SearchQuery;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test loading entities for search hits of multiple types.
+ */
+public class SearchQueryEntityLoadingMultipleTypesIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+		backendMock.expectAnySchema( Magazine.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( Book.class, Magazine.class );
+
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, "Book 1" ) );
+			session.persist( new Book( 2, "Book 2" ) );
+			session.persist( new Magazine( 1, "Magazine 1" ) );
+			session.persist( new Magazine( 2, "Magazine 2" ) );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "1", b -> b.field( "title", "Book 1" ) )
+					.add( "2", b -> b.field( "title", "Book 2" ) )
+					.preparedThenExecuted();
+			backendMock.expectWorks( Magazine.INDEX )
+					.add( "1", b -> b.field( "title", "Magazine 1" ) )
+					.add( "2", b -> b.field( "title", "Magazine 2" ) )
+					.preparedThenExecuted();
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void interleavedTypes() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<Object> query = Search.getSearchSession( session )
+					.search( Arrays.asList( Book.class, Magazine.class ) )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX, Magazine.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							5L,
+							reference( Magazine.INDEX, "2" ),
+							reference( Book.INDEX, "1" ),
+							reference( Book.INDEX, "3" ), // Missing from the database
+							reference( Magazine.INDEX, "1" ),
+							reference( Book.INDEX, "2" )
+					)
+			);
+
+			List<Object> hits = query.fetchHits();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( hits ).containsExactly(
+					session.load( Magazine.class, 2 ),
+					session.load( Book.class, 1 ),
+					null,
+					session.load( Magazine.class, 1 ),
+					session.load( Book.class, 2 )
+			);
+			// One statement per type
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	public void singleTypeInResults() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<Object> query = Search.getSearchSession( session )
+					.search( Arrays.asList( Book.class, Magazine.class ) )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX, Magazine.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( Book.INDEX, "2" ),
+							reference( Book.INDEX, "1" )
+					)
+			);
+
+			List<Object> hits = query.fetchHits();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( hits ).containsExactly(
+					session.load( Book.class, 2 ),
+					session.load( Book.class, 1 )
+			);
+		} );
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+
+	@Entity
+	@Table(name = "magazine")
+	@Indexed(index = Magazine.INDEX)
+	public static class Magazine {
+
+		public static final String INDEX = "Magazine";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Magazine() {
+		}
+
+		public Magazine(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
+import org.hibernate.search.engine.common.spi.SearchIntegrationPartialBuildState;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingInitiator;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingKey;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingPartialBuildState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-document cost of building Lucene documents.
+ * <p>
+ * The Lucene backend builds documents as soon as works are added to an index work plan,
+ * so the benchmark adds works to a plan and never executes it:
+ * nothing is written to the index and no commit happens,
+ * which leaves only document contribution and the build of the Lucene document in the measurement.
+ * Run with {@code -prof gc} to compare the allocation rate per document.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DocumentBuildingBenchmark {
+
+	private static final String BACKEND_NAME = "benchmarkBackend";
+	private static final String TYPE_NAME = "Item";
+
+	private static final int BATCH_SIZE = 100;
+	private static final String[] CATEGORIES = { "books", "music", "videos", "games", "software" };
+	private static final int TAG_COUNT = 3;
+
+	private Path indexDirectory;
+	private SearchIntegration integration;
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+	private List<DocumentReferenceProvider> referenceProviders;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		indexDirectory = Files.createTempDirectory( "hsearch-benchmark" );
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME );
+		properties.put( "backends." + BACKEND_NAME + "." + BackendSettings.TYPE, "lucene" );
+		properties.put( "backends." + BACKEND_NAME + "." + LuceneBackendSettings.DIRECTORY_PROVIDER,
+				"local_directory" );
+		properties.put( "backends." + BACKEND_NAME + "." + LuceneBackendSettings.ROOT_DIRECTORY,
+				indexDirectory.toAbsolutePath().toString() );
+		ConfigurationPropertySource propertySource = ConfigurationPropertySource.fromMap( properties );
+
+		SearchIntegrationBuilder integrationBuilder = SearchIntegration.builder( propertySource );
+		StubMappingInitiator initiator = new StubMappingInitiator( false );
+		StubMappingKey mappingKey = new StubMappingKey();
+		integrationBuilder.addMappingInitiator( mappingKey, initiator );
+		initiator.add( TYPE_NAME, BACKEND_NAME, "Item",
+				ctx -> indexMapping = new IndexMapping( ctx.getSchemaElement() ) );
+
+		SearchIntegrationPartialBuildState integrationPartialBuildState = integrationBuilder.prepareBuild();
+		try {
+			StubMapping mapping = integrationPartialBuildState.finalizeMapping(
+					mappingKey, StubMappingPartialBuildState::finalizeMapping
+			);
+			integration = integrationPartialBuildState.finalizeIntegration( propertySource );
+			indexManager = mapping.getIndexMappingByTypeIdentifier( TYPE_NAME );
+		}
+		catch (RuntimeException e) {
+			integrationPartialBuildState.closeOnFailure();
+			throw e;
+		}
+
+		referenceProviders = new ArrayList<>( BATCH_SIZE );
+		for ( int i = 0; i < BATCH_SIZE; i++ ) {
+			referenceProviders.add( referenceProvider( String.valueOf( i ) ) );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if ( integration != null ) {
+			integration.close();
+		}
+		if ( indexDirectory != null ) {
+			try ( Stream<Path> paths = Files.walk( indexDirectory ) ) {
+				for ( Path path : (Iterable<Path>) paths.sorted( Comparator.reverseOrder() )::iterator ) {
+					Files.delete( path );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public IndexWorkPlan<? extends DocumentElement> buildDocuments() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < BATCH_SIZE; i++ ) {
+			int value = i;
+			workPlan.update( referenceProviders.get( i ), document -> {
+				document.addValue( indexMapping.title, "Item number " + value );
+				document.addValue( indexMapping.category, CATEGORIES[value % CATEGORIES.length] );
+				document.addValue( indexMapping.rank, value );
+				for ( int j = 0; j < TAG_COUNT; j++ ) {
+					DocumentElement tag = document.addObject( indexMapping.tags.self );
+					tag.addValue( indexMapping.tags.name, "tag" + ( ( value + j ) % 10 ) );
+				}
+			} );
+		}
+		// Returned so that the built documents are not optimized away; the plan is never executed
+		return workPlan;
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> title;
+		final IndexFieldReference<String> category;
+		final IndexFieldReference<Integer> rank;
+		final TagMapping tags;
+
+		IndexMapping(IndexSchemaElement root) {
+			title = root.field( "title", f -> f.asString() ).toReference();
+			category = root.field( "category", f -> f.asString() ).toReference();
+			rank = root.field( "rank", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			tags = new TagMapping( root.objectField( "tags", ObjectFieldStorage.NESTED ) );
+		}
+	}
+
+	private static class TagMapping {
+		final IndexObjectFieldReference self;
+		final IndexFieldReference<String> name;
+
+		TagMapping(IndexSchemaObjectField objectField) {
+			self = objectField.toReference();
+			name = objectField.field( "name", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.search.dsl.query.CompiledSearchQuery;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder;
+import org.hibernate.search.mapper.javabean.search.SearchScope;
+import org.hibernate.search.mapper.javabean.search.query.SearchQuery;
+import org.hibernate.search.mapper.javabean.search.query.SearchResult;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.search.PojoReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-query overhead of queries built through the search DSL
+ * with the overhead of queries created by binding parameters on a compiled query.
+ * <p>
+ * The {@code build*} benchmarks only create the query, the {@code fetch*} benchmarks also execute it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SearchQueryBuildingBenchmark {
+
+	private static final String BACKEND_NAME = "benchmarkBackend";
+
+	private static final int DOCUMENT_COUNT = 10_000;
+	private static final String[] CATEGORIES = { "books", "music", "videos", "games", "software" };
+	private static final int STATUS_COUNT = 3;
+
+	private Path indexDirectory;
+	private CloseableJavaBeanMapping mapping;
+	private SearchSession session;
+	private SearchScope scope;
+	private CompiledSearchQuery<SearchQuery<PojoReference>> compiledQuery;
+
+	private int invocationCount = 0;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		indexDirectory = Files.createTempDirectory( "hsearch-benchmark" );
+		JavaBeanMappingBuilder mappingBuilder = JavaBeanMapping.builder( MethodHandles.lookup() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( "backends." + BACKEND_NAME + "." + BackendSettings.TYPE, "lucene" )
+				.setProperty( "backends." + BACKEND_NAME + "." + LuceneBackendSettings.DIRECTORY_PROVIDER,
+						"local_directory" )
+				.setProperty( "backends." + BACKEND_NAME + "." + LuceneBackendSettings.ROOT_DIRECTORY,
+						indexDirectory.toAbsolutePath().toString() )
+				.addEntityType( Item.class );
+		mappingBuilder.annotationMapping().add( Item.class );
+		mapping = mappingBuilder.build();
+
+		try ( SearchSession indexingSession = mapping.createSession() ) {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				Item item = new Item();
+				item.setId( i );
+				item.setCategory( CATEGORIES[i % CATEGORIES.length] );
+				item.setStatus( i % STATUS_COUNT );
+				item.setRank( i );
+				indexingSession.getMainWorkPlan().add( item );
+			}
+		}
+
+		session = mapping.createSession();
+		scope = session.scope( Item.class );
+		compiledQuery = scope.search()
+				.asReference()
+				.predicate( f -> f.bool()
+						.must( f.match().onField( "category" ).matchingParameter( "category" ) )
+						.must( f.match().onField( "status" ).matchingParameter( "status" ) )
+				)
+				.sort( c -> c.byField( "rank" ).desc() )
+				.toCompiledQuery();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if ( session != null ) {
+			session.close();
+		}
+		if ( mapping != null ) {
+			mapping.close();
+		}
+		if ( indexDirectory != null ) {
+			try ( Stream<Path> paths = Files.walk( indexDirectory ) ) {
+				for ( Path path : (Iterable<Path>) paths.sorted( Comparator.reverseOrder() )::iterator ) {
+					Files.delete( path );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public SearchQuery<PojoReference> buildWithDsl() {
+		return createWithDsl();
+	}
+
+	@Benchmark
+	public SearchQuery<PojoReference> buildCompiled() {
+		return createCompiled();
+	}
+
+	@Benchmark
+	public SearchResult<PojoReference> fetchWithDsl() {
+		return createWithDsl().fetch( 10 );
+	}
+
+	@Benchmark
+	public SearchResult<PojoReference> fetchCompiled() {
+		return createCompiled().fetch( 10 );
+	}
+
+	private SearchQuery<PojoReference> createWithDsl() {
+		String category = nextCategory();
+		int status = nextStatus();
+		return scope.search()
+				.asReference()
+				.predicate( f -> f.bool()
+						.must( f.match().onField( "category" ).matching( category ) )
+						.must( f.match().onField( "status" ).matching( status ) )
+				)
+				.sort( c -> c.byField( "rank" ).desc() )
+				.toQuery();
+	}
+
+	private SearchQuery<PojoReference> createCompiled() {
+		Map<String, Object> parameters = new HashMap<>( 4 );
+		parameters.put( "category", nextCategory() );
+		parameters.put( "status", nextStatus() );
+		return compiledQuery.bind( parameters );
+	}
+
+	private String nextCategory() {
+		++invocationCount;
+		return CATEGORIES[invocationCount % CATEGORIES.length];
+	}
+
+	private int nextStatus() {
+		return invocationCount % STATUS_COUNT;
+	}
+
+	@Indexed(index = "Item")
+	public static final class Item {
+
+		private Integer id;
+		private String category;
+		private Integer status;
+		private Integer rank;
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public String getCategory() {
+			return category;
+		}
+
+		public void setCategory(String category) {
+			this.category = category;
+		}
+
+		@GenericField
+		public Integer getStatus() {
+			return status;
+		}
+
+		public void setStatus(Integer status) {
+			this.status = status;
+		}
+
+		@GenericField(sortable = Sortable.YES)
+		public Integer getRank() {
+			return rank;
+		}
+
+		public void setRank(Integer rank) {
+			this.rank = rank;
+		}
+
+		@Override
+		public String toString() {
+			return String.format( Locale.ROOT, "Item[id=%d]", id );
+		}
+	}
+}
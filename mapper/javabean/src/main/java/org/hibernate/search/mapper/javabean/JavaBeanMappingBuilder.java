@@ -89,6 +89,11 @@ public JavaBeanMappingBuilder setAnnotatedTypeDiscoveryEnabled(boolean annotated
 		return this;
 	}
 
+	public JavaBeanMappingBuilder setAnnotationIndexEnabled(boolean annotationIndexEnabled) {
+		mappingInitiator.setAnnotationIndexEnabled( annotationIndexEnabled );
+		return this;
+	}
+
 	public JavaBeanMappingBuilder setProperty(String name, Object value) {
 		overriddenProperties.put( name, value );
 		return this;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.javabean.search.impl;
 
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
@@ -42,4 +43,9 @@ public SearchSortContainerContext sort() {
 	public SearchProjectionFactoryContext<PojoReference, PojoReference> projection() {
 		return delegate.projection();
 	}
+
+	@Override
+	public SearchAggregationFactoryContext aggregation() {
+		return delegate.aggregation();
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.javabean.search.query;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * @param <T> The type of results.
  */
@@ -73,6 +75,34 @@ default SearchResult<T> fetch(Integer limit, Integer offset) {
 	 */
 	long fetchTotalHitCount();
 
+	/**
+	 * Execute the query asynchronously.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if something goes wrong while executing the query.
+	 */
+	default CompletionStage<SearchResult<T>> fetchAsync() {
+		return fetchAsync( null, null );
+	}
+
+	/**
+	 * Execute the query asynchronously.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if something goes wrong while executing the query.
+	 */
+	CompletionStage<SearchResult<T>> fetchAsync(Long limit, Long offset);
+
+	/**
+	 * Execute the query asynchronously and retrieve the total hit count.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings, or completed exceptionally if something goes wrong while executing the query.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	/**
 	 * @return A textual representation of the query.
 	 */
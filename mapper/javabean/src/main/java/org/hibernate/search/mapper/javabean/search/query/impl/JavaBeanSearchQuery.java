@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.javabean.search.query.impl;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.mapper.javabean.search.query.SearchQuery;
 import org.hibernate.search.mapper.javabean.search.query.SearchResult;
@@ -28,6 +30,17 @@ public long fetchTotalHitCount() {
 		return delegate.fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<T>> fetchAsync(Long limit, Long offset) {
+		// Hits are never loaded from an external source in this mapper, so loading can run in any thread
+		return delegate.fetchAsync( limit, offset, Runnable::run ).thenApply( JavaBeanSearchResult::new );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return delegate.fetchTotalHitCountAsync();
+	}
+
 	@Override
 	public String getQueryString() {
 		return delegate.getQueryString();
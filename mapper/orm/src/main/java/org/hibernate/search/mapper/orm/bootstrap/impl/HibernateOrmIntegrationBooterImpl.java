@@ -248,6 +248,12 @@ private HibernateSearchContextService doBootSecondPhase(
 				sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextService.class );
 		contextService.initialize( integration, mapping );
 
+		// Index the changes that were committed, but not indexed, before the application last stopped
+		mapping.replayAutomaticIndexingJournal();
+
+		// Index the changes recorded in the outbox table, by this node or others
+		mapping.startOutboxEventProcessing();
+
 		// TODO JMX
 //		this.jmx = new JMXHook( propertySource );
 //		this.jmx.registerIfEnabled( extendedIntegrator, factory );
@@ -26,6 +26,7 @@
 import org.hibernate.search.mapper.orm.event.impl.HibernateSearchEventListener;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
@@ -86,10 +87,16 @@ public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactor
 		CompletableFuture<HibernateSearchContextService> contextFuture =
 				booter.orchestrateBootAndShutdown( sessionFactoryCreatedFuture, sessionFactoryClosingFuture );
 
-		// Listen to Hibernate ORM events to index automatically
+		HibernateOrmIndexingStrategyName indexingStrategy = INDEXING_MODE.get( propertySource );
+		if ( HibernateOrmIndexingStrategyName.OUTBOX.equals( indexingStrategy ) ) {
+			// Schema management runs after integrators, so the outbox tables can still be added to the model
+			Outbox.create( propertySource ).contributeSchema( metadata.getDatabase() );
+		}
+
+		// Listen to Hibernate ORM events to index automatically, or to record changes in the outbox table
 		HibernateSearchEventListener hibernateSearchEventListener = new HibernateSearchEventListener(
 				contextFuture,
-				HibernateOrmIndexingStrategyName.EVENT.equals( INDEXING_MODE.get( propertySource ) ),
+				!HibernateOrmIndexingStrategyName.MANUAL.equals( indexingStrategy ),
 				DIRTY_PROCESSING_ENABLED.get( propertySource )
 		);
 		registerHibernateSearchEventListener( hibernateSearchEventListener, serviceRegistry );
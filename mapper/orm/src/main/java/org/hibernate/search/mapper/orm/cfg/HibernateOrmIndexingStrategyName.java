@@ -28,7 +28,15 @@ public enum HibernateOrmIndexingStrategyName {
 	/**
 	 * Indexing is triggered explicitly.
 	 */
-	MANUAL("manual");
+	MANUAL("manual"),
+
+	/**
+	 * Entity insertion, update etc. are recorded in an outbox table, in the same transaction,
+	 * and indexing is triggered later by a background processor polling this table.
+	 * <p>
+	 * This strategy cannot be used with multi-tenancy.
+	 */
+	OUTBOX("outbox");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.cfg;
 
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 
 /**
  * @author Emmanuel Bernard
@@ -77,6 +78,21 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String ENABLE_ANNOTATION_MAPPING = PREFIX + Radicals.ENABLE_ANNOTATION_MAPPING;
 
+	/**
+	 * Whether annotation indexes generated at build time should be used to skip annotation processing
+	 * for types that do not carry any Hibernate Search mapping annotation.
+	 * <p>
+	 * Annotation indexes are generated by the annotation processor from the hibernate-search-mapper-pojo-processor module.
+	 * Types that are not listed in any index are always processed,
+	 * and so are types whose class file changed since the index was generated.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@code Defaults#ENABLE_ANNOTATION_INDEX}.
+	 */
+	public static final String ENABLE_ANNOTATION_INDEX = PREFIX + Radicals.ENABLE_ANNOTATION_INDEX;
+
 	/**
 	 * The mapping configurer to use.
 	 * <p>
@@ -89,6 +105,216 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * How to look up entities in caches when loading search hits.
+	 * <p>
+	 * Looking up entities in the persistence context and second-level cache avoids loading them from the database,
+	 * but has a cost of its own, which is only worth it if a significant part of the hits is expected to be cached.
+	 * The strategy can be overridden for each query using
+	 * {@link org.hibernate.search.mapper.orm.search.query.SearchQuery#setCacheLookupStrategy(EntityLoadingCacheLookupStrategy)}.
+	 * <p>
+	 * Expects a {@link EntityLoadingCacheLookupStrategy} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_LOADING_CACHE_LOOKUP_STRATEGY}.
+	 */
+	public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = PREFIX + Radicals.QUERY_LOADING_CACHE_LOOKUP_STRATEGY;
+
+	/**
+	 * Whether automatic indexing should be asynchronous.
+	 * <p>
+	 * When disabled, committing a transaction waits until the resulting changes are applied to the indexes.
+	 * When enabled, changes are still computed before the transaction commit,
+	 * but committing a transaction only queues them and returns immediately:
+	 * they are submitted to the backends from a background thread.
+	 * Failures to apply the changes are then reported to the error handler defined by
+	 * {@link #AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER}.
+	 * <p>
+	 * This behavior can be overridden for each session using
+	 * {@link org.hibernate.search.mapper.orm.session.SearchSession#setAutomaticIndexingSynchronous(boolean)}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_ASYNC}.
+	 */
+	public static final String AUTOMATIC_INDEXING_ASYNC = PREFIX + Radicals.AUTOMATIC_INDEXING_ASYNC;
+
+	/**
+	 * The maximum number of transactions whose changes are being applied asynchronously.
+	 * <p>
+	 * When this limit is reached, committing a transaction blocks until the changes
+	 * of a previous transaction are applied.
+	 * <p>
+	 * Expects a strictly positive Integer value, or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE;
+
+	/**
+	 * The error handler to report failures of asynchronous automatic indexing to.
+	 * <p>
+	 * Expects a reference to a bean of type {@link org.hibernate.search.engine.common.spi.ErrorHandler}.
+	 * <p>
+	 * Defaults to no value, meaning failures are logged.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER = PREFIX + Radicals.AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER;
+
+	/**
+	 * The number of threads used to build documents when automatic indexing processes large transactions.
+	 * <p>
+	 * When set to {@code 0}, documents are built in the committing thread, one after the other.
+	 * When strictly positive, documents of transactions involving many entities are built in parallel
+	 * by a dedicated pool of threads, while works are still sent to the backends in the same order.
+	 * <p>
+	 * Entities are still retrieved in the committing thread,
+	 * but their properties are read from other threads: as Hibernate ORM sessions are not thread-safe,
+	 * only enable this if indexed properties and indexed-embedded associations
+	 * are already loaded when the transaction is committed.
+	 * <p>
+	 * Expects a positive Integer value, or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS;
+
+	/**
+	 * The directory of the journal recording the entities changed by transactions until their changes are indexed.
+	 * <p>
+	 * When set, the type and identifier of entities changed by a transaction are written
+	 * to memory-mapped files in this directory before the transaction is committed,
+	 * and marked as indexed once the backends have processed the changes.
+	 * If the JVM stops before that, the recorded entities are reloaded and reindexed
+	 * when Hibernate Search starts again,
+	 * which makes {@link #AUTOMATIC_INDEXING_ASYNC asynchronous automatic indexing} safer to use.
+	 * <p>
+	 * Changes are marked as indexed even if indexing fails: failures are still reported as usual.
+	 * The files are not explicitly flushed to the disk:
+	 * the journal survives crashes of the JVM, but not crashes of the operating system.
+	 * <p>
+	 * The directory must not be shared between multiple applications.
+	 * <p>
+	 * Expects a String, such as "/var/lib/myapp/hibernate-search-journal".
+	 * <p>
+	 * Defaults to no value, meaning the journal is disabled.
+	 */
+	public static final String AUTOMATIC_INDEXING_JOURNAL_DIRECTORY =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_JOURNAL_DIRECTORY;
+
+	/**
+	 * The size of each of the two files of the {@link #AUTOMATIC_INDEXING_JOURNAL_DIRECTORY automatic indexing journal},
+	 * in bytes.
+	 * <p>
+	 * A file can only be reused once the changes of all the transactions it records are indexed:
+	 * when both files are full, committing a transaction blocks until the changes of previous transactions are indexed.
+	 * The changes of a single transaction must also fit in one file.
+	 * <p>
+	 * Expects an Integer value greater than or equal to {@code 4096},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE;
+
+	/**
+	 * The name of the outbox table, when the {@link #INDEXING_STRATEGY indexing strategy} is
+	 * {@link HibernateOrmIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Changes to entities are recorded as rows in this table, in the same transaction as the changes themselves,
+	 * and indexed later by a processor polling the table.
+	 * Leases on partitions of the table are stored in a second table whose name is this name suffixed with {@code _LEASE}.
+	 * Both tables are created and dropped along with the other tables
+	 * when Hibernate ORM schema management is enabled.
+	 * <p>
+	 * Expects a String, such as "MYAPP_SEARCH_OUTBOX".
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_TABLE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE;
+
+	/**
+	 * The number of partitions of the {@link #AUTOMATIC_INDEXING_OUTBOX_TABLE outbox table}.
+	 * <p>
+	 * Changes are assigned to a partition based on the hash of the entity identifier,
+	 * and each partition is processed by a single application node at a time:
+	 * more partitions allow more nodes to process changes concurrently.
+	 * All application nodes sharing a database must use the same number of partitions.
+	 * <p>
+	 * Expects a strictly positive Integer value, or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_PARTITIONS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PARTITIONS = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PARTITIONS;
+
+	/**
+	 * Whether this application node should process the changes recorded in the
+	 * {@link #AUTOMATIC_INDEXING_OUTBOX_TABLE outbox table}.
+	 * <p>
+	 * Disable this on nodes that should only record changes, for instance to keep indexing off request nodes.
+	 * At least one node sharing the database must process changes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED;
+
+	/**
+	 * The maximum number of rows of the {@link #AUTOMATIC_INDEXING_OUTBOX_TABLE outbox table}
+	 * processed in a single transaction.
+	 * <p>
+	 * Expects a strictly positive Integer value, or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The delay between two polls of the {@link #AUTOMATIC_INDEXING_OUTBOX_TABLE outbox table}, in milliseconds.
+	 * <p>
+	 * Expects a strictly positive Long value, or a String that can be parsed to such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * How long an application node keeps processing a partition of the
+	 * {@link #AUTOMATIC_INDEXING_OUTBOX_TABLE outbox table} without renewing its lease, in milliseconds.
+	 * <p>
+	 * When a node stops while processing a partition, other nodes can only take over once the lease expires.
+	 * The lease must be longer than the time needed to process a batch of changes.
+	 * <p>
+	 * Expects a strictly positive Long value, or a String that can be parsed to such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION;
+
+	/**
+	 * How many times indexing a change recorded in the {@link #AUTOMATIC_INDEXING_OUTBOX_TABLE outbox table}
+	 * can fail before the change is no longer processed.
+	 * <p>
+	 * Failed changes are retried with an exponentially increasing delay.
+	 * Once the maximum number of attempts is reached, the change is left in the table and logged,
+	 * so that it no longer delays the other changes of its partition.
+	 * <p>
+	 * Expects a strictly positive Integer value, or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS;
+
 	public static class Radicals {
 
 		private Radicals() {
@@ -99,7 +325,22 @@ private Radicals() {
 		public static final String INDEXING_STRATEGY = "indexing_strategy";
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
+		public static final String ENABLE_ANNOTATION_INDEX = "enable_annotation_index";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
+		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
+		public static final String AUTOMATIC_INDEXING_ASYNC = "automatic_indexing.async";
+		public static final String AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE = "automatic_indexing.async.queue_size";
+		public static final String AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER = "automatic_indexing.async.error_handler";
+		public static final String AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS = "automatic_indexing.document_building.threads";
+		public static final String AUTOMATIC_INDEXING_JOURNAL_DIRECTORY = "automatic_indexing.journal.directory";
+		public static final String AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE = "automatic_indexing.journal.segment_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = "automatic_indexing.outbox.table";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PARTITIONS = "automatic_indexing.outbox.partitions";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED = "automatic_indexing.outbox.processor.enabled";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = "automatic_indexing.outbox.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = "automatic_indexing.outbox.polling_interval";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION = "automatic_indexing.outbox.lease_duration";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = "automatic_indexing.outbox.max_attempts";
 	}
 
 	/**
@@ -115,6 +356,20 @@ private Defaults() {
 		public static final HibernateOrmIndexingStrategyName INDEXING_STRATEGY = HibernateOrmIndexingStrategyName.EVENT;
 		public static final boolean ENABLE_DIRTY_CHECK = true;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
+		public static final boolean ENABLE_ANNOTATION_INDEX = true;
+		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
+				EntityLoadingCacheLookupStrategy.SKIP;
+		public static final boolean AUTOMATIC_INDEXING_ASYNC = false;
+		public static final int AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE = 1000;
+		public static final int AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS = 0;
+		public static final int AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = "HSEARCH_OUTBOX_EVENT";
+		public static final int AUTOMATIC_INDEXING_OUTBOX_PARTITIONS = 1;
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED = true;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = 100;
+		public static final long AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = 1000L;
+		public static final long AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION = 60_000L;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = 10;
 	}
 
 }
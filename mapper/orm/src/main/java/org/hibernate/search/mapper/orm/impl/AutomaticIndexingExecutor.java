@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+import org.hibernate.search.util.common.impl.Executors;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Executes the work plans resulting from automatic indexing after a transaction commit.
+ * <p>
+ * Synchronous work plans are executed from the committing thread, which waits for their completion.
+ * Asynchronous work plans are executed from a single background thread, in commit order:
+ * they are prepared before the transaction completes, so their execution no longer accesses the session.
+ * Asynchronous work plans are limited in number:
+ * when too many are pending, the committing thread waits until one completes.
+ */
+public final class AutomaticIndexingExecutor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * How long closing waits for pending asynchronous work plans,
+	 * so that a backend that never completes a work does not block the shutdown forever.
+	 */
+	private static final long CLOSE_TIMEOUT_MILLIS = 30_000L;
+
+	private final int queueSize;
+	private final Semaphore pendingPermits;
+	private final ErrorHandler errorHandler;
+	// The thread is only started when the first asynchronous work plan is submitted
+	private final ExecutorService executor;
+
+	public AutomaticIndexingExecutor(int queueSize, ErrorHandler errorHandler) {
+		this.queueSize = queueSize;
+		this.pendingPermits = new Semaphore( queueSize );
+		this.errorHandler = errorHandler;
+		this.executor = Executors.newFixedThreadPool( 1, "Hibernate Search - Automatic indexing", queueSize );
+	}
+
+	/**
+	 * @param workPlan The work plan to execute.
+	 * @param synchronous Whether to wait for the work plan to be executed.
+	 * If {@code false}, failures are reported to the error handler instead of being thrown.
+	 */
+	public void execute(PojoWorkPlan workPlan, boolean synchronous) {
+		if ( synchronous ) {
+			workPlan.execute().join();
+			return;
+		}
+
+		try {
+			pendingPermits.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedWhileWaitingForAsyncAutomaticIndexingQueue( e );
+		}
+
+		try {
+			executor.execute( () -> executeAsync( workPlan ) );
+		}
+		catch (RuntimeException e) {
+			pendingPermits.release();
+			errorHandler.handleException( log.asyncAutomaticIndexingFailed(), e );
+		}
+	}
+
+	private void executeAsync(PojoWorkPlan workPlan) {
+		CompletableFuture<?> future;
+		try {
+			future = workPlan.execute();
+		}
+		catch (RuntimeException e) {
+			pendingPermits.release();
+			errorHandler.handleException( log.asyncAutomaticIndexingFailed(), e );
+			return;
+		}
+
+		future.whenComplete( Futures.handler( (ignored, throwable) -> {
+			pendingPermits.release();
+			if ( throwable != null ) {
+				errorHandler.handleException( log.asyncAutomaticIndexingFailed(), throwable );
+			}
+		} ) );
+	}
+
+	/**
+	 * Waits for all pending asynchronous work plans to complete, up to a timeout.
+	 */
+	@Override
+	public void close() {
+		boolean acquired = false;
+		try {
+			acquired = pendingPermits.tryAcquire( queueSize, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if ( acquired ) {
+			pendingPermits.release( queueSize );
+			executor.shutdown();
+		}
+		else {
+			log.asyncAutomaticIndexingShutdownTimeout( CLOSE_TIMEOUT_MILLIS,
+					queueSize - pendingPermits.availablePermits() );
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A local, append-only journal of the entities changed by transactions whose changes are not indexed yet.
+ * <p>
+ * The changes of a transaction are appended to the journal before the transaction is committed,
+ * and acknowledged once the backends have processed the resulting works, successfully or not.
+ * Changes that were never acknowledged, because the JVM stopped in-between,
+ * are available on the next start through {@link #getRecoveredEntries()}.
+ * <p>
+ * The journal is made of two memory-mapped segment files, written alternately:
+ * a segment is only reused once all the records it contains have been acknowledged.
+ * When both segments are full, appending to the journal blocks until a segment is freed.
+ * <p>
+ * Each record is made of its length, a state byte and the serialized entries,
+ * each entry recording the tenant identifier, entity name and identifier of a changed entity.
+ * The length is written last, so that incomplete records are ignored when reading the journal.
+ * The journal is never explicitly flushed to the disk:
+ * it survives crashes of the JVM, but not crashes of the operating system.
+ */
+public final class AutomaticIndexingJournal implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SEGMENT_FILE_NAME_PREFIX = "automatic-indexing-";
+	private static final String SEGMENT_FILE_NAME_SUFFIX = ".journal";
+	private static final int SEGMENT_COUNT = 2;
+
+	private static final int LENGTH_SIZE = Integer.BYTES;
+	private static final int HEADER_SIZE = LENGTH_SIZE + 1;
+	private static final byte STATE_PENDING = 0;
+	private static final byte STATE_ACKNOWLEDGED = 1;
+
+	/**
+	 * The minimum size of a segment: smaller segments could not hold the changes of any meaningful transaction.
+	 */
+	public static final int MIN_SEGMENT_SIZE = 4096;
+
+	public static AutomaticIndexingJournal open(Path directory, int segmentSize) {
+		Segment[] segments = new Segment[SEGMENT_COUNT];
+		List<Record> recoveredRecords = new ArrayList<>();
+		try {
+			Files.createDirectories( directory );
+			for ( int i = 0; i < SEGMENT_COUNT; i++ ) {
+				Path file = directory.resolve( SEGMENT_FILE_NAME_PREFIX + i + SEGMENT_FILE_NAME_SUFFIX );
+				segments[i] = Segment.open( i, file, segmentSize );
+				segments[i].recover( recoveredRecords );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).pushAll( Segment::close, segments );
+			throw log.unableToOpenAutomaticIndexingJournal( directory, e );
+		}
+		return new AutomaticIndexingJournal( segments, segmentSize, recoveredRecords );
+	}
+
+	private final Segment[] segments;
+	private final int segmentSize;
+	private final List<Record> recoveredRecords;
+
+	private Segment currentSegment;
+
+	private AutomaticIndexingJournal(Segment[] segments, int segmentSize, List<Record> recoveredRecords) {
+		this.segments = segments;
+		this.segmentSize = segmentSize;
+		this.recoveredRecords = recoveredRecords;
+		this.currentSegment = segments[0];
+	}
+
+	@Override
+	public synchronized void close() {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( Segment::close, segments );
+		}
+		catch (IOException e) {
+			throw log.unableToCloseAutomaticIndexingJournal( e );
+		}
+	}
+
+	/**
+	 * @return The entries of records that were not acknowledged when the journal was last closed.
+	 */
+	public synchronized Set<Entry> getRecoveredEntries() {
+		Set<Entry> entries = new LinkedHashSet<>();
+		for ( Record record : recoveredRecords ) {
+			entries.addAll( record.entries );
+		}
+		return entries;
+	}
+
+	/**
+	 * Acknowledge the records returned by {@link #getRecoveredEntries()}, so that they are not recovered again.
+	 */
+	public synchronized void acknowledgeRecoveredEntries() {
+		for ( Record record : recoveredRecords ) {
+			acknowledge( record );
+		}
+		recoveredRecords.clear();
+	}
+
+	/**
+	 * @param entries The entries to append to the journal.
+	 * @return A record to pass to {@link #acknowledge(Record)} once the entries have been indexed.
+	 */
+	public synchronized Record append(Collection<Entry> entries) {
+		byte[] payload = serialize( entries );
+		int recordSize = HEADER_SIZE + payload.length;
+		// Always leave room for the length of the next record, which marks the end of the segment
+		if ( recordSize + LENGTH_SIZE > segmentSize ) {
+			throw log.automaticIndexingJournalRecordTooLarge( recordSize + LENGTH_SIZE, segmentSize );
+		}
+
+		while ( currentSegment.position + recordSize + LENGTH_SIZE > segmentSize ) {
+			Segment nextSegment = segments[( currentSegment.index + 1 ) % SEGMENT_COUNT];
+			if ( nextSegment.pendingRecords == 0 ) {
+				currentSegment = nextSegment;
+			}
+			else {
+				try {
+					wait();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw log.interruptedWhileWaitingForAutomaticIndexingJournal( e );
+				}
+			}
+		}
+
+		return currentSegment.write( payload );
+	}
+
+	/**
+	 * @param record A record returned by {@link #append(Collection)}.
+	 * Acknowledging the same record multiple times has no effect.
+	 */
+	public synchronized void acknowledge(Record record) {
+		if ( record.acknowledged ) {
+			return;
+		}
+		record.acknowledged = true;
+		record.segment.acknowledge( record.position );
+		notifyAll();
+	}
+
+	private static byte[] serialize(Collection<Entry> entries) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeInt( entries.size() );
+			for ( Entry entry : entries ) {
+				out.writeObject( entry.tenantId );
+				out.writeUTF( entry.entityName );
+				out.writeObject( entry.id );
+			}
+		}
+		catch (IOException e) {
+			throw log.unableToWriteAutomaticIndexingJournal( e );
+		}
+		return bytes.toByteArray();
+	}
+
+	private static List<Entry> deserialize(byte[] payload) throws IOException, ClassNotFoundException {
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( payload ) ) ) {
+			int size = in.readInt();
+			List<Entry> entries = new ArrayList<>( size );
+			for ( int i = 0; i < size; i++ ) {
+				String tenantId = (String) in.readObject();
+				String entityName = in.readUTF();
+				Serializable id = (Serializable) in.readObject();
+				entries.add( new Entry( tenantId, entityName, id ) );
+			}
+			return entries;
+		}
+	}
+
+	/**
+	 * An entity whose changes must be indexed.
+	 */
+	public static final class Entry {
+
+		private final String tenantId;
+		private final String entityName;
+		private final Serializable id;
+
+		/**
+		 * @param tenantId The identifier of the tenant the entity belongs to, or {@code null} without multi-tenancy.
+		 * @param entityName The name of the entity.
+		 * @param id The identifier of the entity.
+		 */
+		public Entry(String tenantId, String entityName, Serializable id) {
+			this.tenantId = tenantId;
+			this.entityName = entityName;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Entry other = (Entry) obj;
+			return Objects.equals( tenantId, other.tenantId )
+					&& entityName.equals( other.entityName ) && id.equals( other.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( tenantId, entityName, id );
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + ( tenantId == null ? "" : tenantId + "/" )
+					+ entityName + "#" + id + "]";
+		}
+
+		public String getTenantId() {
+			return tenantId;
+		}
+
+		public String getEntityName() {
+			return entityName;
+		}
+
+		public Serializable getId() {
+			return id;
+		}
+	}
+
+	public static final class Record {
+
+		private final Segment segment;
+		private final int position;
+		private final List<Entry> entries;
+
+		private boolean acknowledged = false;
+
+		private Record(Segment segment, int position, List<Entry> entries) {
+			this.segment = segment;
+			this.position = position;
+			this.entries = entries;
+		}
+	}
+
+	private static final class Segment {
+
+		static Segment open(int index, Path file, int segmentSize) throws IOException {
+			FileChannel channel = FileChannel.open( file,
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+			try {
+				MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, segmentSize );
+				return new Segment( index, file, channel, buffer );
+			}
+			catch (IOException | RuntimeException e) {
+				new SuppressingCloser( e ).push( channel );
+				throw e;
+			}
+		}
+
+		private final int index;
+		private final Path file;
+		private final FileChannel channel;
+		private final MappedByteBuffer buffer;
+
+		private int position = 0;
+		private int pendingRecords = 0;
+
+		private Segment(int index, Path file, FileChannel channel, MappedByteBuffer buffer) {
+			this.index = index;
+			this.file = file;
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+
+		void close() throws IOException {
+			channel.close();
+		}
+
+		void recover(List<Record> recoveredRecords) {
+			try {
+				while ( position + HEADER_SIZE <= buffer.capacity() ) {
+					int length = buffer.getInt( position );
+					if ( length <= 0 || position + HEADER_SIZE + length > buffer.capacity() ) {
+						break;
+					}
+					if ( buffer.get( position + LENGTH_SIZE ) == STATE_PENDING ) {
+						byte[] payload = new byte[length];
+						for ( int i = 0; i < length; i++ ) {
+							payload[i] = buffer.get( position + HEADER_SIZE + i );
+						}
+						recoveredRecords.add( new Record( this, position, deserialize( payload ) ) );
+						++pendingRecords;
+					}
+					position += HEADER_SIZE + length;
+				}
+			}
+			catch (IOException | ClassNotFoundException | RuntimeException e) {
+				// Ignore the rest of the segment: it will be overwritten
+				log.unreadableAutomaticIndexingJournal( file, position, e );
+			}
+			if ( pendingRecords == 0 ) {
+				reset();
+			}
+		}
+
+		Record write(byte[] payload) {
+			int recordPosition = position;
+			int nextPosition = recordPosition + HEADER_SIZE + payload.length;
+			// Mark the end of the segment first, then the record content, and finally its length
+			buffer.putInt( nextPosition, 0 );
+			buffer.put( recordPosition + LENGTH_SIZE, STATE_PENDING );
+			for ( int i = 0; i < payload.length; i++ ) {
+				buffer.put( recordPosition + HEADER_SIZE + i, payload[i] );
+			}
+			buffer.putInt( recordPosition, payload.length );
+			position = nextPosition;
+			++pendingRecords;
+			// Entries are only kept in memory for recovered records
+			return new Record( this, recordPosition, Collections.emptyList() );
+		}
+
+		void acknowledge(int recordPosition) {
+			buffer.put( recordPosition + LENGTH_SIZE, STATE_ACKNOWLEDGED );
+			--pendingRecords;
+			if ( pendingRecords == 0 ) {
+				reset();
+			}
+		}
+
+		private void reset() {
+			buffer.putInt( 0, 0 );
+			position = 0;
+		}
+	}
+}
@@ -120,10 +120,10 @@ public PojoWorkPlan getCurrentWorkPlan(SessionImplementor sessionImplementor) {
 			}
 			PojoWorkPlan workPlan = workPlanPerTransaction.get( transactionIdentifier );
 			if ( workPlan == null ) {
-				workPlan = searchSession.createWorkPlan();
+				workPlan = searchSession.createAutomaticIndexingWorkPlan();
 				workPlanPerTransaction.put( transactionIdentifier, workPlan );
 				Synchronization txSync = createTransactionWorkQueueSynchronization(
-						workPlan, workPlanPerTransaction, transactionIdentifier
+						searchSession, workPlan, workPlanPerTransaction, transactionIdentifier
 				);
 				registerSynchronization( sessionImplementor, txSync );
 			}
@@ -152,8 +152,8 @@ else if ( some condition ) {
 		}
 	}
 
-	private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
-			Map<Transaction, PojoWorkPlan> workPlanPerTransaction, Object transactionIdentifier) {
+	private Synchronization createTransactionWorkQueueSynchronization(SearchSessionImplementor searchSession,
+			PojoWorkPlan workPlan, Map<Transaction, PojoWorkPlan> workPlanPerTransaction, Object transactionIdentifier) {
 		if ( enlistInTransaction ) {
 			return new InTransactionWorkQueueSynchronization(
 					workPlan, workPlanPerTransaction, transactionIdentifier
@@ -161,7 +161,7 @@ private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan w
 		}
 		else {
 			return new PostTransactionWorkQueueSynchronization(
-					workPlan, workPlanPerTransaction, transactionIdentifier
+					searchSession, workPlan, workPlanPerTransaction, transactionIdentifier
 			);
 		}
 	}
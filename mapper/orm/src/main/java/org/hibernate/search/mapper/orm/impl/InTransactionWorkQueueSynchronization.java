@@ -44,11 +44,7 @@ public void beforeCompletion() {
 					"Processing Transaction's beforeCompletion() phase for %s. Performing work.", this
 			);
 			CompletableFuture<?> future = workPlan.execute();
-			/*
-			 * TODO decide whether we want the sync/async setting to be scoped per index,
-			 * or per EntityManager/SearchSession, or both (with one scope overriding the other).
-			 * See also PostTransactionWorkQueueSynchronization#afterCompletion
-			 */
+			// Changes are part of the transaction: always wait for them, regardless of the async setting
 			future.join();
 		}
 		finally {
@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * A work plan recording the changed entities in an {@link AutomaticIndexingJournal}
+ * when it is prepared, and acknowledging them once it is executed or discarded.
+ * <p>
+ * Only the tenant, type and identifier of changed entities are recorded:
+ * entities are reloaded from the database when the journal is replayed.
+ */
+public final class JournaledWorkPlan implements PojoWorkPlan {
+
+	private final PojoWorkPlan delegate;
+	private final AutomaticIndexingJournal journal;
+	private final SessionImplementor sessionImplementor;
+
+	// Entities are kept until the plan is prepared, since their identifier may not be assigned yet
+	private final List<Object> entitiesWithoutId = new ArrayList<>();
+	private final Set<AutomaticIndexingJournal.Entry> entries = new LinkedHashSet<>();
+	private final List<AutomaticIndexingJournal.Record> records = new ArrayList<>();
+
+	public JournaledWorkPlan(PojoWorkPlan delegate, AutomaticIndexingJournal journal,
+			SessionImplementor sessionImplementor) {
+		this.delegate = delegate;
+		this.journal = journal;
+		this.sessionImplementor = sessionImplementor;
+	}
+
+	@Override
+	public void add(Object entity) {
+		delegate.add( entity );
+		record( null, entity );
+	}
+
+	@Override
+	public void add(Object id, Object entity) {
+		delegate.add( id, entity );
+		record( id, entity );
+	}
+
+	@Override
+	public void update(Object entity) {
+		delegate.update( entity );
+		record( null, entity );
+	}
+
+	@Override
+	public void update(Object id, Object entity) {
+		delegate.update( id, entity );
+		record( id, entity );
+	}
+
+	@Override
+	public void update(Object entity, String... dirtyPaths) {
+		delegate.update( entity, dirtyPaths );
+		record( null, entity );
+	}
+
+	@Override
+	public void update(Object id, Object entity, String... dirtyPaths) {
+		delegate.update( id, entity, dirtyPaths );
+		record( id, entity );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		delegate.delete( entity );
+		record( null, entity );
+	}
+
+	@Override
+	public void delete(Object id, Object entity) {
+		delegate.delete( id, entity );
+		record( id, entity );
+	}
+
+	@Override
+	public void purge(Class<?> clazz, Object id) {
+		delegate.purge( clazz, id );
+		entries.add( new AutomaticIndexingJournal.Entry( sessionImplementor.getTenantIdentifier(),
+				clazz.getName(), (Serializable) id ) );
+	}
+
+	@Override
+	public void prepare() {
+		delegate.prepare();
+		for ( Object entity : entitiesWithoutId ) {
+			Serializable id = sessionImplementor.getContextEntityIdentifier( entity );
+			if ( id != null ) {
+				String entityName = sessionImplementor.bestGuessEntityName( entity );
+				entries.add( new AutomaticIndexingJournal.Entry( sessionImplementor.getTenantIdentifier(),
+						entityName, id ) );
+			}
+		}
+		entitiesWithoutId.clear();
+		if ( !entries.isEmpty() ) {
+			records.add( journal.append( entries ) );
+			entries.clear();
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		List<AutomaticIndexingJournal.Record> executedRecords = clear();
+		CompletableFuture<?> future;
+		try {
+			future = delegate.execute();
+		}
+		catch (RuntimeException e) {
+			acknowledge( executedRecords );
+			throw e;
+		}
+		// Acknowledge even on failure: the journal only protects against crashes, not against indexing failures
+		return future.whenComplete( Futures.handler( (ignored, throwable) -> acknowledge( executedRecords ) ) );
+	}
+
+	@Override
+	public void discard() {
+		delegate.discard();
+		acknowledge( clear() );
+	}
+
+	private void record(Object id, Object entity) {
+		if ( id instanceof Serializable ) {
+			String entityName = sessionImplementor.bestGuessEntityName( entity );
+			entries.add( new AutomaticIndexingJournal.Entry( sessionImplementor.getTenantIdentifier(),
+					entityName, (Serializable) id ) );
+		}
+		else {
+			entitiesWithoutId.add( entity );
+		}
+	}
+
+	private List<AutomaticIndexingJournal.Record> clear() {
+		entitiesWithoutId.clear();
+		entries.clear();
+		List<AutomaticIndexingJournal.Record> clearedRecords = new ArrayList<>( records );
+		records.clear();
+		return clearedRecords;
+	}
+
+	private void acknowledge(List<AutomaticIndexingJournal.Record> recordsToAcknowledge) {
+		for ( AutomaticIndexingJournal.Record record : recordsToAcknowledge ) {
+			journal.acknowledge( record );
+		}
+	}
+}
@@ -8,11 +8,11 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
 
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -25,12 +25,14 @@ public class PostTransactionWorkQueueSynchronization implements Synchronization
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private final SearchSessionImplementor searchSession;
 	private final PojoWorkPlan workPlan;
 	private final Map<?, ?> workPlanPerTransaction;
 	private final Object transactionIdentifier;
 
-	PostTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
+	PostTransactionWorkQueueSynchronization(SearchSessionImplementor searchSession, PojoWorkPlan workPlan,
 			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
+		this.searchSession = searchSession;
 		this.workPlan = workPlan;
 		this.workPlanPerTransaction = workPlanPerTransaction;
 		this.transactionIdentifier = transactionIdentifier;
@@ -47,13 +49,8 @@ public void afterCompletion(int i) {
 		try {
 			if ( Status.STATUS_COMMITTED == i ) {
 				log.tracef( "Processing Transaction's afterCompletion() phase for %s. Performing work.", this );
-				CompletableFuture<?> future = workPlan.execute();
-				/*
-				 * TODO decide whether we want the sync/async setting to be scoped per index,
-				 * or per EntityManager/SearchSession, or both (with one scope overriding the other).
-				 * See also InTransactionWorkQueueSynchronization#beforeCompletion
-				 */
-				future.join();
+				// Waits for completion or not, depending on the configuration and on the session
+				searchSession.executeAutomaticIndexing( workPlan );
 			}
 			else {
 				log.tracef(
@@ -61,7 +58,7 @@ public void afterCompletion(int i) {
 						this,
 						i
 				);
-				// FIXME send some signal to the workPlan to release resources if necessary?
+				workPlan.discard();
 			}
 		}
 		finally {
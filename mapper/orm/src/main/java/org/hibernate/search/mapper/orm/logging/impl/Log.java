@@ -11,6 +11,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -183,4 +184,109 @@ SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.cl
 	@Message(id = ID_OFFSET_2 + 15,
 			value = "Invalid property handle factory name: '%1$s'. Valid names are: %2$s.")
 	SearchException invalidPropertyHandleFactoryName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 16,
+			value = "Invalid entity loading cache lookup strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidEntityLoadingCacheLookupStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 17,
+			value = "Interrupted while waiting for pending asynchronous automatic indexing to complete.")
+	SearchException interruptedWhileWaitingForAsyncAutomaticIndexingQueue(@Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_2 + 18,
+			value = "Asynchronous automatic indexing failed: changes committed to the database may be missing from the indexes.")
+	String asyncAutomaticIndexingFailed();
+
+	@Message(id = ID_OFFSET_2 + 19,
+			value = "Unable to open the automatic indexing journal in directory '%1$s'.")
+	SearchException unableToOpenAutomaticIndexingJournal(Path directory, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 20,
+			value = "Unable to write the changes of a transaction to the automatic indexing journal.")
+	SearchException unableToWriteAutomaticIndexingJournal(@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 21,
+			value = "The changes of a transaction require %1$d bytes in the automatic indexing journal,"
+					+ " but journal segments are only %2$d bytes large."
+					+ " Increase the segment size of the journal, or split the transaction.")
+	SearchException automaticIndexingJournalRecordTooLarge(int recordSize, int segmentSize);
+
+	@Message(id = ID_OFFSET_2 + 22,
+			value = "Interrupted while waiting for space in the automatic indexing journal.")
+	SearchException interruptedWhileWaitingForAutomaticIndexingJournal(@Cause InterruptedException cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 23,
+			value = "Unable to read the automatic indexing journal file '%1$s' past offset %2$d."
+					+ " Changes committed to the database before the last shutdown may be missing from the indexes:"
+					+ " mass indexing is required.")
+	void unreadableAutomaticIndexingJournal(Path file, int offset, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 24,
+			value = "Reindexing %1$d entities whose changes were not indexed before the last shutdown,"
+					+ " according to the automatic indexing journal.")
+	void replayingAutomaticIndexingJournal(int entityCount);
+
+	@LogMessage(level = ERROR)
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Unable to reindex %1$d entities listed in the automatic indexing journal."
+					+ " Changes committed to the database before the last shutdown may be missing from the indexes:"
+					+ " mass indexing is required.")
+	void unableToReplayAutomaticIndexingJournal(int entityCount, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 26,
+			value = "Unable to close the automatic indexing journal.")
+	SearchException unableToCloseAutomaticIndexingJournal(@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 27,
+			value = "Unable to record the changes of entity '%1$s' in the outbox table:"
+					+ " identifiers of type '%2$s' cannot be converted to a String.")
+	SearchException unsupportedOutboxIdentifierType(String entityName, String identifierTypeName);
+
+	@LogMessage(level = ERROR)
+	@Message(id = ID_OFFSET_2 + 28,
+			value = "Unable to index the entity changes recorded in partition %1$d of the outbox table."
+					+ " They will be processed again later.")
+	void unableToProcessOutboxEvents(int partition, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 29,
+			value = "Ignoring the changes recorded in the outbox table for unknown entity '%1$s'.")
+	void unknownOutboxEntity(String entityName);
+
+	@Message(id = ID_OFFSET_2 + 30,
+			value = "Invalid value: %1$d. The value must be greater than or equal to %2$d.")
+	SearchException invalidValueBelowMinimum(long value, long minimum);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 31,
+			value = "Stopped waiting for asynchronous automatic indexing after %1$d ms:"
+					+ " the changes of %2$d transactions may still be pending and may be missing from the indexes.")
+	void asyncAutomaticIndexingShutdownTimeout(long timeoutMillis, int pendingCount);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 32,
+			value = "Unable to index the changes of entity '%1$s' with identifier '%2$s' recorded in the outbox table"
+					+ " (attempt %3$d). They will be processed again later.")
+	void unableToProcessOutboxEvent(String entityName, String entityId, int attempts, @Cause Exception cause);
+
+	@LogMessage(level = ERROR)
+	@Message(id = ID_OFFSET_2 + 33,
+			value = "Unable to index the changes of entity '%1$s' with identifier '%2$s' recorded in the outbox table"
+					+ " after %3$d attempts. These changes will no longer be processed and were left in the outbox table;"
+					+ " the entity must be reindexed explicitly.")
+	void outboxEventAttemptsExhausted(String entityName, String entityId, int attempts, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 34,
+			value = "Lost the lease on partition %1$d of the outbox table while indexing changes."
+					+ " The node now holding the lease will process these changes again.")
+	void outboxLeaseLost(int partition);
+
+	@Message(id = ID_OFFSET_2 + 35,
+			value = "The outbox indexing strategy cannot be used with multi-tenancy:"
+					+ " the outbox event processor would have no way to know which tenants to process."
+					+ " Use another indexing strategy, or disable multi-tenancy.")
+	SearchException outboxMultiTenancyNotSupported();
 }
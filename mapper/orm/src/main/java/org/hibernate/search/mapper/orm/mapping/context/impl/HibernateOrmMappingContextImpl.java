@@ -6,20 +6,83 @@
  */
 package org.hibernate.search.mapper.orm.mapping.context.impl;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.impl.AutomaticIndexingExecutor;
+import org.hibernate.search.mapper.orm.impl.AutomaticIndexingJournal;
 import org.hibernate.search.mapper.orm.mapping.context.HibernateOrmMappingContext;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.mapper.orm.search.loading.impl.EntityLoadingMetricsCollector;
 import org.hibernate.search.mapper.pojo.mapping.context.spi.AbstractPojoMappingContextImplementor;
 
 public class HibernateOrmMappingContextImpl extends AbstractPojoMappingContextImplementor implements HibernateOrmMappingContext {
 	private final SessionFactoryImplementor sessionFactory;
+	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
+	private final EntityLoadingMetricsCollector entityLoadingMetrics = new EntityLoadingMetricsCollector();
+	private final AutomaticIndexingExecutor automaticIndexingExecutor;
+	private final boolean automaticIndexingSynchronousByDefault;
+	private final Executor documentBuildingExecutor;
+	private final AutomaticIndexingJournal automaticIndexingJournal;
+	private final Outbox outbox;
 
-	public HibernateOrmMappingContextImpl(SessionFactoryImplementor sessionFactory) {
+	public HibernateOrmMappingContextImpl(SessionFactoryImplementor sessionFactory,
+			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
+			AutomaticIndexingExecutor automaticIndexingExecutor, boolean automaticIndexingSynchronousByDefault,
+			Executor documentBuildingExecutor, AutomaticIndexingJournal automaticIndexingJournal,
+			Outbox outbox) {
 		this.sessionFactory = sessionFactory;
+		this.cacheLookupStrategy = cacheLookupStrategy;
+		this.automaticIndexingExecutor = automaticIndexingExecutor;
+		this.automaticIndexingSynchronousByDefault = automaticIndexingSynchronousByDefault;
+		this.documentBuildingExecutor = documentBuildingExecutor;
+		this.automaticIndexingJournal = automaticIndexingJournal;
+		this.outbox = outbox;
 	}
 
 	@Override
 	public SessionFactory getSessionFactory() {
 		return sessionFactory;
 	}
+
+	public EntityLoadingCacheLookupStrategy getCacheLookupStrategy() {
+		return cacheLookupStrategy;
+	}
+
+	public EntityLoadingMetricsCollector getEntityLoadingMetrics() {
+		return entityLoadingMetrics;
+	}
+
+	public AutomaticIndexingExecutor getAutomaticIndexingExecutor() {
+		return automaticIndexingExecutor;
+	}
+
+	public boolean isAutomaticIndexingSynchronousByDefault() {
+		return automaticIndexingSynchronousByDefault;
+	}
+
+	/**
+	 * @return The executor to build documents with, or {@code null} to build them in the committing thread.
+	 */
+	public Executor getDocumentBuildingExecutor() {
+		return documentBuildingExecutor;
+	}
+
+	/**
+	 * @return The journal to record the changes of transactions in before they are committed,
+	 * or {@code null} if the journal is disabled.
+	 */
+	public AutomaticIndexingJournal getAutomaticIndexingJournal() {
+		return automaticIndexingJournal;
+	}
+
+	/**
+	 * @return The outbox to record the changes of transactions in instead of indexing them,
+	 * or {@code null} if the outbox indexing strategy is not used.
+	 */
+	public Outbox getOutbox() {
+		return outbox;
+	}
 }
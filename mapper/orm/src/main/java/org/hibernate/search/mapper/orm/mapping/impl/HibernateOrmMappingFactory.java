@@ -6,16 +6,48 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.nio.file.Path;
+
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingFactory;
 
 public final class HibernateOrmMappingFactory implements PojoMappingFactory<HibernateOrmMappingPartialBuildState> {
 
-	HibernateOrmMappingFactory() {
+	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
+	private final boolean automaticIndexingAsync;
+	private final int automaticIndexingAsyncQueueSize;
+	private final int documentBuildingThreads;
+	private final Path journalDirectory;
+	private final int journalSegmentSize;
+	private final Outbox outbox;
+
+	// Set when the mapping is configured, since retrieving beans requires the build context
+	private BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder;
+
+	HibernateOrmMappingFactory(EntityLoadingCacheLookupStrategy cacheLookupStrategy,
+			boolean automaticIndexingAsync, int automaticIndexingAsyncQueueSize, int documentBuildingThreads,
+			Path journalDirectory, int journalSegmentSize, Outbox outbox) {
+		this.cacheLookupStrategy = cacheLookupStrategy;
+		this.automaticIndexingAsync = automaticIndexingAsync;
+		this.automaticIndexingAsyncQueueSize = automaticIndexingAsyncQueueSize;
+		this.documentBuildingThreads = documentBuildingThreads;
+		this.journalDirectory = journalDirectory;
+		this.journalSegmentSize = journalSegmentSize;
+		this.outbox = outbox;
+	}
+
+	void setAutomaticIndexingErrorHandlerHolder(BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder) {
+		this.automaticIndexingErrorHandlerHolder = automaticIndexingErrorHandlerHolder;
 	}
 
 	@Override
 	public HibernateOrmMappingPartialBuildState createMapping(PojoMappingDelegate mappingDelegate) {
-		return new HibernateOrmMappingPartialBuildState( mappingDelegate );
+		return new HibernateOrmMappingPartialBuildState( mappingDelegate, cacheLookupStrategy,
+				automaticIndexingAsync, automaticIndexingAsyncQueueSize, documentBuildingThreads,
+				journalDirectory, journalSegmentSize, outbox, automaticIndexingErrorHandlerHolder );
 	}
 }
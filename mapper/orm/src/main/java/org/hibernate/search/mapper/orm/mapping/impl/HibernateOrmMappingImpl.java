@@ -7,15 +7,30 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import javax.persistence.EntityManager;
 
 import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.orm.impl.AutomaticIndexingExecutor;
+import org.hibernate.search.mapper.orm.impl.AutomaticIndexingJournal;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxEventProcessor;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSession;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionBuilder;
@@ -23,6 +38,9 @@
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.AbstractPojoMappingImplementor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoMappingWorkExecutor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class HibernateOrmMappingImpl extends AbstractPojoMappingImplementor<HibernateOrmMapping>
@@ -30,11 +48,50 @@ public class HibernateOrmMappingImpl extends AbstractPojoMappingImplementor<Hibe
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final int JOURNAL_REPLAY_BATCH_SIZE = 100;
+
 	private final HibernateOrmMappingContextImpl mappingContext;
+	private final AutomaticIndexingExecutor automaticIndexingExecutor;
+	private final ExecutorService documentBuildingExecutor;
+	private final AutomaticIndexingJournal automaticIndexingJournal;
+	private final OutboxEventProcessor outboxEventProcessor;
+	private final BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder;
 
-	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor) {
+	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor,
+			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
+			boolean automaticIndexingAsync, int automaticIndexingAsyncQueueSize, int documentBuildingThreads,
+			Path journalDirectory, int journalSegmentSize, Outbox outbox,
+			BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder) {
 		super( mappingDelegate );
-		this.mappingContext = new HibernateOrmMappingContextImpl( sessionFactoryImplementor );
+		this.automaticIndexingJournal = journalDirectory != null
+				? AutomaticIndexingJournal.open( journalDirectory, journalSegmentSize )
+				: null;
+		this.automaticIndexingExecutor = new AutomaticIndexingExecutor(
+				automaticIndexingAsyncQueueSize, automaticIndexingErrorHandlerHolder.get()
+		);
+		this.documentBuildingExecutor = documentBuildingThreads > 0
+				? Executors.newFixedThreadPool( documentBuildingThreads, "Hibernate Search - Document building" )
+				: null;
+		this.outboxEventProcessor = outbox != null && outbox.isProcessorEnabled()
+				? new OutboxEventProcessor( outbox, sessionFactoryImplementor, this )
+				: null;
+		this.automaticIndexingErrorHandlerHolder = automaticIndexingErrorHandlerHolder;
+		this.mappingContext = new HibernateOrmMappingContextImpl( sessionFactoryImplementor, cacheLookupStrategy,
+				automaticIndexingExecutor, !automaticIndexingAsync, documentBuildingExecutor, automaticIndexingJournal,
+				outbox );
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Asynchronous automatic indexing must complete before the index managers are closed
+			closer.push( OutboxEventProcessor::close, outboxEventProcessor );
+			closer.push( AutomaticIndexingExecutor::close, automaticIndexingExecutor );
+			closer.push( ExecutorService::shutdownNow, documentBuildingExecutor );
+			closer.push( AutomaticIndexingJournal::close, automaticIndexingJournal );
+			closer.push( HibernateOrmMappingImpl::closeDelegates, this );
+			closer.push( BeanHolder::close, automaticIndexingErrorHandlerHolder );
+		}
 	}
 
 	@Override
@@ -82,6 +139,109 @@ public PojoMappingWorkExecutor createMappingWorkExecutor() {
 		return getDelegate().createMappingWorkExecutor();
 	}
 
+	@Override
+	public EntityLoadingMetrics getEntityLoadingMetrics() {
+		return mappingContext.getEntityLoadingMetrics();
+	}
+
+	@Override
+	public void replayAutomaticIndexingJournal() {
+		if ( automaticIndexingJournal == null ) {
+			return;
+		}
+		Set<AutomaticIndexingJournal.Entry> entries = automaticIndexingJournal.getRecoveredEntries();
+		if ( entries.isEmpty() ) {
+			return;
+		}
+		log.replayingAutomaticIndexingJournal( entries.size() );
+		SessionFactoryImplementor sessionFactory = mappingContext.getSessionFactory()
+				.unwrap( SessionFactoryImplementor.class );
+		// Entities must be reloaded from the tenant they belong to
+		Map<String, List<AutomaticIndexingJournal.Entry>> entriesPerTenant = new LinkedHashMap<>();
+		for ( AutomaticIndexingJournal.Entry entry : entries ) {
+			entriesPerTenant.computeIfAbsent( entry.getTenantId(), ignored -> new ArrayList<>() ).add( entry );
+		}
+		for ( Map.Entry<String, List<AutomaticIndexingJournal.Entry>> tenantEntries : entriesPerTenant.entrySet() ) {
+			replayAutomaticIndexingJournal( sessionFactory, tenantEntries.getKey(), tenantEntries.getValue() );
+		}
+		// Do not replay the same entries on every start, even after a failure: mass indexing is required anyway
+		automaticIndexingJournal.acknowledgeRecoveredEntries();
+	}
+
+	@Override
+	public void startOutboxEventProcessing() {
+		if ( outboxEventProcessor != null ) {
+			outboxEventProcessor.start();
+		}
+	}
+
+	private void replayAutomaticIndexingJournal(SessionFactoryImplementor sessionFactory, String tenantId,
+			List<AutomaticIndexingJournal.Entry> entries) {
+		List<AutomaticIndexingJournal.Entry> batch = new ArrayList<>( JOURNAL_REPLAY_BATCH_SIZE );
+		try ( Session session = openSession( sessionFactory, tenantId );
+				SearchSessionImplementor searchSession = createSession( session ) ) {
+			for ( AutomaticIndexingJournal.Entry entry : entries ) {
+				batch.add( entry );
+				if ( batch.size() == JOURNAL_REPLAY_BATCH_SIZE ) {
+					replayAutomaticIndexingJournalBatch( sessionFactory, session, searchSession, batch );
+				}
+			}
+			replayAutomaticIndexingJournalBatch( sessionFactory, session, searchSession, batch );
+		}
+		catch (RuntimeException e) {
+			log.unableToReplayAutomaticIndexingJournal( entries.size(), e );
+		}
+	}
+
+	private static Session openSession(SessionFactoryImplementor sessionFactory, String tenantId) {
+		if ( tenantId == null ) {
+			return sessionFactory.openSession();
+		}
+		else {
+			return sessionFactory.withOptions().tenantIdentifier( tenantId ).openSession();
+		}
+	}
+
+	private void replayAutomaticIndexingJournalBatch(SessionFactoryImplementor sessionFactory, Session session,
+			SearchSessionImplementor searchSession, List<AutomaticIndexingJournal.Entry> batch) {
+		if ( batch.isEmpty() ) {
+			return;
+		}
+		try {
+			// Use a new work plan for each batch: work plans keep state about contained entities across executions
+			PojoWorkPlan workPlan = searchSession.createWorkPlan();
+			for ( AutomaticIndexingJournal.Entry entry : batch ) {
+				Class<?> entityClass = sessionFactory.getMetamodel().entityPersister( entry.getEntityName() )
+						.getMappedClass();
+				if ( !isWorkable( entityClass ) ) {
+					// The mapping changed since the entry was recorded
+					continue;
+				}
+				// Changes were committed: reindex the current state of the entity, whatever the recorded operation
+				Object entity = session.get( entry.getEntityName(), entry.getId() );
+				if ( entity != null ) {
+					workPlan.update( entry.getId(), entity );
+				}
+				else {
+					workPlan.purge( entityClass, entry.getId() );
+				}
+			}
+			workPlan.execute().join();
+		}
+		catch (RuntimeException e) {
+			// Keep going with the next batches: each batch that can be reindexed is one less to fix by mass indexing
+			log.unableToReplayAutomaticIndexingJournal( batch.size(), e );
+		}
+		finally {
+			batch.clear();
+			session.clear();
+		}
+	}
+
+	private void closeDelegates() {
+		super.close();
+	}
+
 	private SearchSessionBuilder createSessionBuilder(EntityManager entityManager) {
 		SessionImplementor sessionImplementor = entityManager.unwrap( SessionImplementor.class );
 
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Function;
@@ -17,20 +20,28 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.common.spi.LogErrorHandler;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingBuildContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmIndexingStrategyName;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.cfg.impl.HibernateOrmConfigurationPropertySource;
+import org.hibernate.search.mapper.orm.impl.AutomaticIndexingJournal;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMappingDefinitionContainerContext;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmBootstrapIntrospector;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingDefinitionContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.AbstractPojoMappingInitiator;
 import org.hibernate.search.util.common.impl.StreamHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /*
  * TODO make the following additions to the Hibernate ORM specific mapping:
@@ -41,56 +52,137 @@
 public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<HibernateOrmMappingPartialBuildState>
 		implements HibernateOrmMappingDefinitionContainerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<HibernateOrmIndexingStrategyName> INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.INDEXING_STRATEGY )
+					.as( HibernateOrmIndexingStrategyName.class, HibernateOrmIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.INDEXING_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> ENABLE_ANNOTATION_MAPPING =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.ENABLE_ANNOTATION_MAPPING )
 					.asBoolean()
 					.withDefault( HibernateOrmMapperSettings.Defaults.ENABLE_ANNOTATION_MAPPING )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> ENABLE_ANNOTATION_INDEX =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.ENABLE_ANNOTATION_INDEX )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.ENABLE_ANNOTATION_INDEX )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends HibernateOrmSearchMappingConfigurer>> MAPPING_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<EntityLoadingCacheLookupStrategy> QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
+					.as( EntityLoadingCacheLookupStrategy.class, EntityLoadingCacheLookupStrategy::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> AUTOMATIC_INDEXING_ASYNC =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ASYNC )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_ASYNC )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS )
+					.build();
+
+	private static final OptionalConfigurationProperty<Path> AUTOMATIC_INDEXING_JOURNAL_DIRECTORY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_JOURNAL_DIRECTORY )
+					.as( Path.class, Paths::get )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends ErrorHandler>> AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER )
+					.asBeanReference( ErrorHandler.class )
+					.build();
+
 	public static HibernateOrmMappingInitiator create(Metadata metadata, ReflectionManager reflectionManager,
 			HibernateOrmConfigurationPropertySource propertySource) {
 		HibernateOrmBootstrapIntrospector introspector =
 				HibernateOrmBootstrapIntrospector.create( metadata, reflectionManager, propertySource );
 
+		/*
+		 * This method is called when the session factory is created, and once again when HSearch boots.
+		 * It logs a warning when the configuration property is invalid,
+		 * so the warning will be logged twice.
+		 * Since it only happens when the configuration is invalid,
+		 * we can live with this quirk.
+		 */
+		MultiTenancyStrategy multiTenancyStrategy = MultiTenancyStrategy.determineMultiTenancyStrategy( propertySource.getAllRawProperties() );
+		boolean multiTenancyEnabled = !MultiTenancyStrategy.NONE.equals( multiTenancyStrategy );
+
+		Outbox outbox = null;
+		if ( HibernateOrmIndexingStrategyName.OUTBOX.equals( INDEXING_STRATEGY.get( propertySource ) ) ) {
+			// Outbox tables are not tenant-aware, and the processor opens sessions without a tenant
+			if ( multiTenancyEnabled ) {
+				throw log.outboxMultiTenancyNotSupported();
+			}
+			outbox = Outbox.create( propertySource );
+		}
+
+		HibernateOrmMappingFactory mappingFactory = new HibernateOrmMappingFactory(
+				QUERY_LOADING_CACHE_LOOKUP_STRATEGY.get( propertySource ),
+				AUTOMATIC_INDEXING_ASYNC.get( propertySource ),
+				AUTOMATIC_INDEXING_ASYNC_QUEUE_SIZE.getAndTransform( propertySource, value -> checkMinimum( value, 1 ) ),
+				AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS.getAndTransform( propertySource,
+						value -> checkMinimum( value, 0 ) ),
+				AUTOMATIC_INDEXING_JOURNAL_DIRECTORY.get( propertySource ).orElse( null ),
+				AUTOMATIC_INDEXING_JOURNAL_SEGMENT_SIZE.getAndTransform( propertySource,
+						value -> checkMinimum( value, AutomaticIndexingJournal.MIN_SEGMENT_SIZE ) ),
+				outbox
+		);
+
 		return new HibernateOrmMappingInitiator(
 				metadata, propertySource,
-				introspector
+				introspector, mappingFactory, multiTenancyEnabled
 		);
 	}
 
+	private static int checkMinimum(int value, int minimum) {
+		if ( value < minimum ) {
+			throw log.invalidValueBelowMinimum( value, minimum );
+		}
+		return value;
+	}
+
 	private final Metadata metadata;
 	private final ConfigurationPropertySource propertySource;
 	private final HibernateOrmBootstrapIntrospector introspector;
+	private final HibernateOrmMappingFactory mappingFactory;
 
 	private HibernateOrmMappingInitiator(Metadata metadata,
 			HibernateOrmConfigurationPropertySource propertySource,
-			HibernateOrmBootstrapIntrospector introspector) {
-		super(
-				new HibernateOrmMappingFactory(),
-				introspector
-		);
+			HibernateOrmBootstrapIntrospector introspector,
+			HibernateOrmMappingFactory mappingFactory, boolean multiTenancyEnabled) {
+		super( mappingFactory, introspector );
 
 		this.metadata = metadata;
 		this.propertySource = propertySource;
 		this.introspector = introspector;
+		this.mappingFactory = mappingFactory;
 
-		/*
-		 * This method is called when the session factory is created, and once again when HSearch boots.
-		 * It logs a warning when the configuration property is invalid,
-		 * so the warning will be logged twice.
-		 * Since it only happens when the configuration is invalid,
-		 * we can live with this quirk.
-		 */
-		MultiTenancyStrategy multiTenancyStrategy = MultiTenancyStrategy.determineMultiTenancyStrategy( propertySource.getAllRawProperties() );
-
-		setMultiTenancyEnabled(
-				!MultiTenancyStrategy.NONE.equals( multiTenancyStrategy )
-		);
+		setMultiTenancyEnabled( multiTenancyEnabled );
 	}
 
 	@Override
@@ -117,6 +209,7 @@ public void configure(MappingBuildContext buildContext,
 		boolean enableAnnotationMapping = ENABLE_ANNOTATION_MAPPING.get( propertySource );
 		if ( enableAnnotationMapping ) {
 			setAnnotatedTypeDiscoveryEnabled( true );
+			setAnnotationIndexEnabled( ENABLE_ANNOTATION_INDEX.get( propertySource ) );
 
 			AnnotationMappingDefinitionContext annotationMapping = annotationMapping();
 			for ( PersistentClass persistentClass : persistentClasses.values() ) {
@@ -133,6 +226,12 @@ public void configure(MappingBuildContext buildContext,
 					}
 				} );
 
+		// Failures of asynchronous automatic indexing are logged unless an error handler is configured
+		BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder = AUTOMATIC_INDEXING_ASYNC_ERROR_HANDLER
+				.<BeanHolder<? extends ErrorHandler>>getAndMap( propertySource, beanProvider::getBean )
+				.orElseGet( () -> BeanHolder.of( new LogErrorHandler() ) );
+		mappingFactory.setAutomaticIndexingErrorHandlerHolder( automaticIndexingErrorHandlerHolder );
+
 		super.configure( buildContext, configurationCollector );
 	}
 }
@@ -6,26 +6,58 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.nio.file.Path;
+
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPartialBuildState;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.util.common.impl.Closer;
 
 public class HibernateOrmMappingPartialBuildState implements MappingPartialBuildState {
 
 	private final PojoMappingDelegate mappingDelegate;
+	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
+	private final boolean automaticIndexingAsync;
+	private final int automaticIndexingAsyncQueueSize;
+	private final int documentBuildingThreads;
+	private final Path journalDirectory;
+	private final int journalSegmentSize;
+	private final Outbox outbox;
+	private final BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder;
 
-	public HibernateOrmMappingPartialBuildState(PojoMappingDelegate mappingDelegate) {
+	HibernateOrmMappingPartialBuildState(PojoMappingDelegate mappingDelegate,
+			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
+			boolean automaticIndexingAsync, int automaticIndexingAsyncQueueSize, int documentBuildingThreads,
+			Path journalDirectory, int journalSegmentSize, Outbox outbox,
+			BeanHolder<? extends ErrorHandler> automaticIndexingErrorHandlerHolder) {
 		this.mappingDelegate = mappingDelegate;
+		this.cacheLookupStrategy = cacheLookupStrategy;
+		this.automaticIndexingAsync = automaticIndexingAsync;
+		this.automaticIndexingAsyncQueueSize = automaticIndexingAsyncQueueSize;
+		this.documentBuildingThreads = documentBuildingThreads;
+		this.journalDirectory = journalDirectory;
+		this.journalSegmentSize = journalSegmentSize;
+		this.outbox = outbox;
+		this.automaticIndexingErrorHandlerHolder = automaticIndexingErrorHandlerHolder;
 	}
 
 	public MappingImplementor<HibernateOrmMapping> bindToSessionFactory(SessionFactoryImplementor sessionFactoryImplementor) {
-		return new HibernateOrmMappingImpl( mappingDelegate, sessionFactoryImplementor );
+		return new HibernateOrmMappingImpl( mappingDelegate, sessionFactoryImplementor, cacheLookupStrategy,
+				automaticIndexingAsync, automaticIndexingAsyncQueueSize, documentBuildingThreads,
+				journalDirectory, journalSegmentSize, outbox, automaticIndexingErrorHandlerHolder );
 	}
 
 	@Override
 	public void closeOnFailure() {
-		mappingDelegate.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( PojoMappingDelegate::close, mappingDelegate );
+			closer.push( BeanHolder::close, automaticIndexingErrorHandlerHolder );
+		}
 	}
 }
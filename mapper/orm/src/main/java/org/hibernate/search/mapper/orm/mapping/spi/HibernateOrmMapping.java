@@ -9,6 +9,7 @@
 import java.util.Set;
 import javax.persistence.EntityManager;
 
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionBuilder;
@@ -61,4 +62,25 @@ public interface HibernateOrmMapping {
 
 	PojoMappingWorkExecutor createMappingWorkExecutor();
 
+	/**
+	 * @return Metrics about the loading of entities for search hits, for all sessions of this mapping.
+	 */
+	EntityLoadingMetrics getEntityLoadingMetrics();
+
+	/**
+	 * Reindex the entities whose changes were recorded in the automatic indexing journal
+	 * but not indexed before the application last stopped.
+	 * <p>
+	 * No effect if the journal is disabled or empty.
+	 * Failures are logged, not thrown.
+	 */
+	void replayAutomaticIndexingJournal();
+
+	/**
+	 * Start indexing the changes recorded in the outbox table in the background.
+	 * <p>
+	 * No effect if the outbox indexing strategy is not used, or if the outbox processor is disabled.
+	 */
+	void startOutboxEventProcessing();
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes to entities, with at most one change per entity:
+ * the dirty paths of changes to the same entity are merged.
+ */
+final class CoalescedOutboxEvents {
+
+	private final Map<List<String>, Set<String>> dirtyPathsByEntity = new LinkedHashMap<>();
+
+	/**
+	 * @param entityName The name of the changed entity.
+	 * @param entityId The identifier of the changed entity, converted to a String.
+	 * @param dirtyPaths The paths that changed, or {@code null} if the whole entity must be considered dirty.
+	 */
+	void add(String entityName, String entityId, Collection<String> dirtyPaths) {
+		List<String> key = Arrays.asList( entityName, entityId );
+		if ( dirtyPaths == null ) {
+			dirtyPathsByEntity.put( key, null );
+		}
+		else if ( !dirtyPathsByEntity.containsKey( key ) ) {
+			dirtyPathsByEntity.put( key, new LinkedHashSet<>( dirtyPaths ) );
+		}
+		else {
+			Set<String> existingDirtyPaths = dirtyPathsByEntity.get( key );
+			// Nothing to merge if the whole entity is already considered dirty
+			if ( existingDirtyPaths != null ) {
+				existingDirtyPaths.addAll( dirtyPaths );
+			}
+		}
+	}
+
+	boolean isEmpty() {
+		return dirtyPathsByEntity.isEmpty();
+	}
+
+	void clear() {
+		dirtyPathsByEntity.clear();
+	}
+
+	/**
+	 * @return One event per changed entity, without an event identifier.
+	 */
+	List<OutboxEvent> toEvents() {
+		List<OutboxEvent> events = new ArrayList<>( dirtyPathsByEntity.size() );
+		for ( Map.Entry<List<String>, Set<String>> entry : dirtyPathsByEntity.entrySet() ) {
+			List<String> key = entry.getKey();
+			events.add( new OutboxEvent( null, key.get( 0 ), key.get( 1 ), entry.getValue(), 0 ) );
+		}
+		return events;
+	}
+}
@@ -0,0 +1,409 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SimpleAuxiliaryDatabaseObject;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.DbTimestampType;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * The outbox tables, recording changes to entities until they are indexed.
+ * <p>
+ * The event table holds one row per changed entity and transaction,
+ * assigned to a partition based on the hash of the entity identifier.
+ * The lease table holds one row per partition,
+ * recording which application node processes the partition and until when.
+ * <p>
+ * Tables are accessed through plain JDBC, so that they do not need to be part of the application's entity model.
+ */
+public final class Outbox {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<String> TABLE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE )
+					.asString()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_TABLE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> PARTITIONS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PARTITIONS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_PARTITIONS )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> PROCESSOR_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_PROCESSOR_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asLong()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Long> LEASE_DURATION =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION )
+					.asLong()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.build();
+
+	private static final String LEASE_TABLE_SUFFIX = "_LEASE";
+	private static final String INDEX_SUFFIX = "_IDX";
+	private static final int EVENT_ID_LENGTH = 36;
+	private static final int ENTITY_NAME_MAX_LENGTH = 255;
+	private static final int ENTITY_ID_MAX_LENGTH = 255;
+	private static final int DIRTY_PATHS_MAX_LENGTH = 4000;
+	private static final int OWNER_LENGTH = 36;
+	private static final String DIRTY_PATHS_SEPARATOR = ",";
+	// The retry delay is capped to 1024 polling intervals
+	private static final int MAX_RETRY_DELAY_SHIFT = 10;
+
+	public static Outbox create(ConfigurationPropertySource propertySource) {
+		return new Outbox(
+				TABLE.get( propertySource ),
+				PARTITIONS.getAndTransform( propertySource, value -> checkMinimum( value, 1 ) ),
+				PROCESSOR_ENABLED.get( propertySource ),
+				BATCH_SIZE.getAndTransform( propertySource, value -> checkMinimum( value, 1 ) ),
+				POLLING_INTERVAL.getAndTransform( propertySource, value -> checkMinimum( value, 1L ) ),
+				LEASE_DURATION.getAndTransform( propertySource, value -> checkMinimum( value, 1L ) ),
+				MAX_ATTEMPTS.getAndTransform( propertySource, value -> checkMinimum( value, 1 ) )
+		);
+	}
+
+	private static int checkMinimum(int value, int minimum) {
+		if ( value < minimum ) {
+			throw log.invalidValueBelowMinimum( value, minimum );
+		}
+		return value;
+	}
+
+	private static long checkMinimum(long value, long minimum) {
+		if ( value < minimum ) {
+			throw log.invalidValueBelowMinimum( value, minimum );
+		}
+		return value;
+	}
+
+	private final String eventTable;
+	private final String leaseTable;
+	private final int partitionCount;
+	private final boolean processorEnabled;
+	private final int batchSize;
+	private final long pollingInterval;
+	private final long leaseDuration;
+	private final int maxAttempts;
+
+	private final String insertEventSql;
+	private final String selectEventsSql;
+	private final String deleteEventSql;
+	private final String updateEventAttemptsSql;
+	private final String countLeaseSql;
+	private final String insertLeaseSql;
+	private final String acquireLeaseSql;
+	private final String releaseLeaseSql;
+
+	private Outbox(String eventTable, int partitionCount, boolean processorEnabled, int batchSize,
+			long pollingInterval, long leaseDuration, int maxAttempts) {
+		this.eventTable = eventTable;
+		this.leaseTable = eventTable + LEASE_TABLE_SUFFIX;
+		this.partitionCount = partitionCount;
+		this.processorEnabled = processorEnabled;
+		this.batchSize = batchSize;
+		this.pollingInterval = pollingInterval;
+		this.leaseDuration = leaseDuration;
+		this.maxAttempts = maxAttempts;
+
+		this.insertEventSql = "insert into " + eventTable
+				+ " (ID, CREATED, PARTITION_ID, ENTITY_NAME, ENTITY_ID, DIRTY_PATHS, ATTEMPTS, NEXT_ATTEMPT)"
+				+ " values (?, ?, ?, ?, ?, ?, 0, ?)";
+		// Events that failed too many times are left in the table, but no longer processed
+		this.selectEventsSql = "select ID, ENTITY_NAME, ENTITY_ID, DIRTY_PATHS, ATTEMPTS from " + eventTable
+				+ " where PARTITION_ID = ? and ATTEMPTS < ? and NEXT_ATTEMPT <= ? order by CREATED, ID";
+		this.deleteEventSql = "delete from " + eventTable + " where ID = ?";
+		this.updateEventAttemptsSql = "update " + eventTable + " set ATTEMPTS = ?, NEXT_ATTEMPT = ? where ID = ?";
+		this.countLeaseSql = "select count(*) from " + leaseTable + " where PARTITION_ID = ?";
+		this.insertLeaseSql = "insert into " + leaseTable + " (PARTITION_ID, OWNER, EXPIRES) values (?, null, 0)";
+		// Also succeeds when renewing a lease owned by the same node
+		this.acquireLeaseSql = "update " + leaseTable + " set OWNER = ?, EXPIRES = ?"
+				+ " where PARTITION_ID = ? and (OWNER is null or OWNER = ? or EXPIRES < ?)";
+		this.releaseLeaseSql = "update " + leaseTable + " set OWNER = null, EXPIRES = 0"
+				+ " where PARTITION_ID = ? and OWNER = ?";
+	}
+
+	public int getPartitionCount() {
+		return partitionCount;
+	}
+
+	public boolean isProcessorEnabled() {
+		return processorEnabled;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public long getPollingInterval() {
+		return pollingInterval;
+	}
+
+	public long getLeaseDuration() {
+		return leaseDuration;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Add the outbox tables to the database model,
+	 * so that Hibernate ORM schema management creates and drops them along with the other tables.
+	 *
+	 * @param database The database model of the session factory.
+	 */
+	public void contributeSchema(Database database) {
+		Dialect dialect = database.getJdbcEnvironment().getDialect();
+		String[] createStrings = {
+				dialect.getCreateTableString() + " " + eventTable + " ("
+						+ "ID " + varchar( dialect, EVENT_ID_LENGTH ) + " not null, "
+						+ "CREATED " + dialect.getTypeName( Types.BIGINT ) + " not null, "
+						+ "PARTITION_ID " + dialect.getTypeName( Types.INTEGER ) + " not null, "
+						+ "ENTITY_NAME " + varchar( dialect, ENTITY_NAME_MAX_LENGTH ) + " not null, "
+						+ "ENTITY_ID " + varchar( dialect, ENTITY_ID_MAX_LENGTH ) + " not null, "
+						+ "DIRTY_PATHS " + varchar( dialect, DIRTY_PATHS_MAX_LENGTH ) + ", "
+						+ "ATTEMPTS " + dialect.getTypeName( Types.INTEGER ) + " not null, "
+						+ "NEXT_ATTEMPT " + dialect.getTypeName( Types.BIGINT ) + " not null, "
+						+ "primary key (ID))",
+				"create index " + eventTable + INDEX_SUFFIX + " on " + eventTable + " (PARTITION_ID, CREATED)",
+				dialect.getCreateTableString() + " " + leaseTable + " ("
+						+ "PARTITION_ID " + dialect.getTypeName( Types.INTEGER ) + " not null, "
+						+ "OWNER " + varchar( dialect, OWNER_LENGTH ) + ", "
+						+ "EXPIRES " + dialect.getTypeName( Types.BIGINT ) + " not null, "
+						+ "primary key (PARTITION_ID))"
+		};
+		String[] dropStrings = {
+				dropTable( dialect, leaseTable ),
+				dropTable( dialect, eventTable )
+		};
+		database.addAuxiliaryDatabaseObject( new SimpleAuxiliaryDatabaseObject(
+				database.getDefaultNamespace(), createStrings, dropStrings, Collections.emptySet()
+		) );
+	}
+
+	String toEntityIdString(EntityPersister persister, Object id) {
+		return getIdentifierType( persister ).toString( id );
+	}
+
+	Serializable fromEntityIdString(EntityPersister persister, String entityId) {
+		return (Serializable) getIdentifierType( persister ).fromStringValue( entityId );
+	}
+
+	/**
+	 * @param session A session.
+	 * @return The current time according to the database, in milliseconds.
+	 * Timestamps in the outbox tables rely on the database clock,
+	 * so that the clocks of application nodes do not need to be synchronized.
+	 * If the dialect cannot retrieve the current time from the database, the JVM clock is used instead.
+	 */
+	long currentTimeMillis(Session session) {
+		return DbTimestampType.INSTANCE.seed( session.unwrap( SharedSessionContractImplementor.class ) ).getTime();
+	}
+
+	void insertEvents(Connection connection, Collection<OutboxEvent> events, long now) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( insertEventSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, UUID.randomUUID().toString() );
+				statement.setLong( 2, now );
+				statement.setInt( 3, toPartition( event.getEntityId() ) );
+				statement.setString( 4, event.getEntityName() );
+				statement.setString( 5, event.getEntityId() );
+				String dirtyPaths = toDirtyPathsString( event.getDirtyPaths() );
+				if ( dirtyPaths == null ) {
+					statement.setNull( 6, Types.VARCHAR );
+				}
+				else {
+					statement.setString( 6, dirtyPaths );
+				}
+				statement.setLong( 7, now );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	List<OutboxEvent> selectEvents(Connection connection, int partition, long now) throws SQLException {
+		List<OutboxEvent> events = new ArrayList<>();
+		try ( PreparedStatement statement = connection.prepareStatement( selectEventsSql ) ) {
+			statement.setMaxRows( batchSize );
+			statement.setInt( 1, partition );
+			statement.setInt( 2, maxAttempts );
+			statement.setLong( 3, now );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					events.add( new OutboxEvent(
+							resultSet.getString( 1 ),
+							resultSet.getString( 2 ),
+							resultSet.getString( 3 ),
+							fromDirtyPathsString( resultSet.getString( 4 ) ),
+							resultSet.getInt( 5 )
+					) );
+				}
+			}
+		}
+		return events;
+	}
+
+	void deleteEvents(Connection connection, Collection<OutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( deleteEventSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, event.getEventId() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * Record a failed attempt at indexing an event,
+	 * delaying the next attempt exponentially with the number of failed attempts.
+	 *
+	 * @return The number of failed attempts, including this one.
+	 */
+	int recordFailedAttempt(Connection connection, OutboxEvent event, long now) throws SQLException {
+		int attempts = event.getAttempts() + 1;
+		long retryDelay = pollingInterval << Math.min( attempts - 1, MAX_RETRY_DELAY_SHIFT );
+		try ( PreparedStatement statement = connection.prepareStatement( updateEventAttemptsSql ) ) {
+			statement.setInt( 1, attempts );
+			statement.setLong( 2, now + retryDelay );
+			statement.setString( 3, event.getEventId() );
+			statement.executeUpdate();
+		}
+		return attempts;
+	}
+
+	boolean hasLease(Connection connection, int partition) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( countLeaseSql ) ) {
+			statement.setInt( 1, partition );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				return resultSet.next() && resultSet.getInt( 1 ) > 0;
+			}
+		}
+	}
+
+	void insertLease(Connection connection, int partition) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( insertLeaseSql ) ) {
+			statement.setInt( 1, partition );
+			statement.executeUpdate();
+		}
+	}
+
+	/**
+	 * @return {@code true} if the lease was acquired or renewed, {@code false} if another node holds it.
+	 */
+	boolean acquireLease(Connection connection, int partition, String owner, long now) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( acquireLeaseSql ) ) {
+			statement.setString( 1, owner );
+			statement.setLong( 2, now + leaseDuration );
+			statement.setInt( 3, partition );
+			statement.setString( 4, owner );
+			statement.setLong( 5, now );
+			return statement.executeUpdate() > 0;
+		}
+	}
+
+	void releaseLease(Connection connection, int partition, String owner) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( releaseLeaseSql ) ) {
+			statement.setInt( 1, partition );
+			statement.setString( 2, owner );
+			statement.executeUpdate();
+		}
+	}
+
+	private int toPartition(String entityId) {
+		return Math.floorMod( entityId.hashCode(), partitionCount );
+	}
+
+	private static String toDirtyPathsString(Set<String> dirtyPaths) {
+		if ( dirtyPaths == null ) {
+			return null;
+		}
+		String result = String.join( DIRTY_PATHS_SEPARATOR, dirtyPaths );
+		// Reindexing more than necessary is safe: consider the whole entity dirty if the paths do not fit
+		return result.length() <= DIRTY_PATHS_MAX_LENGTH ? result : null;
+	}
+
+	private static Set<String> fromDirtyPathsString(String dirtyPaths) {
+		if ( dirtyPaths == null ) {
+			return null;
+		}
+		if ( dirtyPaths.isEmpty() ) {
+			return new LinkedHashSet<>();
+		}
+		return new LinkedHashSet<>( Arrays.asList( dirtyPaths.split( DIRTY_PATHS_SEPARATOR ) ) );
+	}
+
+	@SuppressWarnings("unchecked") // The identifier type handles identifiers of the entity, whatever their type
+	private static StringRepresentableType<Object> getIdentifierType(EntityPersister persister) {
+		Type identifierType = persister.getIdentifierType();
+		if ( !( identifierType instanceof StringRepresentableType ) ) {
+			throw log.unsupportedOutboxIdentifierType( persister.getEntityName(), identifierType.getName() );
+		}
+		return (StringRepresentableType<Object>) identifierType;
+	}
+
+	private static String varchar(Dialect dialect, int length) {
+		return dialect.getTypeName( Types.VARCHAR, length, 0, 0 );
+	}
+
+	private static String dropTable(Dialect dialect, String table) {
+		return "drop table "
+				+ ( dialect.supportsIfExistsBeforeTableName() ? "if exists " : "" )
+				+ table
+				+ ( dialect.supportsIfExistsAfterTableName() ? " if exists" : "" );
+	}
+}
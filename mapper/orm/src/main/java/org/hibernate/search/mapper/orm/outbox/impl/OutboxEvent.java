@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.util.Set;
+
+/**
+ * A change to an entity, recorded in the outbox table.
+ */
+final class OutboxEvent {
+
+	private final String eventId;
+	private final String entityName;
+	private final String entityId;
+	private final Set<String> dirtyPaths;
+	private final int attempts;
+
+	OutboxEvent(String eventId, String entityName, String entityId, Set<String> dirtyPaths, int attempts) {
+		this.eventId = eventId;
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.dirtyPaths = dirtyPaths;
+		this.attempts = attempts;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + entityName + "#" + entityId + ", dirtyPaths=" + dirtyPaths + "]";
+	}
+
+	/**
+	 * @return The identifier of the row in the outbox table, or {@code null} if the event was not inserted yet.
+	 */
+	String getEventId() {
+		return eventId;
+	}
+
+	String getEntityName() {
+		return entityName;
+	}
+
+	/**
+	 * @return The identifier of the entity, converted to a String.
+	 */
+	String getEntityId() {
+		return entityId;
+	}
+
+	/**
+	 * @return The paths that changed, or {@code null} if the whole entity must be considered dirty.
+	 */
+	Set<String> getDirtyPaths() {
+		return dirtyPaths;
+	}
+
+	/**
+	 * @return The number of failed attempts at indexing this change.
+	 */
+	int getAttempts() {
+		return attempts;
+	}
+}
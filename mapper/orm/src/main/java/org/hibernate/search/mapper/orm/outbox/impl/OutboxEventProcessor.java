@@ -0,0 +1,285 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+import org.hibernate.search.util.common.impl.Executors;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Indexes the changes recorded in the outbox table by {@link OutboxWorkPlan}.
+ * <p>
+ * The table is polled periodically, one partition at a time.
+ * A partition is only processed by the application node holding its lease,
+ * so that multiple nodes can process different partitions of the same table concurrently.
+ * Changes are processed in batches: each batch is coalesced, indexed from the current state of the entities,
+ * then removed from the table in the same transaction.
+ * <p>
+ * Changes are removed from the table only once indexing succeeded,
+ * and only if the node still holds the lease:
+ * after a failure, or if the node stops in-between, the same changes are indexed again later.
+ * When a batch fails, its changes are indexed one by one, so that a single failing change
+ * does not prevent indexing the others; failing changes are retried with an increasing delay,
+ * until the maximum number of attempts is reached.
+ */
+public final class OutboxEventProcessor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Outbox outbox;
+	private final SessionFactoryImplementor sessionFactory;
+	private final HibernateOrmMapping mapping;
+	private final String owner = UUID.randomUUID().toString();
+
+	private ScheduledExecutorService executor;
+	private boolean leasesInitialized = false;
+	// Nodes start with different partitions to reduce contention on leases
+	private int nextPartition;
+
+	public OutboxEventProcessor(Outbox outbox, SessionFactoryImplementor sessionFactory, HibernateOrmMapping mapping) {
+		this.outbox = outbox;
+		this.sessionFactory = sessionFactory;
+		this.mapping = mapping;
+		this.nextPartition = ThreadLocalRandom.current().nextInt( outbox.getPartitionCount() );
+	}
+
+	public synchronized void start() {
+		if ( executor != null ) {
+			return;
+		}
+		executor = Executors.newScheduledThreadPool( "Hibernate Search - Outbox event processor" );
+		executor.scheduleWithFixedDelay( this::poll, 0, outbox.getPollingInterval(), TimeUnit.MILLISECONDS );
+	}
+
+	@Override
+	public synchronized void close() {
+		if ( executor == null ) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			// Let the current batch complete, so that it does not wait for the lease to expire
+			if ( !executor.awaitTermination( outbox.getLeaseDuration(), TimeUnit.MILLISECONDS ) ) {
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void poll() {
+		int partitionCount = outbox.getPartitionCount();
+		for ( int i = 0; i < partitionCount && !executor.isShutdown(); i++ ) {
+			int partition = nextPartition;
+			nextPartition = ( nextPartition + 1 ) % partitionCount;
+			try {
+				processPartition( partition );
+			}
+			catch (RuntimeException e) {
+				log.unableToProcessOutboxEvents( partition, e );
+			}
+		}
+	}
+
+	private void processPartition(int partition) {
+		if ( !leasesInitialized ) {
+			initializeLeases();
+		}
+		if ( !withinTransaction( session -> acquireLease( session, partition ) ) ) {
+			return;
+		}
+		try {
+			boolean mayHaveMoreEvents;
+			do {
+				mayHaveMoreEvents = processBatch( partition );
+			}
+			// Keep processing full batches, as long as the lease is held
+			while ( mayHaveMoreEvents && !executor.isShutdown() );
+		}
+		finally {
+			withinTransaction( session -> {
+				session.doWork( connection -> outbox.releaseLease( connection, partition, owner ) );
+				return null;
+			} );
+		}
+	}
+
+	private void initializeLeases() {
+		for ( int partition = 0; partition < outbox.getPartitionCount(); partition++ ) {
+			int partitionToInitialize = partition;
+			try {
+				withinTransaction( session -> {
+					session.doWork( connection -> {
+						if ( !outbox.hasLease( connection, partitionToInitialize ) ) {
+							outbox.insertLease( connection, partitionToInitialize );
+						}
+					} );
+					return null;
+				} );
+			}
+			catch (RuntimeException e) {
+				// Another node may have inserted the same lease concurrently: check again on the next poll
+				log.debugf( e, "Unable to initialize the lease of outbox partition %d", partition );
+				return;
+			}
+		}
+		leasesInitialized = true;
+	}
+
+	/**
+	 * @return {@code true} if a full batch was processed and the lease is still held,
+	 * i.e. if there may be more events to process.
+	 */
+	private boolean processBatch(int partition) {
+		List<OutboxEvent> events = withinTransaction( session -> {
+			long now = outbox.currentTimeMillis( session );
+			return session.doReturningWork( connection -> outbox.selectEvents( connection, partition, now ) );
+		} );
+		if ( events.isEmpty() ) {
+			return false;
+		}
+
+		boolean leaseHeld;
+		try {
+			leaseHeld = withinTransaction( session -> indexAndDeleteEvents( session, partition, events ) );
+		}
+		catch (RuntimeException e) {
+			leaseHeld = processEventsOneByOne( partition, events, e );
+		}
+		return leaseHeld && events.size() == outbox.getBatchSize();
+	}
+
+	private boolean processEventsOneByOne(int partition, List<OutboxEvent> events, RuntimeException batchFailure) {
+		if ( events.size() == 1 ) {
+			recordFailedAttempt( events.get( 0 ), batchFailure );
+			return true;
+		}
+		log.debugf( batchFailure, "Unable to index a batch of %d outbox events; indexing them one by one", events.size() );
+		for ( OutboxEvent event : events ) {
+			try {
+				if ( !withinTransaction( session -> indexAndDeleteEvents(
+						session, partition, Collections.singletonList( event ) ) ) ) {
+					return false;
+				}
+			}
+			catch (RuntimeException e) {
+				recordFailedAttempt( event, e );
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return {@code true} if the events were indexed and deleted,
+	 * {@code false} if the lease was lost in the meantime.
+	 */
+	private boolean indexAndDeleteEvents(Session session, int partition, List<OutboxEvent> events) {
+		CoalescedOutboxEvents coalescedEvents = new CoalescedOutboxEvents();
+		for ( OutboxEvent event : events ) {
+			coalescedEvents.add( event.getEntityName(), event.getEntityId(), event.getDirtyPaths() );
+		}
+
+		try ( SearchSessionImplementor searchSession = mapping.createSession( session ) ) {
+			PojoWorkPlan workPlan = searchSession.createWorkPlan();
+			for ( OutboxEvent event : coalescedEvents.toEvents() ) {
+				addWork( session, workPlan, event );
+			}
+			workPlan.execute().join();
+		}
+
+		// Renewing the lease locks it until the events are deleted, so that no other node processes them concurrently
+		if ( !acquireLease( session, partition ) ) {
+			log.outboxLeaseLost( partition );
+			return false;
+		}
+		session.doWork( connection -> outbox.deleteEvents( connection, events ) );
+		return true;
+	}
+
+	/**
+	 * @return {@code true} if the lease was acquired or renewed, {@code false} if another node holds it.
+	 */
+	private boolean acquireLease(Session session, int partition) {
+		long now = outbox.currentTimeMillis( session );
+		return session.doReturningWork( connection -> outbox.acquireLease( connection, partition, owner, now ) );
+	}
+
+	private void recordFailedAttempt(OutboxEvent event, RuntimeException failure) {
+		int attempts = withinTransaction( session -> {
+			long now = outbox.currentTimeMillis( session );
+			return session.doReturningWork( connection -> outbox.recordFailedAttempt( connection, event, now ) );
+		} );
+		if ( attempts < outbox.getMaxAttempts() ) {
+			log.unableToProcessOutboxEvent( event.getEntityName(), event.getEntityId(), attempts, failure );
+		}
+		else {
+			log.outboxEventAttemptsExhausted( event.getEntityName(), event.getEntityId(), attempts, failure );
+		}
+	}
+
+	private void addWork(Session session, PojoWorkPlan workPlan, OutboxEvent event) {
+		EntityPersister persister = sessionFactory.getMetamodel().entityPersisters().get( event.getEntityName() );
+		if ( persister == null ) {
+			log.unknownOutboxEntity( event.getEntityName() );
+			return;
+		}
+		Class<?> entityClass = persister.getMappedClass();
+		if ( !mapping.isWorkable( entityClass ) ) {
+			// The mapping changed since the event was recorded
+			return;
+		}
+		Serializable id = outbox.fromEntityIdString( persister, event.getEntityId() );
+		// Changes were committed: index the current state of the entity, whatever the recorded operation
+		Object entity = session.get( event.getEntityName(), id );
+		Set<String> dirtyPaths = event.getDirtyPaths();
+		if ( entity == null ) {
+			workPlan.purge( entityClass, id );
+		}
+		else if ( dirtyPaths == null ) {
+			workPlan.update( id, entity );
+		}
+		else {
+			workPlan.update( id, entity, dirtyPaths.toArray( new String[0] ) );
+		}
+	}
+
+	private <T> T withinTransaction(Function<Session, T> action) {
+		try ( Session session = sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				T result = action.apply( session );
+				transaction.commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( Transaction::rollback, transaction );
+				throw e;
+			}
+		}
+	}
+}
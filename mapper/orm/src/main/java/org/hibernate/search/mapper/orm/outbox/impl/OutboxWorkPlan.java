@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
+
+/**
+ * A work plan recording changed entities in the outbox table when it is prepared,
+ * i.e. before the transaction is committed, instead of indexing them.
+ * <p>
+ * Changes are indexed later by an {@link OutboxEventProcessor},
+ * which reloads the changed entities from the database:
+ * only the name, identifier and dirty paths of changed entities are recorded.
+ */
+public final class OutboxWorkPlan implements PojoWorkPlan {
+
+	private final Outbox outbox;
+	private final SessionImplementor sessionImplementor;
+
+	// Entities are kept until the plan is prepared, since their identifier may not be assigned yet
+	private final List<PendingChange> changesWithoutId = new ArrayList<>();
+	private final CoalescedOutboxEvents events = new CoalescedOutboxEvents();
+
+	public OutboxWorkPlan(Outbox outbox, SessionImplementor sessionImplementor) {
+		this.outbox = outbox;
+		this.sessionImplementor = sessionImplementor;
+	}
+
+	@Override
+	public void add(Object entity) {
+		record( null, entity, null );
+	}
+
+	@Override
+	public void add(Object id, Object entity) {
+		record( id, entity, null );
+	}
+
+	@Override
+	public void update(Object entity) {
+		record( null, entity, null );
+	}
+
+	@Override
+	public void update(Object id, Object entity) {
+		record( id, entity, null );
+	}
+
+	@Override
+	public void update(Object entity, String... dirtyPaths) {
+		record( null, entity, Arrays.asList( dirtyPaths ) );
+	}
+
+	@Override
+	public void update(Object id, Object entity, String... dirtyPaths) {
+		record( id, entity, Arrays.asList( dirtyPaths ) );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		record( null, entity, null );
+	}
+
+	@Override
+	public void delete(Object id, Object entity) {
+		record( id, entity, null );
+	}
+
+	@Override
+	public void purge(Class<?> clazz, Object id) {
+		EntityPersister persister = sessionImplementor.getFactory().getMetamodel().entityPersister( clazz );
+		recordEvent( persister, id, null );
+	}
+
+	@Override
+	public void prepare() {
+		for ( PendingChange change : changesWithoutId ) {
+			Object id = sessionImplementor.getContextEntityIdentifier( change.entity );
+			if ( id != null ) {
+				record( id, change.entity, change.dirtyPaths );
+			}
+		}
+		changesWithoutId.clear();
+		if ( events.isEmpty() ) {
+			return;
+		}
+		List<OutboxEvent> eventsToInsert = events.toEvents();
+		events.clear();
+		long now = outbox.currentTimeMillis( sessionImplementor );
+		sessionImplementor.doWork( connection -> outbox.insertEvents( connection, eventsToInsert, now ) );
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		// Changes are recorded in the transaction, if not already done: they will be indexed by the outbox event processor
+		prepare();
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public void discard() {
+		changesWithoutId.clear();
+		events.clear();
+	}
+
+	private void record(Object id, Object entity, Collection<String> dirtyPaths) {
+		if ( id == null ) {
+			changesWithoutId.add( new PendingChange( entity, dirtyPaths ) );
+			return;
+		}
+		String entityName = sessionImplementor.bestGuessEntityName( entity );
+		EntityPersister persister = sessionImplementor.getFactory().getMetamodel().entityPersister( entityName );
+		recordEvent( persister, id, dirtyPaths );
+	}
+
+	private void recordEvent(EntityPersister persister, Object id, Collection<String> dirtyPaths) {
+		events.add( persister.getEntityName(), outbox.toEntityIdString( persister, id ), dirtyPaths );
+	}
+
+	private static final class PendingChange {
+		private final Object entity;
+		private final Collection<String> dirtyPaths;
+
+		private PendingChange(Object entity, Collection<String> dirtyPaths) {
+			this.entity = entity;
+			this.dirtyPaths = dirtyPaths;
+		}
+	}
+}
@@ -9,6 +9,9 @@
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateTerminalContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
@@ -91,4 +94,21 @@
 	 */
 	SearchProjectionFactoryContext<PojoReference, T> projection();
 
+	/**
+	 * Initiate the building of a search aggregation that will be valid for the indexes in this scope.
+	 * <p>
+	 * The aggregation will only be valid for {@link #search() search queries} created using this scope
+	 * or a wider scope.
+	 * <p>
+	 * Note this method is only necessary if you do not want to use lambda expressions,
+	 * since you can {@link SearchQueryContext#aggregation(AggregationKey, Function) define aggregations with lambdas}
+	 * within the search query DSL,
+	 * removing the need to create separate objects to represent the aggregations.
+	 *
+	 * @return A context allowing to define the aggregation,
+	 * and ultimately {@link SearchAggregationTerminalContext#toAggregation() get the resulting aggregation}.
+	 * @see SearchAggregationFactoryContext
+	 */
+	SearchAggregationFactoryContext aggregation();
+
 }
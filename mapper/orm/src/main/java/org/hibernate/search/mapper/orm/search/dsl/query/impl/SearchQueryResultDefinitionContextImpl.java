@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionTerminalContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
+import org.hibernate.search.mapper.orm.mapping.context.impl.HibernateOrmMappingContextImpl;
 import org.hibernate.search.mapper.orm.search.query.SearchQuery;
 import org.hibernate.search.mapper.orm.search.dsl.query.SearchQueryResultDefinitionContext;
 import org.hibernate.search.mapper.orm.search.query.impl.HibernateOrmSearchQuery;
@@ -25,20 +26,26 @@
 public class SearchQueryResultDefinitionContextImpl<O>
 		implements SearchQueryResultDefinitionContext<O> {
 	private final PojoSearchScopeDelegate<O, O> searchScopeDelegate;
+	private final HibernateOrmMappingContextImpl mappingContext;
 	private final SessionImplementor sessionImplementor;
 	private final ObjectLoaderBuilder<O> objectLoaderBuilder;
 
 	public SearchQueryResultDefinitionContextImpl(
 			PojoSearchScopeDelegate<O, O> searchScopeDelegate,
+			HibernateOrmMappingContextImpl mappingContext,
 			SessionImplementor sessionImplementor) {
 		this.searchScopeDelegate = searchScopeDelegate;
+		this.mappingContext = mappingContext;
 		this.sessionImplementor = sessionImplementor;
-		this.objectLoaderBuilder = new ObjectLoaderBuilder<>( sessionImplementor, searchScopeDelegate.getIncludedIndexedTypes() );
+		this.objectLoaderBuilder = new ObjectLoaderBuilder<>(
+				sessionImplementor, searchScopeDelegate.getIncludedIndexedTypes(),
+				mappingContext.getEntityLoadingMetrics()
+		);
 	}
 
 	@Override
 	public SearchQueryResultContext<? extends SearchQuery<O>> asEntity() {
-		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions loadingOptions = createLoadingOptions();
 		return searchScopeDelegate.queryAsLoadedObject(
 				objectLoaderBuilder.build( loadingOptions ),
 				q -> new HibernateOrmSearchQuery<>( q, sessionImplementor, loadingOptions )
@@ -47,7 +54,7 @@ public SearchQueryResultContext<? extends SearchQuery<O>> asEntity() {
 
 	@Override
 	public <T> SearchQueryResultContext<? extends SearchQuery<T>> asProjection(SearchProjection<T> projection) {
-		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions loadingOptions = createLoadingOptions();
 		return searchScopeDelegate.queryAsProjection(
 				objectLoaderBuilder.build( loadingOptions ),
 				q -> new HibernateOrmSearchQuery<>( q, sessionImplementor, loadingOptions ),
@@ -64,11 +71,17 @@ public <T> SearchQueryResultContext<? extends SearchQuery<T>> asProjection(
 	@Override
 	public SearchQueryResultContext<? extends SearchQuery<List<?>>> asProjections(
 			SearchProjection<?>... projections) {
-		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions loadingOptions = createLoadingOptions();
 		return searchScopeDelegate.queryAsProjections(
 				objectLoaderBuilder.build( loadingOptions ),
 				q -> new HibernateOrmSearchQuery<>( q, sessionImplementor, loadingOptions ),
 				projections
 		);
 	}
+
+	private MutableObjectLoadingOptions createLoadingOptions() {
+		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		loadingOptions.setCacheLookupStrategy( mappingContext.getCacheLookupStrategy() );
+		return loadingOptions;
+	}
 }
@@ -7,9 +7,11 @@
 package org.hibernate.search.mapper.orm.search.impl;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
+import org.hibernate.search.mapper.orm.mapping.context.impl.HibernateOrmMappingContextImpl;
 import org.hibernate.search.mapper.orm.search.SearchScope;
 import org.hibernate.search.mapper.orm.search.dsl.query.SearchQueryResultDefinitionContext;
 import org.hibernate.search.mapper.orm.search.dsl.query.impl.SearchQueryResultDefinitionContextImpl;
@@ -19,17 +21,20 @@
 public class SearchScopeImpl<O> implements SearchScope<O> {
 
 	private final PojoSearchScopeDelegate<O, O> delegate;
+	private final HibernateOrmMappingContextImpl mappingContext;
 	private final SessionImplementor sessionImplementor;
 
 	public SearchScopeImpl(PojoSearchScopeDelegate<O, O> delegate,
+			HibernateOrmMappingContextImpl mappingContext,
 			SessionImplementor sessionImplementor) {
 		this.delegate = delegate;
+		this.mappingContext = mappingContext;
 		this.sessionImplementor = sessionImplementor;
 	}
 
 	@Override
 	public SearchQueryResultDefinitionContext<O> search() {
-		return new SearchQueryResultDefinitionContextImpl<>( delegate, sessionImplementor );
+		return new SearchQueryResultDefinitionContextImpl<>( delegate, mappingContext, sessionImplementor );
 	}
 
 	@Override
@@ -46,4 +51,9 @@ public SearchSortContainerContext sort() {
 	public SearchProjectionFactoryContext<PojoReference, O> projection() {
 		return delegate.projection();
 	}
+
+	@Override
+	public SearchAggregationFactoryContext aggregation() {
+		return delegate.aggregation();
+	}
 }
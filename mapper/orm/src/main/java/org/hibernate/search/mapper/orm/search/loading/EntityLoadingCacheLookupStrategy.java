@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.loading;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Strategies for looking up entities in caches before loading them from the database
+ * when loading search hits.
+ */
+public enum EntityLoadingCacheLookupStrategy {
+
+	/**
+	 * Do not look up entities in any cache:
+	 * always load entities from the database.
+	 */
+	SKIP("skip"),
+
+	/**
+	 * Look up entities in the persistence context first,
+	 * then load the remaining entities from the database.
+	 */
+	PERSISTENCE_CONTEXT("persistence-context"),
+
+	/**
+	 * Look up entities in the persistence context first,
+	 * then in the second-level cache if enabled for the entity type,
+	 * then load the remaining entities from the database.
+	 */
+	PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE("persistence-context-then-second-level-cache");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static EntityLoadingCacheLookupStrategy of(String value) {
+		return StringHelper.parseDiscreteValues(
+				EntityLoadingCacheLookupStrategy.values(),
+				EntityLoadingCacheLookupStrategy::getExternalRepresentation,
+				log::invalidEntityLoadingCacheLookupStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	EntityLoadingCacheLookupStrategy(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.loading;
+
+/**
+ * Metrics about the loading of entities for search hits,
+ * counting hits according to where the corresponding entity was found.
+ * <p>
+ * Counters are cumulative since the start of the session factory.
+ *
+ * @see EntityLoadingCacheLookupStrategy
+ */
+public interface EntityLoadingMetrics {
+
+	/**
+	 * @return The number of hits whose entity was found in the persistence context.
+	 */
+	long getPersistenceContextHitCount();
+
+	/**
+	 * @return The number of hits whose entity was found in the second-level cache.
+	 */
+	long getSecondLevelCacheHitCount();
+
+	/**
+	 * @return The number of hits whose entity was loaded from the database.
+	 */
+	long getDatabaseHitCount();
+
+	/**
+	 * @return The number of hits whose entity could not be found,
+	 * for instance because it was deleted after it was indexed.
+	 */
+	long getMissingHitCount();
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.loading.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
+
+public class EntityLoadingMetricsCollector implements EntityLoadingMetrics {
+
+	private final LongAdder persistenceContextHitCount = new LongAdder();
+	private final LongAdder secondLevelCacheHitCount = new LongAdder();
+	private final LongAdder databaseHitCount = new LongAdder();
+	private final LongAdder missingHitCount = new LongAdder();
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "persistenceContextHitCount=" ).append( getPersistenceContextHitCount() )
+				.append( ", secondLevelCacheHitCount=" ).append( getSecondLevelCacheHitCount() )
+				.append( ", databaseHitCount=" ).append( getDatabaseHitCount() )
+				.append( ", missingHitCount=" ).append( getMissingHitCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public long getPersistenceContextHitCount() {
+		return persistenceContextHitCount.sum();
+	}
+
+	@Override
+	public long getSecondLevelCacheHitCount() {
+		return secondLevelCacheHitCount.sum();
+	}
+
+	@Override
+	public long getDatabaseHitCount() {
+		return databaseHitCount.sum();
+	}
+
+	@Override
+	public long getMissingHitCount() {
+		return missingHitCount.sum();
+	}
+
+	void onPersistenceContextHits(int count) {
+		persistenceContextHitCount.add( count );
+	}
+
+	void onSecondLevelCacheHits(int count) {
+		secondLevelCacheHitCount.add( count );
+	}
+
+	void onDatabaseHits(int count) {
+		databaseHitCount.add( count );
+	}
+
+	void onMissingHits(int count) {
+		missingHitCount.add( count );
+	}
+}
@@ -8,7 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,35 +30,35 @@ public HibernateOrmByTypeObjectLoader(Map<Class<? extends O>, HibernateOrmCompos
 
 	@Override
 	public List<T> loadBlocking(List<PojoReference> references) {
-		LinkedHashMap<PojoReference, T> objectsByReference = new LinkedHashMap<>( references.size() );
-		Map<HibernateOrmComposableObjectLoader<PojoReference, ? extends T>, List<PojoReference>> referencesByDelegate = new HashMap<>();
-
-		// Split references by delegate (by entity type)
-		for ( PojoReference reference : references ) {
-			objectsByReference.put( reference, null );
+		// Split references by delegate (by entity type), remembering the position of each reference
+		Map<HibernateOrmComposableObjectLoader<PojoReference, ? extends T>, ReferenceGroup> referencesByDelegate =
+				new LinkedHashMap<>( delegatesByConcreteType.size() );
+		for ( int i = 0; i < references.size(); i++ ) {
+			PojoReference reference = references.get( i );
 			HibernateOrmComposableObjectLoader<PojoReference, ? extends T> delegate = getDelegate( reference.getType() );
-			referencesByDelegate.computeIfAbsent( delegate, ignored -> new ArrayList<>() )
-					.add( reference );
+			referencesByDelegate.computeIfAbsent( delegate, ignored -> new ReferenceGroup() )
+					.add( reference, i );
 		}
 
-		// Load all references
-		for ( Map.Entry<HibernateOrmComposableObjectLoader<PojoReference, ? extends T>, List<PojoReference>> entry :
-				referencesByDelegate.entrySet() ) {
-			HibernateOrmComposableObjectLoader<PojoReference, ? extends T> delegate = entry.getKey();
-			List<PojoReference> referencesForDelegate = entry.getValue();
-			delegate.loadBlocking( referencesForDelegate, objectsByReference );
+		if ( referencesByDelegate.size() == 1 ) {
+			// All hits have the same type: the delegate returns objects in the right order already
+			HibernateOrmComposableObjectLoader<PojoReference, ? extends T> delegate =
+					referencesByDelegate.keySet().iterator().next();
+			return new ArrayList<>( delegate.loadBlocking( references ) );
 		}
 
-		// Re-create the list of objects in the same order
-		List<T> result = new ArrayList<>( references.size() );
-
-		for ( T value : objectsByReference.values() ) {
-			/*
-			 * TODO remove null values? We used to do it in Search 5...
-			 * Note that if we do, we have to change the javadoc
-			 * for this method and also change the other ObjectLoader implementations.
-			 */
-			result.add( value );
+		/*
+		 * Load all references, one type after the other,
+		 * setting loaded objects directly at the position of their reference.
+		 * TODO remove null values? We used to do it in Search 5...
+		 * Note that if we do, we have to change the javadoc
+		 * for this method and also change the other ObjectLoader implementations.
+		 */
+		List<T> result = new ArrayList<>( Collections.nCopies( references.size(), null ) );
+		for ( Map.Entry<HibernateOrmComposableObjectLoader<PojoReference, ? extends T>, ReferenceGroup> entry :
+				referencesByDelegate.entrySet() ) {
+			ReferenceGroup group = entry.getValue();
+			entry.getKey().loadBlocking( group.references, group.positions, result );
 		}
 		return result;
 	}
@@ -70,4 +70,14 @@ public List<T> loadBlocking(List<PojoReference> references) {
 		}
 		return delegate;
 	}
+
+	private static final class ReferenceGroup {
+		private final List<PojoReference> references = new ArrayList<>();
+		private final List<Integer> positions = new ArrayList<>();
+
+		void add(PojoReference reference, int position) {
+			references.add( reference );
+			positions.add( position );
+		}
+	}
 }
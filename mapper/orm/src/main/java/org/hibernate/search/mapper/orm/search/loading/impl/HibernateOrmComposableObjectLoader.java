@@ -7,7 +7,6 @@
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
 import java.util.List;
-import java.util.Map;
 
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
 
@@ -22,15 +21,16 @@
 
 	/**
 	 * For each reference in the given list,
-	 * loads the corresponding object and puts it as a value in the given map,
+	 * loads the corresponding object and sets it in the given list at the corresponding position,
 	 * blocking the current thread while doing so.
 	 * <p>
-	 * When an object cannot be found, the map is not altered.
+	 * When an object cannot be found, the list is not altered.
 	 *
 	 * @param references A list of references to the objects to load.
-	 * @param objectsByReference A map with references as keys and objects as values.
+	 * @param positions The position in {@code objects} of each reference, in the same order as {@code references}.
+	 * @param objects A list of objects, whose elements at the given positions will be set.
 	 * Initial values are undefined and the loader must not rely on them.
 	 */
-	void loadBlocking(List<R> references, Map<? super R, ? super O> objectsByReference);
+	void loadBlocking(List<R> references, List<Integer> positions, List<? super O> objects);
 
 }
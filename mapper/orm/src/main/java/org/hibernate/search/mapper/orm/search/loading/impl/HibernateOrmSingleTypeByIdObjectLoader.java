@@ -10,30 +10,40 @@
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.hibernate.MultiIdentifierLoadAccess;
-import org.hibernate.Session;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 
 class HibernateOrmSingleTypeByIdObjectLoader<O, T> implements HibernateOrmComposableObjectLoader<PojoReference, T> {
-	private final Session session;
+	private final SessionImplementor session;
 	private final Class<O> entityType;
 	private final MutableObjectLoadingOptions loadingOptions;
+	private final EntityLoadingMetricsCollector metricsCollector;
 	private final Function<? super O, T> hitTransformer;
 
 	private MultiIdentifierLoadAccess<O> multiAccess;
+	private EntityPersister persister;
 
 	public HibernateOrmSingleTypeByIdObjectLoader(
-			Session session,
+			SessionImplementor session,
 			Class<O> entityType,
 			MutableObjectLoadingOptions loadingOptions,
+			EntityLoadingMetricsCollector metricsCollector,
 			Function<? super O, T> hitTransformer) {
 		this.session = session;
 		this.entityType = entityType;
 		this.loadingOptions = loadingOptions;
+		this.metricsCollector = metricsCollector;
 		this.hitTransformer = hitTransformer;
 	}
 
@@ -42,19 +52,21 @@ public List<T> loadBlocking(List<PojoReference> references) {
 		List<O> loadedObjects = loadEntities( references );
 
 		// TODO avoid creating this list when the transformer is the identity; maybe cast the list in that case, or tranform in-place all the time?
-		return loadedObjects.stream().map( hitTransformer ).collect( Collectors.toList() );
+		List<T> result = new ArrayList<>( loadedObjects.size() );
+		for ( O loadedObject : loadedObjects ) {
+			result.add( loadedObject == null ? null : hitTransformer.apply( loadedObject ) );
+		}
+		return result;
 	}
 
 	@Override
-	public void loadBlocking(List<PojoReference> references, Map<? super PojoReference, ? super T> objectsByReference) {
+	public void loadBlocking(List<PojoReference> references, List<Integer> positions, List<? super T> objects) {
 		List<O> loadedObjects = loadEntities( references );
-		Iterator<PojoReference> referencesIterator = references.iterator();
-		Iterator<O> loadedObjectIterator = loadedObjects.iterator();
-		while ( referencesIterator.hasNext() ) {
-			PojoReference reference = referencesIterator.next();
-			O loadedObject = loadedObjectIterator.next();
+		Iterator<Integer> positionsIterator = positions.iterator();
+		for ( O loadedObject : loadedObjects ) {
+			int position = positionsIterator.next();
 			if ( loadedObject != null ) {
-				objectsByReference.put( reference, hitTransformer.apply( loadedObject ) );
+				objects.set( position, hitTransformer.apply( loadedObject ) );
 			}
 		}
 	}
@@ -65,14 +77,161 @@ private List<O> loadEntities(List<PojoReference> references) {
 			ids.add( (Serializable) reference.getId() );
 		}
 
-		return getMultiAccess().multiLoad( ids );
+		EntityLoadingCacheLookupStrategy cacheLookupStrategy = loadingOptions.getCacheLookupStrategy();
+		if ( EntityLoadingCacheLookupStrategy.SKIP.equals( cacheLookupStrategy ) ) {
+			return loadFromDatabase( ids );
+		}
+		else {
+			return loadFromCachesThenDatabase( ids, cacheLookupStrategy );
+		}
+	}
+
+	private List<O> loadFromCachesThenDatabase(List<Serializable> ids,
+			EntityLoadingCacheLookupStrategy cacheLookupStrategy) {
+		EntityPersister entityPersister = getPersister();
+		PersistenceContext persistenceContext = session.getPersistenceContext();
+		EntityDataAccess secondLevelCacheAccess = null;
+		if ( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE.equals( cacheLookupStrategy )
+				&& entityPersister.canReadFromCache() && session.getCacheMode().isGetEnabled() ) {
+			secondLevelCacheAccess = entityPersister.getCacheAccessStrategy();
+		}
+
+		List<O> result = new ArrayList<>( ids.size() );
+		List<Serializable> idsToLoad = new ArrayList<>();
+		List<Integer> positionsToLoad = new ArrayList<>();
+		int persistenceContextHits = 0;
+		int secondLevelCacheHits = 0;
+		int missingHits = 0;
+
+		for ( Serializable id : ids ) {
+			Object entity = persistenceContext.getEntity( session.generateEntityKey( id, entityPersister ) );
+			if ( entity != null && entityType.isInstance( entity ) ) {
+				EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null && ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) ) {
+					// Deleted in this session: same behavior as a multi-load with session checks
+					result.add( null );
+					++missingHits;
+				}
+				else {
+					result.add( entityType.cast( entity ) );
+					++persistenceContextHits;
+				}
+				continue;
+			}
+
+			if ( secondLevelCacheAccess != null && isInSecondLevelCache( secondLevelCacheAccess, entityPersister, id ) ) {
+				// The entity will be assembled from the second-level cache without hitting the database
+				O loaded = session.get( entityType, id );
+				result.add( loaded );
+				if ( loaded != null ) {
+					++secondLevelCacheHits;
+				}
+				else {
+					++missingHits;
+				}
+				continue;
+			}
+
+			positionsToLoad.add( result.size() );
+			idsToLoad.add( id );
+			result.add( null );
+		}
+
+		metricsCollector.onPersistenceContextHits( persistenceContextHits );
+		metricsCollector.onSecondLevelCacheHits( secondLevelCacheHits );
+		metricsCollector.onMissingHits( missingHits );
+
+		if ( !idsToLoad.isEmpty() ) {
+			List<O> loadedFromDatabase = loadFromDatabase( idsToLoad );
+			for ( int i = 0; i < loadedFromDatabase.size(); i++ ) {
+				result.set( positionsToLoad.get( i ), loadedFromDatabase.get( i ) );
+			}
+		}
+
+		return result;
+	}
+
+	private boolean isInSecondLevelCache(EntityDataAccess cacheAccess, EntityPersister entityPersister, Serializable id) {
+		Object cacheKey = cacheAccess.generateCacheKey(
+				id, entityPersister, session.getFactory(), session.getTenantIdentifier()
+		);
+		return cacheAccess.contains( cacheKey );
+	}
+
+	private List<O> loadFromDatabase(List<Serializable> ids) {
+		List<O> loaded;
+		List<String> fetchProfilesToDisable = new ArrayList<>();
+		try {
+			for ( String fetchProfileName : loadingOptions.getEnabledFetchProfiles() ) {
+				// Fetch profiles are enabled at the session level: only enable them for the duration of the load
+				if ( !session.isFetchProfileEnabled( fetchProfileName ) ) {
+					session.enableFetchProfile( fetchProfileName );
+					fetchProfilesToDisable.add( fetchProfileName );
+				}
+			}
+			RootGraph<O> entityGraph = getApplicableEntityGraph();
+			if ( entityGraph == null ) {
+				loaded = getMultiAccess().multiLoad( ids );
+			}
+			else {
+				// The graph is specific to this load: do not keep it in the reusable multi-load access
+				loaded = createMultiAccess()
+						.with( entityGraph, loadingOptions.getEntityGraphSemantic() )
+						.multiLoad( ids );
+			}
+		}
+		finally {
+			for ( String fetchProfileName : fetchProfilesToDisable ) {
+				session.disableFetchProfile( fetchProfileName );
+			}
+		}
+
+		int databaseHits = 0;
+		for ( O entity : loaded ) {
+			if ( entity != null ) {
+				++databaseHits;
+			}
+		}
+		metricsCollector.onDatabaseHits( databaseHits );
+		metricsCollector.onMissingHits( loaded.size() - databaseHits );
+
+		return loaded;
 	}
 
 	private MultiIdentifierLoadAccess<O> getMultiAccess() {
 		if ( multiAccess == null ) {
-			multiAccess = session.byMultipleIds( entityType );
+			multiAccess = createMultiAccess();
 		}
 		multiAccess.withBatchSize( loadingOptions.getFetchSize() );
 		return multiAccess;
 	}
+
+	private MultiIdentifierLoadAccess<O> createMultiAccess() {
+		return session.byMultipleIds( entityType )
+				/*
+				 * Caches are looked up beforehand according to the cache lookup strategy, if at all.
+				 * We need the results in the same order as the IDs, with nulls for missing entities,
+				 * in order to match them with references.
+				 */
+				.enableSessionCheck( false )
+				.enableOrderedReturn( true )
+				.withBatchSize( loadingOptions.getFetchSize() );
+	}
+
+	@SuppressWarnings("unchecked") // The graph applies to a supertype of O, so it applies to O too
+	private RootGraph<O> getApplicableEntityGraph() {
+		RootGraphImplementor<?> entityGraph = loadingOptions.getEntityGraph();
+		if ( entityGraph == null || !entityGraph.getGraphedType().getJavaType().isAssignableFrom( entityType ) ) {
+			// Graphs are rooted on a single entity type: ignore them when loading unrelated types
+			return null;
+		}
+		return (RootGraph<O>) entityGraph;
+	}
+
+	private EntityPersister getPersister() {
+		if ( persister == null ) {
+			persister = session.getFactory().getMetamodel().entityPersister( entityType );
+		}
+		return persister;
+	}
 }
@@ -6,8 +6,21 @@
  */
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.util.common.impl.Contracts;
+
 public class MutableObjectLoadingOptions {
 	private int fetchSize;
+	private EntityLoadingCacheLookupStrategy cacheLookupStrategy = EntityLoadingCacheLookupStrategy.SKIP;
+	private RootGraphImplementor<?> entityGraph;
+	private GraphSemantic entityGraphSemantic;
+	private final Set<String> enabledFetchProfiles = new LinkedHashSet<>();
 
 	public int getFetchSize() {
 		return fetchSize;
@@ -19,4 +32,37 @@ public void setFetchSize(int fetchSize) {
 		}
 		this.fetchSize = fetchSize;
 	}
+
+	public EntityLoadingCacheLookupStrategy getCacheLookupStrategy() {
+		return cacheLookupStrategy;
+	}
+
+	public void setCacheLookupStrategy(EntityLoadingCacheLookupStrategy cacheLookupStrategy) {
+		Contracts.assertNotNull( cacheLookupStrategy, "cacheLookupStrategy" );
+		this.cacheLookupStrategy = cacheLookupStrategy;
+	}
+
+	public RootGraphImplementor<?> getEntityGraph() {
+		return entityGraph;
+	}
+
+	public GraphSemantic getEntityGraphSemantic() {
+		return entityGraphSemantic;
+	}
+
+	public void setEntityGraph(RootGraphImplementor<?> entityGraph, GraphSemantic entityGraphSemantic) {
+		Contracts.assertNotNull( entityGraph, "entityGraph" );
+		Contracts.assertNotNull( entityGraphSemantic, "entityGraphSemantic" );
+		this.entityGraph = entityGraph;
+		this.entityGraphSemantic = entityGraphSemantic;
+	}
+
+	public Set<String> getEnabledFetchProfiles() {
+		return Collections.unmodifiableSet( enabledFetchProfiles );
+	}
+
+	public void enableFetchProfile(String fetchProfileName) {
+		Contracts.assertNotNullNorEmpty( fetchProfileName, "fetchProfileName" );
+		enabledFetchProfiles.add( fetchProfileName );
+	}
 }
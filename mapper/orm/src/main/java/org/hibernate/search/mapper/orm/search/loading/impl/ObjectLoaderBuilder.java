@@ -11,18 +11,21 @@
 import java.util.Set;
 import java.util.function.Function;
 
-import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
 
 public class ObjectLoaderBuilder<O> {
 
-	private final Session session;
+	private final SessionImplementor session;
 	private final Set<Class<? extends O>> concreteIndexedClasses;
+	private final EntityLoadingMetricsCollector metricsCollector;
 
-	public ObjectLoaderBuilder(Session session, Set<Class<? extends O>> concreteIndexedClasses) {
+	public ObjectLoaderBuilder(SessionImplementor session, Set<Class<? extends O>> concreteIndexedClasses,
+			EntityLoadingMetricsCollector metricsCollector) {
 		this.session = session;
 		this.concreteIndexedClasses = concreteIndexedClasses;
+		this.metricsCollector = metricsCollector;
 	}
 
 	public ObjectLoader<PojoReference, O> build(MutableObjectLoadingOptions mutableLoadingOptions) {
@@ -44,8 +47,8 @@ private <T> HibernateOrmComposableObjectLoader<PojoReference, T> buildForSingleT
 			MutableObjectLoadingOptions mutableLoadingOptions, Class<? extends O> concreteIndexedType,
 			Function<? super O, T> hitTransformer) {
 		// TODO Add support for entities whose document ID is not the entity ID (natural ID, or other)
-		// TODO Add support for other types of database retrieval and object lookup? See HSearch 5: org.hibernate.search.engine.query.hibernate.impl.ObjectLoaderBuilder#getObjectInitializer
-		return new HibernateOrmSingleTypeByIdObjectLoader<>( session, concreteIndexedType, mutableLoadingOptions, hitTransformer );
+		return new HibernateOrmSingleTypeByIdObjectLoader<>( session, concreteIndexedType, mutableLoadingOptions,
+				metricsCollector, hitTransformer );
 	}
 
 	private <T> ObjectLoader<PojoReference, T> buildForMultipleTypes(
@@ -8,9 +8,12 @@
 
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.EntityGraph;
 import javax.persistence.TypedQuery;
 
+import org.hibernate.graph.GraphSemantic;
 import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 
 public interface SearchQuery<T> {
 
@@ -170,6 +173,57 @@ default List<T> fetchHits(Integer limit, Integer offset) {
 	 */
 	SearchQuery<T> setFetchSize(int fetchSize);
 
+	/**
+	 * Set the strategy for cache lookup before loading entities from the database.
+	 * <p>
+	 * Defaults to the strategy set in the configuration property
+	 * {@link org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#QUERY_LOADING_CACHE_LOOKUP_STRATEGY}.
+	 *
+	 * @param strategy The strategy for cache lookup.
+	 * @return {@code this} for method chaining.
+	 */
+	SearchQuery<T> setCacheLookupStrategy(EntityLoadingCacheLookupStrategy strategy);
+
+	/**
+	 * Set the entity graph to apply when loading entities from the database.
+	 * <p>
+	 * The graph is only applied when loading entities of its root type or of a subtype;
+	 * entities of other types targeted by this query are loaded with their default fetch plan.
+	 * <p>
+	 * Entities found in the persistence context or in the second-level cache
+	 * (see {@link #setCacheLookupStrategy(EntityLoadingCacheLookupStrategy)}) are returned as-is.
+	 *
+	 * @param graph The graph to apply. Must have been created by Hibernate ORM.
+	 * @param semantic The semantic to use when applying the graph.
+	 * @return {@code this} for method chaining.
+	 * @see org.hibernate.MultiIdentifierLoadAccess#with(org.hibernate.graph.RootGraph, GraphSemantic)
+	 */
+	SearchQuery<T> setEntityGraphHint(EntityGraph<?> graph, GraphSemantic semantic);
+
+	/**
+	 * Set the entity graph to apply when loading entities from the database.
+	 * <p>
+	 * Same as {@link #setEntityGraphHint(EntityGraph, GraphSemantic)}, but with a named graph.
+	 *
+	 * @param graphName The name of the graph to apply.
+	 * @param semantic The semantic to use when applying the graph.
+	 * @return {@code this} for method chaining.
+	 * @see javax.persistence.EntityManager#getEntityGraph(String)
+	 */
+	SearchQuery<T> setEntityGraphHint(String graphName, GraphSemantic semantic);
+
+	/**
+	 * Enable a Hibernate ORM fetch profile when loading entities from the database.
+	 * <p>
+	 * The fetch profile is only enabled for the duration of the load,
+	 * and does not affect the session afterwards.
+	 *
+	 * @param fetchProfileName The name of the fetch profile to enable.
+	 * @return {@code this} for method chaining.
+	 * @see org.hibernate.Session#enableFetchProfile(String)
+	 */
+	SearchQuery<T> enableFetchProfile(String fetchProfileName);
+
 	/**
 	 * Convert this query to a {@link TypedQuery JPA query}.
 	 * <p>
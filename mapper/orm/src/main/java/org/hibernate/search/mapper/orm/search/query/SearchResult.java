@@ -8,6 +8,8 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
 /**
  * @param <T> The type of results.
  */
@@ -23,4 +25,12 @@
 	 */
 	List<T> getHits();
 
+	/**
+	 * @param key The key of an aggregation defined in the query.
+	 * @param <A> The type of result for the aggregation.
+	 * @return The result of the aggregation with the given key.
+	 * @throws org.hibernate.search.util.common.SearchException If no aggregation was defined with that key.
+	 */
+	<A> A getAggregation(AggregationKey<A> key);
+
 }
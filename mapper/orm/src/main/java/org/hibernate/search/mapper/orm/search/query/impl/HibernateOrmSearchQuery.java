@@ -9,13 +9,17 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.EntityGraph;
 import javax.persistence.TypedQuery;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.search.loading.impl.MutableObjectLoadingOptions;
 import org.hibernate.search.mapper.orm.search.query.SearchQuery;
 import org.hibernate.search.mapper.orm.search.query.SearchResult;
@@ -94,6 +98,29 @@ public HibernateOrmSearchQuery<R> setFetchSize(int fetchSize) {
 		return this;
 	}
 
+	@Override
+	public HibernateOrmSearchQuery<R> setCacheLookupStrategy(EntityLoadingCacheLookupStrategy strategy) {
+		loadingOptions.setCacheLookupStrategy( strategy );
+		return this;
+	}
+
+	@Override
+	public HibernateOrmSearchQuery<R> setEntityGraphHint(EntityGraph<?> graph, GraphSemantic semantic) {
+		loadingOptions.setEntityGraph( (RootGraphImplementor<?>) graph, semantic );
+		return this;
+	}
+
+	@Override
+	public HibernateOrmSearchQuery<R> setEntityGraphHint(String graphName, GraphSemantic semantic) {
+		return setEntityGraphHint( sessionImplementor.getEntityGraph( graphName ), semantic );
+	}
+
+	@Override
+	public HibernateOrmSearchQuery<R> enableFetchProfile(String fetchProfileName) {
+		loadingOptions.enableFetchProfile( fetchProfileName );
+		return this;
+	}
+
 	IndexSearchQuery<R> getIndexSearchQuery() {
 		return delegate;
 	}
@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import javax.persistence.EntityGraph;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -24,6 +25,7 @@
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.GraphSemantic;
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.internal.AbstractProducedQuery;
@@ -184,7 +186,18 @@ private UnsupportedOperationException resultStreamingNotImplemented() {
 
 	@Override
 	public HibernateOrmSearchQueryAdapter<R> setHint(String hintName, Object value) {
-		// TODO hints (javax.persistence.query.timeout hint in particular)
+		if ( GraphSemantic.FETCH.getJpaHintName().equals( hintName )
+				|| GraphSemantic.LOAD.getJpaHintName().equals( hintName ) ) {
+			GraphSemantic semantic = GraphSemantic.fromJpaHintName( hintName );
+			if ( value instanceof String ) {
+				delegate.setEntityGraphHint( (String) value, semantic );
+			}
+			else {
+				delegate.setEntityGraphHint( (EntityGraph<?>) value, semantic );
+			}
+			return this;
+		}
+		// TODO other hints (javax.persistence.query.timeout hint in particular)
 		throw new UnsupportedOperationException( "Not implemented yet" );
 	}
 
@@ -16,6 +16,7 @@
 import org.hibernate.search.mapper.orm.search.SearchScope;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.search.dsl.query.SearchQueryResultDefinitionContext;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
 
 public interface SearchSession {
 
@@ -84,6 +85,26 @@ default <T> SearchScope<T> scope(Class<T> type) {
 	 */
 	MassIndexer createIndexer(Class<?>... types);
 
+	/**
+	 * @return Metrics about the loading of entities for search hits.
+	 * These metrics are shared by all sessions of the same session factory.
+	 */
+	EntityLoadingMetrics getEntityLoadingMetrics();
+
+	/**
+	 * Set whether committing a transaction in this session should wait for automatic indexing to complete.
+	 * <p>
+	 * Waiting ensures changes are visible in search queries as soon as the transaction is committed,
+	 * at the cost of slower commits.
+	 * When not waiting, failures are reported to the configured error handler instead of being thrown.
+	 * <p>
+	 * Defaults to the behavior defined by
+	 * {@link org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_ASYNC}.
+	 *
+	 * @param synchronous {@code true} to wait for automatic indexing to complete, {@code false} otherwise.
+	 */
+	void setAutomaticIndexingSynchronous(boolean synchronous);
+
 	/**
 	 * @return The underlying {@link EntityManager} used by this {@link SearchSession}.
 	 */
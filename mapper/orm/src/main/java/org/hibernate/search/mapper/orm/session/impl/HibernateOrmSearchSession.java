@@ -12,10 +12,15 @@
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.impl.AutomaticIndexingJournal;
+import org.hibernate.search.mapper.orm.impl.JournaledWorkPlan;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.massindexing.impl.MassIndexerImpl;
+import org.hibernate.search.mapper.orm.outbox.impl.Outbox;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxWorkPlan;
 import org.hibernate.search.mapper.orm.search.SearchScope;
 import org.hibernate.search.mapper.orm.search.impl.SearchScopeImpl;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionBuilder;
@@ -33,11 +38,16 @@
  */
 public class HibernateOrmSearchSession extends AbstractPojoSearchSession
 		implements SearchSessionImplementor, SearchSession {
+	private final HibernateOrmMappingContextImpl mappingContext;
 	private final SessionImplementor sessionImplementor;
 
+	private boolean automaticIndexingSynchronous;
+
 	private HibernateOrmSearchSession(HibernateOrmSearchSessionBuilder builder) {
 		super( builder );
+		this.mappingContext = builder.mappingContext;
 		this.sessionImplementor = builder.sessionImplementor;
+		this.automaticIndexingSynchronous = mappingContext.isAutomaticIndexingSynchronousByDefault();
 	}
 
 	@Override
@@ -58,7 +68,7 @@ public Session toOrmSession() {
 	@Override
 	public <T> SearchScope<T> scope(Collection<? extends Class<? extends T>> types) {
 		PojoSearchScopeDelegate<T, T> searchScopeDelegate = getDelegate().createPojoSearchScope( types );
-		return new SearchScopeImpl<>( searchScopeDelegate, sessionImplementor );
+		return new SearchScopeImpl<>( searchScopeDelegate, mappingContext, sessionImplementor );
 	}
 
 	@Override
@@ -71,9 +81,31 @@ public MassIndexer createIndexer(Class<?>... types) {
 		return new MassIndexerImpl( sessionImplementor.getFactory(), sessionImplementor.getTenantIdentifier(), types );
 	}
 
+	@Override
+	public EntityLoadingMetrics getEntityLoadingMetrics() {
+		return mappingContext.getEntityLoadingMetrics();
+	}
+
+	@Override
+	public void setAutomaticIndexingSynchronous(boolean synchronous) {
+		this.automaticIndexingSynchronous = synchronous;
+	}
+
 	@Override
 	public PojoWorkPlan createWorkPlan() {
-		return getDelegate().createWorkPlan();
+		return getDelegate().createWorkPlan( mappingContext.getDocumentBuildingExecutor() );
+	}
+
+	@Override
+	public PojoWorkPlan createAutomaticIndexingWorkPlan() {
+		Outbox outbox = mappingContext.getOutbox();
+		if ( outbox != null ) {
+			// Changes are indexed by the outbox event processor, possibly on another node
+			return new OutboxWorkPlan( outbox, sessionImplementor );
+		}
+		PojoWorkPlan workPlan = createWorkPlan();
+		AutomaticIndexingJournal journal = mappingContext.getAutomaticIndexingJournal();
+		return journal == null ? workPlan : new JournaledWorkPlan( workPlan, journal, sessionImplementor );
 	}
 
 	@Override
@@ -81,6 +113,11 @@ public PojoSessionWorkExecutor createSessionWorkExecutor() {
 		return getDelegate().createSessionWorkExecutor();
 	}
 
+	@Override
+	public void executeAutomaticIndexing(PojoWorkPlan workPlan) {
+		mappingContext.getAutomaticIndexingExecutor().execute( workPlan, automaticIndexingSynchronous );
+	}
+
 	public static class HibernateOrmSearchSessionBuilder extends AbstractBuilder<HibernateOrmSearchSession>
 			implements SearchSessionBuilder {
 		private final HibernateOrmMappingContextImpl mappingContext;
@@ -15,6 +15,7 @@
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.search.SearchScope;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingMetrics;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
 
@@ -53,6 +54,16 @@ public MassIndexer createIndexer(Class<?>... types) {
 		return getDelegate().createIndexer( types );
 	}
 
+	@Override
+	public EntityLoadingMetrics getEntityLoadingMetrics() {
+		return getDelegate().getEntityLoadingMetrics();
+	}
+
+	@Override
+	public void setAutomaticIndexingSynchronous(boolean synchronous) {
+		getDelegate().setAutomaticIndexingSynchronous( synchronous );
+	}
+
 	private SearchSessionImplementor getDelegate() {
 		if ( delegate == null ) {
 			HibernateSearchContextService contextService = sessionImplementor.getSessionFactory().getServiceRegistry()
@@ -22,6 +22,23 @@ public interface SearchSessionImplementor extends AutoCloseable, SearchSession {
 	 */
 	PojoWorkPlan createWorkPlan();
 
+	/**
+	 * @return A new work plan for changes detected by automatic indexing,
+	 * to be passed to {@link #executeAutomaticIndexing(PojoWorkPlan)} after the transaction was committed,
+	 * or {@link PojoWorkPlan#discard() discarded} if the transaction was rolled back.
+	 */
+	PojoWorkPlan createAutomaticIndexingWorkPlan();
+
 	PojoSessionWorkExecutor createSessionWorkExecutor();
 
+	/**
+	 * Execute a work plan resulting from automatic indexing, after the transaction was committed.
+	 * <p>
+	 * Depending on the configuration and on {@link #setAutomaticIndexingSynchronous(boolean)},
+	 * this will either wait for the works to be executed, or return as soon as they are submitted.
+	 *
+	 * @param workPlan The work plan to execute.
+	 */
+	void executeAutomaticIndexing(PojoWorkPlan workPlan);
+
 }
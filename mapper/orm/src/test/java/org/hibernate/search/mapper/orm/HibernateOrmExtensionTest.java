@@ -15,6 +15,7 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.mapper.orm.mapping.context.impl.HibernateOrmMappingContextImpl;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.session.context.impl.HibernateOrmSessionContextImpl;
 import org.hibernate.search.mapper.pojo.bridge.runtime.IdentifierBridgeFromDocumentIdentifierContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.IdentifierBridgeToDocumentIdentifierContext;
@@ -34,7 +35,8 @@ public class HibernateOrmExtensionTest extends EasyMockSupport {
 	private final SessionFactoryImplementor sessionFactoryImplementor = createMock( SessionFactoryImplementor.class );
 	private final SessionImplementor sessionImplementor = createMock( SessionImplementor.class );
 	private final HibernateOrmMappingContextImpl mappingContext =
-			new HibernateOrmMappingContextImpl( sessionFactoryImplementor );
+			new HibernateOrmMappingContextImpl( sessionFactoryImplementor, EntityLoadingCacheLookupStrategy.SKIP,
+					null, true, null, null, null );
 	private final HibernateOrmSessionContextImpl sessionContext =
 			new HibernateOrmSessionContextImpl( mappingContext, sessionImplementor );
 
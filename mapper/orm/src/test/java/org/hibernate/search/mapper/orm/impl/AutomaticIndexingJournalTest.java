@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AutomaticIndexingJournalTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void recover_tenantId() throws IOException {
+		Path directory = temporaryFolder.newFolder().toPath();
+		AutomaticIndexingJournal.Entry tenant1Entry = new AutomaticIndexingJournal.Entry( "tenant1", "MyEntity", 1 );
+		AutomaticIndexingJournal.Entry tenant2Entry = new AutomaticIndexingJournal.Entry( "tenant2", "MyEntity", 1 );
+		AutomaticIndexingJournal.Entry noTenantEntry = new AutomaticIndexingJournal.Entry( null, "MyEntity", 2 );
+
+		try ( AutomaticIndexingJournal journal = AutomaticIndexingJournal.open( directory,
+				AutomaticIndexingJournal.MIN_SEGMENT_SIZE ) ) {
+			journal.append( Arrays.asList( tenant1Entry, tenant2Entry ) );
+			journal.append( Collections.singletonList( noTenantEntry ) );
+		}
+
+		try ( AutomaticIndexingJournal journal = AutomaticIndexingJournal.open( directory,
+				AutomaticIndexingJournal.MIN_SEGMENT_SIZE ) ) {
+			// The same entity identifier in different tenants must be recovered as different entries
+			assertThat( journal.getRecoveredEntries() )
+					.containsExactly( tenant1Entry, tenant2Entry, noTenantEntry );
+			assertThat( journal.getRecoveredEntries() )
+					.extracting( AutomaticIndexingJournal.Entry::getTenantId )
+					.containsExactly( "tenant1", "tenant2", null );
+		}
+	}
+
+	@Test
+	public void acknowledged() throws IOException {
+		Path directory = temporaryFolder.newFolder().toPath();
+
+		try ( AutomaticIndexingJournal journal = AutomaticIndexingJournal.open( directory,
+				AutomaticIndexingJournal.MIN_SEGMENT_SIZE ) ) {
+			AutomaticIndexingJournal.Record record = journal.append( Collections.singletonList(
+					new AutomaticIndexingJournal.Entry( "tenant1", "MyEntity", 1 ) ) );
+			journal.acknowledge( record );
+		}
+
+		try ( AutomaticIndexingJournal journal = AutomaticIndexingJournal.open( directory,
+				AutomaticIndexingJournal.MIN_SEGMENT_SIZE ) ) {
+			assertThat( journal.getRecoveredEntries() ).isEmpty();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Notifies a callback each time javac has written the class file of a type.
+ * <p>
+ * Annotation processing happens before class files are generated,
+ * so this is the only way for an annotation processor to access the class files of the types it processed.
+ * <p>
+ * This relies on the {@code com.sun.source.util} API of javac, accessed through reflection:
+ * on JDK 8, this API is not available at compile time without adding {@code tools.jar} to the classpath.
+ */
+final class ClassFileGenerationListener implements InvocationHandler {
+
+	private static final String JAVAC_TASK_CLASS_NAME = "com.sun.source.util.JavacTask";
+	private static final String TASK_LISTENER_CLASS_NAME = "com.sun.source.util.TaskListener";
+	private static final String TASK_EVENT_CLASS_NAME = "com.sun.source.util.TaskEvent";
+	private static final String GENERATE_EVENT_KIND = "GENERATE";
+
+	/**
+	 * @param processingEnv The processing environment.
+	 * @param callback A callback accepting the type whose class file was just written.
+	 * @return {@code true} if the listener was registered,
+	 * {@code false} if the processing environment is not provided by javac.
+	 */
+	static boolean register(ProcessingEnvironment processingEnv, Consumer<TypeElement> callback) {
+		try {
+			ClassLoader javacClassLoader = processingEnv.getClass().getClassLoader();
+			Class<?> javacTaskClass = Class.forName( JAVAC_TASK_CLASS_NAME, true, javacClassLoader );
+			Class<?> taskListenerClass = Class.forName( TASK_LISTENER_CLASS_NAME, true, javacClassLoader );
+			Class<?> taskEventClass = Class.forName( TASK_EVENT_CLASS_NAME, true, javacClassLoader );
+
+			Object javacTask = javacTaskClass.getMethod( "instance", ProcessingEnvironment.class )
+					.invoke( null, processingEnv );
+			Object listener = Proxy.newProxyInstance( javacClassLoader, new Class<?>[] { taskListenerClass },
+					new ClassFileGenerationListener( callback,
+							taskEventClass.getMethod( "getKind" ), taskEventClass.getMethod( "getTypeElement" ) ) );
+			javacTaskClass.getMethod( "addTaskListener", taskListenerClass ).invoke( javacTask, listener );
+			return true;
+		}
+		catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			// JavacTask.instance() throws an IllegalArgumentException if the environment is not provided by javac
+			return false;
+		}
+	}
+
+	private final Consumer<TypeElement> callback;
+	private final Method getKindMethod;
+	private final Method getTypeElementMethod;
+
+	private ClassFileGenerationListener(Consumer<TypeElement> callback,
+			Method getKindMethod, Method getTypeElementMethod) {
+		this.callback = callback;
+		this.getKindMethod = getKindMethod;
+		this.getTypeElementMethod = getTypeElementMethod;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws IllegalAccessException, InvocationTargetException {
+		switch ( method.getName() ) {
+			case "finished":
+				onFinished( args[0] );
+				return null;
+			case "started":
+				return null;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode( proxy );
+			case "toString":
+				return getClass().getSimpleName();
+			default:
+				throw new UnsupportedOperationException( method.toString() );
+		}
+	}
+
+	private void onFinished(Object event) throws IllegalAccessException, InvocationTargetException {
+		Object kind = getKindMethod.invoke( event );
+		if ( !GENERATE_EVENT_KIND.equals( ( (Enum<?>) kind ).name() ) ) {
+			return;
+		}
+		TypeElement type = (TypeElement) getTypeElementMethod.invoke( event );
+		if ( type != null ) {
+			callback.accept( type );
+		}
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processor;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor generating, for each compiled package,
+ * an index of the types that do or do not carry Hibernate Search mapping annotations.
+ * <p>
+ * At bootstrap, Hibernate Search uses these indexes to skip annotation processing
+ * for types that are known not to carry any mapping annotation,
+ * which saves a lot of reflection on entity models where only a few types are indexed.
+ * <p>
+ * A type carries mapping annotations if it, or one of its fields or methods, is annotated with
+ * an annotation from Hibernate Search, or with an annotation meta-annotated with an annotation from Hibernate Search
+ * (for instance a custom bridge annotation).
+ * <p>
+ * Entries of types without mapping annotations also include a fingerprint of the class file of the type,
+ * so that an index that became stale, for instance because the type was later recompiled without this processor,
+ * can be detected at bootstrap. Fingerprints are computed once javac has written the class files,
+ * so the indexes are only written at the very end of the compilation.
+ * Other compilers are not supported: without a fingerprint, types are processed as if they were not indexed.
+ * <p>
+ * The indexes of previous compilations are merged with the new ones,
+ * so that incremental compilation does not lose the entries of types that were not recompiled.
+ */
+@SupportedAnnotationTypes("*")
+public class HibernateSearchAnnotationIndexProcessor extends AbstractProcessor {
+
+	// Must be kept in sync with org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl.AnnotationIndex
+	static final String INDEX_FILE_NAME = "hibernate-search-annotations.idx";
+	static final String MAPPED = "mapped";
+	static final String UNMAPPED = "unmapped";
+	static final String FINGERPRINT_SEPARATOR = ":";
+
+	private static final String HIBERNATE_SEARCH_PACKAGE_PREFIX = "org.hibernate.search.";
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	// Use TreeMaps for deterministic output
+	private final Map<String, Map<String, String>> entriesByPackage = new TreeMap<>();
+	private final Map<String, FileObject> indexFilesByPackage = new HashMap<>();
+	// Maps the binary name of unmapped types whose class file was not written yet to the name of their package
+	private final Map<String, String> unmappedTypesPendingGeneration = new HashMap<>();
+
+	private boolean fingerprintsSupported;
+	private boolean processingOver = false;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init( processingEnv );
+		fingerprintsSupported = ClassFileGenerationListener.register( processingEnv, this::onClassFileGenerated );
+		if ( !fingerprintsSupported ) {
+			processingEnv.getMessager().printMessage( Diagnostic.Kind.NOTE,
+					"Hibernate Search: class file fingerprints can only be computed when compiling with javac;"
+							+ " the generated annotation indexes will not allow to skip annotation processing." );
+		}
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for ( Element element : roundEnv.getRootElements() ) {
+			if ( isType( element ) ) {
+				collect( (TypeElement) element );
+			}
+		}
+
+		if ( roundEnv.processingOver() ) {
+			processingOver = true;
+			for ( Map.Entry<String, Map<String, String>> entry : entriesByPackage.entrySet() ) {
+				prepareIndex( entry.getKey(), entry.getValue() );
+			}
+			// Class files are written after annotation processing: indexes are generally written later
+			writeIndexesIfComplete();
+		}
+
+		// Do not claim any annotation: other processors may need them
+		return false;
+	}
+
+	private void onClassFileGenerated(TypeElement type) {
+		String binaryName = processingEnv.getElementUtils().getBinaryName( type ).toString();
+		String packageName = unmappedTypesPendingGeneration.remove( binaryName );
+		if ( packageName == null ) {
+			// Mapped type, or type that was not collected, such as an anonymous class
+			return;
+		}
+		String relativeName = toRelativeName( packageName, binaryName );
+		String fingerprint = computeFingerprint( packageName, relativeName );
+		if ( fingerprint != null ) {
+			entriesByPackage.get( packageName ).put( relativeName, UNMAPPED + FINGERPRINT_SEPARATOR + fingerprint );
+		}
+		writeIndexesIfComplete();
+	}
+
+	private void writeIndexesIfComplete() {
+		if ( !processingOver || !unmappedTypesPendingGeneration.isEmpty() ) {
+			return;
+		}
+		for ( Map.Entry<String, FileObject> entry : indexFilesByPackage.entrySet() ) {
+			writeIndex( entry.getKey(), entry.getValue(), entriesByPackage.get( entry.getKey() ) );
+		}
+		indexFilesByPackage.clear();
+	}
+
+	private void collect(TypeElement type) {
+		Elements elements = processingEnv.getElementUtils();
+		String packageName = elements.getPackageOf( type ).getQualifiedName().toString();
+		String binaryName = elements.getBinaryName( type ).toString();
+		String relativeName = toRelativeName( packageName, binaryName );
+
+		boolean mapped = hasMappingAnnotation( type );
+		entriesByPackage.computeIfAbsent( packageName, ignored -> new TreeMap<>() )
+				.put( relativeName, mapped ? MAPPED : UNMAPPED );
+		if ( !mapped && fingerprintsSupported ) {
+			unmappedTypesPendingGeneration.put( binaryName, packageName );
+		}
+
+		for ( Element enclosedElement : type.getEnclosedElements() ) {
+			if ( isType( enclosedElement ) ) {
+				collect( (TypeElement) enclosedElement );
+			}
+		}
+	}
+
+	private boolean hasMappingAnnotation(TypeElement type) {
+		// Take inherited annotations into account, as they are taken into account at runtime
+		for ( AnnotationMirror annotation : processingEnv.getElementUtils().getAllAnnotationMirrors( type ) ) {
+			if ( isMappingAnnotation( annotation ) ) {
+				return true;
+			}
+		}
+		for ( Element enclosedElement : type.getEnclosedElements() ) {
+			ElementKind kind = enclosedElement.getKind();
+			if ( kind != ElementKind.FIELD && kind != ElementKind.METHOD ) {
+				continue;
+			}
+			for ( AnnotationMirror annotation : enclosedElement.getAnnotationMirrors() ) {
+				if ( isMappingAnnotation( annotation ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isMappingAnnotation(AnnotationMirror annotation) {
+		Element annotationType = annotation.getAnnotationType().asElement();
+		if ( isHibernateSearchType( annotationType ) ) {
+			return true;
+		}
+		for ( AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors() ) {
+			if ( isHibernateSearchType( metaAnnotation.getAnnotationType().asElement() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isHibernateSearchType(Element element) {
+		return ( (TypeElement) element ).getQualifiedName().toString().startsWith( HIBERNATE_SEARCH_PACKAGE_PREFIX );
+	}
+
+	/*
+	 * Merge the entries with the previous index and create the index file while annotation processing is still running,
+	 * since the file is written after the class files.
+	 */
+	private void prepareIndex(String packageName, Map<String, String> entries) {
+		Map<String, String> previousEntries = new HashMap<>();
+		readPreviousIndex( packageName, previousEntries );
+		previousEntries.forEach( entries::putIfAbsent );
+
+		try {
+			FileObject file = processingEnv.getFiler()
+					.createResource( StandardLocation.CLASS_OUTPUT, packageName, INDEX_FILE_NAME );
+			indexFilesByPackage.put( packageName, file );
+		}
+		catch (IOException e) {
+			reportIndexWritingFailure( packageName, e );
+		}
+	}
+
+	private void writeIndex(String packageName, FileObject file, Map<String, String> entries) {
+		try ( OutputStream stream = file.openOutputStream();
+				BufferedWriter writer = new BufferedWriter(
+						new OutputStreamWriter( stream, StandardCharsets.ISO_8859_1 ) ) ) {
+			writer.write( "# Generated by Hibernate Search at build time. Do not edit." );
+			writer.newLine();
+			for ( Map.Entry<String, String> entry : entries.entrySet() ) {
+				writer.write( escape( entry.getKey() ) );
+				writer.write( '=' );
+				writer.write( entry.getValue() );
+				writer.newLine();
+			}
+		}
+		catch (IOException e) {
+			reportIndexWritingFailure( packageName, e );
+		}
+	}
+
+	private void reportIndexWritingFailure(String packageName, IOException e) {
+		processingEnv.getMessager().printMessage( Diagnostic.Kind.WARNING,
+				"Hibernate Search: unable to write the annotation index for package '" + packageName + "': "
+						+ e.getMessage() );
+	}
+
+	/*
+	 * Must be kept in sync with org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl.AnnotationIndex
+	 */
+	private String computeFingerprint(String packageName, String relativeName) {
+		CRC32 checksum = new CRC32();
+		try {
+			FileObject classFile = processingEnv.getFiler()
+					.getResource( StandardLocation.CLASS_OUTPUT, packageName, relativeName + CLASS_FILE_EXTENSION );
+			try ( InputStream stream = classFile.openInputStream() ) {
+				byte[] buffer = new byte[4096];
+				int read;
+				while ( ( read = stream.read( buffer ) ) >= 0 ) {
+					checksum.update( buffer, 0, read );
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException e) {
+			processingEnv.getMessager().printMessage( Diagnostic.Kind.NOTE,
+					"Hibernate Search: unable to compute the fingerprint of type '" + relativeName
+							+ "' in package '" + packageName + "': " + e.getMessage() );
+			return null;
+		}
+		return String.format( Locale.ROOT, "%08x", checksum.getValue() );
+	}
+
+	/*
+	 * Incremental compilation only processes the types that changed:
+	 * keep the entries of other types, provided they still exist.
+	 */
+	private void readPreviousIndex(String packageName, Map<String, String> entries) {
+		Elements elements = processingEnv.getElementUtils();
+		try {
+			FileObject file = processingEnv.getFiler()
+					.getResource( StandardLocation.CLASS_OUTPUT, packageName, INDEX_FILE_NAME );
+			Properties previousEntries = new Properties();
+			try ( InputStream stream = file.openInputStream() ) {
+				previousEntries.load( stream );
+			}
+			for ( String relativeName : previousEntries.stringPropertyNames() ) {
+				String canonicalName = ( packageName.isEmpty() ? "" : packageName + "." )
+						+ relativeName.replace( '$', '.' );
+				if ( elements.getTypeElement( canonicalName ) != null ) {
+					entries.put( relativeName, previousEntries.getProperty( relativeName ) );
+				}
+			}
+		}
+		catch (FileNotFoundException | NoSuchFileException e) {
+			// No previous index: nothing to merge
+		}
+		catch (IOException | IllegalArgumentException e) {
+			processingEnv.getMessager().printMessage( Diagnostic.Kind.NOTE,
+					"Hibernate Search: ignoring the previous annotation index for package '" + packageName + "': "
+							+ e.getMessage() );
+		}
+	}
+
+	private static String toRelativeName(String packageName, String binaryName) {
+		return packageName.isEmpty() ? binaryName : binaryName.substring( packageName.length() + 1 );
+	}
+
+	private static boolean isType(Element element) {
+		ElementKind kind = element.getKind();
+		return kind.isClass() || ( kind.isInterface() && kind != ElementKind.ANNOTATION_TYPE );
+	}
+
+	/*
+	 * The index is read as a properties file, which must be encoded in ISO-8859-1:
+	 * escape any other character.
+	 */
+	private static String escape(String value) {
+		StringBuilder builder = new StringBuilder( value.length() );
+		for ( char c : value.toCharArray() ) {
+			if ( c < 0x20 || c > 0x7e ) {
+				builder.append( String.format( Locale.ROOT, "\\u%04x", (int) c ) );
+			}
+			else {
+				builder.append( c );
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.zip.CRC32;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HibernateSearchAnnotationIndexProcessorTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path sourceDirectory;
+	private Path outputDirectory;
+
+	@Before
+	public void createDirectories() throws IOException {
+		sourceDirectory = temporaryFolder.newFolder( "src" ).toPath();
+		outputDirectory = temporaryFolder.newFolder( "out" ).toPath();
+	}
+
+	@Test
+	public void mappedAndUnmappedTypes() throws IOException {
+		Path book = source( "Book",
+				"import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;",
+				"public class Book {",
+				"	@GenericField String title;",
+				"	public static class Chapter { String title; }",
+				"}"
+		);
+		Path author = source( "Author",
+				"public class Author { String name; }"
+		);
+		Path indexedAuthor = source( "IndexedAuthor",
+				"@org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed",
+				"public class IndexedAuthor extends Author { }"
+		);
+
+		compile( book, author, indexedAuthor );
+
+		Properties index = readIndex();
+		assertThat( index.stringPropertyNames() )
+				.containsExactlyInAnyOrder( "Book", "Book$Chapter", "Author", "IndexedAuthor" );
+		assertThat( index.getProperty( "Book" ) ).isEqualTo( HibernateSearchAnnotationIndexProcessor.MAPPED );
+		assertThat( index.getProperty( "Book$Chapter" ) ).isEqualTo( unmapped( "Book$Chapter" ) );
+		assertThat( index.getProperty( "Author" ) ).isEqualTo( unmapped( "Author" ) );
+		assertThat( index.getProperty( "IndexedAuthor" ) ).isEqualTo( HibernateSearchAnnotationIndexProcessor.MAPPED );
+	}
+
+	@Test
+	public void customBridgeAnnotation() throws IOException {
+		Path bridgeAnnotation = source( "MyBridgeAnnotation",
+				"import java.lang.annotation.Retention;",
+				"import java.lang.annotation.RetentionPolicy;",
+				"import org.hibernate.search.mapper.pojo.bridge.declaration.PropertyBridgeMapping;",
+				"import org.hibernate.search.mapper.pojo.bridge.declaration.PropertyBridgeRef;",
+				"@Retention(RetentionPolicy.RUNTIME)",
+				"@PropertyBridgeMapping(bridge = @PropertyBridgeRef(name = \"myBridge\"))",
+				"public @interface MyBridgeAnnotation { }"
+		);
+		Path entity = source( "Entity",
+				"public class Entity {",
+				"	@MyBridgeAnnotation public String getText() { return null; }",
+				"}"
+		);
+
+		compile( bridgeAnnotation, entity );
+
+		Properties index = readIndex();
+		// Annotation types are not listed
+		assertThat( index.stringPropertyNames() ).containsExactly( "Entity" );
+		assertThat( index.getProperty( "Entity" ) ).isEqualTo( HibernateSearchAnnotationIndexProcessor.MAPPED );
+	}
+
+	@Test
+	public void fingerprint_recompilation() throws IOException {
+		Path author = source( "Author",
+				"public class Author { String name; }"
+		);
+		compile( author );
+		String initialEntry = readIndex().getProperty( "Author" );
+		assertThat( initialEntry ).isEqualTo( unmapped( "Author" ) );
+
+		// A different class file leads to a different fingerprint
+		author = source( "Author",
+				"public class Author { String name; String biography; }"
+		);
+		compile( author );
+		String newEntry = readIndex().getProperty( "Author" );
+		assertThat( newEntry ).isEqualTo( unmapped( "Author" ) );
+		assertThat( newEntry ).isNotEqualTo( initialEntry );
+	}
+
+	@Test
+	public void incrementalCompilation() throws IOException {
+		Path book = source( "Book",
+				"public class Book { String title; }"
+		);
+		Path author = source( "Author",
+				"public class Author { String name; }"
+		);
+		compile( book, author );
+
+		// Only recompile one type, which now carries mapping annotations
+		book = source( "Book",
+				"import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;",
+				"public class Book { @GenericField String title; }"
+		);
+		compile( book );
+
+		Properties index = readIndex();
+		assertThat( index.stringPropertyNames() ).containsExactlyInAnyOrder( "Book", "Author" );
+		assertThat( index.getProperty( "Book" ) ).isEqualTo( HibernateSearchAnnotationIndexProcessor.MAPPED );
+		assertThat( index.getProperty( "Author" ) ).isEqualTo( unmapped( "Author" ) );
+	}
+
+	private Path source(String typeName, String... lines) throws IOException {
+		List<String> content = new ArrayList<>();
+		content.add( "package com.example;" );
+		content.addAll( Arrays.asList( lines ) );
+		Path packageDirectory = Files.createDirectories( sourceDirectory.resolve( "com/example" ) );
+		return Files.write( packageDirectory.resolve( typeName + ".java" ), content, StandardCharsets.UTF_8 );
+	}
+
+	private void compile(Path... sources) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, StandardCharsets.UTF_8 ) ) {
+			List<File> sourceFiles = new ArrayList<>();
+			for ( Path source : sources ) {
+				sourceFiles.add( source.toFile() );
+			}
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles( sourceFiles );
+			List<String> options = Arrays.asList(
+					"-d", outputDirectory.toString(),
+					"-classpath", System.getProperty( "java.class.path" ) + File.pathSeparator + outputDirectory
+			);
+			JavaCompiler.CompilationTask task = compiler.getTask( null, fileManager, null, options, null, compilationUnits );
+			task.setProcessors( Arrays.asList( new HibernateSearchAnnotationIndexProcessor() ) );
+			assertThat( task.call() ).as( "Compilation success" ).isTrue();
+		}
+	}
+
+	/*
+	 * The fingerprint of unmapped types is a checksum of their class file.
+	 */
+	private String unmapped(String relativeName) throws IOException {
+		CRC32 checksum = new CRC32();
+		checksum.update( Files.readAllBytes( outputDirectory.resolve( "com/example/" + relativeName + ".class" ) ) );
+		return HibernateSearchAnnotationIndexProcessor.UNMAPPED
+				+ HibernateSearchAnnotationIndexProcessor.FINGERPRINT_SEPARATOR
+				+ String.format( Locale.ROOT, "%08x", checksum.getValue() );
+	}
+
+	private Properties readIndex() throws IOException {
+		Properties index = new Properties();
+		try ( InputStream stream = Files.newInputStream(
+				outputDirectory.resolve( "com/example/" + HibernateSearchAnnotationIndexProcessor.INDEX_FILE_NAME ) ) ) {
+			index.load( stream );
+		}
+		return index;
+	}
+}
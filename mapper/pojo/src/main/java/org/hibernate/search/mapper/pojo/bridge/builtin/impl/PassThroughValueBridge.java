@@ -36,6 +36,10 @@ public String toString() {
 		return getClass().getSimpleName() + "[" + fieldType.getName() + "]";
 	}
 
+	public Class<F> getFieldType() {
+		return fieldType;
+	}
+
 	@Override
 	public StandardIndexFieldTypeContext<?, F> bind(ValueBridgeBindingContext<F> context) {
 		return context.getTypeFactory().as( fieldType )
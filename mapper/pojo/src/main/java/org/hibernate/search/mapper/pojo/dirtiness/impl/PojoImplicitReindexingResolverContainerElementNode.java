@@ -7,9 +7,9 @@
 package org.hibernate.search.mapper.pojo.dirtiness.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -32,11 +32,14 @@
 
 	private final ContainerExtractorHolder<C, V> extractorHolder;
 	private final Collection<PojoImplicitReindexingResolverNode<V, S>> nestedNodes;
+	// Instantiated once, so that chaining extractors can reuse the consumer they wrap around it
+	private final ContainerElementConsumer<V, PojoReindexingCollector, ResolutionContext<S>> elementResolver;
 
 	public PojoImplicitReindexingResolverContainerElementNode(ContainerExtractorHolder<C, V> extractorHolder,
 			Collection<PojoImplicitReindexingResolverNode<V, S>> nestedNodes) {
 		this.extractorHolder = extractorHolder;
 		this.nestedNodes = nestedNodes;
+		this.elementResolver = this::resolveEntitiesToReindexForContainerElement;
 	}
 
 	@Override
@@ -61,19 +64,30 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, C dirty, S dirtinessState) {
-		try ( Stream<V> stream = extractorHolder.get().extract( dirty ) ) {
-			stream.forEach( containerElement -> resolveEntitiesToReindexForContainerElement(
-					collector, runtimeIntrospector, containerElement, dirtinessState
-			) );
-		}
+		extractorHolder.get().extract(
+				dirty, elementResolver,
+				collector, new ResolutionContext<>( runtimeIntrospector, dirtinessState )
+		);
 	}
 
 	private void resolveEntitiesToReindexForContainerElement(PojoReindexingCollector collector,
-			PojoRuntimeIntrospector runtimeIntrospector, V containerElement, S dirtinessState) {
+			V containerElement, ResolutionContext<S> context) {
 		if ( containerElement != null ) {
 			for ( PojoImplicitReindexingResolverNode<V, S> node : nestedNodes ) {
-				node.resolveEntitiesToReindex( collector, runtimeIntrospector, containerElement, dirtinessState );
+				node.resolveEntitiesToReindex(
+						collector, context.runtimeIntrospector, containerElement, context.dirtinessState
+				);
 			}
 		}
 	}
+
+	private static final class ResolutionContext<S> {
+		private final PojoRuntimeIntrospector runtimeIntrospector;
+		private final S dirtinessState;
+
+		private ResolutionContext(PojoRuntimeIntrospector runtimeIntrospector, S dirtinessState) {
+			this.runtimeIntrospector = runtimeIntrospector;
+			this.dirtinessState = dirtinessState;
+		}
+	}
 }
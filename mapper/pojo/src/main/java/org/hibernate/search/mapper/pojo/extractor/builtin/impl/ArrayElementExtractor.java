@@ -9,11 +9,22 @@
 import java.util.Arrays;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class ArrayElementExtractor<T> implements ContainerExtractor<T[], T> {
+public class ArrayElementExtractor<T> implements ConsumingContainerExtractor<T[], T> {
 	@Override
 	public Stream<T> extract(T[] container) {
 		return container == null ? Stream.empty() : Arrays.stream( container );
 	}
+
+	@Override
+	public <T2, X> void extract(T[] container, ContainerElementConsumer<? super T, T2, X> consumer, T2 target, X context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			consumer.accept( target, element, context );
+		}
+	}
 }
@@ -7,13 +7,36 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class CollectionElementExtractor<T> implements ContainerExtractor<Collection<T>, T> {
+public class CollectionElementExtractor<T> implements ConsumingContainerExtractor<Collection<T>, T> {
 	@Override
 	public Stream<T> extract(Collection<T> container) {
 		return container == null ? Stream.empty() : container.stream();
 	}
+
+	@Override
+	public <T2, X> void extract(Collection<T> container, ContainerElementConsumer<? super T, T2, X> consumer,
+			T2 target, X context) {
+		if ( container == null ) {
+			return;
+		}
+		if ( container instanceof List && container instanceof RandomAccess ) {
+			// Avoid allocating an iterator
+			List<T> list = (List<T>) container;
+			for ( int i = 0; i < list.size(); i++ ) {
+				consumer.accept( target, list.get( i ), context );
+			}
+		}
+		else {
+			for ( T element : container ) {
+				consumer.accept( target, element, context );
+			}
+		}
+	}
 }
@@ -9,11 +9,23 @@
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class IterableElementExtractor<T> implements ContainerExtractor<Iterable<T>, T> {
+public class IterableElementExtractor<T> implements ConsumingContainerExtractor<Iterable<T>, T> {
 	@Override
 	public Stream<T> extract(Iterable<T> container) {
 		return container == null ? Stream.empty() : StreamSupport.stream( container.spliterator(), false );
 	}
+
+	@Override
+	public <T2, X> void extract(Iterable<T> container, ContainerElementConsumer<? super T, T2, X> consumer,
+			T2 target, X context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			consumer.accept( target, element, context );
+		}
+	}
 }
@@ -9,11 +9,23 @@
 import java.util.Map;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class MapKeyExtractor<T> implements ContainerExtractor<Map<T, ?>, T> {
+public class MapKeyExtractor<T> implements ConsumingContainerExtractor<Map<T, ?>, T> {
 	@Override
 	public Stream<T> extract(Map<T, ?> container) {
 		return container == null ? Stream.empty() : container.keySet().stream();
 	}
+
+	@Override
+	public <T2, X> void extract(Map<T, ?> container, ContainerElementConsumer<? super T, T2, X> consumer,
+			T2 target, X context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T key : container.keySet() ) {
+			consumer.accept( target, key, context );
+		}
+	}
 }
@@ -9,9 +9,10 @@
 import java.util.OptionalDouble;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class OptionalDoubleValueExtractor implements ContainerExtractor<OptionalDouble, Double> {
+public class OptionalDoubleValueExtractor implements ConsumingContainerExtractor<OptionalDouble, Double> {
 	@Override
 	public Stream<Double> extract(OptionalDouble container) {
 		if ( container != null && container.isPresent() ) {
@@ -21,4 +22,12 @@ public Stream<Double> extract(OptionalDouble container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <T, X> void extract(OptionalDouble container, ContainerElementConsumer<? super Double, T, X> consumer,
+			T target, X context) {
+		if ( container != null && container.isPresent() ) {
+			consumer.accept( target, container.getAsDouble(), context );
+		}
+	}
 }
@@ -9,9 +9,10 @@
 import java.util.OptionalInt;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class OptionalIntValueExtractor implements ContainerExtractor<OptionalInt, Integer> {
+public class OptionalIntValueExtractor implements ConsumingContainerExtractor<OptionalInt, Integer> {
 	@Override
 	public Stream<Integer> extract(OptionalInt container) {
 		if ( container != null && container.isPresent() ) {
@@ -21,4 +22,12 @@ public Stream<Integer> extract(OptionalInt container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <T, X> void extract(OptionalInt container, ContainerElementConsumer<? super Integer, T, X> consumer,
+			T target, X context) {
+		if ( container != null && container.isPresent() ) {
+			consumer.accept( target, container.getAsInt(), context );
+		}
+	}
 }
@@ -9,9 +9,10 @@
 import java.util.OptionalLong;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class OptionalLongValueExtractor implements ContainerExtractor<OptionalLong, Long> {
+public class OptionalLongValueExtractor implements ConsumingContainerExtractor<OptionalLong, Long> {
 	@Override
 	public Stream<Long> extract(OptionalLong container) {
 		if ( container != null && container.isPresent() ) {
@@ -21,4 +22,12 @@ public Stream<Long> extract(OptionalLong container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <T, X> void extract(OptionalLong container, ContainerElementConsumer<? super Long, T, X> consumer,
+			T target, X context) {
+		if ( container != null && container.isPresent() ) {
+			consumer.accept( target, container.getAsLong(), context );
+		}
+	}
 }
@@ -9,11 +9,20 @@
 import java.util.Optional;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-public class OptionalValueExtractor<T> implements ContainerExtractor<Optional<T>, T> {
+public class OptionalValueExtractor<T> implements ConsumingContainerExtractor<Optional<T>, T> {
 	@Override
 	public Stream<T> extract(Optional<T> container) {
 		return container == null ? Stream.empty() : container.map( Stream::of ).orElseGet( Stream::empty );
 	}
+
+	@Override
+	public <T2, X> void extract(Optional<T> container, ContainerElementConsumer<? super T, T2, X> consumer,
+			T2 target, X context) {
+		if ( container != null && container.isPresent() ) {
+			consumer.accept( target, container.get(), context );
+		}
+	}
 }
@@ -9,14 +9,23 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 
-class ChainingContainerExtractor<C, U, V> implements ContainerExtractor<C, V> {
+class ChainingContainerExtractor<C, U, V> implements ConsumingContainerExtractor<C, V> {
 
-	private final ContainerExtractor<C, U> parent;
-	private final ContainerExtractor<? super U, V> chained;
+	private final ConsumingContainerExtractor<C, U> parent;
+	private final ConsumingContainerExtractor<? super U, V> chained;
 
-	ChainingContainerExtractor(ContainerExtractor<C, U> parent,
-			ContainerExtractor<? super U, V> chained) {
+	/*
+	 * The consumer passed to the parent extractor for the last consumer passed to this extractor.
+	 * Callers generally pass the same consumer instance on each call,
+	 * so caching it avoids allocating a new consumer for each container.
+	 */
+	private volatile ChainedConsumer<U, ?, ?, ?> lastChainedConsumer;
+
+	ChainingContainerExtractor(ConsumingContainerExtractor<C, U> parent,
+			ConsumingContainerExtractor<? super U, V> chained) {
 		this.parent = parent;
 		this.chained = chained;
 	}
@@ -26,6 +35,11 @@ public Stream<V> extract(C container) {
 		return parent.extract( container ).flatMap( chained::extract );
 	}
 
+	@Override
+	public <T, X> void extract(C container, ContainerElementConsumer<? super V, T, X> consumer, T target, X context) {
+		parent.extract( container, getChainedConsumer( consumer ), target, context );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder( "[" );
@@ -34,6 +48,17 @@ public String toString() {
 		return builder.toString();
 	}
 
+	@SuppressWarnings("unchecked") // The cached consumer wraps the very same consumer, so it has the same type
+	private <T, X> ChainedConsumer<U, V, T, X> getChainedConsumer(ContainerElementConsumer<? super V, T, X> consumer) {
+		ChainedConsumer<U, ?, ?, ?> cachedChainedConsumer = lastChainedConsumer;
+		if ( cachedChainedConsumer != null && cachedChainedConsumer.delegate == consumer ) {
+			return (ChainedConsumer<U, V, T, X>) cachedChainedConsumer;
+		}
+		ChainedConsumer<U, V, T, X> chainedConsumer = new ChainedConsumer<>( chained, consumer );
+		lastChainedConsumer = chainedConsumer;
+		return chainedConsumer;
+	}
+
 	private void appendToString(StringBuilder builder, ContainerExtractor<?, ?> extractor, boolean first) {
 		if ( extractor instanceof ChainingContainerExtractor ) {
 			ChainingContainerExtractor<?, ?, ?> chaining = (ChainingContainerExtractor<?, ?, ?>) extractor;
@@ -47,4 +72,20 @@ private void appendToString(StringBuilder builder, ContainerExtractor<?, ?> extr
 			builder.append( extractor );
 		}
 	}
+
+	private static final class ChainedConsumer<U, V, T, X> implements ContainerElementConsumer<U, T, X> {
+		private final ConsumingContainerExtractor<? super U, V> chained;
+		private final ContainerElementConsumer<? super V, T, X> delegate;
+
+		private ChainedConsumer(ConsumingContainerExtractor<? super U, V> chained,
+				ContainerElementConsumer<? super V, T, X> delegate) {
+			this.chained = chained;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void accept(T target, U element, X context) {
+			chained.extract( element, delegate, target, context );
+		}
+	}
 }
@@ -27,6 +27,7 @@
 import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalIntValueExtractor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalLongValueExtractor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.spi.PojoGenericTypeModel;
 import org.hibernate.search.mapper.pojo.model.typepattern.impl.ExtractingTypePatternMatcher;
@@ -175,7 +176,7 @@ public <C, V> ContainerExtractorHolder<C, V> create(BoundContainerExtractorPath<
 							+ " There is probably a bug in Hibernate Search."
 			);
 		}
-		ContainerExtractor<? super C, ?> extractor = null;
+		ConsumingContainerExtractor<? super C, ?> extractor = null;
 		List<BeanHolder<?>> beanHolders = new ArrayList<>();
 		try {
 			for ( Class<? extends ContainerExtractor> extractorClass :
@@ -185,14 +186,16 @@ public <C, V> ContainerExtractorHolder<C, V> create(BoundContainerExtractorPath<
 				beanHolders.add( newExtractorHolder );
 				if ( extractor == null ) {
 					// First extractor: must be able to process type C
-					extractor = (ContainerExtractor<? super C, ?>) newExtractorHolder.get();
+					extractor = StreamContainerExtractorAdapter.adapt( newExtractorHolder.get() );
 				}
 				else {
-					extractor = new ChainingContainerExtractor( extractor, newExtractorHolder.get() );
+					extractor = new ChainingContainerExtractor(
+							extractor, StreamContainerExtractorAdapter.adapt( newExtractorHolder.get() )
+					);
 				}
 			}
 			return new ContainerExtractorHolder<>(
-					(ContainerExtractor<? super C, V>) extractor, beanHolders
+					(ConsumingContainerExtractor<? super C, V>) extractor, beanHolders
 			);
 		}
 		catch (RuntimeException e) {
@@ -9,14 +9,14 @@
 import java.util.List;
 
 import org.hibernate.search.engine.environment.bean.BeanHolder;
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
 import org.hibernate.search.util.common.impl.Closer;
 
 public class ContainerExtractorHolder<C, V> implements AutoCloseable {
-	private final ContainerExtractor<? super C, V> chain;
+	private final ConsumingContainerExtractor<? super C, V> chain;
 	private final List<BeanHolder<?>> chainElementBeanHolders;
 
-	ContainerExtractorHolder(ContainerExtractor<? super C, V> chain,
+	ContainerExtractorHolder(ConsumingContainerExtractor<? super C, V> chain,
 			List<BeanHolder<?>> chainElementBeanHolders) {
 		this.chain = chain;
 		this.chainElementBeanHolders = chainElementBeanHolders;
@@ -29,7 +29,7 @@ public void close() {
 		}
 	}
 
-	public ContainerExtractor<? super C, V> get() {
+	public ConsumingContainerExtractor<? super C, V> get() {
 		return chain;
 	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.impl;
+
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
+
+/**
+ * Adapts an extractor that only supports extracting to a {@link Stream}
+ * to the {@link ConsumingContainerExtractor} contract.
+ *
+ * @param <C> The type of containers.
+ * @param <V> The type of extracted elements.
+ */
+final class StreamContainerExtractorAdapter<C, V> implements ConsumingContainerExtractor<C, V> {
+
+	static <C, V> ConsumingContainerExtractor<C, V> adapt(ContainerExtractor<C, V> extractor) {
+		if ( extractor instanceof ConsumingContainerExtractor ) {
+			return (ConsumingContainerExtractor<C, V>) extractor;
+		}
+		else {
+			return new StreamContainerExtractorAdapter<>( extractor );
+		}
+	}
+
+	private final ContainerExtractor<C, V> delegate;
+
+	private StreamContainerExtractorAdapter(ContainerExtractor<C, V> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+
+	@Override
+	public Stream<V> extract(C container) {
+		return delegate.extract( container );
+	}
+
+	@Override
+	public <T, X> void extract(C container, ContainerElementConsumer<? super V, T, X> consumer, T target, X context) {
+		try ( Stream<V> stream = delegate.extract( container ) ) {
+			stream.forEach( element -> consumer.accept( target, element, context ) );
+		}
+	}
+}
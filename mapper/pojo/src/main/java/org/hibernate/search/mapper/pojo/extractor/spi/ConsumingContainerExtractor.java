@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.spi;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+
+/**
+ * A {@link ContainerExtractor} that can push extracted elements to a consumer
+ * instead of returning a {@link java.util.stream.Stream}.
+ * <p>
+ * This avoids allocating a stream pipeline for each container,
+ * which matters when indexing entities with many small containers.
+ * Built-in extractors implement this interface;
+ * other extractors are adapted automatically, relying on {@link ContainerExtractor#extract(Object)}.
+ *
+ * @param <C> The type of containers.
+ * @param <V> The type of extracted elements.
+ */
+public interface ConsumingContainerExtractor<C, V> extends ContainerExtractor<C, V> {
+
+	/**
+	 * Extract elements from the given container and pass them to the given consumer.
+	 *
+	 * @param container A container to extract elements from. May be {@code null}, in which case nothing is extracted.
+	 * @param consumer A consumer for extracted elements.
+	 * Callers should pass the same consumer instance on each call, since implementations may cache objects derived from it.
+	 * @param target The first additional argument to pass to the consumer.
+	 * @param context The second additional argument to pass to the consumer.
+	 * @param <T> The type of the first additional argument.
+	 * @param <X> The type of the second additional argument.
+	 */
+	<T, X> void extract(C container, ContainerElementConsumer<? super V, T, X> consumer, T target, X context);
+
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.spi;
+
+/**
+ * A consumer of elements extracted from a container.
+ * <p>
+ * Two additional arguments are passed along with each element,
+ * so that callers can provide a consumer that does not capture any state
+ * and thus does not need to be instantiated for each container.
+ *
+ * @param <V> The type of extracted elements.
+ * @param <T> The type of the first additional argument, generally the target of processing.
+ * @param <X> The type of the second additional argument, generally a context.
+ */
+@FunctionalInterface
+public interface ContainerElementConsumer<V, T, X> {
+
+	void accept(T target, V element, X context);
+
+}
@@ -355,4 +355,27 @@ SearchException invalidContainerExtractorReferencingBothBuiltinExtractorAndExpli
 
 	@Message(id = ID_OFFSET_2 + 44, value = "Error creating URI from String '%1$s'.")
 	SearchException badURISyntax(String value, @Cause URISyntaxException e);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 45,
+			value = "Cannot read the annotation index '%1$s'. Ignoring the index: annotations will be processed at runtime.")
+	void cannotReadAnnotationIndex(String resourceName, @Cause Exception e);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 46,
+			value = "Skipped annotation processing for type '%1$s': according to the annotation index,"
+					+ " this type does not carry any mapping annotation.")
+	void skippedAnnotationProcessingUsingIndex(@FormatWith(ClassFormatter.class) Class<?> type);
+
+	@Message(id = ID_OFFSET_2 + 47,
+			value = "Cannot compute the routing key to purge entity of type %1$s with ID '%2$s':"
+					+ " the routing key bridge requires the entity, which is not available when purging.")
+	SearchException cannotPurgeEntityRequiredForRoutingKey(@FormatWith(ClassFormatter.class) Class<?> type,
+			Object id);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 48,
+			value = "Ignoring the annotation index entry for type '%1$s': the class file of this type"
+					+ " changed since the index was generated. Annotations of this type will be processed at runtime.")
+	void staleAnnotationIndexEntry(@FormatWith(ClassFormatter.class) Class<?> type);
 }
@@ -0,0 +1,129 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An index of types that do or do not carry Hibernate Search mapping annotations,
+ * generated at build time by the annotation processor from the hibernate-search-mapper-pojo-processor module.
+ * <p>
+ * There is one index file per package, located in the package directory
+ * so that it is looked up in the same classpath entry as the types it describes.
+ * Each entry maps the name of a type, relative to its package, to either {@value #MAPPED} or {@value #UNMAPPED}.
+ * {@value #UNMAPPED} entries are followed by a fingerprint of the class file of the type, computed at build time.
+ * <p>
+ * Types that are not listed in any index, for instance because they were compiled without the annotation processor,
+ * or because they were added after the index was generated, are considered unknown
+ * and their annotations are processed as usual.
+ * The same goes for types whose class file no longer matches the fingerprint,
+ * for instance because they were recompiled without the annotation processor or enhanced after compilation,
+ * and for types listed without a fingerprint.
+ */
+class AnnotationIndex {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Must be kept in sync with the annotation processor
+	static final String INDEX_FILE_NAME = "hibernate-search-annotations.idx";
+	static final String MAPPED = "mapped";
+	static final String UNMAPPED = "unmapped";
+	static final String FINGERPRINT_SEPARATOR = ":";
+
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	private final ResourceResolver resourceResolver;
+
+	private final Map<String, Map<String, String>> entriesByPackage = new HashMap<>();
+
+	AnnotationIndex(ResourceResolver resourceResolver) {
+		this.resourceResolver = resourceResolver;
+	}
+
+	/**
+	 * @param javaClass A Java class.
+	 * @return {@code true} if the index states for sure that the given class does not carry any mapping annotation,
+	 * {@code false} if it does or if it is unknown.
+	 */
+	boolean isUnmapped(Class<?> javaClass) {
+		String className = javaClass.getName();
+		int lastDotIndex = className.lastIndexOf( '.' );
+		String packageName = lastDotIndex < 0 ? "" : className.substring( 0, lastDotIndex );
+		String relativeName = className.substring( lastDotIndex + 1 );
+
+		String entry = entriesByPackage.computeIfAbsent( packageName, this::load ).get( relativeName );
+		if ( entry == null || !entry.startsWith( UNMAPPED + FINGERPRINT_SEPARATOR ) ) {
+			return false;
+		}
+		String expectedFingerprint = entry.substring( UNMAPPED.length() + FINGERPRINT_SEPARATOR.length() );
+		if ( !expectedFingerprint.equals( computeFingerprint( javaClass ) ) ) {
+			log.staleAnnotationIndexEntry( javaClass );
+			return false;
+		}
+		log.skippedAnnotationProcessingUsingIndex( javaClass );
+		return true;
+	}
+
+	private Map<String, String> load(String packageName) {
+		String resourceName = packageName.isEmpty()
+				? INDEX_FILE_NAME
+				: packageName.replace( '.', '/' ) + "/" + INDEX_FILE_NAME;
+		try ( InputStream stream = resourceResolver.locateResourceStream( resourceName ) ) {
+			if ( stream == null ) {
+				return Collections.emptyMap();
+			}
+			Properties properties = new Properties();
+			properties.load( stream );
+			Map<String, String> entries = new HashMap<>();
+			for ( String key : properties.stringPropertyNames() ) {
+				entries.put( key, properties.getProperty( key ) );
+			}
+			return entries;
+		}
+		catch (IOException | RuntimeException e) {
+			// Ignore the index: annotations will be processed as if it did not exist
+			log.cannotReadAnnotationIndex( resourceName, e );
+			return Collections.emptyMap();
+		}
+	}
+
+	/*
+	 * Must be kept in sync with the annotation processor.
+	 * Reading the class file is much cheaper than processing the annotations of the type through reflection.
+	 */
+	private static String computeFingerprint(Class<?> javaClass) {
+		String classFileName = "/" + javaClass.getName().replace( '.', '/' ) + CLASS_FILE_EXTENSION;
+		CRC32 checksum = new CRC32();
+		try ( InputStream stream = javaClass.getResourceAsStream( classFileName ) ) {
+			if ( stream == null ) {
+				return null;
+			}
+			byte[] buffer = new byte[4096];
+			int read;
+			while ( ( read = stream.read( buffer ) ) >= 0 ) {
+				checksum.update( buffer, 0, read );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			// Consider the entry stale: annotations will be processed as if the type was not in the index
+			return null;
+		}
+		return String.format( Locale.ROOT, "%08x", checksum.getValue() );
+	}
+}
@@ -32,6 +32,7 @@ public class AnnotationMappingDefinitionContextImpl implements AnnotationMapping
 	private final Set<Class<?>> annotatedTypes = new LinkedHashSet<>();
 
 	private boolean annotatedTypeDiscoveryEnabled = false;
+	private boolean annotationIndexEnabled = true;
 
 	public AnnotationMappingDefinitionContextImpl(PojoBootstrapIntrospector introspector) {
 		this.introspector = introspector;
@@ -41,6 +42,10 @@ public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabl
 		this.annotatedTypeDiscoveryEnabled = annotatedTypeDiscoveryEnabled;
 	}
 
+	public void setAnnotationIndexEnabled(boolean annotationIndexEnabled) {
+		this.annotationIndexEnabled = annotationIndexEnabled;
+	}
+
 	@Override
 	public AnnotationMappingDefinitionContext add(Class<?> annotatedType) {
 		this.annotatedTypes.add( annotatedType );
@@ -61,6 +66,9 @@ public void configure(MappingBuildContext buildContext,
 				new AnnotationProcessorProvider( failureCollector );
 		AnnotationPojoTypeMetadataContributorFactory contributorFactory =
 				new AnnotationPojoTypeMetadataContributorFactory( annotationProcessorProvider );
+		AnnotationIndex annotationIndex = annotationIndexEnabled
+				? new AnnotationIndex( buildContext.getResourceResolver() )
+				: null;
 
 		/*
 		 * For types that were explicitly requested for annotation scanning and their supertypes,
@@ -78,6 +86,14 @@ public void configure(MappingBuildContext buildContext,
 				.filter( alreadyContributedTypes::add )
 				// TODO filter out standard Java types, e.g. Object or standard Java interfaces such as Serializable?
 				.forEach( typeModel -> {
+					/*
+					 * Types that are known not to carry any mapping annotation, thanks to an index generated at build time,
+					 * would only contribute an empty mapping: skip annotation processing altogether.
+					 */
+					if ( annotationIndex != null && annotationIndex.isUnmapped( typeModel.getJavaClass() ) ) {
+						return;
+					}
+
 					Optional<Indexed> indexedAnnotation = typeModel.getAnnotationByType( Indexed.class );
 					if ( indexedAnnotation.isPresent() ) {
 						String backendName = indexedAnnotation.get().backend();
@@ -106,7 +122,7 @@ public void configure(MappingBuildContext buildContext,
 		 */
 		if ( annotatedTypeDiscoveryEnabled ) {
 			PojoAnnotationTypeMetadataDiscoverer discoverer =
-					new PojoAnnotationTypeMetadataDiscoverer( contributorFactory, alreadyContributedTypes );
+					new PojoAnnotationTypeMetadataDiscoverer( contributorFactory, annotationIndex, alreadyContributedTypes );
 			collector.collectDiscoverer( discoverer );
 		}
 	}
@@ -117,11 +133,13 @@ public void configure(MappingBuildContext buildContext,
 	 */
 	private static class PojoAnnotationTypeMetadataDiscoverer implements TypeMetadataDiscoverer<PojoTypeMetadataContributor> {
 		private final AnnotationPojoTypeMetadataContributorFactory contributorFactory;
+		private final AnnotationIndex annotationIndex;
 		private final Set<PojoRawTypeModel<?>> alreadyContributedTypes;
 
 		PojoAnnotationTypeMetadataDiscoverer(AnnotationPojoTypeMetadataContributorFactory contributorFactory,
-				Set<PojoRawTypeModel<?>> alreadyContributedTypes) {
+				AnnotationIndex annotationIndex, Set<PojoRawTypeModel<?>> alreadyContributedTypes) {
 			this.contributorFactory = contributorFactory;
+			this.annotationIndex = annotationIndex;
 			this.alreadyContributedTypes = alreadyContributedTypes;
 		}
 
@@ -133,7 +151,8 @@ public Optional<PojoTypeMetadataContributor> discover(MappableTypeModel typeMode
 			 * for instance a field being declared twice.
 			 */
 			boolean neverContributed = alreadyContributedTypes.add( pojoTypeModel );
-			if ( neverContributed ) {
+			if ( neverContributed
+					&& ( annotationIndex == null || !annotationIndex.isUnmapped( pojoTypeModel.getJavaClass() ) ) ) {
 				// TODO filter out standard Java types, e.g. Object or standard Java interfaces such as Serializable?
 				return Optional.of( contributorFactory.create( pojoTypeModel ) );
 			}
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -118,6 +119,11 @@ PojoDocumentContributor<D, E> toDocumentContributor(Supplier<E> entitySupplier,
 		return new PojoDocumentContributor<>( processor, sessionContext, entitySupplier );
 	}
 
+	void buildDocument(DocumentElement target, Supplier<E> entitySupplier,
+			AbstractPojoSessionContextImplementor sessionContext) {
+		processor.process( target, entitySupplier.get(), sessionContext );
+	}
+
 	boolean requiresSelfReindexing(Set<String> dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
 	}
@@ -129,9 +135,10 @@ void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntr
 		);
 	}
 
-	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext) {
+	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(AbstractPojoSessionContextImplementor sessionContext,
+			Executor documentBuildingExecutor) {
 		return new PojoIndexedTypeWorkPlan<>(
-				this, sessionContext, indexManager.createWorkPlan( sessionContext )
+				this, sessionContext, indexManager.createWorkPlan( sessionContext ), documentBuildingExecutor
 		);
 	}
 
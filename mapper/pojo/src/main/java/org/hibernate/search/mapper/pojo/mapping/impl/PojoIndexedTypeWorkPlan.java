@@ -6,18 +6,26 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * @param <I> The identifier type for the mapped entity type.
@@ -26,17 +34,27 @@
  */
 class PojoIndexedTypeWorkPlan<I, E, D extends DocumentElement> extends AbstractPojoTypeWorkPlan {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The number of documents built by each task when building documents in parallel.
+	 * Plans with fewer documents to build are processed in the current thread.
+	 */
+	private static final int DOCUMENT_BUILDING_BATCH_SIZE = 100;
+
 	private final PojoIndexedTypeManager<I, E, D> typeManager;
 	private final IndexWorkPlan<D> delegate;
+	private final Executor documentBuildingExecutor;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<I, IndexedEntityWorkPlan> workPlansPerId = new LinkedHashMap<>();
 
 	PojoIndexedTypeWorkPlan(PojoIndexedTypeManager<I, E, D> typeManager, AbstractPojoSessionContextImplementor sessionContext,
-			IndexWorkPlan<D> delegate) {
+			IndexWorkPlan<D> delegate, Executor documentBuildingExecutor) {
 		super( sessionContext );
 		this.typeManager = typeManager;
 		this.delegate = delegate;
+		this.documentBuildingExecutor = documentBuildingExecutor;
 	}
 
 	@Override
@@ -67,6 +85,14 @@ void delete(Object providedId, Object entity) {
 		getWork( identifier ).delete( entitySupplier );
 	}
 
+	void purge(Object providedId) {
+		Supplier<E> entitySupplier = () -> {
+			throw log.cannotPurgeEntityRequiredForRoutingKey( typeManager.getIndexedJavaClass(), providedId );
+		};
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getWork( identifier ).purge( entitySupplier );
+	}
+
 	void updateBecauseOfContained(Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
 		I identifier = typeManager.getIdentifierMapping().getIdentifier( null, entitySupplier );
@@ -111,6 +137,9 @@ private IndexWorkPlan<D> getDelegate() {
 
 	private void sendWorksToDelegate() {
 		try {
+			if ( documentBuildingExecutor != null ) {
+				buildDocumentsInParallel();
+			}
 			workPlansPerId.values().forEach( IndexedEntityWorkPlan::sendWorkToDelegate );
 		}
 		finally {
@@ -118,6 +147,44 @@ private void sendWorksToDelegate() {
 		}
 	}
 
+	/*
+	 * Build documents ahead of time, in batches executed concurrently,
+	 * then let sendWorkToDelegate() replay them in the original order.
+	 * Entities are all retrieved in the current thread before any task starts,
+	 * since that may require access to the session.
+	 */
+	private void buildDocumentsInParallel() {
+		List<IndexedEntityWorkPlan> worksWithDocument = new ArrayList<>();
+		for ( IndexedEntityWorkPlan work : workPlansPerId.values() ) {
+			if ( work.requiresDocument() ) {
+				worksWithDocument.add( work );
+			}
+		}
+		if ( worksWithDocument.size() <= DOCUMENT_BUILDING_BATCH_SIZE ) {
+			// Not worth the overhead
+			return;
+		}
+
+		// Retrieve all entities before starting any task, so that the session is never used concurrently
+		for ( IndexedEntityWorkPlan work : worksWithDocument ) {
+			work.entitySupplier.get();
+		}
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int start = 0; start < worksWithDocument.size(); start += DOCUMENT_BUILDING_BATCH_SIZE ) {
+			List<IndexedEntityWorkPlan> batch = worksWithDocument.subList(
+					start, Math.min( start + DOCUMENT_BUILDING_BATCH_SIZE, worksWithDocument.size() )
+			);
+			futures.add( CompletableFuture.runAsync(
+					() -> batch.forEach( IndexedEntityWorkPlan::buildDocument ),
+					documentBuildingExecutor
+			) );
+		}
+		Futures.unwrappedExceptionJoin(
+				CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+		);
+	}
+
 	private class IndexedEntityWorkPlan {
 		private final I identifier;
 		private Supplier<E> entitySupplier;
@@ -129,6 +196,9 @@ private class IndexedEntityWorkPlan {
 		private boolean considerAllDirty;
 		private Set<String> dirtyPaths;
 
+		// Only set when the document was built ahead of time
+		private PojoRecordedDocumentElement document;
+
 		private IndexedEntityWorkPlan(I identifier) {
 			this.identifier = identifier;
 		}
@@ -184,6 +254,16 @@ void delete(Supplier<E> entitySupplier) {
 			}
 		}
 
+		void purge(Supplier<E> entitySupplier) {
+			this.entitySupplier = entitySupplier;
+			// The entity is not available: we cannot resolve containing entities to reindex
+			shouldResolveToReindex = false;
+			considerAllDirty = false;
+			dirtyPaths = null;
+			add = false;
+			delete = true;
+		}
+
 		void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 			if ( shouldResolveToReindex ) {
 				shouldResolveToReindex = false; // Avoid infinite looping
@@ -194,23 +274,27 @@ void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 			}
 		}
 
+		boolean requiresDocument() {
+			return add && ( !delete || considerAllDirty || typeManager.requiresSelfReindexing( dirtyPaths ) );
+		}
+
+		void buildDocument() {
+			PojoRecordedDocumentElement recordedDocument = new PojoRecordedDocumentElement();
+			typeManager.buildDocument( recordedDocument, entitySupplier, sessionContext );
+			document = recordedDocument;
+		}
+
 		void sendWorkToDelegate() {
 			DocumentReferenceProvider referenceProvider =
 					typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
 			if ( add ) {
 				if ( delete ) {
 					if ( considerAllDirty || typeManager.requiresSelfReindexing( dirtyPaths ) ) {
-						delegate.update(
-								referenceProvider,
-								typeManager.toDocumentContributor( entitySupplier, sessionContext )
-						);
+						delegate.update( referenceProvider, toDocumentContributor() );
 					}
 				}
 				else {
-					delegate.add(
-							referenceProvider,
-							typeManager.toDocumentContributor( entitySupplier, sessionContext )
-					);
+					delegate.add( referenceProvider, toDocumentContributor() );
 				}
 			}
 			else if ( delete ) {
@@ -218,6 +302,14 @@ else if ( delete ) {
 			}
 		}
 
+		private DocumentContributor<D> toDocumentContributor() {
+			if ( document != null ) {
+				PojoRecordedDocumentElement recordedDocument = document;
+				return recordedDocument::replayTo;
+			}
+			return typeManager.toDocumentContributor( entitySupplier, sessionContext );
+		}
+
 		private void doUpdate(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
 			/*
@@ -0,0 +1,158 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+
+/**
+ * A document element that simply records the values added to it,
+ * so that they can be replayed later on the document element of a backend.
+ * <p>
+ * Allows to run indexing processors, which may be costly, outside of the thread that owns the backend work plan.
+ */
+final class PojoRecordedDocumentElement implements DocumentElement {
+
+	private final List<Operation> operations = new ArrayList<>();
+
+	@Override
+	public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+		operations.add( new ValueOperation<>( fieldReference, value ) );
+	}
+
+	@Override
+	public void addIntValue(IndexFieldReference<Integer> fieldReference, int value) {
+		operations.add( new IntValueOperation( fieldReference, value ) );
+	}
+
+	@Override
+	public void addLongValue(IndexFieldReference<Long> fieldReference, long value) {
+		operations.add( new LongValueOperation( fieldReference, value ) );
+	}
+
+	@Override
+	public void addDoubleValue(IndexFieldReference<Double> fieldReference, double value) {
+		operations.add( new DoubleValueOperation( fieldReference, value ) );
+	}
+
+	@Override
+	public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+		PojoRecordedDocumentElement object = new PojoRecordedDocumentElement();
+		operations.add( new ObjectOperation( fieldReference, object ) );
+		return object;
+	}
+
+	@Override
+	public void addNullObject(IndexObjectFieldReference fieldReference) {
+		operations.add( new NullObjectOperation( fieldReference ) );
+	}
+
+	/**
+	 * @param target The document element to add the recorded values to.
+	 */
+	void replayTo(DocumentElement target) {
+		for ( int i = 0; i < operations.size(); i++ ) {
+			operations.get( i ).applyTo( target );
+		}
+	}
+
+	private interface Operation {
+		void applyTo(DocumentElement target);
+	}
+
+	private static final class ValueOperation<F> implements Operation {
+		private final IndexFieldReference<F> fieldReference;
+		private final F value;
+
+		private ValueOperation(IndexFieldReference<F> fieldReference, F value) {
+			this.fieldReference = fieldReference;
+			this.value = value;
+		}
+
+		@Override
+		public void applyTo(DocumentElement target) {
+			target.addValue( fieldReference, value );
+		}
+	}
+
+	private static final class IntValueOperation implements Operation {
+		private final IndexFieldReference<Integer> fieldReference;
+		private final int value;
+
+		private IntValueOperation(IndexFieldReference<Integer> fieldReference, int value) {
+			this.fieldReference = fieldReference;
+			this.value = value;
+		}
+
+		@Override
+		public void applyTo(DocumentElement target) {
+			target.addIntValue( fieldReference, value );
+		}
+	}
+
+	private static final class LongValueOperation implements Operation {
+		private final IndexFieldReference<Long> fieldReference;
+		private final long value;
+
+		private LongValueOperation(IndexFieldReference<Long> fieldReference, long value) {
+			this.fieldReference = fieldReference;
+			this.value = value;
+		}
+
+		@Override
+		public void applyTo(DocumentElement target) {
+			target.addLongValue( fieldReference, value );
+		}
+	}
+
+	private static final class DoubleValueOperation implements Operation {
+		private final IndexFieldReference<Double> fieldReference;
+		private final double value;
+
+		private DoubleValueOperation(IndexFieldReference<Double> fieldReference, double value) {
+			this.fieldReference = fieldReference;
+			this.value = value;
+		}
+
+		@Override
+		public void applyTo(DocumentElement target) {
+			target.addDoubleValue( fieldReference, value );
+		}
+	}
+
+	private static final class ObjectOperation implements Operation {
+		private final IndexObjectFieldReference fieldReference;
+		private final PojoRecordedDocumentElement object;
+
+		private ObjectOperation(IndexObjectFieldReference fieldReference, PojoRecordedDocumentElement object) {
+			this.fieldReference = fieldReference;
+			this.object = object;
+		}
+
+		@Override
+		public void applyTo(DocumentElement target) {
+			object.replayTo( target.addObject( fieldReference ) );
+		}
+	}
+
+	private static final class NullObjectOperation implements Operation {
+		private final IndexObjectFieldReference fieldReference;
+
+		private NullObjectOperation(IndexObjectFieldReference fieldReference) {
+			this.fieldReference = fieldReference;
+		}
+
+		@Override
+		public void applyTo(DocumentElement target) {
+			target.addNullObject( fieldReference );
+		}
+	}
+}
@@ -24,6 +24,7 @@
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
@@ -102,6 +103,11 @@ public SearchProjectionFactoryContext<PojoReference, O> projection() {
 		return getDelegate().projection();
 	}
 
+	@Override
+	public SearchAggregationFactoryContext aggregation() {
+		return getDelegate().aggregation();
+	}
+
 	private MappedIndexSearchScope<PojoReference, O> getDelegate() {
 		AbstractPojoMappingContextImplementor mappingContext = sessionContext.getMappingContext();
 		if ( delegate == null ) {
@@ -10,6 +10,7 @@
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.impl.PojoSessionWorkExecutorImpl;
@@ -56,7 +57,13 @@ public <E, O> PojoSearchScopeDelegate<E, O> createPojoSearchScope(
 
 	@Override
 	public PojoWorkPlan createWorkPlan() {
-		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext );
+		return createWorkPlan( null );
+	}
+
+	@Override
+	public PojoWorkPlan createWorkPlan(Executor documentBuildingExecutor) {
+		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext,
+				documentBuildingExecutor );
 	}
 
 	@Override
@@ -14,6 +14,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
@@ -30,6 +31,7 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
 	private final AbstractPojoSessionContextImplementor sessionContext;
 	private final PojoRuntimeIntrospector introspector;
+	private final Executor documentBuildingExecutor;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<Class<?>, PojoIndexedTypeWorkPlan<?, ?, ?>> indexedTypeDelegates = new LinkedHashMap<>();
@@ -37,11 +39,12 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 
 	PojoWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
 			PojoContainedTypeManagerContainer containedTypeManagers,
-			AbstractPojoSessionContextImplementor sessionContext) {
+			AbstractPojoSessionContextImplementor sessionContext, Executor documentBuildingExecutor) {
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
 		this.sessionContext = sessionContext;
 		this.introspector = sessionContext.getRuntimeIntrospector();
+		this.documentBuildingExecutor = documentBuildingExecutor;
 	}
 
 	@Override
@@ -92,6 +95,19 @@ public void delete(Object id, Object entity) {
 		delegate.delete( id, entity );
 	}
 
+	@Override
+	public void purge(Class<?> clazz, Object id) {
+		if ( !indexedTypeManagers.getByExactClass( clazz ).isPresent() ) {
+			if ( containedTypeManagers.getByExactClass( clazz ).isPresent() ) {
+				// Contained types are not indexed themselves: there is no document to delete
+				return;
+			}
+			throw log.notIndexedTypeNorAsDelegate( clazz );
+		}
+		PojoIndexedTypeWorkPlan<?, ?, ?> delegate = (PojoIndexedTypeWorkPlan<?, ?, ?>) getDelegate( clazz );
+		delegate.purge( id );
+	}
+
 	@Override
 	public void prepare() {
 		for ( PojoContainedTypeWorkPlan<?> delegate : containedTypeDelegates.values() ) {
@@ -120,6 +136,12 @@ public CompletableFuture<?> execute() {
 		}
 	}
 
+	@Override
+	public void discard() {
+		indexedTypeDelegates.clear();
+		containedTypeDelegates.clear();
+	}
+
 	private PojoRuntimeIntrospector getIntrospector() {
 		return introspector;
 	}
@@ -140,7 +162,7 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
 			PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeManagerOptional.get()
-					.createWorkPlan( sessionContext );
+					.createWorkPlan( sessionContext, documentBuildingExecutor );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -166,7 +188,7 @@ private AbstractPojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
-			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext );
+			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext, documentBuildingExecutor );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -74,6 +74,10 @@ public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabl
 		annotationMappingDefinition.setAnnotatedTypeDiscoveryEnabled( annotatedTypeDiscoveryEnabled );
 	}
 
+	public void setAnnotationIndexEnabled(boolean annotationIndexEnabled) {
+		annotationMappingDefinition.setAnnotationIndexEnabled( annotationIndexEnabled );
+	}
+
 	@Override
 	public void configure(MappingBuildContext buildContext,
 			MappingConfigurationCollector<PojoTypeMetadataContributor> configurationCollector) {
@@ -43,10 +43,52 @@ public T get(Object thiz) {
 			throw e;
 		}
 		catch (Throwable e) {
-			if ( e instanceof InterruptedException ) {
-				Thread.currentThread().interrupt();
-			}
-			throw log.errorInvokingMember( field, thiz, e );
+			throw toRuntimeException( thiz, e );
+		}
+	}
+
+	@Override
+	public Class<?> getPrimitiveType() {
+		Class<?> type = field.getType();
+		return type.isPrimitive() ? type : null;
+	}
+
+	@Override
+	public int getInt(Object thiz) {
+		try {
+			return field.getInt( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw toRuntimeException( thiz, e );
+		}
+	}
+
+	@Override
+	public long getLong(Object thiz) {
+		try {
+			return field.getLong( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw toRuntimeException( thiz, e );
+		}
+	}
+
+	@Override
+	public double getDouble(Object thiz) {
+		try {
+			return field.getDouble( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw toRuntimeException( thiz, e );
 		}
 	}
 
@@ -64,4 +106,11 @@ public boolean equals(Object obj) {
 		return name.equals( other.name ) && field.equals( other.field );
 	}
 
+	private RuntimeException toRuntimeException(Object thiz, Throwable e) {
+		if ( e instanceof InterruptedException ) {
+			Thread.currentThread().interrupt();
+		}
+		return log.errorInvokingMember( field, thiz, e );
+	}
+
 }
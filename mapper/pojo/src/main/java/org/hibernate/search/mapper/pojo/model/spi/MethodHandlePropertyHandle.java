@@ -49,10 +49,53 @@ public T get(Object thiz) {
 			throw e;
 		}
 		catch (Throwable e) {
-			if ( e instanceof InterruptedException ) {
-				Thread.currentThread().interrupt();
-			}
-			throw log.errorInvokingMember( member, thiz, e );
+			throw toRuntimeException( thiz, e );
+		}
+	}
+
+	@Override
+	public Class<?> getPrimitiveType() {
+		Class<?> type = getter.type().returnType();
+		return type.isPrimitive() ? type : null;
+	}
+
+	@Override
+	public int getInt(Object thiz) {
+		try {
+			// The return type of the call site matches the return type of the handle: no boxing
+			return (int) getter.invoke( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw toRuntimeException( thiz, e );
+		}
+	}
+
+	@Override
+	public long getLong(Object thiz) {
+		try {
+			return (long) getter.invoke( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw toRuntimeException( thiz, e );
+		}
+	}
+
+	@Override
+	public double getDouble(Object thiz) {
+		try {
+			return (double) getter.invoke( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw toRuntimeException( thiz, e );
 		}
 	}
 
@@ -70,4 +113,11 @@ public boolean equals(Object obj) {
 		return name.equals( other.name ) && member.equals( other.member );
 	}
 
+	private RuntimeException toRuntimeException(Object thiz, Throwable e) {
+		if ( e instanceof InterruptedException ) {
+			Thread.currentThread().interrupt();
+		}
+		return log.errorInvokingMember( member, thiz, e );
+	}
+
 }
@@ -17,6 +17,43 @@
 
 	T get(Object thiz);
 
+	/**
+	 * @return The primitive type of values returned by the underlying member (for instance {@code int.class})
+	 * if it is a primitive type <strong>and</strong> values can be retrieved without boxing
+	 * through {@link #getInt(Object)}, {@link #getLong(Object)} or {@link #getDouble(Object)};
+	 * {@code null} otherwise.
+	 */
+	default Class<?> getPrimitiveType() {
+		return null;
+	}
+
+	/**
+	 * @param thiz The object holding the property.
+	 * @return The value of the property, which must be an {@code int}.
+	 * @see #getPrimitiveType()
+	 */
+	default int getInt(Object thiz) {
+		return (Integer) get( thiz );
+	}
+
+	/**
+	 * @param thiz The object holding the property.
+	 * @return The value of the property, which must be a {@code long}.
+	 * @see #getPrimitiveType()
+	 */
+	default long getLong(Object thiz) {
+		return (Long) get( thiz );
+	}
+
+	/**
+	 * @param thiz The object holding the property.
+	 * @return The value of the property, which must be a {@code double}.
+	 * @see #getPrimitiveType()
+	 */
+	default double getDouble(Object thiz) {
+		return (Double) get( thiz );
+	}
+
 	/**
 	 * @return {@code true} if {@code obj} is a {@link PropertyHandle} referencing the exact same property
 	 * with the exact same access mode (for instance direct field access or getter access), {@code false} otherwise.
@@ -33,12 +33,13 @@
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPrimitivePropertyNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 /**
- * A builder of {@link PojoIndexingProcessorPropertyNode}.
+ * A builder of {@link PojoIndexingProcessorPropertyNode} or {@link PojoIndexingProcessorPrimitivePropertyNode}.
  *
  * @param <T> The property holder type
  * @param <P> The property type
@@ -150,7 +151,7 @@ void closeOnFailure() {
 		}
 	}
 
-	Optional<PojoIndexingProcessorPropertyNode<T, P>> build(
+	Optional<PojoIndexingProcessor<T>> build(
 			PojoIndexingDependencyCollectorTypeNode<T> parentDependencyCollector) {
 		try {
 			return doBuild( parentDependencyCollector );
@@ -161,7 +162,7 @@ Optional<PojoIndexingProcessorPropertyNode<T, P>> build(
 		}
 	}
 
-	private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
+	private Optional<PojoIndexingProcessor<T>> doBuild(
 			PojoIndexingDependencyCollectorTypeNode<T> parentDependencyCollector) {
 		@SuppressWarnings("unchecked") // We know from the property model that this handle returns a result of type P
 		PojoIndexingDependencyCollectorPropertyNode<T, P> propertyDependencyCollector =
@@ -201,11 +202,18 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 				 */
 				return Optional.empty();
 			}
-			else {
-				return Optional.of( new PojoIndexingProcessorPropertyNode<>(
-						modelPath.getPropertyHandle(), immutableBridgeHolders, immutableNestedNodes
-				) );
+			else if ( immutableBridgeHolders.isEmpty() ) {
+				// Avoid boxing when the nested nodes simply pass a primitive value through to the index
+				PojoIndexingProcessor<T> primitiveNode = PojoIndexingProcessorPrimitivePropertyNode.create(
+						modelPath.getPropertyHandle(), immutableNestedNodes
+				);
+				if ( primitiveNode != null ) {
+					return Optional.of( primitiveNode );
+				}
 			}
+			return Optional.of( new PojoIndexingProcessorPropertyNode<>(
+					modelPath.getPropertyHandle(), immutableBridgeHolders, immutableNestedNodes
+			) );
 		}
 		catch (RuntimeException e) {
 			// Close the nested processors created so far before aborting
@@ -30,7 +30,6 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
-import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorTypeNode;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -124,7 +123,7 @@ private Optional<PojoIndexingProcessor<T>> doBuild(PojoIndexingDependencyCollect
 			boundRoutingKeyBridge.getPojoModelRootElement().contributeDependencies( dependencyCollector );
 		}
 
-		Collection<PojoIndexingProcessorPropertyNode<? super T, ?>> immutablePropertyNodes =
+		Collection<PojoIndexingProcessor<? super T>> immutablePropertyNodes =
 				propertyNodeBuilders.isEmpty() ? Collections.emptyList()
 						: new ArrayList<>( propertyNodeBuilders.size() );
 		try {
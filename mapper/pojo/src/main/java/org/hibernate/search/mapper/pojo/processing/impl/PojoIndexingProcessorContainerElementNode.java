@@ -7,10 +7,10 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -26,11 +26,14 @@
 
 	private final ContainerExtractorHolder<C, V> extractorHolder;
 	private final Collection<PojoIndexingProcessor<? super V>> nestedNodes;
+	// Instantiated once, so that processing a container does not allocate anything
+	private final ContainerElementConsumer<V, DocumentElement, AbstractPojoSessionContextImplementor> itemProcessor;
 
 	public PojoIndexingProcessorContainerElementNode(ContainerExtractorHolder<C, V> extractorHolder,
 			Collection<PojoIndexingProcessor<? super V>> nestedNodes) {
 		this.extractorHolder = extractorHolder;
 		this.nestedNodes = nestedNodes;
+		this.itemProcessor = this::processItem;
 	}
 
 	@Override
@@ -54,9 +57,7 @@ public void appendTo(ToStringTreeBuilder builder) {
 
 	@Override
 	public final void process(DocumentElement target, C source, AbstractPojoSessionContextImplementor sessionContext) {
-		try ( Stream<V> stream = extractorHolder.get().extract( source ) ) {
-			stream.forEach( sourceItem -> processItem( target, sourceItem, sessionContext ) );
-		}
+		extractorHolder.get().extract( source, itemProcessor, target, sessionContext );
 	}
 
 	private void processItem(DocumentElement target, V sourceItem, AbstractPojoSessionContextImplementor sessionContext) {
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * A node inside a {@link PojoIndexingProcessor} responsible for extracting the value of a primitive property,
+ * and passing it through to index fields without boxing it.
+ * <p>
+ * Replaces a {@link PojoIndexingProcessorPropertyNode} whose only nested nodes
+ * are pass-through {@link PojoIndexingProcessorValueBridgeNode}s.
+ *
+ * @param <T> The property holder type
+ * @param <F> The boxed type of the property and of the index fields
+ */
+public abstract class PojoIndexingProcessorPrimitivePropertyNode<T, F> extends PojoIndexingProcessor<T> {
+
+	/**
+	 * @param handle A property handle.
+	 * @param nestedNodes The processors that would be applied to the value of the property.
+	 * @param <T> The property holder type
+	 * @param <P> The property type
+	 * @return A primitive property node equivalent to a {@link PojoIndexingProcessorPropertyNode}
+	 * without property bridges and with the given nested nodes,
+	 * or {@code null} if the property is not of a supported primitive type
+	 * or the nested nodes do more than passing values through.
+	 */
+	public static <T, P> PojoIndexingProcessorPrimitivePropertyNode<T, ?> create(PropertyHandle<P> handle,
+			Collection<PojoIndexingProcessor<? super P>> nestedNodes) {
+		Class<?> primitiveType = handle.getPrimitiveType();
+		if ( int.class.equals( primitiveType ) ) {
+			List<IndexFieldReference<Integer>> references = getPassThroughIndexFieldReferences( nestedNodes, Integer.class );
+			return references == null ? null : new IntNode<>( handle, nestedNodes, references );
+		}
+		else if ( long.class.equals( primitiveType ) ) {
+			List<IndexFieldReference<Long>> references = getPassThroughIndexFieldReferences( nestedNodes, Long.class );
+			return references == null ? null : new LongNode<>( handle, nestedNodes, references );
+		}
+		else if ( double.class.equals( primitiveType ) ) {
+			List<IndexFieldReference<Double>> references = getPassThroughIndexFieldReferences( nestedNodes, Double.class );
+			return references == null ? null : new DoubleNode<>( handle, nestedNodes, references );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static <F> List<IndexFieldReference<F>> getPassThroughIndexFieldReferences(
+			Collection<? extends PojoIndexingProcessor<?>> nestedNodes, Class<F> fieldType) {
+		if ( nestedNodes.isEmpty() ) {
+			return null;
+		}
+		List<IndexFieldReference<F>> references = new ArrayList<>( nestedNodes.size() );
+		for ( PojoIndexingProcessor<?> nestedNode : nestedNodes ) {
+			if ( !( nestedNode instanceof PojoIndexingProcessorValueBridgeNode ) ) {
+				return null;
+			}
+			IndexFieldReference<F> reference = ( (PojoIndexingProcessorValueBridgeNode<?, ?>) nestedNode )
+					.getPassThroughIndexFieldReference( fieldType );
+			if ( reference == null ) {
+				return null;
+			}
+			references.add( reference );
+		}
+		return references;
+	}
+
+	final PropertyHandle<?> handle;
+	// Only kept so that bridges get closed properly
+	private final Collection<? extends PojoIndexingProcessor<?>> nestedNodes;
+	final List<IndexFieldReference<F>> indexFieldReferences;
+
+	private PojoIndexingProcessorPrimitivePropertyNode(PropertyHandle<?> handle,
+			Collection<? extends PojoIndexingProcessor<?>> nestedNodes,
+			List<IndexFieldReference<F>> indexFieldReferences) {
+		this.handle = handle;
+		this.nestedNodes = nestedNodes;
+		this.indexFieldReferences = indexFieldReferences;
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( PojoIndexingProcessor::close, nestedNodes );
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "handle", handle );
+		builder.startList( "indexFieldReferences" );
+		for ( IndexFieldReference<F> indexFieldReference : indexFieldReferences ) {
+			builder.value( indexFieldReference );
+		}
+		builder.endList();
+	}
+
+	private static final class IntNode<T> extends PojoIndexingProcessorPrimitivePropertyNode<T, Integer> {
+
+		private IntNode(PropertyHandle<?> handle, Collection<? extends PojoIndexingProcessor<?>> nestedNodes,
+				List<IndexFieldReference<Integer>> indexFieldReferences) {
+			super( handle, nestedNodes, indexFieldReferences );
+		}
+
+		@Override
+		public void process(DocumentElement target, T source, AbstractPojoSessionContextImplementor sessionContext) {
+			int propertyValue = handle.getInt( source );
+			for ( int i = 0; i < indexFieldReferences.size(); i++ ) {
+				target.addIntValue( indexFieldReferences.get( i ), propertyValue );
+			}
+		}
+	}
+
+	private static final class LongNode<T> extends PojoIndexingProcessorPrimitivePropertyNode<T, Long> {
+
+		private LongNode(PropertyHandle<?> handle, Collection<? extends PojoIndexingProcessor<?>> nestedNodes,
+				List<IndexFieldReference<Long>> indexFieldReferences) {
+			super( handle, nestedNodes, indexFieldReferences );
+		}
+
+		@Override
+		public void process(DocumentElement target, T source, AbstractPojoSessionContextImplementor sessionContext) {
+			long propertyValue = handle.getLong( source );
+			for ( int i = 0; i < indexFieldReferences.size(); i++ ) {
+				target.addLongValue( indexFieldReferences.get( i ), propertyValue );
+			}
+		}
+	}
+
+	private static final class DoubleNode<T> extends PojoIndexingProcessorPrimitivePropertyNode<T, Double> {
+
+		private DoubleNode(PropertyHandle<?> handle, Collection<? extends PojoIndexingProcessor<?>> nestedNodes,
+				List<IndexFieldReference<Double>> indexFieldReferences) {
+			super( handle, nestedNodes, indexFieldReferences );
+		}
+
+		@Override
+		public void process(DocumentElement target, T source, AbstractPojoSessionContextImplementor sessionContext) {
+			double propertyValue = handle.getDouble( source );
+			for ( int i = 0; i < indexFieldReferences.size(); i++ ) {
+				target.addDoubleValue( indexFieldReferences.get( i ), propertyValue );
+			}
+		}
+	}
+}
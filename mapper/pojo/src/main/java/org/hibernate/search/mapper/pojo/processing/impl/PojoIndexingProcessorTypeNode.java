@@ -28,11 +28,11 @@
 
 	private final Iterable<IndexObjectFieldReference> parentIndexObjectReferences;
 	private final Collection<BeanHolder<? extends TypeBridge>> bridgeHolders;
-	private final Collection<PojoIndexingProcessorPropertyNode<? super T, ?>> propertyNodes;
+	private final Collection<PojoIndexingProcessor<? super T>> propertyNodes;
 
 	public PojoIndexingProcessorTypeNode(Iterable<IndexObjectFieldReference> parentIndexObjectReferences,
 			Collection<BeanHolder<? extends TypeBridge>> bridgeHolders,
-			Collection<PojoIndexingProcessorPropertyNode<? super T, ?>> propertyNodes) {
+			Collection<PojoIndexingProcessor<? super T>> propertyNodes) {
 		this.parentIndexObjectReferences = parentIndexObjectReferences;
 		this.bridgeHolders = bridgeHolders;
 		this.propertyNodes = propertyNodes;
@@ -57,7 +57,7 @@ public void appendTo(ToStringTreeBuilder builder) {
 		}
 		builder.endList();
 		builder.startList( "propertyNodes" );
-		for ( PojoIndexingProcessorPropertyNode<? super T, ?> propertyNode : propertyNodes ) {
+		for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
 			builder.value( propertyNode );
 		}
 		builder.endList();
@@ -78,7 +78,7 @@ public final void process(DocumentElement target, T source, AbstractPojoSessionC
 				bridgeHolder.get().write( parentObject, bridgedElement, sessionContext.getTypeBridgeWriteContext() );
 			}
 		}
-		for ( PojoIndexingProcessorPropertyNode<? super T, ?> propertyNode : propertyNodes ) {
+		for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
 			// Recursion here
 			propertyNode.process( parentObject, source, sessionContext );
 		}
@@ -10,6 +10,7 @@
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.builtin.impl.PassThroughValueBridge;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -52,4 +53,20 @@ public void process(DocumentElement target, V source, AbstractPojoSessionContext
 		target.addValue( indexFieldReference, indexFieldValue );
 	}
 
+	/**
+	 * @param fieldType The expected type of index field.
+	 * @param <F2> The expected type of index field.
+	 * @return The index field reference if this node passes values through to a field of the given type
+	 * without converting them, {@code null} otherwise.
+	 */
+	@SuppressWarnings("unchecked") // The bridge passes values through, so F is also the type of the index field
+	<F2> IndexFieldReference<F2> getPassThroughIndexFieldReference(Class<F2> fieldType) {
+		ValueBridge<? super V, F> bridge = bridgeHolder.get();
+		if ( bridge instanceof PassThroughValueBridge
+				&& ( (PassThroughValueBridge<?>) bridge ).getFieldType().equals( fieldType ) ) {
+			return (IndexFieldReference<F2>) indexFieldReference;
+		}
+		return null;
+	}
+
 }
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
@@ -51,4 +52,6 @@ <Q> SearchQueryResultContext<Q> queryAsProjections(
 
 	SearchProjectionFactoryContext<PojoReference, O> projection();
 
+	SearchAggregationFactoryContext aggregation();
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.session.spi;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.search.spi.PojoSearchScopeDelegate;
@@ -18,6 +19,15 @@ public interface PojoSearchSessionDelegate {
 
 	PojoWorkPlan createWorkPlan();
 
+	/**
+	 * @param documentBuildingExecutor An executor to build documents in parallel
+	 * when the work plan is prepared or executed, or {@code null} to build them in the calling thread.
+	 * Entities will be retrieved in the calling thread, but their properties will be read
+	 * from the threads of the executor: the entities must not be modified concurrently.
+	 * @return A new work plan.
+	 */
+	PojoWorkPlan createWorkPlan(Executor documentBuildingExecutor);
+
 	PojoSessionWorkExecutor createSessionWorkExecutor();
 
 }
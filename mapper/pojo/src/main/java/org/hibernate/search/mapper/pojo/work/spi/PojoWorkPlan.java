@@ -110,6 +110,20 @@ public interface PojoWorkPlan {
 	 */
 	void delete(Object id, Object entity);
 
+	/**
+	 * Delete an entity from the index, without having access to the entity.
+	 * <p>
+	 * No effect on the index if the entity is not in the index,
+	 * or if the entity type is not indexed itself, but only contained in other indexed types.
+	 * <p>
+	 * Contrary to {@link #delete(Object, Object)}, entities containing the deleted entity are not reindexed,
+	 * and the routing key cannot be computed: this fails if the entity type is assigned a routing key bridge.
+	 *
+	 * @param clazz The type of the entity.
+	 * @param id The ID of the entity.
+	 */
+	void purge(Class<?> clazz, Object id);
+
 	/**
 	 * Prepare the work plan execution, i.e. execute as much as possible without writing to the index.
 	 * <p>
@@ -128,4 +142,9 @@ public interface PojoWorkPlan {
 	 */
 	CompletableFuture<?> execute();
 
+	/**
+	 * Discard all the works in this plan without executing them, and clear the plan so that it can be re-used.
+	 */
+	void discard();
+
 }
@@ -0,0 +1,224 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.ArrayElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.CollectionElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.IterableElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.MapKeyExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.MapValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalDoubleValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalIntValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalLongValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.spi.ContainerElementConsumer;
+import org.hibernate.search.mapper.pojo.extractor.spi.ConsumingContainerExtractor;
+
+import org.junit.Test;
+
+/**
+ * Checks that extracting elements through {@link ConsumingContainerExtractor#extract(Object, ContainerElementConsumer, Object, Object)}
+ * yields the same elements, in the same order, as extracting them through {@link ContainerExtractor#extract(Object)}.
+ */
+public class ConsumingContainerExtractorTest {
+
+	private static final Object TARGET = new Object();
+	private static final Object CONTEXT = new Object();
+
+	@Test
+	public void collection() {
+		CollectionElementExtractor<String> extractor = new CollectionElementExtractor<>();
+		// Random access list
+		assertSameElements( extractor, new ArrayList<>( Arrays.asList( "a", "b", null, "c" ) ) );
+		// Sequential list
+		assertSameElements( extractor, new LinkedList<>( Arrays.asList( "a", "b", null, "c" ) ) );
+		assertSameElements( extractor, new HashSet<>( Arrays.asList( "a", "b", "c" ) ) );
+		assertSameElements( extractor, Collections.emptyList() );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void iterable() {
+		IterableElementExtractor<String> extractor = new IterableElementExtractor<>();
+		assertSameElements( extractor, Arrays.asList( "a", "b", null, "c" ) );
+		// Not a collection
+		Iterable<String> iterable = () -> Arrays.asList( "a", "b", "c" ).iterator();
+		assertSameElements( extractor, iterable );
+		assertSameElements( extractor, Collections.emptyList() );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void array() {
+		ArrayElementExtractor<String> extractor = new ArrayElementExtractor<>();
+		assertSameElements( extractor, new String[] { "a", "b", null, "c" } );
+		assertSameElements( extractor, new String[0] );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void map() {
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put( "a", 1 );
+		map.put( "b", null );
+		map.put( "c", 3 );
+		assertSameElements( new MapKeyExtractor<>(), map );
+		assertSameElements( new MapValueExtractor<>(), map );
+		assertSameElements( new MapKeyExtractor<>(), Collections.emptyMap() );
+		assertSameElements( new MapValueExtractor<>(), Collections.emptyMap() );
+		assertSameElements( new MapKeyExtractor<>(), null );
+		assertSameElements( new MapValueExtractor<>(), null );
+	}
+
+	@Test
+	public void optional() {
+		OptionalValueExtractor<String> extractor = new OptionalValueExtractor<>();
+		assertSameElements( extractor, Optional.of( "a" ) );
+		assertSameElements( extractor, Optional.empty() );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void optionalPrimitive() {
+		assertSameElements( new OptionalIntValueExtractor(), OptionalInt.of( 42 ) );
+		assertSameElements( new OptionalIntValueExtractor(), OptionalInt.empty() );
+		assertSameElements( new OptionalIntValueExtractor(), null );
+		assertSameElements( new OptionalLongValueExtractor(), OptionalLong.of( 42L ) );
+		assertSameElements( new OptionalLongValueExtractor(), OptionalLong.empty() );
+		assertSameElements( new OptionalLongValueExtractor(), null );
+		assertSameElements( new OptionalDoubleValueExtractor(), OptionalDouble.of( 42.0 ) );
+		assertSameElements( new OptionalDoubleValueExtractor(), OptionalDouble.empty() );
+		assertSameElements( new OptionalDoubleValueExtractor(), null );
+	}
+
+	@Test
+	public void streamAdapter() {
+		ConsumingContainerExtractor<String, Character> extractor =
+				StreamContainerExtractorAdapter.adapt( new CharacterExtractor() );
+		assertThat( extractor ).isInstanceOf( StreamContainerExtractorAdapter.class );
+		assertSameElements( extractor, "abc" );
+		assertSameElements( extractor, "" );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void streamAdapter_consumingExtractor() {
+		CollectionElementExtractor<String> extractor = new CollectionElementExtractor<>();
+		assertThat( StreamContainerExtractorAdapter.adapt( extractor ) ).isSameAs( extractor );
+	}
+
+	@Test
+	public void chaining() {
+		ConsumingContainerExtractor<Collection<List<String>>, String> extractor = new ChainingContainerExtractor<>(
+				new CollectionElementExtractor<List<String>>(), new CollectionElementExtractor<String>()
+		);
+		assertSameElements( extractor, Arrays.asList(
+				Arrays.asList( "a", "b" ), Collections.emptyList(), null, new LinkedList<>( Arrays.asList( "c", null ) )
+		) );
+		assertSameElements( extractor, Collections.emptyList() );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void chaining_nested() {
+		// Map<String, List<Optional<String>>>
+		ConsumingContainerExtractor<Map<?, List<Optional<String>>>, String> extractor = new ChainingContainerExtractor<>(
+				new ChainingContainerExtractor<>(
+						new MapValueExtractor<List<Optional<String>>>(), new CollectionElementExtractor<Optional<String>>()
+				),
+				new OptionalValueExtractor<String>()
+		);
+		Map<String, List<Optional<String>>> map = new LinkedHashMap<>();
+		map.put( "1", Arrays.asList( Optional.of( "a" ), Optional.empty(), Optional.of( "b" ) ) );
+		map.put( "2", Collections.emptyList() );
+		map.put( "3", null );
+		map.put( "4", Arrays.asList( Optional.of( "c" ), null ) );
+		assertSameElements( extractor, map );
+		assertSameElements( extractor, Collections.emptyMap() );
+		assertSameElements( extractor, null );
+	}
+
+	@Test
+	public void chaining_streamAdapter() {
+		// List<String[]> -> String -> Character, with a stream-only extractor at the end
+		ConsumingContainerExtractor<Collection<String[]>, Character> extractor = new ChainingContainerExtractor<>(
+				new ChainingContainerExtractor<>(
+						new CollectionElementExtractor<String[]>(), new ArrayElementExtractor<String>()
+				),
+				StreamContainerExtractorAdapter.adapt( new CharacterExtractor() )
+		);
+		assertSameElements( extractor, Arrays.asList(
+				new String[] { "ab", null, "" }, new String[0], null, new String[] { "cd" }
+		) );
+	}
+
+	@Test
+	public void chaining_differentConsumers() {
+		ConsumingContainerExtractor<Collection<List<String>>, String> extractor = new ChainingContainerExtractor<>(
+				new CollectionElementExtractor<List<String>>(), new CollectionElementExtractor<String>()
+		);
+		List<List<String>> container = Arrays.asList( Arrays.asList( "a", "b" ), Arrays.asList( "c" ) );
+
+		// The extractor must not mix up consumers, even if it caches state derived from the last consumer
+		List<String> firstResult = new ArrayList<>();
+		List<String> secondResult = new ArrayList<>();
+		ContainerElementConsumer<String, List<String>, Object> firstConsumer = (target, element, context) -> target.add( element );
+		ContainerElementConsumer<String, List<String>, Object> secondConsumer = (target, element, context) -> target.add( element + "'" );
+		extractor.extract( container, firstConsumer, firstResult, CONTEXT );
+		extractor.extract( container, secondConsumer, secondResult, CONTEXT );
+		extractor.extract( container, firstConsumer, firstResult, CONTEXT );
+		assertThat( firstResult ).containsExactly( "a", "b", "c", "a", "b", "c" );
+		assertThat( secondResult ).containsExactly( "a'", "b'", "c'" );
+		assertSameElements( extractor, container );
+	}
+
+	private static <C, V> void assertSameElements(ConsumingContainerExtractor<C, V> extractor, C container) {
+		List<V> streamedElements;
+		try ( Stream<V> stream = extractor.extract( container ) ) {
+			streamedElements = stream.collect( Collectors.toList() );
+		}
+
+		List<V> consumedElements = new ArrayList<>();
+		extractor.extract( container, (target, element, context) -> {
+			// Additional arguments must be passed to the consumer as-is, even through chained extractors
+			assertThat( target ).isSameAs( TARGET );
+			assertThat( context ).isSameAs( CONTEXT );
+			consumedElements.add( element );
+		}, TARGET, CONTEXT );
+
+		assertThat( consumedElements ).containsExactlyElementsOf( streamedElements );
+	}
+
+	/**
+	 * A stream-only extractor, similar to user-defined extractors.
+	 */
+	private static class CharacterExtractor implements ContainerExtractor<String, Character> {
+		@Override
+		public Stream<Character> extract(String container) {
+			return container == null ? Stream.empty() : container.chars().mapToObj( c -> (char) c );
+		}
+	}
+}
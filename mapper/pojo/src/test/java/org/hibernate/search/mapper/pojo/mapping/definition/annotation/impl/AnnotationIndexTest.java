@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+
+import org.junit.Test;
+
+public class AnnotationIndexTest {
+
+	private static final String INDEX_RESOURCE_NAME =
+			AnnotationIndexTest.class.getPackage().getName().replace( '.', '/' ) + "/" + AnnotationIndex.INDEX_FILE_NAME;
+
+	@Test
+	public void unmapped_matchingFingerprint() throws IOException {
+		AnnotationIndex index = index( "AnnotationIndexTest$SomeType=" + unmapped( SomeType.class ) );
+		assertThat( index.isUnmapped( SomeType.class ) ).isTrue();
+	}
+
+	@Test
+	public void unmapped_staleFingerprint() {
+		AnnotationIndex index = index( "AnnotationIndexTest$SomeType=" + AnnotationIndex.UNMAPPED
+				+ AnnotationIndex.FINGERPRINT_SEPARATOR + "00000000" );
+		assertThat( index.isUnmapped( SomeType.class ) ).isFalse();
+	}
+
+	@Test
+	public void unmapped_missingFingerprint() {
+		AnnotationIndex index = index( "AnnotationIndexTest$SomeType=" + AnnotationIndex.UNMAPPED );
+		assertThat( index.isUnmapped( SomeType.class ) ).isFalse();
+	}
+
+	@Test
+	public void mapped() {
+		AnnotationIndex index = index( "AnnotationIndexTest$SomeType=" + AnnotationIndex.MAPPED );
+		assertThat( index.isUnmapped( SomeType.class ) ).isFalse();
+	}
+
+	@Test
+	public void unknown() throws IOException {
+		AnnotationIndex index = index( "AnnotationIndexTest$OtherType=" + unmapped( OtherType.class ) );
+		assertThat( index.isUnmapped( SomeType.class ) ).isFalse();
+		assertThat( index.isUnmapped( OtherType.class ) ).isTrue();
+	}
+
+	@Test
+	public void noIndex() {
+		AnnotationIndex index = new AnnotationIndex( new StubResourceResolver( null ) );
+		assertThat( index.isUnmapped( SomeType.class ) ).isFalse();
+	}
+
+	private static AnnotationIndex index(String... lines) {
+		return new AnnotationIndex( new StubResourceResolver( String.join( "\n", lines ) ) );
+	}
+
+	/*
+	 * Computes the fingerprint the same way as the annotation processor does.
+	 */
+	private static String unmapped(Class<?> type) throws IOException {
+		CRC32 checksum = new CRC32();
+		try ( InputStream stream = type.getResourceAsStream( "/" + type.getName().replace( '.', '/' ) + ".class" ) ) {
+			byte[] buffer = new byte[4096];
+			int read;
+			while ( ( read = stream.read( buffer ) ) >= 0 ) {
+				checksum.update( buffer, 0, read );
+			}
+		}
+		return AnnotationIndex.UNMAPPED + AnnotationIndex.FINGERPRINT_SEPARATOR
+				+ String.format( Locale.ROOT, "%08x", checksum.getValue() );
+	}
+
+	private static class StubResourceResolver implements ResourceResolver {
+		private final String indexContent;
+
+		private StubResourceResolver(String indexContent) {
+			this.indexContent = indexContent;
+		}
+
+		@Override
+		public URL locateResource(String name) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public InputStream locateResourceStream(String name) {
+			if ( indexContent == null || !INDEX_RESOURCE_NAME.equals( name ) ) {
+				return null;
+			}
+			return new ByteArrayInputStream( indexContent.getBytes( StandardCharsets.ISO_8859_1 ) );
+		}
+	}
+
+	private static class SomeType {
+	}
+
+	private static class OtherType {
+	}
+}
@@ -99,6 +99,49 @@ public void publicMethod() throws Exception {
 		testMethodPropertyHandle( "publicMethod" );
 	}
 
+	@Test
+	public void primitiveFields() throws Exception {
+		EntityType entity = new EntityType();
+
+		PropertyHandle<?> intHandle = factory.createForField( "intField", getAccessibleField( "intField" ) );
+		assertThat( intHandle.getPrimitiveType() ).isEqualTo( int.class );
+		assertThat( intHandle.getInt( entity ) ).isEqualTo( 42 );
+		assertThat( intHandle.get( entity ) ).isEqualTo( 42 );
+
+		PropertyHandle<?> longHandle = factory.createForField( "longField", getAccessibleField( "longField" ) );
+		assertThat( longHandle.getPrimitiveType() ).isEqualTo( long.class );
+		assertThat( longHandle.getLong( entity ) ).isEqualTo( 42L );
+		assertThat( longHandle.get( entity ) ).isEqualTo( 42L );
+
+		PropertyHandle<?> doubleHandle = factory.createForField( "doubleField", getAccessibleField( "doubleField" ) );
+		assertThat( doubleHandle.getPrimitiveType() ).isEqualTo( double.class );
+		assertThat( doubleHandle.getDouble( entity ) ).isEqualTo( 42.0 );
+		assertThat( doubleHandle.get( entity ) ).isEqualTo( 42.0 );
+
+		PropertyHandle<?> nonPrimitiveHandle = factory.createForField( "publicField", getAccessibleField( "publicField" ) );
+		assertThat( nonPrimitiveHandle.getPrimitiveType() ).isNull();
+	}
+
+	@Test
+	public void primitiveMethods() throws Exception {
+		EntityType entity = new EntityType();
+
+		PropertyHandle<?> intHandle = factory.createForMethod( "intMethod", getAccessibleMethod( "intMethod" ) );
+		assertThat( intHandle.getInt( entity ) ).isEqualTo( 43 );
+		assertThat( intHandle.get( entity ) ).isEqualTo( 43 );
+
+		PropertyHandle<?> longHandle = factory.createForMethod( "longMethod", getAccessibleMethod( "longMethod" ) );
+		assertThat( longHandle.getLong( entity ) ).isEqualTo( 43L );
+		assertThat( longHandle.get( entity ) ).isEqualTo( 43L );
+
+		PropertyHandle<?> doubleHandle = factory.createForMethod( "doubleMethod", getAccessibleMethod( "doubleMethod" ) );
+		assertThat( doubleHandle.getDouble( entity ) ).isEqualTo( 43.0 );
+		assertThat( doubleHandle.get( entity ) ).isEqualTo( 43.0 );
+
+		PropertyHandle<?> nonPrimitiveHandle = factory.createForMethod( "publicMethod", getAccessibleMethod( "publicMethod" ) );
+		assertThat( nonPrimitiveHandle.getPrimitiveType() ).isNull();
+	}
+
 	private void testFieldPropertyHandle(String fieldName) throws IllegalAccessException, NoSuchFieldException {
 		String propertyName = fieldName + "PropertyName";
 		String expectedValue = fieldName + "Value";
@@ -150,6 +193,18 @@ private void testMethodPropertyHandle(String methodName) throws IllegalAccessExc
 		assertThat( propertyHandle ).isNotEqualTo( differentMethodPropertyHandle );
 	}
 
+	private static Field getAccessibleField(String fieldName) throws NoSuchFieldException {
+		Field field = EntityType.class.getDeclaredField( fieldName );
+		setAccessible( field );
+		return field;
+	}
+
+	private static Method getAccessibleMethod(String methodName) throws NoSuchMethodException {
+		Method method = EntityType.class.getDeclaredMethod( methodName );
+		setAccessible( method );
+		return method;
+	}
+
 	private static void setAccessible(Member member) {
 		if ( !Modifier.isPublic( member.getModifiers() ) ) {
 			( (AccessibleObject) member ).setAccessible( true );
@@ -166,6 +221,9 @@ private static class EntityType {
 		public String publicField = "publicFieldValue";
 		public final String publicFinalField = "publicFinalFieldValue";
 		private String otherField;
+		private int intField = 42;
+		private long longField = 42L;
+		private double doubleField = 42.0;
 
 		private String privateMethod() {
 			return "privateMethodValue";
@@ -182,5 +240,14 @@ public String publicMethod() {
 		public String otherMethod() {
 			return "otherMethod";
 		}
+		private int intMethod() {
+			return 43;
+		}
+		private long longMethod() {
+			return 43L;
+		}
+		private double doubleMethod() {
+			return 43.0;
+		}
 	}
 }
\ No newline at end of file
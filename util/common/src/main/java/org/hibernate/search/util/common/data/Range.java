@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.data;
+
+import java.util.Objects;
+
+/**
+ * A range of values, with an inclusive lower bound and an exclusive upper bound.
+ * <p>
+ * Either bound may be {@code null}, meaning the range is unbounded on that side.
+ *
+ * @param <T> The type of range bounds.
+ */
+public final class Range<T> {
+
+	/**
+	 * @param lowerBoundIncluded The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param upperBoundExcluded The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 * @param <T> The type of range bounds.
+	 * @return The corresponding range.
+	 */
+	public static <T> Range<T> between(T lowerBoundIncluded, T upperBoundExcluded) {
+		return new Range<>( lowerBoundIncluded, upperBoundExcluded );
+	}
+
+	/**
+	 * @param lowerBoundIncluded The lower bound of the range, included.
+	 * @param <T> The type of range bounds.
+	 * @return A range with the given lower bound and no upper bound.
+	 */
+	public static <T> Range<T> atLeast(T lowerBoundIncluded) {
+		return new Range<>( lowerBoundIncluded, null );
+	}
+
+	/**
+	 * @param upperBoundExcluded The upper bound of the range, excluded.
+	 * @param <T> The type of range bounds.
+	 * @return A range with no lower bound and the given upper bound.
+	 */
+	public static <T> Range<T> lessThan(T upperBoundExcluded) {
+		return new Range<>( null, upperBoundExcluded );
+	}
+
+	private final T lowerBound;
+	private final T upperBound;
+
+	private Range(T lowerBound, T upperBound) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBound == null ? "-Infinity" : lowerBound )
+				+ ", " + ( upperBound == null ? "+Infinity" : upperBound ) + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		Range<?> other = (Range<?>) obj;
+		return Objects.equals( lowerBound, other.lowerBound )
+				&& Objects.equals( upperBound, other.upperBound );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( lowerBound, upperBound );
+	}
+
+	/**
+	 * @return The lower bound of the range, included, or {@code null} if there is no lower bound.
+	 */
+	public T getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * @return The upper bound of the range, excluded, or {@code null} if there is no upper bound.
+	 */
+	public T getUpperBound() {
+		return upperBound;
+	}
+}
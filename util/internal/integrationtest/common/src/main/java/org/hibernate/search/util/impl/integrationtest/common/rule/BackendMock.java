@@ -220,12 +220,31 @@ public WorkCallListContext work(StubIndexWork work) {
 		}
 
 		public BackendMock preparedThenExecuted() {
+			return preparedThenExecuted( CompletableFuture.completedFuture( null ) );
+		}
+
+		/**
+		 * @param executionFuture The future to return from the execution of the works,
+		 * allowing to simulate slow or failing executions.
+		 * @return The backend mock, for method chaining.
+		 */
+		public BackendMock preparedThenExecuted(CompletableFuture<?> executionFuture) {
+			return preparedThenExecuted( () -> executionFuture );
+		}
+
+		/**
+		 * @param executionFutureSupplier A supplier of the future to return from the execution of each work,
+		 * called from the thread executing the work.
+		 * @return The backend mock, for method chaining.
+		 */
+		public BackendMock preparedThenExecuted(Supplier<? extends CompletableFuture<?>> executionFutureSupplier) {
 			// First expect all works to be prepared, then expect all works to be executed
 			works.stream()
 					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.PREPARE, work ) )
 					.forEach( expectationConsumer );
 			works.stream()
-					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work ) )
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work,
+							executionFutureSupplier ) )
 					.forEach( expectationConsumer );
 			return BackendMock.this;
 		}
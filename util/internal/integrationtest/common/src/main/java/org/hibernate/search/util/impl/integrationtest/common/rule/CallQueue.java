@@ -43,9 +43,8 @@ public <C2 extends C, T> T verify(C2 actualCall, BiFunction<C, C2, T> callVerify
 				actualCall,
 				callVerifyFunction,
 				call -> {
-					Assert.fail( "No call expected, but got: " + call );
-					// Dead code, we throw an exception above
-					return null;
+					// Record the failure, so that it is reported even if the call happened in a background thread
+					throw createFailure( "No call expected, but got: " + call );
 				}
 		);
 	}
@@ -8,6 +8,7 @@
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubIndexWork;
 import org.hibernate.search.util.impl.integrationtest.common.assertion.StubIndexWorkAssert;
@@ -24,11 +25,18 @@ enum WorkPhase {
 	private final String indexName;
 	private final WorkPhase phase;
 	private final StubIndexWork work;
+	private final Supplier<? extends CompletableFuture<?>> executionFutureSupplier;
 
 	IndexWorkCall(String indexName, WorkPhase phase, StubIndexWork work) {
+		this( indexName, phase, work, () -> CompletableFuture.completedFuture( null ) );
+	}
+
+	IndexWorkCall(String indexName, WorkPhase phase, StubIndexWork work,
+			Supplier<? extends CompletableFuture<?>> executionFutureSupplier) {
 		this.indexName = indexName;
 		this.phase = phase;
 		this.work = work;
+		this.executionFutureSupplier = executionFutureSupplier;
 	}
 
 	public CompletableFuture<?> verify(IndexWorkCall actualCall) {
@@ -42,7 +50,7 @@ public CompletableFuture<?> verify(IndexWorkCall actualCall) {
 		StubIndexWorkAssert.assertThat( actualCall.work )
 				.as( "Incorrect work " + whenThisWorkWasExpected + ":\n" )
 				.matches( work );
-		return CompletableFuture.completedFuture( null );
+		return executionFutureSupplier.get();
 	}
 
 	@Override
@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.engine.search.query.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.spi.SearchQueryInstrumentation;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendBehavior;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.impl.StubDocumentElement;
@@ -19,9 +21,11 @@
 public class StubBackend implements BackendImplementor<StubDocumentElement>, Backend {
 
 	private final String name;
+	private final SearchQueryInstrumentation searchQueryInstrumentation;
 
-	StubBackend(String name) {
+	StubBackend(String name, SearchQueryInstrumentation searchQueryInstrumentation) {
 		this.name = name;
+		this.searchQueryInstrumentation = searchQueryInstrumentation;
 	}
 
 	@Override
@@ -39,6 +43,11 @@ public <T> T unwrap(Class<T> clazz) {
 		throw new AssertionFailure( getClass().getName() + " cannot be unwrapped" );
 	}
 
+	@Override
+	public SearchQueryMetrics getSearchQueryMetrics() {
+		return searchQueryInstrumentation.getMetrics();
+	}
+
 	@Override
 	public Backend toAPI() {
 		return this;
@@ -51,7 +60,7 @@ public StubBackendBehavior getBehavior() {
 	@Override
 	public IndexManagerBuilder<StubDocumentElement> createIndexManagerBuilder(String indexName, boolean isMultiTenancyEnabled, BackendBuildContext context,
 			ConfigurationPropertySource propertySource) {
-		return new StubIndexManagerBuilder( this, indexName );
+		return new StubIndexManagerBuilder( this, indexName, context.createIndexingInstrumentation( indexName ) );
 	}
 
 	@Override
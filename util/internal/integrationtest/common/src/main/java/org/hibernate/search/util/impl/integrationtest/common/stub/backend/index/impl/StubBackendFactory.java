@@ -14,6 +14,6 @@
 public class StubBackendFactory implements BackendFactory {
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext context, ConfigurationPropertySource propertySource) {
-		return new StubBackend( name );
+		return new StubBackend( name, context.getSearchQueryInstrumentation() );
 	}
 }
@@ -10,6 +10,8 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.IndexingMetrics;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchScopeBuilder;
@@ -32,14 +34,17 @@ public class StubIndexManager implements IndexManagerImplementor<StubDocumentEle
 	private final StubBackend backend;
 	private final String name;
 	private final StubIndexSchemaNode rootSchemaNode;
+	private final IndexingInstrumentation indexingInstrumentation;
 
 	private boolean closed = false;
 
-	StubIndexManager(StubBackend backend, String name, StubIndexSchemaNode rootSchemaNode) {
+	StubIndexManager(StubBackend backend, String name, StubIndexSchemaNode rootSchemaNode,
+			IndexingInstrumentation indexingInstrumentation) {
 		StaticCounters.get().increment( INSTANCE_COUNTER_KEY );
 		this.backend = backend;
 		this.name = name;
 		this.rootSchemaNode = rootSchemaNode;
+		this.indexingInstrumentation = indexingInstrumentation;
 		backend.getBehavior().pushSchema( name, rootSchemaNode );
 	}
 
@@ -63,8 +68,9 @@ public String toString() {
 	}
 
 	@Override
-	public void start(IndexManagerStartContext context) {
+	public CompletableFuture<?> start(IndexManagerStartContext context) {
 		// Nothing to do
+		return CompletableFuture.completedFuture( null );
 	}
 
 	@Override
@@ -92,6 +98,12 @@ public void addTo(IndexSearchScopeBuilder builder) {
 		((StubIndexSearchScope.Builder) builder ).add( backend, name, rootSchemaNode );
 	}
 
+	@Override
+	public IndexingMetrics getIndexingMetrics() {
+		// Works are not executed by the stub backend: metrics are never updated
+		return indexingInstrumentation.getMetrics();
+	}
+
 	@Override
 	public IndexManager toAPI() {
 		return this;
@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.backend.index.spi.IndexingInstrumentation;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.impl.StubDocumentElement;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.model.impl.StubIndexSchemaRootNodeBuilder;
@@ -22,14 +23,16 @@ public class StubIndexManagerBuilder implements IndexManagerBuilder<StubDocument
 
 	private final StubBackend backend;
 	private final String name;
+	private final IndexingInstrumentation indexingInstrumentation;
 	private final StubIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
 
 	private boolean closed = false;
 
-	public StubIndexManagerBuilder(StubBackend backend, String name) {
+	public StubIndexManagerBuilder(StubBackend backend, String name, IndexingInstrumentation indexingInstrumentation) {
 		StaticCounters.get().increment( INSTANCE_COUNTER_KEY );
 		this.backend = backend;
 		this.name = name;
+		this.indexingInstrumentation = indexingInstrumentation;
 		this.schemaRootNodeBuilder = new StubIndexSchemaRootNodeBuilder( backend.getBehavior(), name );
 	}
 
@@ -58,6 +61,6 @@ public IndexManagerImplementor<StubDocumentElement> build() {
 		}
 		StaticCounters.get().increment( BUILD_COUNTER_KEY );
 		closed = true;
-		return new StubIndexManager( backend, name, schemaRootNodeBuilder.build() );
+		return new StubIndexManager( backend, name, schemaRootNodeBuilder.build(), indexingInstrumentation );
 	}
 }
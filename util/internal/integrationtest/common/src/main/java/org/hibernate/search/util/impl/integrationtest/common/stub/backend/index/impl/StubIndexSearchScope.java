@@ -16,6 +16,7 @@
 import org.hibernate.search.engine.search.projection.spi.SearchProjectionBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.model.StubIndexSchemaNode;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation.StubSearchAggregationBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.impl.StubSearchScopeModel;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.predicate.impl.StubSearchPredicateBuilderFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionBuilderFactory;
@@ -26,6 +27,7 @@ class StubIndexSearchScope implements IndexSearchScope<StubQueryElementCollector
 	private final StubSearchSortBuilderFactory sortFactory;
 	private final StubSearchQueryBuilderFactory queryFactory;
 	private final StubSearchProjectionBuilderFactory projectionFactory;
+	private final StubSearchAggregationBuilderFactory aggregationFactory;
 
 	private StubIndexSearchScope(Builder builder) {
 		List<String> immutableIndexNames = Collections.unmodifiableList( new ArrayList<>( builder.indexNames ) );
@@ -35,6 +37,7 @@ private StubIndexSearchScope(Builder builder) {
 		this.predicateFactory = new StubSearchPredicateBuilderFactory();
 		this.sortFactory = new StubSearchSortBuilderFactory();
 		this.projectionFactory = new StubSearchProjectionBuilderFactory( model );
+		this.aggregationFactory = new StubSearchAggregationBuilderFactory();
 		this.queryFactory = new StubSearchQueryBuilderFactory( builder.backend, model );
 	}
 
@@ -58,6 +61,11 @@ public SearchProjectionBuilderFactory getSearchProjectionFactory() {
 		return projectionFactory;
 	}
 
+	@Override
+	public StubSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return aggregationFactory;
+	}
+
 	static class Builder implements IndexSearchScopeBuilder {
 
 		private final StubBackend backend;
@@ -47,6 +47,11 @@ public void addRoutingKey(String routingKey) {
 		workBuilder.routingKey( routingKey );
 	}
 
+	@Override
+	public void setBuildStartNanos(long buildStartNanos) {
+		// Queries are not executed by the stub backend: nothing to report
+	}
+
 	@Override
 	public <Q> Q build(Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory) {
 		StubIndexSearchQuery<T> searchQuery = new StubIndexSearchQuery<>(
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.data.Range;
+
+@SuppressWarnings("rawtypes")
+public class StubAggregationBuilder implements TermsAggregationBuilder, RangeAggregationBuilder {
+
+	@Override
+	public void minDocumentCount(int minDocumentCount) {
+		// No-op
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		// No-op
+	}
+
+	@Override
+	public void range(Range range) {
+		// No-op
+	}
+
+	@Override
+	public SearchAggregation build() {
+		return new StubSearchAggregation<>();
+	}
+}
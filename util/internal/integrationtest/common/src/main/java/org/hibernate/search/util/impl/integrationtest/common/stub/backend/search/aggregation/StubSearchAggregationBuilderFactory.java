@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+
+public class StubSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<StubQueryElementCollector> {
+
+	@Override
+	public <A> void contribute(StubQueryElementCollector collector, AggregationKey<A> key,
+			SearchAggregation<A> aggregation) {
+		collector.simulateCollectCall();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <K> TermsAggregationBuilder<K> createTermsAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		return new StubAggregationBuilder();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		return new StubAggregationBuilder();
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.mapper;
 
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexSearchScope;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
@@ -48,4 +49,8 @@ public SearchSortContainerContext sort() {
 	public SearchProjectionFactoryContext<R, O> projection() {
 		return delegate.projection();
 	}
+
+	public SearchAggregationFactoryContext aggregation() {
+		return delegate.aggregation();
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -54,6 +55,30 @@ public static <R, O> void expectLoad(ObjectLoader<R, O> objectLoaderMock,
 				);
 	}
 
+	/**
+	 * @param objectLoaderMock The EasyMock mock for the object loader.
+	 * @param loadingDefinition A definition of the reference -> loaded object mapping.
+	 * @param <R> The reference type.
+	 * @param <O> The loaded object type.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R, O> void expectLoadAsync(ObjectLoader<R, O> objectLoaderMock,
+			Consumer<LoadingDefinitionContext<R, O>> loadingDefinition) {
+		LoadingDefinitionContext<R, O> context = new LoadingDefinitionContext<>();
+		loadingDefinition.accept( context );
+
+		EasyMock.expect( objectLoaderMock.loadAsync(
+				EasyMockUtils.collectionAnyOrderMatcher( new ArrayList<>( context.loadingMap.keySet() ) )
+		) )
+				.andAnswer(
+						() -> CompletableFuture.completedFuture(
+								( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
+										.map( context.loadingMap::get )
+										.collect( Collectors.toList() )
+						)
+				);
+	}
+
 	public static class LoadingDefinitionContext<R, O> {
 		private final Map<R, O> loadingMap = new HashMap<>();
 